@@ -0,0 +1,57 @@
+package it.denzosoft.jreverse.analyzer.archive;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Registry of open {@link MappedJarReader} instances, keyed by archive path.
+ * Analyzers that work on the same archive during a run receive the same reader, so the
+ * archive is mapped and its central directory parsed only once. Each acquired reader must
+ * be closed by the caller; the mapping is released when the last holder closes it.
+ */
+public class JarReaderRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(JarReaderRegistry.class.getName());
+
+    private final Map<Path, MappedJarReader> readers = new HashMap<>();
+
+    /**
+     * Acquires the shared reader for the given archive, opening it if needed.
+     *
+     * @param path the archive path
+     * @return a reader that must be closed by the caller
+     * @throws IOException if the archive cannot be opened
+     */
+    public synchronized MappedJarReader acquire(Path path) throws IOException {
+        Objects.requireNonNull(path, "path cannot be null");
+        Path key = path.toAbsolutePath().normalize();
+
+        MappedJarReader reader = readers.get(key);
+        if (reader != null && reader.retain()) {
+            LOGGER.fine("Reusing shared JAR reader: " + key);
+            return reader;
+        }
+
+        reader = MappedJarReader.open(key, this::remove);
+        readers.put(key, reader);
+        LOGGER.fine("Opened shared JAR reader: " + key + " (" + reader.size() + " entries)");
+        return reader;
+    }
+
+    /**
+     * Gets the number of archives currently held open by this registry.
+     *
+     * @return the number of open readers
+     */
+    public synchronized int getOpenReaderCount() {
+        return readers.size();
+    }
+
+    private synchronized void remove(MappedJarReader reader) {
+        readers.values().remove(reader);
+    }
+}
@@ -0,0 +1,111 @@
+package it.denzosoft.jreverse.analyzer.archive;
+
+import it.denzosoft.jreverse.core.model.JarType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Classifies an archive from the entry names of its ZIP central directory alone.
+ * No entry, not even the manifest, is read or inflated, so an archive is classified by
+ * reading its end-of-central-directory record and central directory only. This keeps
+ * triage cheap when most of thousands of artifacts turn out to be plain libraries.
+ */
+public final class JarTypeSniffer {
+
+    private static final String BOOT_INF = "BOOT-INF/";
+    private static final String WEB_INF = "WEB-INF/";
+    private static final String VERSIONS = "META-INF/versions/";
+    private static final String MAVEN_METADATA = "META-INF/maven/";
+    private static final String POM_PROPERTIES = "/pom.properties";
+    private static final String WAR_SUFFIX = ".war";
+
+    /**
+     * Kind of archive recognized by the sniffer.
+     */
+    public enum ArchiveKind {
+        /** Plain JAR with classes at the root. */
+        REGULAR(JarType.REGULAR_JAR),
+        /** Spring Boot executable JAR with the application under {@code BOOT-INF/}. */
+        SPRING_BOOT_FAT_JAR(JarType.SPRING_BOOT_JAR),
+        /** Web archive with the application under {@code WEB-INF/}. */
+        WAR(JarType.WAR_ARCHIVE),
+        /** JAR with version-specific classes under {@code META-INF/versions/}. */
+        MULTI_RELEASE(JarType.REGULAR_JAR),
+        /** Uber-JAR that merges the classes of several Maven artifacts at the root. */
+        SHADED_UBER_JAR(JarType.REGULAR_JAR);
+
+        private final JarType jarType;
+
+        ArchiveKind(JarType jarType) {
+            this.jarType = jarType;
+        }
+
+        /**
+         * Gets the JAR type reported for archives of this kind.
+         */
+        public JarType getJarType() {
+            return jarType;
+        }
+    }
+
+    private JarTypeSniffer() {
+        // Utility class
+    }
+
+    /**
+     * Classifies the archive at the given path.
+     *
+     * @param path the archive to classify
+     * @return the kind of archive
+     * @throws IOException if the central directory cannot be read
+     */
+    public static ArchiveKind sniff(Path path) throws IOException {
+        try (MappedJarReader reader = MappedJarReader.open(path)) {
+            return sniff(reader, String.valueOf(path.getFileName()));
+        }
+    }
+
+    /**
+     * Classifies an archive already opened, using the entries listed by its central directory.
+     *
+     * @param reader the reader of the archive
+     * @param fileName the file name of the archive, used to recognize WARs without {@code WEB-INF/}
+     * @return the kind of archive
+     */
+    public static ArchiveKind sniff(MappedJarReader reader, String fileName) {
+        Objects.requireNonNull(reader, "reader cannot be null");
+
+        boolean webInf = false;
+        boolean versioned = false;
+        Set<String> shadedArtifacts = new HashSet<>();
+
+        for (MappedJarEntry entry : reader.getEntries()) {
+            String name = entry.getName();
+            if (name.startsWith(BOOT_INF)) {
+                // A Spring Boot layout decides the kind on its own
+                return ArchiveKind.SPRING_BOOT_FAT_JAR;
+            } else if (name.startsWith(WEB_INF)) {
+                webInf = true;
+            } else if (name.startsWith(VERSIONS)) {
+                versioned = true;
+            } else if (name.startsWith(MAVEN_METADATA) && name.endsWith(POM_PROPERTIES)) {
+                shadedArtifacts.add(name.substring(MAVEN_METADATA.length(), name.length() - POM_PROPERTIES.length()));
+            }
+        }
+
+        if (webInf || (fileName != null && fileName.endsWith(WAR_SUFFIX))) {
+            return ArchiveKind.WAR;
+        }
+        if (shadedArtifacts.size() > 1) {
+            return ArchiveKind.SHADED_UBER_JAR;
+        }
+        if (versioned) {
+            return ArchiveKind.MULTI_RELEASE;
+        }
+        return ArchiveKind.REGULAR;
+    }
+}
@@ -0,0 +1,71 @@
+package it.denzosoft.jreverse.analyzer.archive;
+
+import javassist.ClassPath;
+import javassist.NotFoundException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+/**
+ * Javassist class path that resolves class files through a shared {@link MappedJarReader},
+ * so the ClassPool does not reopen the archive on its own.
+ * An optional entry prefix supports archives that keep classes in a sub-directory,
+ * such as {@code BOOT-INF/classes/} in Spring Boot fat JARs.
+ */
+public class MappedJarClassPath implements ClassPath {
+
+    private final MappedJarReader reader;
+    private final String entryPrefix;
+
+    public MappedJarClassPath(MappedJarReader reader) {
+        this(reader, "");
+    }
+
+    public MappedJarClassPath(MappedJarReader reader, String entryPrefix) {
+        this.reader = Objects.requireNonNull(reader, "reader cannot be null");
+        this.entryPrefix = entryPrefix != null ? entryPrefix : "";
+    }
+
+    @Override
+    public InputStream openClassfile(String classname) throws NotFoundException {
+        MappedJarEntry entry = findEntry(classname);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return reader.openStream(entry);
+        } catch (IOException e) {
+            throw new NotFoundException("Cannot read " + entry.getName() + " from " + reader.getName() +
+                                        ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public URL find(String classname) {
+        MappedJarEntry entry = findEntry(classname);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return new URL("jar:" + Paths.get(reader.getName()).toUri() + "!/" + entry.getName());
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    private MappedJarEntry findEntry(String classname) {
+        if (reader.isClosed()) {
+            return null;
+        }
+        return reader.getEntry(entryPrefix + classname.replace('.', '/') + ".class");
+    }
+
+    @Override
+    public String toString() {
+        return reader.getName() + (entryPrefix.isEmpty() ? "" : "!/" + entryPrefix);
+    }
+}
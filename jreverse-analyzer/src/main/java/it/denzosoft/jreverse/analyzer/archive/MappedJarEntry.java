@@ -0,0 +1,94 @@
+package it.denzosoft.jreverse.analyzer.archive;
+
+import java.util.Objects;
+
+/**
+ * Entry of a {@link MappedJarReader}, as described by the ZIP central directory.
+ * Immutable except for the lazily resolved offset of the entry data.
+ */
+public final class MappedJarEntry {
+
+    public static final int STORED = 0;
+    public static final int DEFLATED = 8;
+
+    private final String name;
+    private final int method;
+    private final long compressedSize;
+    private final long size;
+    private final long crc;
+    private final long localHeaderOffset;
+    private volatile long dataOffset = -1L;
+
+    MappedJarEntry(String name, int method, long compressedSize, long size, long crc, long localHeaderOffset) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+        this.method = method;
+        this.compressedSize = compressedSize;
+        this.size = size;
+        this.crc = crc;
+        this.localHeaderOffset = localHeaderOffset;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMethod() {
+        return method;
+    }
+
+    public long getCompressedSize() {
+        return compressedSize;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getCrc() {
+        return crc;
+    }
+
+    public boolean isDirectory() {
+        return name.endsWith("/");
+    }
+
+    public boolean isStored() {
+        return method == STORED;
+    }
+
+    long getLocalHeaderOffset() {
+        return localHeaderOffset;
+    }
+
+    long getDataOffset() {
+        return dataOffset;
+    }
+
+    void setDataOffset(long dataOffset) {
+        this.dataOffset = dataOffset;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MappedJarEntry that = (MappedJarEntry) obj;
+        return localHeaderOffset == that.localHeaderOffset &&
+               Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, localHeaderOffset);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarEntry{" +
+                "name='" + name + '\'' +
+                ", method=" + method +
+                ", compressedSize=" + compressedSize +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,660 @@
+package it.denzosoft.jreverse.analyzer.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.jar.Manifest;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Read-only JAR reader backed by memory-mapped regions of the archive.
+ * The ZIP central directory is parsed once when the reader is opened. Entry data is read
+ * straight from the mapping: STORED entries are returned as slices of the mapping and
+ * DEFLATED entries are inflated directly from it into reusable per-thread buffers.
+ *
+ * Instances are thread-safe and reference counted, so a single reader can be shared by
+ * all analyzers of a run through a {@link JarReaderRegistry}.
+ */
+public final class MappedJarReader implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(MappedJarReader.class.getName());
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_DIR_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIR_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIR_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIR_LOCATOR_SIGNATURE = 0x07064b50;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_DIR_HEADER_SIZE = 46;
+    private static final int END_OF_CENTRAL_DIR_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_OF_CENTRAL_DIR_SIZE = 56;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final long SEGMENT_SIZE = 1L << 30;
+    private static final long SEGMENT_OVERLAP = 1L << 26;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    public static final String MANIFEST_NAME = "META-INF/MANIFEST.MF";
+
+    private final String name;
+    private final Source source;
+    private final List<MappedJarEntry> entries;
+    private final Map<String, MappedJarEntry> entriesByName;
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final Consumer<MappedJarReader> onRelease;
+    private final ConcurrentLinkedQueue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<byte[]> inflateBuffers = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+    private final ConcurrentMap<Class<?>, Object> indexes = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+    private volatile Manifest manifest;
+    private volatile boolean manifestLoaded;
+
+    private MappedJarReader(String name, Source source, Consumer<MappedJarReader> onRelease) throws IOException {
+        this.name = name;
+        this.source = source;
+        this.onRelease = onRelease;
+        this.entries = Collections.unmodifiableList(readCentralDirectory());
+        this.entriesByName = new HashMap<>(entries.size() * 4 / 3 + 1);
+        for (MappedJarEntry entry : entries) {
+            entriesByName.putIfAbsent(entry.getName(), entry);
+        }
+    }
+
+    /**
+     * Opens a JAR file for reading. The returned reader is owned by the caller.
+     *
+     * @param path the archive to open
+     * @return a reader over the archive
+     * @throws IOException if the file cannot be mapped or is not a valid ZIP archive
+     */
+    public static MappedJarReader open(Path path) throws IOException {
+        return open(path, null);
+    }
+
+    static MappedJarReader open(Path path, Consumer<MappedJarReader> onRelease) throws IOException {
+        Objects.requireNonNull(path, "path cannot be null");
+        FileSource source = new FileSource(path);
+        try {
+            return new MappedJarReader(path.toString(), source, onRelease);
+        } catch (IOException | RuntimeException e) {
+            source.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a JAR stored uncompressed inside this archive, such as a library under
+     * {@code BOOT-INF/lib/}. The nested reader works directly on the mapping of this archive,
+     * so nothing is copied or extracted, and it keeps this reader open until it is closed itself.
+     *
+     * @param entry a STORED entry of this archive holding a JAR
+     * @return a reader over the nested archive, owned by the caller
+     * @throws IOException if the entry is compressed or is not a valid ZIP archive
+     */
+    public MappedJarReader openNested(MappedJarEntry entry) throws IOException {
+        if (!entry.isStored()) {
+            throw new ZipException("Nested archive must be STORED to be opened in place: " + entry.getName());
+        }
+        ByteBuffer data = dataSlice(entry, checkedSize(entry.getSize(), entry));
+        if (!retain()) {
+            throw new IOException("JAR reader is closed: " + name);
+        }
+        try {
+            return new MappedJarReader(name + "!/" + entry.getName(), new BufferSource(data), nested -> {
+                try {
+                    close();
+                } catch (IOException e) {
+                    LOGGER.fine("Could not release outer JAR reader " + name + ": " + e.getMessage());
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<MappedJarEntry> getEntries() {
+        return entries;
+    }
+
+    public Stream<MappedJarEntry> stream() {
+        return entries.stream();
+    }
+
+    public MappedJarEntry getEntry(String entryName) {
+        return entriesByName.get(entryName);
+    }
+
+    public boolean hasEntry(String entryName) {
+        return entriesByName.containsKey(entryName);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets an index derived from the entries of this archive, building it on first use.
+     * Holders of a shared reader get the same index, so an index of the central directory
+     * is built once per archive rather than once per holder.
+     *
+     * @param type the type of the index, also used as its key
+     * @param factory builds the index from this reader
+     * @return the index of the given type
+     */
+    public <T> T getIndex(Class<T> type, Function<MappedJarReader, T> factory) {
+        return type.cast(indexes.computeIfAbsent(type, key -> factory.apply(this)));
+    }
+
+    /**
+     * Reads the content of an entry. STORED entries are returned as a read-only slice of the
+     * mapping; DEFLATED entries are inflated into a buffer owned by the calling thread, which is
+     * reused by the next read on the same thread.
+     *
+     * @param entry the entry to read
+     * @return a buffer positioned at the start of the entry content
+     * @throws IOException if the entry data is corrupted or uses an unsupported method
+     */
+    public ByteBuffer read(MappedJarEntry entry) throws IOException {
+        int size = checkedSize(entry.getSize(), entry);
+        if (entry.isStored()) {
+            return dataSlice(entry, size).asReadOnlyBuffer();
+        }
+
+        byte[] buffer = inflateBuffers.get();
+        if (buffer.length < size) {
+            buffer = new byte[Math.max(size, buffer.length * 2)];
+            inflateBuffers.set(buffer);
+        }
+        inflate(entry, buffer, size);
+        return ByteBuffer.wrap(buffer, 0, size);
+    }
+
+    /**
+     * Reads the content of an entry into a new array owned by the caller.
+     *
+     * @param entry the entry to read
+     * @return the entry content
+     * @throws IOException if the entry data is corrupted or uses an unsupported method
+     */
+    public byte[] readBytes(MappedJarEntry entry) throws IOException {
+        int size = checkedSize(entry.getSize(), entry);
+        byte[] content = new byte[size];
+        if (entry.isStored()) {
+            dataSlice(entry, size).get(content);
+        } else {
+            inflate(entry, content, size);
+        }
+        return content;
+    }
+
+    /**
+     * Opens a stream over the content of an entry. DEFLATED entries are inflated incrementally,
+     * so large entries are never fully buffered.
+     *
+     * @param entry the entry to open
+     * @return a stream over the entry content
+     * @throws IOException if the entry uses an unsupported compression method
+     */
+    public InputStream openStream(MappedJarEntry entry) throws IOException {
+        if (entry.isStored()) {
+            return new ByteBufferInputStream(dataSlice(entry, checkedSize(entry.getSize(), entry)));
+        }
+        checkDeflated(entry);
+        ByteBuffer compressed = dataSlice(entry, checkedSize(entry.getCompressedSize(), entry));
+        return new PooledInflaterInputStream(new ByteBufferInputStream(compressed), acquireInflater());
+    }
+
+    /**
+     * Gets the manifest of the archive, parsed once on first access.
+     *
+     * @return the manifest, or null if the archive has none
+     * @throws IOException if the manifest cannot be read
+     */
+    public Manifest getManifest() throws IOException {
+        if (!manifestLoaded) {
+            synchronized (this) {
+                if (!manifestLoaded) {
+                    MappedJarEntry entry = getEntry(MANIFEST_NAME);
+                    if (entry != null) {
+                        try (InputStream in = openStream(entry)) {
+                            manifest = new Manifest(in);
+                        }
+                    }
+                    manifestLoaded = true;
+                }
+            }
+        }
+        return manifest;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Adds a reference to this reader.
+     *
+     * @return false if the reader has already been released
+     */
+    boolean retain() {
+        while (true) {
+            int current = references.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases one reference to this reader. The mapping is released when the last reference is closed.
+     */
+    @Override
+    public void close() throws IOException {
+        int remaining = references.updateAndGet(current -> current > 0 ? current - 1 : 0);
+        if (remaining > 0 || closed) {
+            return;
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (onRelease != null) {
+            onRelease.accept(this);
+        }
+        indexes.clear();
+        Inflater inflater;
+        while ((inflater = inflaters.poll()) != null) {
+            inflater.end();
+        }
+        source.close();
+        LOGGER.fine("Released JAR reader: " + name);
+    }
+
+    private List<MappedJarEntry> readCentralDirectory() throws IOException {
+        long length = source.length();
+        if (length < END_OF_CENTRAL_DIR_SIZE) {
+            throw new ZipException("Not a ZIP archive: " + name);
+        }
+
+        int tailLength = (int) Math.min(length, END_OF_CENTRAL_DIR_SIZE + MAX_COMMENT_LENGTH);
+        long tailOffset = length - tailLength;
+        ByteBuffer tail = source.slice(tailOffset, tailLength);
+        int endRecord = findEndOfCentralDirectory(tail);
+        if (endRecord < 0) {
+            throw new ZipException("End of central directory record not found: " + name);
+        }
+
+        long entryCount = tail.getShort(endRecord + 10) & 0xFFFF;
+        long directorySize = tail.getInt(endRecord + 12) & ZIP64_MAGIC;
+        long directoryOffset = tail.getInt(endRecord + 16) & ZIP64_MAGIC;
+        long endRecordOffset = tailOffset + endRecord;
+        long directoryEnd = endRecordOffset;
+
+        if (entryCount == 0xFFFF || directorySize == ZIP64_MAGIC || directoryOffset == ZIP64_MAGIC) {
+            ByteBuffer zip64 = readZip64EndOfCentralDirectory(endRecordOffset);
+            if (zip64 != null) {
+                entryCount = zip64.getLong(32);
+                directorySize = zip64.getLong(40);
+                directoryOffset = zip64.getLong(48);
+                directoryEnd = zip64EndRecordOffset(endRecordOffset);
+            }
+        }
+
+        // Archives with a prepended launch script store offsets relative to the start of the ZIP data
+        long archiveOffset = directoryEnd - directorySize - directoryOffset;
+        if (archiveOffset < 0) {
+            throw new ZipException("Invalid central directory offset: " + name);
+        }
+
+        ByteBuffer directory = source.slice(archiveOffset + directoryOffset, checkedSize(directorySize, null));
+        List<MappedJarEntry> result = new ArrayList<>((int) Math.min(entryCount, Integer.MAX_VALUE));
+        int position = 0;
+        byte[] nameBuffer = new byte[256];
+        while (position + CENTRAL_DIR_HEADER_SIZE <= directory.limit()) {
+            if (directory.getInt(position) != CENTRAL_DIR_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header at entry " + result.size() + ": " + name);
+            }
+            int method = directory.getShort(position + 10) & 0xFFFF;
+            long crc = directory.getInt(position + 16) & ZIP64_MAGIC;
+            long compressedSize = directory.getInt(position + 20) & ZIP64_MAGIC;
+            long size = directory.getInt(position + 24) & ZIP64_MAGIC;
+            int nameLength = directory.getShort(position + 28) & 0xFFFF;
+            int extraLength = directory.getShort(position + 30) & 0xFFFF;
+            int commentLength = directory.getShort(position + 32) & 0xFFFF;
+            long localHeaderOffset = directory.getInt(position + 42) & ZIP64_MAGIC;
+
+            if (nameLength > nameBuffer.length) {
+                nameBuffer = new byte[nameLength];
+            }
+            directory.position(position + CENTRAL_DIR_HEADER_SIZE);
+            directory.get(nameBuffer, 0, nameLength);
+            String entryName = new String(nameBuffer, 0, nameLength, StandardCharsets.UTF_8);
+
+            if (size == ZIP64_MAGIC || compressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+                long[] values = { size, compressedSize, localHeaderOffset };
+                readZip64ExtraField(directory, position + CENTRAL_DIR_HEADER_SIZE + nameLength, extraLength, values);
+                size = values[0];
+                compressedSize = values[1];
+                localHeaderOffset = values[2];
+            }
+
+            result.add(new MappedJarEntry(entryName, method, compressedSize, size, crc,
+                                          archiveOffset + localHeaderOffset));
+            position += CENTRAL_DIR_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return result;
+    }
+
+    private int findEndOfCentralDirectory(ByteBuffer tail) {
+        for (int position = tail.limit() - END_OF_CENTRAL_DIR_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIR_SIGNATURE) {
+                int commentLength = tail.getShort(position + 20) & 0xFFFF;
+                if (position + END_OF_CENTRAL_DIR_SIZE + commentLength <= tail.limit()) {
+                    return position;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private ByteBuffer readZip64EndOfCentralDirectory(long endRecordOffset) throws IOException {
+        long recordOffset = zip64EndRecordOffset(endRecordOffset);
+        if (recordOffset < 0) {
+            return null;
+        }
+        ByteBuffer record = source.slice(recordOffset, ZIP64_END_OF_CENTRAL_DIR_SIZE);
+        if (record.getInt(0) != ZIP64_END_OF_CENTRAL_DIR_SIGNATURE) {
+            throw new ZipException("Invalid ZIP64 end of central directory record: " + name);
+        }
+        return record;
+    }
+
+    private long zip64EndRecordOffset(long endRecordOffset) throws IOException {
+        long locatorOffset = endRecordOffset - ZIP64_LOCATOR_SIZE;
+        if (locatorOffset < 0) {
+            return -1L;
+        }
+        ByteBuffer locator = source.slice(locatorOffset, ZIP64_LOCATOR_SIZE);
+        if (locator.getInt(0) != ZIP64_END_OF_CENTRAL_DIR_LOCATOR_SIGNATURE) {
+            return -1L;
+        }
+        // The record usually sits right before the locator; otherwise trust the offset stored in the locator
+        long adjacentOffset = locatorOffset - ZIP64_END_OF_CENTRAL_DIR_SIZE;
+        if (adjacentOffset >= 0 &&
+            source.slice(adjacentOffset, 4).getInt(0) == ZIP64_END_OF_CENTRAL_DIR_SIGNATURE) {
+            return adjacentOffset;
+        }
+        return locator.getLong(8);
+    }
+
+    private void readZip64ExtraField(ByteBuffer directory, int start, int length, long[] values) {
+        int position = start;
+        int end = start + length;
+        while (position + 4 <= end) {
+            int headerId = directory.getShort(position) & 0xFFFF;
+            int dataSize = directory.getShort(position + 2) & 0xFFFF;
+            if (headerId == ZIP64_EXTRA_FIELD_ID) {
+                int field = position + 4;
+                int fieldEnd = field + dataSize;
+                for (int i = 0; i < values.length && field + 8 <= fieldEnd; i++) {
+                    if (values[i] == ZIP64_MAGIC) {
+                        values[i] = directory.getLong(field);
+                        field += 8;
+                    }
+                }
+                return;
+            }
+            position += 4 + dataSize;
+        }
+    }
+
+    private ByteBuffer dataSlice(MappedJarEntry entry, int length) throws IOException {
+        ensureOpen();
+        long dataOffset = entry.getDataOffset();
+        if (dataOffset < 0) {
+            ByteBuffer header = source.slice(entry.getLocalHeaderOffset(), LOCAL_HEADER_SIZE);
+            if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid local header for entry " + entry.getName() + ": " + name);
+            }
+            int nameLength = header.getShort(26) & 0xFFFF;
+            int extraLength = header.getShort(28) & 0xFFFF;
+            dataOffset = entry.getLocalHeaderOffset() + LOCAL_HEADER_SIZE + nameLength + extraLength;
+            entry.setDataOffset(dataOffset);
+        }
+        return source.slice(dataOffset, length);
+    }
+
+    private void inflate(MappedJarEntry entry, byte[] target, int size) throws IOException {
+        checkDeflated(entry);
+        ByteBuffer compressed = dataSlice(entry, checkedSize(entry.getCompressedSize(), entry));
+        Inflater inflater = acquireInflater();
+        try {
+            inflater.setInput(compressed);
+            int offset = 0;
+            while (offset < size && !inflater.finished()) {
+                int count = inflater.inflate(target, offset, size - offset);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Truncated deflate data for entry " + entry.getName() + ": " + name);
+                }
+                offset += count;
+            }
+            if (offset != size) {
+                throw new ZipException("Size mismatch for entry " + entry.getName() + ": expected " + size +
+                                       " bytes, inflated " + offset);
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException("Corrupted deflate data for entry " + entry.getName() + ": " + e.getMessage());
+        } finally {
+            releaseInflater(inflater);
+        }
+    }
+
+    private void checkDeflated(MappedJarEntry entry) throws ZipException {
+        if (entry.getMethod() != MappedJarEntry.DEFLATED) {
+            throw new ZipException("Unsupported compression method " + entry.getMethod() +
+                                   " for entry " + entry.getName());
+        }
+    }
+
+    private int checkedSize(long size, MappedJarEntry entry) throws ZipException {
+        if (size < 0 || size > Integer.MAX_VALUE - 8) {
+            throw new ZipException("Entry too large to read: " + (entry != null ? entry.getName() : name));
+        }
+        return (int) size;
+    }
+
+    private Inflater acquireInflater() {
+        Inflater inflater = inflaters.poll();
+        return inflater != null ? inflater : new Inflater(true);
+    }
+
+    private void releaseInflater(Inflater inflater) {
+        if (closed) {
+            inflater.end();
+        } else {
+            inflater.reset();
+            inflaters.offer(inflater);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("JAR reader is closed: " + name);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarReader{" +
+                "name='" + name + '\'' +
+                ", entryCount=" + entries.size() +
+                ", closed=" + closed +
+                '}';
+    }
+
+    /**
+     * Inflating stream that hands its inflater back to the reader pool when closed.
+     */
+    private final class PooledInflaterInputStream extends InflaterInputStream {
+
+        private boolean released;
+
+        PooledInflaterInputStream(InputStream in, Inflater inflater) {
+            super(in, inflater, 8192);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!released) {
+                released = true;
+                releaseInflater(inf);
+            }
+            super.close();
+        }
+    }
+
+    /**
+     * Random access view over the bytes of an archive.
+     */
+    private interface Source extends Closeable {
+
+        long length();
+
+        /**
+         * Returns a little-endian view of the given range, positioned at its start.
+         */
+        ByteBuffer slice(long offset, int length) throws IOException;
+    }
+
+    /**
+     * Source backed by a region of an already mapped archive, used for nested archives.
+     */
+    private static final class BufferSource implements Source {
+
+        private final ByteBuffer buffer;
+
+        BufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long length() {
+            return buffer.capacity();
+        }
+
+        @Override
+        public ByteBuffer slice(long offset, int sliceLength) throws IOException {
+            if (offset < 0 || offset + sliceLength > buffer.capacity()) {
+                throw new ZipException("Range [" + offset + ", " + (offset + sliceLength) + ") outside nested archive of " +
+                                       buffer.capacity() + " bytes");
+            }
+            ByteBuffer view = buffer.duplicate();
+            view.limit((int) offset + sliceLength);
+            view.position((int) offset);
+            return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        public void close() {
+            // The mapping belongs to the outer archive
+        }
+    }
+
+    /**
+     * Source backed by memory-mapped segments of a file. Archives larger than a single mapping
+     * are split into overlapping segments; ranges that straddle two segments are mapped on demand.
+     */
+    private static final class FileSource implements Source {
+
+        private final FileChannel channel;
+        private final long length;
+        private final MappedByteBuffer[] segments;
+
+        FileSource(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                this.length = channel.size();
+                int segmentCount = (int) Math.max(1, (length + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+                this.segments = new MappedByteBuffer[segmentCount];
+                for (int i = 0; i < segmentCount; i++) {
+                    long start = i * SEGMENT_SIZE;
+                    long size = Math.min(SEGMENT_SIZE + SEGMENT_OVERLAP, length - start);
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.max(0, size));
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public ByteBuffer slice(long offset, int sliceLength) throws IOException {
+            if (offset < 0 || offset + sliceLength > length) {
+                throw new ZipException("Range [" + offset + ", " + (offset + sliceLength) + ") outside archive of " +
+                                       length + " bytes");
+            }
+            int index = (int) Math.min(offset / SEGMENT_SIZE, segments.length - 1);
+            long segmentStart = index * SEGMENT_SIZE;
+            int relative = (int) (offset - segmentStart);
+            MappedByteBuffer segment = segments[index];
+            ByteBuffer view;
+            if (relative + sliceLength <= segment.capacity()) {
+                view = segment.duplicate();
+                view.position(relative);
+                view.limit(relative + sliceLength);
+                view = view.slice();
+            } else {
+                view = channel.map(FileChannel.MapMode.READ_ONLY, offset, sliceLength);
+            }
+            return view.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package it.denzosoft.jreverse.analyzer.archive;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Walks the entries of JARs nested inside an archive, such as the libraries under
+ * {@code BOOT-INF/lib/} or {@code WEB-INF/lib/}, without extracting them.
+ * STORED nested JARs are opened in place on the mapping of the outer archive; compressed
+ * nested JARs are inflated and walked as a stream, so neither is ever fully copied to the heap.
+ */
+public class NestedJarScanner {
+
+    private static final String JAR_SUFFIX = ".jar";
+
+    /**
+     * Receives the entries of a nested JAR. The stream is only valid during the call.
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+
+        void visit(String entryName, InputStream content) throws IOException;
+    }
+
+    private final MappedJarReader reader;
+
+    public NestedJarScanner(MappedJarReader reader) {
+        this.reader = Objects.requireNonNull(reader, "reader cannot be null");
+    }
+
+    /**
+     * Lists the nested JARs stored directly under the given directory of the archive.
+     *
+     * @param directory the library directory, for example {@code BOOT-INF/lib/}
+     * @return the nested JAR entries, in archive order
+     */
+    public List<MappedJarEntry> findNestedJars(String directory) {
+        return reader.stream()
+            .filter(entry -> !entry.isDirectory() &&
+                             entry.getName().startsWith(directory) &&
+                             entry.getName().endsWith(JAR_SUFFIX) &&
+                             entry.getName().indexOf('/', directory.length()) < 0)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Visits every file entry of a nested JAR.
+     *
+     * @param nestedJar the entry of the outer archive holding the JAR
+     * @param visitor the visitor receiving each entry
+     * @throws IOException if the nested JAR cannot be read
+     */
+    public void scan(MappedJarEntry nestedJar, EntryVisitor visitor) throws IOException {
+        if (nestedJar.isStored()) {
+            scanInPlace(nestedJar, visitor);
+        } else {
+            scanStreaming(nestedJar, visitor);
+        }
+    }
+
+    private void scanInPlace(MappedJarEntry nestedJar, EntryVisitor visitor) throws IOException {
+        try (MappedJarReader nested = reader.openNested(nestedJar)) {
+            for (MappedJarEntry entry : nested.getEntries()) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                try (InputStream content = nested.openStream(entry)) {
+                    visitor.visit(entry.getName(), content);
+                }
+            }
+        }
+    }
+
+    private void scanStreaming(MappedJarEntry nestedJar, EntryVisitor visitor) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(reader.openStream(nestedJar))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    visitor.visit(entry.getName(), new NonClosingInputStream(zip));
+                }
+                zip.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Shields the shared ZipInputStream from visitors that close the entry stream.
+     */
+    private static final class NonClosingInputStream extends FilterInputStream {
+
+        NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // The underlying stream is positioned on the next entry by the scanner
+        }
+    }
+}
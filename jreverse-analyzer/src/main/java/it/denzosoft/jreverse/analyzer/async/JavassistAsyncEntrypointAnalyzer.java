@@ -1,12 +1,13 @@
 package it.denzosoft.jreverse.analyzer.async;
 
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointTraversal;
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointVisitor;
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.model.MethodInfo;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Javassist-based implementation of AsyncEntrypointAnalyzer.
@@ -39,69 +40,79 @@ public class JavassistAsyncEntrypointAnalyzer implements AsyncEntrypointAnalyzer
     @Override
     public AsyncAnalysisResult analyze(JarContent jarContent) {
         long startTime = System.currentTimeMillis();
-        List<AsyncEntrypointInfo> allEntrypoints = new ArrayList<>();
-        
-        for (ClassInfo classInfo : jarContent.getClasses()) {
-            if (hasAsyncPatterns(classInfo)) {
-                AsyncAnalysisResult classResult = analyzeClass(classInfo);
-                allEntrypoints.addAll(classResult.getAsyncEntrypoints());
-            }
-        }
+        EntrypointVisitor<AsyncAnalysisResult> visitor = createVisitor();
+        EntrypointTraversal.of(visitor).traverse(jarContent);
         
         long analysisTime = System.currentTimeMillis() - startTime;
         String fileName = jarContent.getLocation() != null ? jarContent.getLocation().getFileName() : "";
-        return new AsyncAnalysisResult(allEntrypoints, analysisTime, fileName);
+        return visitor.getResult(analysisTime, fileName);
     }
     
     @Override
     public AsyncAnalysisResult analyzeClass(ClassInfo classInfo) {
-        List<AsyncEntrypointInfo> entrypoints = new ArrayList<>();
-        
-        // Analyze class-level async annotations (@EnableAsync)
-        List<AnnotationInfo> classAnnotations = getAsyncAnnotations(new ArrayList<>(classInfo.getAnnotations()));
-        for (AnnotationInfo annotation : classAnnotations) {
-            AsyncEntrypointInfo entrypoint = analyzeAsyncAnnotation(
-                annotation, classInfo.getFullyQualifiedName(), "<class-level>", "void"
-            );
-            if (entrypoint != null) {
-                entrypoints.add(entrypoint);
+        EntrypointVisitor<AsyncAnalysisResult> visitor = createVisitor();
+        EntrypointTraversal.of(visitor).traverseClass(classInfo);
+        return visitor.getResult(0L, "");
+    }
+    
+    /**
+     * Creates a visitor collecting async entrypoints, to be registered on an
+     * {@link EntrypointTraversal} shared with other entrypoint analyzers.
+     *
+     * @return a new visitor
+     */
+    public EntrypointVisitor<AsyncAnalysisResult> createVisitor() {
+        return new AsyncVisitor();
+    }
+    
+    private class AsyncVisitor implements EntrypointVisitor<AsyncAnalysisResult> {
+        
+        private final List<AsyncEntrypointInfo> entrypoints = new ArrayList<>();
+        
+        @Override
+        public Set<String> getAnnotationTypes() {
+            return Collections.unmodifiableSet(ASYNC_ANNOTATIONS);
+        }
+        
+        @Override
+        public boolean acceptsMethod(MethodInfo method) {
+            return isAsyncReturnType(method.getReturnType());
+        }
+        
+        @Override
+        public void visitClass(ClassInfo classInfo, List<AnnotationInfo> annotations) {
+            // Class-level async annotations (@EnableAsync)
+            for (AnnotationInfo annotation : annotations) {
+                AsyncEntrypointInfo entrypoint = analyzeAsyncAnnotation(
+                    annotation, classInfo.getFullyQualifiedName(), "<class-level>", "void"
+                );
+                if (entrypoint != null) {
+                    entrypoints.add(entrypoint);
+                }
             }
         }
         
-        // Analyze method-level async patterns
-        for (MethodInfo method : classInfo.getMethods()) {
-            AsyncEntrypointInfo entrypoint = analyzeMethod(method, classInfo.getFullyQualifiedName());
+        @Override
+        public void visitMethod(ClassInfo classInfo, MethodInfo method, List<AnnotationInfo> annotations) {
+            String className = classInfo.getFullyQualifiedName();
+            AsyncEntrypointInfo entrypoint;
+            
+            // Async annotations take precedence over async return types
+            if (!annotations.isEmpty()) {
+                entrypoint = analyzeAsyncAnnotation(annotations.get(0), className, method.getName(), method.getReturnType());
+            } else {
+                entrypoint = analyzeAsyncReturnType(method, className);
+            }
+            
             if (entrypoint != null) {
                 entrypoints.add(entrypoint);
             }
         }
         
-        return new AsyncAnalysisResult(entrypoints, 0L, "");
-    }
-    
-    private boolean hasAsyncPatterns(ClassInfo classInfo) {
-        // Check class-level annotations
-        if (classInfo.getAnnotations().stream().anyMatch(this::isAsyncAnnotation)) {
-            return true;
-        }
-        
-        // Check method-level patterns (annotations or return types)
-        return classInfo.getMethods().stream()
-            .anyMatch(method -> hasAsyncPattern(method));
-    }
-    
-    private boolean hasAsyncPattern(MethodInfo method) {
-        // Check async annotations
-        if (method.getAnnotations().stream().anyMatch(this::isAsyncAnnotation)) {
-            return true;
+        @Override
+        public AsyncAnalysisResult getResult(long analysisTimeMs, String jarFileName) {
+            return new AsyncAnalysisResult(entrypoints, analysisTimeMs, jarFileName);
         }
-        
-        // Check async return types
-        return isAsyncReturnType(method.getReturnType());
-    }
-    
-    private boolean isAsyncAnnotation(AnnotationInfo annotation) {
-        return ASYNC_ANNOTATIONS.contains(annotation.getType());
     }
     
     private boolean isAsyncReturnType(String returnType) {
@@ -111,27 +122,6 @@ public class JavassistAsyncEntrypointAnalyzer implements AsyncEntrypointAnalyzer
             .anyMatch(returnType::contains);
     }
     
-    private List<AnnotationInfo> getAsyncAnnotations(List<AnnotationInfo> annotations) {
-        return annotations.stream()
-            .filter(this::isAsyncAnnotation)
-            .collect(Collectors.toList());
-    }
-    
-    private AsyncEntrypointInfo analyzeMethod(MethodInfo method, String className) {
-        // First check for async annotations
-        List<AnnotationInfo> methodAnnotations = getAsyncAnnotations(new ArrayList<>(method.getAnnotations()));
-        if (!methodAnnotations.isEmpty()) {
-            return analyzeAsyncAnnotation(methodAnnotations.get(0), className, method.getName(), method.getReturnType());
-        }
-        
-        // Then check for async return types
-        if (isAsyncReturnType(method.getReturnType())) {
-            return analyzeAsyncReturnType(method, className);
-        }
-        
-        return null;
-    }
-    
     private AsyncEntrypointInfo analyzeAsyncAnnotation(AnnotationInfo annotation, String className, 
                                                        String methodName, String returnType) {
         AsyncEntrypointType type = ANNOTATION_TYPE_MAP.get(annotation.getType());
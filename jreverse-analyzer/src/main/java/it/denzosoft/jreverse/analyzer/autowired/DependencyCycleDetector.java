@@ -0,0 +1,208 @@
+package it.denzosoft.jreverse.analyzer.autowired;
+
+import it.denzosoft.jreverse.core.model.DependencyCycle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds every set of beans that depend on each other in a bean dependency graph.
+ * Beans are numbered as they are added and dependencies are kept in flat int arrays, sorted
+ * into CSR rows when the cycles are searched. The search is an iterative Tarjan pass over the
+ * strongly connected components, so it runs in linear time and needs no call stack however
+ * long the dependency chains are.
+ *
+ * Detectors are not thread-safe.
+ */
+public final class DependencyCycleDetector {
+    
+    private static final int INITIAL_CAPACITY = 256;
+    
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private int[] sources = new int[INITIAL_CAPACITY];
+    private int[] targets = new int[INITIAL_CAPACITY];
+    private int edgeCount;
+    
+    /**
+     * Adds a bean to the graph.
+     *
+     * @param bean the bean name
+     * @return the id of the bean
+     */
+    public int addBean(String bean) {
+        Integer id = ids.get(bean);
+        if (id != null) {
+            return id;
+        }
+        int newId = names.size();
+        ids.put(bean, newId);
+        names.add(bean);
+        return newId;
+    }
+    
+    /**
+     * Records that a bean needs another one to be created.
+     *
+     * @param bean the dependent bean
+     * @param dependency the bean it depends on
+     */
+    public void addDependency(String bean, String dependency) {
+        int source = addBean(bean);
+        int target = addBean(dependency);
+        if (edgeCount == sources.length) {
+            sources = Arrays.copyOf(sources, edgeCount * 2);
+            targets = Arrays.copyOf(targets, edgeCount * 2);
+        }
+        sources[edgeCount] = source;
+        targets[edgeCount] = target;
+        edgeCount++;
+    }
+    
+    public int getBeanCount() {
+        return names.size();
+    }
+    
+    public int getDependencyCount() {
+        return edgeCount;
+    }
+    
+    /**
+     * Finds all dependency cycles: every strongly connected component with more than one
+     * bean, and every bean depending on itself.
+     *
+     * @return the cycles, largest first
+     */
+    public List<DependencyCycle> findCycles() {
+        int beanCount = names.size();
+        
+        // Counting sort of the dependencies by dependent bean into CSR rows
+        int[] offsets = new int[beanCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            offsets[sources[edge] + 1]++;
+        }
+        for (int bean = 0; bean < beanCount; bean++) {
+            offsets[bean + 1] += offsets[bean];
+        }
+        int[] next = Arrays.copyOf(offsets, beanCount);
+        int[] row = new int[edgeCount];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            row[next[sources[edge]]++] = targets[edge];
+        }
+        
+        int[] component = findComponents(offsets, row);
+        int componentCount = 0;
+        for (int bean = 0; bean < beanCount; bean++) {
+            componentCount = Math.max(componentCount, component[bean] + 1);
+        }
+        int[] sizes = new int[componentCount];
+        for (int bean = 0; bean < beanCount; bean++) {
+            sizes[component[bean]]++;
+        }
+        
+        // Beans are added in id order, so each cycle lists its beans in the order they were added
+        DependencyCycle.Builder[] builders = new DependencyCycle.Builder[componentCount];
+        for (int bean = 0; bean < beanCount; bean++) {
+            int id = component[bean];
+            if (sizes[id] > 1) {
+                if (builders[id] == null) {
+                    builders[id] = DependencyCycle.builder();
+                }
+                builders[id].addBean(names.get(bean));
+            }
+        }
+        int[] seen = new int[beanCount];
+        for (int bean = 0; bean < beanCount; bean++) {
+            int id = component[bean];
+            for (int edge = offsets[bean]; edge < offsets[bean + 1]; edge++) {
+                int target = row[edge];
+                if (component[target] != id || seen[target] == bean + 1) {
+                    continue;
+                }
+                seen[target] = bean + 1;
+                if (sizes[id] > 1 || target == bean) {
+                    if (builders[id] == null) {
+                        builders[id] = DependencyCycle.builder();
+                    }
+                    builders[id].addDependency(names.get(bean), names.get(target));
+                }
+            }
+        }
+        
+        List<DependencyCycle> cycles = new ArrayList<>();
+        for (DependencyCycle.Builder builder : builders) {
+            if (builder != null) {
+                cycles.add(builder.build());
+            }
+        }
+        cycles.sort(Comparator.comparingInt(DependencyCycle::getSize).reversed());
+        return cycles;
+    }
+    
+    /**
+     * Assigns each bean the id of its strongly connected component.
+     */
+    private int[] findComponents(int[] offsets, int[] row) {
+        int beanCount = names.size();
+        int[] component = new int[beanCount];
+        int[] index = new int[beanCount];
+        int[] lowLink = new int[beanCount];
+        BitSet onStack = new BitSet(beanCount);
+        int[] stack = new int[beanCount];
+        int[] frames = new int[beanCount];
+        int[] cursors = new int[beanCount];
+        int nextIndex = 0;
+        int nextComponent = 0;
+        
+        for (int root = 0; root < beanCount; root++) {
+            if (index[root] != 0) {
+                continue;
+            }
+            int frameCount = 0;
+            int stackSize = 0;
+            frames[frameCount] = root;
+            cursors[frameCount++] = offsets[root];
+            index[root] = lowLink[root] = ++nextIndex;
+            stack[stackSize++] = root;
+            onStack.set(root);
+            
+            while (frameCount > 0) {
+                int bean = frames[frameCount - 1];
+                if (cursors[frameCount - 1] < offsets[bean + 1]) {
+                    int dependency = row[cursors[frameCount - 1]++];
+                    if (index[dependency] == 0) {
+                        frames[frameCount] = dependency;
+                        cursors[frameCount++] = offsets[dependency];
+                        index[dependency] = lowLink[dependency] = ++nextIndex;
+                        stack[stackSize++] = dependency;
+                        onStack.set(dependency);
+                    } else if (onStack.get(dependency)) {
+                        lowLink[bean] = Math.min(lowLink[bean], index[dependency]);
+                    }
+                    continue;
+                }
+                
+                frameCount--;
+                if (frameCount > 0) {
+                    int dependent = frames[frameCount - 1];
+                    lowLink[dependent] = Math.min(lowLink[dependent], lowLink[bean]);
+                }
+                if (lowLink[bean] == index[bean]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack.clear(member);
+                        component[member] = nextComponent;
+                    } while (member != bean);
+                    nextComponent++;
+                }
+            }
+        }
+        return component;
+    }
+}
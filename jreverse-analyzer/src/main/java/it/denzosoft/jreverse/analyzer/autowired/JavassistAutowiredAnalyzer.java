@@ -2,20 +2,30 @@ package it.denzosoft.jreverse.analyzer.autowired;
 
 import it.denzosoft.jreverse.analyzer.beancreation.BeanDependency;
 import it.denzosoft.jreverse.analyzer.beancreation.BeanDependencyAnalyzer;
+import it.denzosoft.jreverse.analyzer.beancreation.BeanInfo;
 import it.denzosoft.jreverse.analyzer.beancreation.DependencyInjectionType;
+import it.denzosoft.jreverse.analyzer.beancreation.JavassistBeanCreationAnalyzer;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
+import it.denzosoft.jreverse.core.model.AnalysisMetadata;
 import it.denzosoft.jreverse.core.model.AutowiredAnalysisResult;
 import it.denzosoft.jreverse.core.model.AutowiredDependency;
 import it.denzosoft.jreverse.core.model.AutowiredSummary;
 import it.denzosoft.jreverse.core.model.AutowiringIssue;
 import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.DependencyCycle;
 import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.TypeHierarchy;
 import it.denzosoft.jreverse.core.port.AutowiredAnalyzer;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -27,9 +37,22 @@ public class JavassistAutowiredAnalyzer implements AutowiredAnalyzer {
     private static final JReverseLogger LOGGER = JReverseLogger.getLogger(JavassistAutowiredAnalyzer.class);
     
     private final BeanDependencyAnalyzer beanDependencyAnalyzer;
+    private final JavassistBeanCreationAnalyzer beanCreationAnalyzer;
+    private final AnalysisSession session;
     
     public JavassistAutowiredAnalyzer() {
+        this(null);
+    }
+    
+    /**
+     * Creates an analyzer that reads the beans of the dependency cycle search from the bean
+     * creation result of the session, computing it once for all the analyzers of the session,
+     * and that stops when the analysis of the session is cancelled.
+     */
+    public JavassistAutowiredAnalyzer(AnalysisSession session) {
         this.beanDependencyAnalyzer = new BeanDependencyAnalyzer();
+        this.beanCreationAnalyzer = new JavassistBeanCreationAnalyzer(session);
+        this.session = session;
     }
     
     @Override
@@ -40,9 +63,16 @@ public class JavassistAutowiredAnalyzer implements AutowiredAnalyzer {
             List<AutowiredDependency> allDependencies = new ArrayList<>();
             Map<String, List<AutowiredDependency>> dependenciesByClass = new HashMap<>();
             List<AutowiringIssue> issues = new ArrayList<>();
+            TypeHierarchy hierarchy = jarContent.getTypeHierarchy();
+            boolean complete = true;
             
             // Analyze each class for autowired dependencies
             for (ClassInfo classInfo : jarContent.getClasses()) {
+                if (isCancelled()) {
+                    complete = false;
+                    session.markIncomplete(SessionKeys.AUTOWIRING.getName());
+                    break;
+                }
                 if (isRelevantForAutowiring(classInfo)) {
                     List<BeanDependency> classDependencies = beanDependencyAnalyzer.analyzeDependencies(classInfo);
                     
@@ -52,32 +82,47 @@ public class JavassistAutowiredAnalyzer implements AutowiredAnalyzer {
                         dependenciesByClass.put(classInfo.getFullyQualifiedName(), autowiredDeps);
                         
                         // Analyze for issues
-                        issues.addAll(analyzeAutowiringIssues(classInfo, classDependencies));
+                        issues.addAll(analyzeAutowiringIssues(classInfo, classDependencies, hierarchy));
                     }
                 }
             }
             
+            // Cycles of a partial dependency graph would be misleading, so the search is skipped once stopped
+            List<DependencyCycle> cycles = new ArrayList<>();
+            if (complete) {
+                List<BeanInfo> beans = beanCreationAnalyzer.analyzeBeanCreation(jarContent).getAllBeans();
+                cycles = findDependencyCycles(dependenciesByClass, hierarchy, beans);
+                issues.addAll(createCycleIssues(cycles));
+            }
+            
             // Calculate statistics
             Map<String, Integer> injectionTypeStats = calculateInjectionTypeStatistics(allDependencies);
             AutowiredSummary summary = buildSummary(jarContent, allDependencies, dependenciesByClass, issues, injectionTypeStats);
             
-            LOGGER.info("Autowiring analysis completed. Found %d dependencies in %d classes with %d issues",
-                allDependencies.size(), dependenciesByClass.size(), issues.size());
+            LOGGER.info("Autowiring analysis completed. Found %d dependencies in %d classes with %d issues and %d cycles",
+                allDependencies.size(), dependenciesByClass.size(), issues.size(), cycles.size());
             
             return AutowiredAnalysisResult.builder()
                 .dependencies(allDependencies)
                 .dependenciesByClass(dependenciesByClass)
                 .injectionTypeStatistics(injectionTypeStats)
                 .issues(issues)
+                .dependencyCycles(cycles)
                 .summary(summary)
+                .metadata(complete ? AnalysisMetadata.successful()
+                                   : AnalysisMetadata.incomplete("Autowiring analysis stopped before the end of the JAR"))
                 .build();
-                
+            
         } catch (Exception e) {
             LOGGER.error("Failed to analyze autowiring", e);
             throw new RuntimeException("Autowiring analysis failed", e);
         }
     }
     
+    private boolean isCancelled() {
+        return session != null && session.isCancelled();
+    }
+    
     @Override
     public boolean canAnalyze(JarContent jarContent) {
         return jarContent != null && jarContent.getClasses() != null && !jarContent.getClasses().isEmpty();
@@ -127,7 +172,8 @@ public class JavassistAutowiredAnalyzer implements AutowiredAnalyzer {
     /**
      * Analyzes potential autowiring issues for a class.
      */
-    private List<AutowiringIssue> analyzeAutowiringIssues(ClassInfo classInfo, List<BeanDependency> dependencies) {
+    private List<AutowiringIssue> analyzeAutowiringIssues(ClassInfo classInfo, List<BeanDependency> dependencies,
+                                                          TypeHierarchy hierarchy) {
         List<AutowiringIssue> issues = new ArrayList<>();
         String className = classInfo.getFullyQualifiedName();
         
@@ -169,7 +215,7 @@ public class JavassistAutowiredAnalyzer implements AutowiredAnalyzer {
             }
             
             // Issue: Missing qualifier for interface injection
-            if (!dependency.hasQualifier() && isLikelyInterface(dependency.getType())) {
+            if (!dependency.hasQualifier() && isAmbiguousInjection(dependency.getType(), hierarchy)) {
                 issues.add(AutowiringIssue.builder()
                     .type(AutowiringIssue.IssueType.MISSING_QUALIFIER)
                     .severity(AutowiringIssue.Severity.WARNING)
@@ -184,6 +230,124 @@ public class JavassistAutowiredAnalyzer implements AutowiredAnalyzer {
         return issues;
     }
     
+    /**
+     * Finds the sets of beans depending on each other. Each dependency links its owner to the
+     * beans the container would inject for it: the beans of the JAR assignable to the injected
+     * type, narrowed by {@link #resolveCandidates}. Dependencies with no bean candidate in the JAR
+     * cannot close a cycle and are left out.
+     */
+    private List<DependencyCycle> findDependencyCycles(Map<String, List<AutowiredDependency>> dependenciesByClass,
+                                                       TypeHierarchy hierarchy, List<BeanInfo> beans) {
+        DependencyCycleDetector detector = new DependencyCycleDetector();
+        Map<String, List<BeanInfo>> candidatesByType = new HashMap<>();
+        for (Map.Entry<String, List<AutowiredDependency>> entry : dependenciesByClass.entrySet()) {
+            String owner = entry.getKey();
+            detector.addBean(owner);
+            for (AutowiredDependency dependency : entry.getValue()) {
+                String type = dependency.getDependencyType();
+                if (type == null || !hierarchy.isDeclared(type)) {
+                    continue;
+                }
+                List<BeanInfo> candidates = candidatesByType.computeIfAbsent(type,
+                    key -> findBeanCandidates(key, hierarchy, beans));
+                for (String candidate : resolveCandidates(owner, dependency, candidates)) {
+                    detector.addDependency(owner, candidate);
+                }
+            }
+        }
+        
+        long startTime = System.currentTimeMillis();
+        List<DependencyCycle> cycles = detector.findCycles();
+        LOGGER.debug("Searched %d beans and %d dependencies for cycles in %dms",
+            detector.getBeanCount(), detector.getDependencyCount(), System.currentTimeMillis() - startTime);
+        return cycles;
+    }
+    
+    /**
+     * Gets the beans whose type is assignable to an injected type.
+     */
+    private List<BeanInfo> findBeanCandidates(String type, TypeHierarchy hierarchy, List<BeanInfo> beans) {
+        Set<String> implementors = hierarchy.getImplementors(type);
+        return beans.stream()
+            .filter(bean -> bean.getBeanType() != null)
+            .filter(bean -> bean.getBeanType().equals(type) || implementors.contains(bean.getBeanType()))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Resolves the bean types injected for a dependency following the container rules: the
+     * qualifier of the injection point keeps the beans with that qualifier or name, the owner
+     * is dropped while other candidates remain, then the {@code @Primary} beans win, then the
+     * bean named like the injection point. The owner is therefore returned only when the
+     * injected type resolves to it alone.
+     */
+    private Set<String> resolveCandidates(String owner, AutowiredDependency dependency, List<BeanInfo> candidates) {
+        List<BeanInfo> resolved = candidates;
+        if (dependency.hasQualifier()) {
+            String qualifier = dependency.getQualifier();
+            resolved = filterBeans(resolved,
+                bean -> qualifier.equals(bean.getQualifier()) || qualifier.equals(bean.getBeanName()));
+        }
+        List<BeanInfo> others = filterBeans(resolved, bean -> !owner.equals(bean.getBeanType()));
+        if (!others.isEmpty()) {
+            resolved = others;
+        }
+        if (resolved.size() > 1) {
+            List<BeanInfo> primary = filterBeans(resolved, BeanInfo::isPrimary);
+            List<BeanInfo> named = filterBeans(resolved,
+                bean -> bean.getBeanName() != null && bean.getBeanName().equals(dependency.getDependencyName()));
+            if (!primary.isEmpty()) {
+                resolved = primary;
+            } else if (!named.isEmpty()) {
+                resolved = named;
+            }
+        }
+        
+        Set<String> types = new LinkedHashSet<>();
+        for (BeanInfo bean : resolved) {
+            types.add(bean.getBeanType());
+        }
+        return types;
+    }
+    
+    private List<BeanInfo> filterBeans(List<BeanInfo> beans, Predicate<BeanInfo> filter) {
+        return beans.stream().filter(filter).collect(Collectors.toList());
+    }
+    
+    /**
+     * Reports each dependency cycle as an issue of its first bean.
+     */
+    private List<AutowiringIssue> createCycleIssues(List<DependencyCycle> cycles) {
+        List<AutowiringIssue> issues = new ArrayList<>();
+        for (DependencyCycle cycle : cycles) {
+            String firstBean = cycle.getBeans().get(0);
+            issues.add(AutowiringIssue.builder()
+                .type(AutowiringIssue.IssueType.CIRCULAR_DEPENDENCY)
+                .severity(AutowiringIssue.Severity.WARNING)
+                .className(firstBean)
+                .location(String.join(", ", cycle.getBeans()))
+                .message(cycle.isSelfDependency()
+                    ? "Bean depends on itself."
+                    : "Circular dependency between " + cycle.getSize() + " beans.")
+                .recommendation("Break the cycle by extracting the shared logic into a separate bean, "
+                    + "or inject one side lazily with @Lazy or an ObjectProvider.")
+                .build());
+        }
+        return issues;
+    }
+    
+    /**
+     * Checks if more than one candidate bean may match an injected type. Types declared in the JAR
+     * are resolved against their implementors in the type hierarchy; other types fall back to
+     * naming conventions.
+     */
+    private boolean isAmbiguousInjection(String type, TypeHierarchy hierarchy) {
+        if (hierarchy.isDeclared(type)) {
+            return hierarchy.getImplementors(type).size() > 1;
+        }
+        return isLikelyInterface(type);
+    }
+    
     /**
      * Checks if a type is likely an interface based on naming conventions.
      */
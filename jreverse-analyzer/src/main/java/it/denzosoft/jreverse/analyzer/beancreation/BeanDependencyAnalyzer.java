@@ -2,6 +2,7 @@ package it.denzosoft.jreverse.analyzer.beancreation;
 
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.AnnotationMatcher;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.FieldInfo;
 import it.denzosoft.jreverse.core.model.MethodInfo;
@@ -20,16 +21,16 @@ public class BeanDependencyAnalyzer {
     private static final JReverseLogger LOGGER = JReverseLogger.getLogger(BeanDependencyAnalyzer.class);
     
     // Spring dependency injection annotations
-    private static final Set<String> AUTOWIRED_ANNOTATIONS = Set.of(
+    private static final AnnotationMatcher AUTOWIRED_ANNOTATIONS = AnnotationMatcher.of(
         "org.springframework.beans.factory.annotation.Autowired",
         "javax.inject.Inject"
     );
     
-    private static final Set<String> RESOURCE_ANNOTATIONS = Set.of(
+    private static final AnnotationMatcher RESOURCE_ANNOTATIONS = AnnotationMatcher.of(
         "javax.annotation.Resource"
     );
     
-    private static final Set<String> QUALIFIER_ANNOTATIONS = Set.of(
+    private static final AnnotationMatcher QUALIFIER_ANNOTATIONS = AnnotationMatcher.of(
         "org.springframework.beans.factory.annotation.Qualifier",
         "javax.inject.Named"
     );
@@ -98,7 +99,7 @@ public class BeanDependencyAnalyzer {
         // Find constructors with @Autowired or single constructor with parameters
         for (MethodInfo method : classInfo.getMethods()) {
             if (isConstructor(method)) {
-                boolean isAutowired = hasAnyAnnotation(method.getAnnotations(), AUTOWIRED_ANNOTATIONS);
+                boolean isAutowired = AUTOWIRED_ANNOTATIONS.matchesAny(method.getAnnotations());
                 boolean hasParameters = !method.getParameters().isEmpty();
                 
                 // Spring autowires single constructor with parameters automatically
@@ -129,10 +130,10 @@ public class BeanDependencyAnalyzer {
         List<BeanDependency> dependencies = new ArrayList<>();
         
         for (FieldInfo field : classInfo.getFields()) {
-            if (hasAnyAnnotation(field.getAnnotations(), AUTOWIRED_ANNOTATIONS) ||
-                hasAnyAnnotation(field.getAnnotations(), RESOURCE_ANNOTATIONS)) {
+            if (AUTOWIRED_ANNOTATIONS.matchesAny(field.getAnnotations()) ||
+                RESOURCE_ANNOTATIONS.matchesAny(field.getAnnotations())) {
                 
-                DependencyInjectionType injectionType = hasAnyAnnotation(field.getAnnotations(), RESOURCE_ANNOTATIONS) ?
+                DependencyInjectionType injectionType = RESOURCE_ANNOTATIONS.matchesAny(field.getAnnotations()) ?
                     DependencyInjectionType.RESOURCE : DependencyInjectionType.FIELD;
                 
                 BeanDependency dependency = BeanDependency.builder()
@@ -159,7 +160,7 @@ public class BeanDependencyAnalyzer {
         
         for (MethodInfo method : classInfo.getMethods()) {
             if (isSetterMethod(method) && 
-                hasAnyAnnotation(method.getAnnotations(), AUTOWIRED_ANNOTATIONS)) {
+                AUTOWIRED_ANNOTATIONS.matchesAny(method.getAnnotations())) {
                 
                 // Setter methods should have exactly one parameter
                 if (method.getParameters().size() == 1) {
@@ -190,7 +191,7 @@ public class BeanDependencyAnalyzer {
         
         for (MethodInfo method : classInfo.getMethods()) {
             if (!isConstructor(method) && !isSetterMethod(method) &&
-                hasAnyAnnotation(method.getAnnotations(), AUTOWIRED_ANNOTATIONS)) {
+                AUTOWIRED_ANNOTATIONS.matchesAny(method.getAnnotations())) {
                 
                 for (ParameterInfo parameter : method.getParameters()) {
                     BeanDependency dependency = BeanDependency.builder()
@@ -274,7 +275,7 @@ public class BeanDependencyAnalyzer {
      */
     private boolean isParameterRequired(ParameterInfo parameter) {
         for (AnnotationInfo annotation : parameter.getAnnotations()) {
-            if (AUTOWIRED_ANNOTATIONS.contains(annotation.getType())) {
+            if (AUTOWIRED_ANNOTATIONS.matches(annotation)) {
                 Boolean required = annotation.getBooleanAttribute("required");
                 return required == null || required; // Default is true
             }
@@ -287,7 +288,7 @@ public class BeanDependencyAnalyzer {
      */
     private boolean isFieldRequired(FieldInfo field) {
         for (AnnotationInfo annotation : field.getAnnotations()) {
-            if (AUTOWIRED_ANNOTATIONS.contains(annotation.getType())) {
+            if (AUTOWIRED_ANNOTATIONS.matches(annotation)) {
                 Boolean required = annotation.getBooleanAttribute("required");
                 return required == null || required; // Default is true
             }
@@ -300,7 +301,7 @@ public class BeanDependencyAnalyzer {
      */
     private boolean isMethodRequired(MethodInfo method) {
         for (AnnotationInfo annotation : method.getAnnotations()) {
-            if (AUTOWIRED_ANNOTATIONS.contains(annotation.getType())) {
+            if (AUTOWIRED_ANNOTATIONS.matches(annotation)) {
                 Boolean required = annotation.getBooleanAttribute("required");
                 return required == null || required; // Default is true
             }
@@ -313,7 +314,7 @@ public class BeanDependencyAnalyzer {
      */
     private String extractQualifier(Set<AnnotationInfo> annotations) {
         for (AnnotationInfo annotation : annotations) {
-            if (QUALIFIER_ANNOTATIONS.contains(annotation.getType())) {
+            if (QUALIFIER_ANNOTATIONS.matches(annotation)) {
                 String qualifier = annotation.getStringAttribute("value");
                 if (qualifier != null && !qualifier.trim().isEmpty()) {
                     return qualifier.trim();
@@ -334,12 +335,4 @@ public class BeanDependencyAnalyzer {
                type.contains("Map<") ||
                type.endsWith("[]");
     }
-    
-    /**
-     * Checks if any annotation in the set matches one of the target annotations.
-     */
-    private boolean hasAnyAnnotation(Set<AnnotationInfo> annotations, Set<String> targetAnnotations) {
-        return annotations.stream()
-            .anyMatch(annotation -> targetAnnotations.contains(annotation.getType()));
-    }
 }
\ No newline at end of file
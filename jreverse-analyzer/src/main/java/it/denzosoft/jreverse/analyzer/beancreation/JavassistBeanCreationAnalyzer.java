@@ -1,7 +1,10 @@
 package it.denzosoft.jreverse.analyzer.beancreation;
 
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.AnnotationMatcher;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.model.MethodInfo;
@@ -23,7 +26,7 @@ public class JavassistBeanCreationAnalyzer implements BeanCreationAnalyzer {
     private static final JReverseLogger LOGGER = JReverseLogger.getLogger(JavassistBeanCreationAnalyzer.class);
     
     // Spring bean creation annotations
-    private static final Set<String> BEAN_CREATION_ANNOTATIONS = Set.of(
+    private static final AnnotationMatcher BEAN_CREATION_ANNOTATIONS = AnnotationMatcher.of(
         "org.springframework.context.annotation.Bean",
         "org.springframework.stereotype.Component",
         "org.springframework.stereotype.Service",
@@ -51,9 +54,19 @@ public class JavassistBeanCreationAnalyzer implements BeanCreationAnalyzer {
     );
     
     private final BeanDependencyAnalyzer dependencyAnalyzer;
+    private final AnalysisSession session;
     
     public JavassistBeanCreationAnalyzer() {
+        this(null);
+    }
+    
+    /**
+     * Creates an analyzer whose result for the session JAR is computed once and shared
+     * with the other analyzers of the session.
+     */
+    public JavassistBeanCreationAnalyzer(AnalysisSession session) {
         this.dependencyAnalyzer = new BeanDependencyAnalyzer();
+        this.session = session;
     }
     
     @Override
@@ -63,6 +76,11 @@ public class JavassistBeanCreationAnalyzer implements BeanCreationAnalyzer {
             return BeanCreationResult.error("JAR content cannot be null");
         }
         
+        return AnalysisSession.memoize(session, jarContent, SessionKeys.BEAN_CREATION,
+                                       () -> computeBeanCreation(jarContent));
+    }
+    
+    private BeanCreationResult computeBeanCreation(JarContent jarContent) {
         long startTime = System.currentTimeMillis();
         
         LOGGER.info("Starting bean creation analysis for JAR: %s", jarContent.getLocation().getFileName());
@@ -73,6 +91,11 @@ public class JavassistBeanCreationAnalyzer implements BeanCreationAnalyzer {
             
             // Analyze each class for bean creation patterns
             for (ClassInfo classInfo : jarContent.getClasses()) {
+                if (isCancelled()) {
+                    warnings.add("Bean creation analysis stopped before the end of the JAR");
+                    session.markIncomplete(SessionKeys.BEAN_CREATION.getName());
+                    break;
+                }
                 try {
                     List<BeanInfo> classBeansInfo = analyzeClass(classInfo);
                     allBeans.addAll(classBeansInfo);
@@ -105,6 +128,10 @@ public class JavassistBeanCreationAnalyzer implements BeanCreationAnalyzer {
         }
     }
     
+    private boolean isCancelled() {
+        return session != null && session.isCancelled();
+    }
+    
     /**
      * Analyzes a single class for Spring bean creation patterns.
      */
@@ -199,6 +226,9 @@ public class JavassistBeanCreationAnalyzer implements BeanCreationAnalyzer {
         List<BeanInfo> beanMethods = new ArrayList<>();
         
         for (it.denzosoft.jreverse.core.model.MethodInfo methodInfo : classInfo.getMethods()) {
+            if (isCancelled()) {
+                break;
+            }
             if (hasAnnotation(methodInfo.getAnnotations(), "org.springframework.context.annotation.Bean")) {
                 BeanInfo beanMethodBean = createBeanMethodBean(classInfo, methodInfo);
                 beanMethods.add(beanMethodBean);
@@ -260,7 +290,7 @@ public class JavassistBeanCreationAnalyzer implements BeanCreationAnalyzer {
     private String deriveBeanName(ClassInfo classInfo, BeanCreationType creationType) {
         // Check if there's a custom name specified in the annotation
         for (AnnotationInfo annotation : classInfo.getAnnotations()) {
-            if (BEAN_CREATION_ANNOTATIONS.contains(annotation.getType())) {
+            if (BEAN_CREATION_ANNOTATIONS.matches(annotation)) {
                 String customName = annotation.getStringAttribute("value");
                 if (customName != null && !customName.trim().isEmpty()) {
                     return customName.trim();
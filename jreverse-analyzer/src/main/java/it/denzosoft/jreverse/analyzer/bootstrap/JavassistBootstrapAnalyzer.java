@@ -5,6 +5,8 @@ import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationResult;
 import it.denzosoft.jreverse.core.port.ComponentScanAnalyzer;
 import it.denzosoft.jreverse.core.model.ComponentScanAnalysisResult;
 import it.denzosoft.jreverse.analyzer.factory.SpecializedAnalyzerFactory;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.model.AnalysisMetadata;
 import it.denzosoft.jreverse.core.model.MainMethodAnalysisResult;
 import it.denzosoft.jreverse.core.port.MainMethodAnalyzer;
@@ -33,14 +35,24 @@ public class JavassistBootstrapAnalyzer implements BootstrapAnalyzer {
     private final MainMethodAnalyzer mainMethodAnalyzer;
     private final ComponentScanAnalyzer componentScanAnalyzer;
     private final BeanCreationAnalyzer beanCreationAnalyzer;
+    private final AnalysisSession session;
     
     /**
      * Default constructor that creates its own analyzer dependencies.
      */
     public JavassistBootstrapAnalyzer() {
-        this.mainMethodAnalyzer = SpecializedAnalyzerFactory.createMainMethodAnalyzer();
-        this.componentScanAnalyzer = SpecializedAnalyzerFactory.createComponentScanAnalyzer();
-        this.beanCreationAnalyzer = SpecializedAnalyzerFactory.createBeanCreationAnalyzer();
+        this((AnalysisSession) null);
+    }
+    
+    /**
+     * Constructor whose analyzer dependencies share the given session, so main method,
+     * component scan and bean creation results already computed for the session JAR are reused.
+     */
+    public JavassistBootstrapAnalyzer(AnalysisSession session) {
+        this.mainMethodAnalyzer = SpecializedAnalyzerFactory.createMainMethodAnalyzer(session);
+        this.componentScanAnalyzer = SpecializedAnalyzerFactory.createComponentScanAnalyzer(session);
+        this.beanCreationAnalyzer = SpecializedAnalyzerFactory.createBeanCreationAnalyzer(session);
+        this.session = session;
     }
     
     /**
@@ -52,6 +64,7 @@ public class JavassistBootstrapAnalyzer implements BootstrapAnalyzer {
         this.mainMethodAnalyzer = mainMethodAnalyzer;
         this.componentScanAnalyzer = componentScanAnalyzer;
         this.beanCreationAnalyzer = beanCreationAnalyzer;
+        this.session = null;
     }
     
     @Override
@@ -95,7 +108,8 @@ public class JavassistBootstrapAnalyzer implements BootstrapAnalyzer {
         }
         
         // Step 2: Analyze component scanning
-        ComponentScanAnalysisResult componentScanResult = componentScanAnalyzer.analyzeComponentScan(jarContent);
+        ComponentScanAnalysisResult componentScanResult = AnalysisSession.memoize(session, jarContent,
+            SessionKeys.COMPONENT_SCAN, () -> componentScanAnalyzer.analyzeComponentScan(jarContent));
         
         // Step 3: Analyze bean creation
         BeanCreationResult beanCreationResult = beanCreationAnalyzer.analyzeBeanCreation(jarContent);
@@ -0,0 +1,400 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarEntry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
+import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationResult;
+import it.denzosoft.jreverse.analyzer.beancreation.BeanInfo;
+import it.denzosoft.jreverse.analyzer.beancreation.JavassistBeanCreationAnalyzer;
+import it.denzosoft.jreverse.analyzer.componentscan.JavassistComponentScanAnalyzer;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
+import it.denzosoft.jreverse.core.logging.JReverseLogger;
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.AnnotationMatcher;
+import it.denzosoft.jreverse.core.model.CallGraphAnalysisResult;
+import it.denzosoft.jreverse.core.model.CallGraphChain;
+import it.denzosoft.jreverse.core.model.CallGraphIssue;
+import it.denzosoft.jreverse.core.model.CallGraphNode;
+import it.denzosoft.jreverse.core.model.CallGraphSummary;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.ComponentScanAnalysisResult;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+import it.denzosoft.jreverse.core.model.ParameterInfo;
+import it.denzosoft.jreverse.core.port.CallGraphAnalyzer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Call graph analyzer that scans the bytecode of every class of the JAR once into a
+ * whole-program {@link CallGraph}, then derives the call chain of each HTTP endpoint from it.
+ * Callees shared by many endpoints are scanned once instead of once per endpoint, so the
+ * cost grows with the size of the application rather than with endpoints times depth.
+ * Each method is summarized once and the chains of all endpoints share the subtrees of
+ * the methods they have in common.
+ * Method bodies referencing no class of the application packages, those under the
+ * {@code @SpringBootApplication} or component scan base packages, are registered without being walked.
+ * Calls through interfaces are followed to the bean implementations found by the bean
+ * creation analysis, falling back to every implementation in the JAR.
+ */
+public class BytecodeCallGraphAnalyzer implements CallGraphAnalyzer {
+
+    private static final JReverseLogger LOGGER = JReverseLogger.getLogger(BytecodeCallGraphAnalyzer.class);
+
+    private static final AnnotationMatcher CONTROLLER_ANNOTATIONS = AnnotationMatcher.of(
+        "org.springframework.web.bind.annotation.RestController",
+        "org.springframework.stereotype.Controller"
+    );
+
+    private static final String REQUEST_MAPPING = "org.springframework.web.bind.annotation.RequestMapping";
+
+    private static final Map<String, String> MAPPING_HTTP_METHODS = new LinkedHashMap<>();
+    static {
+        MAPPING_HTTP_METHODS.put(REQUEST_MAPPING, null);
+        MAPPING_HTTP_METHODS.put("org.springframework.web.bind.annotation.GetMapping", "GET");
+        MAPPING_HTTP_METHODS.put("org.springframework.web.bind.annotation.PostMapping", "POST");
+        MAPPING_HTTP_METHODS.put("org.springframework.web.bind.annotation.PutMapping", "PUT");
+        MAPPING_HTTP_METHODS.put("org.springframework.web.bind.annotation.DeleteMapping", "DELETE");
+        MAPPING_HTTP_METHODS.put("org.springframework.web.bind.annotation.PatchMapping", "PATCH");
+    }
+
+    private static final AnnotationMatcher MAPPING_ANNOTATIONS = AnnotationMatcher.of(MAPPING_HTTP_METHODS.keySet());
+
+    private static final String CLASS_SUFFIX = ".class";
+    private static final int EXCESSIVE_DEPTH = 10;
+
+    private final int maxDepth;
+    private final AnalysisSession session;
+    private final JarReaderRegistry readerRegistry;
+
+    public BytecodeCallGraphAnalyzer() {
+        this(CallGraphViews.DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @param maxDepth the maximum depth of the derived call chains
+     */
+    public BytecodeCallGraphAnalyzer(int maxDepth) {
+        this(null, maxDepth);
+    }
+
+    /**
+     * Creates an analyzer reusing the bean creation result of the session to devirtualize calls.
+     */
+    public BytecodeCallGraphAnalyzer(AnalysisSession session) {
+        this(session, CallGraphViews.DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @param session the analysis session, may be null
+     * @param maxDepth the maximum depth of the derived call chains
+     */
+    public BytecodeCallGraphAnalyzer(AnalysisSession session, int maxDepth) {
+        this(session, maxDepth, session != null ? session.getReaderRegistry() : new JarReaderRegistry());
+    }
+
+    /**
+     * @param session the analysis session, may be null
+     * @param maxDepth the maximum depth of the derived call chains
+     * @param readerRegistry the registry of open JAR readers, shared with the analyzers of the same run
+     */
+    public BytecodeCallGraphAnalyzer(AnalysisSession session, int maxDepth, JarReaderRegistry readerRegistry) {
+        this.session = session;
+        this.maxDepth = maxDepth;
+        this.readerRegistry = readerRegistry;
+    }
+
+    @Override
+    public CallGraphAnalysisResult analyzeCallGraphs(JarContent jarContent) {
+        long startTime = System.currentTimeMillis();
+        LOGGER.info("Starting call graph analysis for JAR: %s", jarContent.getLocation().getFileName());
+
+        CallGraph graph;
+        try {
+            graph = buildCallGraph(jarContent);
+        } catch (IOException e) {
+            LOGGER.error("Call graph analysis failed for " + jarContent.getLocation().getFileName(), e);
+            return failedResult(e, System.currentTimeMillis() - startTime);
+        }
+
+        CallGraphViews views = new CallGraphViews(graph, maxDepth);
+        List<CallGraphChain> chains = new ArrayList<>();
+        List<MethodSummary> handlers = new ArrayList<>();
+        for (ClassInfo classInfo : jarContent.getClasses()) {
+            if (CONTROLLER_ANNOTATIONS.matchesAny(classInfo.getAnnotations())) {
+                addEndpointChains(classInfo, graph, views, chains, handlers);
+            }
+        }
+        long databaseEndpoints = handlers.stream().filter(MethodSummary::hasDatabaseAccess).count();
+        long externalEndpoints = handlers.stream().filter(MethodSummary::hasExternalCall).count();
+
+        Map<String, CallGraphNode> rootNodes = new LinkedHashMap<>();
+        Map<String, Integer> componentUsage = new HashMap<>();
+        List<CallGraphIssue> issues = new ArrayList<>();
+        for (CallGraphChain chain : chains) {
+            rootNodes.put(chain.getEndpointSignature(), chain.getRootNode());
+            for (String component : chain.getInvolvedComponents()) {
+                componentUsage.merge(component, 1, Integer::sum);
+            }
+            if (chain.getMaxDepth() > EXCESSIVE_DEPTH) {
+                issues.add(CallGraphIssue.builder()
+                    .type(CallGraphIssue.IssueType.EXCESSIVE_DEPTH)
+                    .severity(CallGraphIssue.Severity.WARNING)
+                    .location(chain.getControllerClass() + "." + chain.getControllerMethod())
+                    .endpointContext(chain.getEndpointSignature())
+                    .description("Call chain depth " + chain.getMaxDepth() + " exceeds " + EXCESSIVE_DEPTH)
+                    .recommendation("Consider refactoring to reduce call depth and improve maintainability")
+                    .build());
+            }
+        }
+
+        long analysisTime = System.currentTimeMillis() - startTime;
+        LOGGER.info("Call graph analysis completed: %d methods, %d edges, %d call chains in %dms",
+                   graph.getMethodCount(), graph.getEdgeCount(), chains.size(), analysisTime);
+        LOGGER.debug("%d of %d methods summarized, %d endpoints reach the database, %d call external services",
+                    views.getSummaries().getSummarizedCount(), graph.getMethodCount(),
+                    databaseEndpoints, externalEndpoints);
+
+        CallGraphSummary summary = CallGraphSummary.builder()
+            .totalEndpoints(chains.size())
+            .totalCallChains(chains.size())
+            .averageDepth(chains.stream().mapToInt(CallGraphChain::getMaxDepth).average().orElse(0.0))
+            .maxDepth(chains.stream().mapToInt(CallGraphChain::getMaxDepth).max().orElse(0))
+            .totalIssues(issues.size())
+            .analysisTimeMs(analysisTime)
+            .statusMessage(String.format("%d methods, %d call edges, %d endpoints reaching the database, "
+                                         + "%d endpoints calling external services", graph.getMethodCount(),
+                                         graph.getEdgeCount(), databaseEndpoints, externalEndpoints))
+            .build();
+
+        return CallGraphAnalysisResult.builder()
+            .callChains(chains)
+            .rootNodes(rootNodes)
+            .summary(summary)
+            .issues(issues)
+            .componentUsageStats(componentUsage)
+            .build();
+    }
+
+    @Override
+    public boolean canAnalyze(JarContent jarContent) {
+        return jarContent != null && jarContent.getLocation() != null && jarContent.getLocation().exists();
+    }
+
+    /**
+     * Scans every class entry of the JAR into a call graph.
+     */
+    public CallGraph buildCallGraph(JarContent jarContent) throws IOException {
+        CallGraphBuilder builder = new CallGraphBuilder().beanTypes(findBeanTypes(jarContent));
+        try (MappedJarReader reader = readerRegistry.acquire(jarContent.getLocation().getPath())) {
+            List<MappedJarEntry> classEntries = new ArrayList<>();
+            Set<String> packages = new HashSet<>();
+            for (MappedJarEntry entry : reader.getEntries()) {
+                if (entry.getName().endsWith(CLASS_SUFFIX) && !entry.getName().endsWith("module-info.class")) {
+                    classEntries.add(entry);
+                    packages.add(packageOf(entry.getName()));
+                }
+            }
+            builder.applicationPackages(applicationPackages(packages, findApplicationRoots(jarContent)));
+
+            for (MappedJarEntry entry : classEntries) {
+                try {
+                    builder.addClass(reader.read(entry));
+                } catch (IOException e) {
+                    LOGGER.debug("Skipping class file %s in call graph: %s", entry.getName(), e.getMessage());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the package of a class entry, skipping the classes directory of Spring Boot JARs and WARs.
+     */
+    private static String packageOf(String entryName) {
+        String name = AnalysisSession.classPathOf(entryName);
+        int lastSlash = name.lastIndexOf('/');
+        return lastSlash > 0 ? name.substring(0, lastSlash).replace('/', '.') : "";
+    }
+
+    /**
+     * Keeps the packages of the JAR that are under one of the application roots.
+     * Without roots, as for JARs that are not Spring applications, every package is kept.
+     */
+    static Set<String> applicationPackages(Set<String> packages, Set<String> roots) {
+        if (roots.isEmpty()) {
+            return packages;
+        }
+        Set<String> applicationPackages = new HashSet<>();
+        for (String packageName : packages) {
+            for (String root : roots) {
+                if (packageName.equals(root) || packageName.startsWith(root + ".")) {
+                    applicationPackages.add(packageName);
+                    break;
+                }
+            }
+        }
+        return applicationPackages;
+    }
+
+    /**
+     * Gets the root packages of the application: the packages of the {@code @SpringBootApplication}
+     * classes and the component scan base packages, or an empty set if there are none.
+     */
+    private Set<String> findApplicationRoots(JarContent jarContent) {
+        try {
+            ComponentScanAnalysisResult componentScan = AnalysisSession.memoize(session, jarContent,
+                SessionKeys.COMPONENT_SCAN, () -> new JavassistComponentScanAnalyzer(session).analyzeComponentScan(jarContent));
+            Set<String> roots = componentScan.getEffectivePackages();
+            return roots != null ? roots : Collections.<String>emptySet();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Application packages unavailable for call graph, walking every class: %s", e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Gets the types of the beans created by the application, or an empty set if they cannot be found.
+     */
+    private Set<String> findBeanTypes(JarContent jarContent) {
+        Set<String> beanTypes = new HashSet<>();
+        try {
+            BeanCreationResult beans = new JavassistBeanCreationAnalyzer(session).analyzeBeanCreation(jarContent);
+            for (BeanInfo bean : beans.getAllBeans()) {
+                if (bean.getBeanType() != null) {
+                    beanTypes.add(bean.getBeanType());
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debug("Bean types unavailable for call graph, resolving calls by hierarchy only: %s",
+                        e.getMessage());
+        }
+        return beanTypes;
+    }
+
+    private void addEndpointChains(ClassInfo controller, CallGraph graph, CallGraphViews views,
+                                   List<CallGraphChain> chains, List<MethodSummary> handlers) {
+        String basePath = "";
+        for (AnnotationInfo annotation : controller.getAnnotations()) {
+            if (REQUEST_MAPPING.equals(annotation.getType())) {
+                basePath = pathOf(annotation);
+            }
+        }
+
+        for (MethodInfo method : controller.getMethods()) {
+            AnnotationInfo mapping = MAPPING_ANNOTATIONS.findFirst(method.getAnnotations());
+            if (mapping == null) {
+                continue;
+            }
+            int root = findMethod(graph, controller.getFullyQualifiedName(), method);
+            if (root == CallGraph.NO_METHOD) {
+                LOGGER.debug("No bytecode found for endpoint method %s.%s",
+                            controller.getFullyQualifiedName(), method.getName());
+                continue;
+            }
+            chains.add(views.chain(joinPaths(basePath, pathOf(mapping)), httpMethodOf(mapping), root));
+            handlers.add(views.getSummaries().get(root));
+        }
+    }
+
+    /**
+     * Finds the graph method matching a parsed method by name and parameter types.
+     */
+    private int findMethod(CallGraph graph, String className, MethodInfo method) {
+        StringBuilder parameters = new StringBuilder("(");
+        for (ParameterInfo parameter : method.getParameters()) {
+            appendDescriptor(parameters, parameter.getType());
+        }
+        String prefix = parameters.append(')').toString();
+
+        for (int candidate : graph.getMethodsOf(className)) {
+            if (graph.getMethodName(candidate).equals(method.getName())
+                    && graph.getDescriptor(candidate).startsWith(prefix)) {
+                return candidate;
+            }
+        }
+        return CallGraph.NO_METHOD;
+    }
+
+    private static void appendDescriptor(StringBuilder descriptor, String typeName) {
+        String type = typeName;
+        while (type.endsWith("[]")) {
+            descriptor.append('[');
+            type = type.substring(0, type.length() - 2);
+        }
+        switch (type) {
+            case "boolean": descriptor.append('Z'); break;
+            case "byte": descriptor.append('B'); break;
+            case "char": descriptor.append('C'); break;
+            case "short": descriptor.append('S'); break;
+            case "int": descriptor.append('I'); break;
+            case "long": descriptor.append('J'); break;
+            case "float": descriptor.append('F'); break;
+            case "double": descriptor.append('D'); break;
+            default: descriptor.append('L').append(type.replace('.', '/')).append(';');
+        }
+    }
+
+    private static String pathOf(AnnotationInfo mapping) {
+        for (String attribute : new String[] {"value", "path"}) {
+            String[] paths = mapping.getStringArrayAttribute(attribute);
+            if (paths != null && paths.length > 0) {
+                return paths[0];
+            }
+            String path = mapping.getStringAttribute(attribute);
+            if (path != null) {
+                return path;
+            }
+        }
+        return "";
+    }
+
+    private static String httpMethodOf(AnnotationInfo mapping) {
+        String httpMethod = MAPPING_HTTP_METHODS.get(mapping.getType());
+        if (httpMethod != null) {
+            return httpMethod;
+        }
+        String[] methods = mapping.getStringArrayAttribute("method");
+        if (methods != null && methods.length > 0) {
+            return methods[0];
+        }
+        String method = mapping.getStringAttribute("method");
+        return method != null ? method : "ALL";
+    }
+
+    private static String joinPaths(String basePath, String path) {
+        String joined = (basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) : basePath)
+            + (path.isEmpty() || path.startsWith("/") ? path : "/" + path);
+        if (joined.isEmpty()) {
+            return "/";
+        }
+        return joined.startsWith("/") ? joined : "/" + joined;
+    }
+
+    private CallGraphAnalysisResult failedResult(Exception e, long analysisTime) {
+        CallGraphIssue issue = CallGraphIssue.builder()
+            .type(CallGraphIssue.IssueType.CALL_GRAPH_BUILD_ERROR)
+            .severity(CallGraphIssue.Severity.ERROR)
+            .description("Failed to build call graph: " + e.getMessage())
+            .build();
+
+        return CallGraphAnalysisResult.builder()
+            .summary(CallGraphSummary.builder()
+                .totalIssues(1)
+                .criticalIssues(1)
+                .analysisTimeMs(analysisTime)
+                .statusMessage("Call graph analysis failed: " + e.getMessage())
+                .build())
+            .issues(List.of(issue))
+            .build();
+    }
+}
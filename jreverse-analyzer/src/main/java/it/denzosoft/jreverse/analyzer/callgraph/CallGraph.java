@@ -0,0 +1,164 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Whole-program call graph in compressed sparse row (CSR) form.
+ * Every method seen while scanning, either as a caller or as a callee, gets an int id.
+ * The callees of method {@code m} are {@code targets[offsets[m]] .. targets[offsets[m + 1] - 1]},
+ * so the graph takes two int arrays sized by the number of methods and of distinct call edges,
+ * and visiting the callees of a method touches a contiguous slice of memory.
+ *
+ * Instances are immutable and built by {@link CallGraphBuilder}.
+ */
+public final class CallGraph {
+
+    /** Id returned by the lookups for methods not in the graph. */
+    public static final int NO_METHOD = -1;
+
+    private final String[] classNames;
+    private final String[] methodNames;
+    private final String[] descriptors;
+    private final BitSet withBody;
+    private final BitSet internal;
+    private final int[] offsets;
+    private final int[] targets;
+    private final Map<String, Integer> ids;
+    private final Map<String, int[]> methodsByClass;
+
+    CallGraph(String[] classNames, String[] methodNames, String[] descriptors, BitSet withBody, BitSet internal,
+              int[] offsets, int[] targets, Map<String, Integer> ids, Map<String, int[]> methodsByClass) {
+        this.classNames = classNames;
+        this.methodNames = methodNames;
+        this.descriptors = descriptors;
+        this.withBody = withBody;
+        this.internal = internal;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.ids = ids;
+        this.methodsByClass = methodsByClass;
+    }
+
+    /**
+     * Gets the number of methods, which are numbered from 0.
+     */
+    public int getMethodCount() {
+        return classNames.length;
+    }
+
+    /**
+     * Gets the number of distinct caller-callee edges.
+     */
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Gets the id of a method.
+     *
+     * @return the method id, or {@link #NO_METHOD} if the method is not in the graph
+     */
+    public int indexOf(String className, String methodName, String descriptor) {
+        Integer id = ids.get(key(className, methodName, descriptor));
+        return id != null ? id : NO_METHOD;
+    }
+
+    /**
+     * Gets the ids of the methods with a body declared by a class, in bytecode order.
+     */
+    public int[] getMethodsOf(String className) {
+        int[] methods = methodsByClass.get(className);
+        return methods != null ? methods.clone() : new int[0];
+    }
+
+    public String getClassName(int method) {
+        return classNames[method];
+    }
+
+    public String getMethodName(int method) {
+        return methodNames[method];
+    }
+
+    public String getDescriptor(int method) {
+        return descriptors[method];
+    }
+
+    /**
+     * Checks whether the bytecode of the method was scanned, so its callees are known.
+     */
+    public boolean hasBody(int method) {
+        return withBody.get(method);
+    }
+
+    /**
+     * Checks whether the method belongs to one of the scanned classes, as opposed to a
+     * library or JDK method that is only known as a callee.
+     */
+    public boolean isInternal(int method) {
+        return internal.get(method);
+    }
+
+    /**
+     * Gets the number of distinct methods called by a method.
+     */
+    public int getCalleeCount(int method) {
+        return offsets[method + 1] - offsets[method];
+    }
+
+    /**
+     * Gets the i-th callee of a method, for allocation-free iteration with {@link #getCalleeCount(int)}.
+     */
+    public int getCallee(int method, int i) {
+        return targets[offsets[method] + i];
+    }
+
+    /**
+     * Gets the distinct methods called by a method.
+     */
+    public int[] getCallees(int method) {
+        return Arrays.copyOfRange(targets, offsets[method], offsets[method + 1]);
+    }
+
+    /**
+     * Gets the methods reachable from a method, including the method itself.
+     */
+    public BitSet reachableFrom(int method) {
+        BitSet reached = new BitSet(getMethodCount());
+        int[] stack = new int[16];
+        int size = 0;
+        stack[size++] = method;
+        reached.set(method);
+        while (size > 0) {
+            int current = stack[--size];
+            for (int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+                int callee = targets[edge];
+                if (!reached.get(callee)) {
+                    reached.set(callee);
+                    if (size == stack.length) {
+                        stack = Arrays.copyOf(stack, size * 2);
+                    }
+                    stack[size++] = callee;
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Gets a readable identifier of a method, for example {@code com.example.Service.find(J)Ljava/lang/Object;}.
+     */
+    public String toString(int method) {
+        return key(classNames[method], methodNames[method], descriptors[method]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CallGraph{methods=%d, edges=%d}", getMethodCount(), getEdgeCount());
+    }
+
+    static String key(String className, String methodName, String descriptor) {
+        return className + '.' + methodName + descriptor;
+    }
+}
@@ -0,0 +1,269 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import it.denzosoft.jreverse.analyzer.classfile.ClassFileParser;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.TypeHierarchy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a {@link CallGraph} by scanning the bytecode of each class exactly once.
+ * Each invoke instruction becomes an edge from the scanned method to the referenced method;
+ * edges are appended to flat int arrays while scanning and sorted into CSR rows by a single
+ * counting pass in {@link #build()}, so time and memory grow linearly with the number of
+ * methods and call sites.
+ *
+ * A call naming a scanned class that does not declare the method, as for inherited methods,
+ * is bound to the nearest superclass declaring it. Virtual and interface calls are devirtualized
+ * by a {@link VirtualCallResolver}, so a call through {@code FooService} reaches
+ * {@code FooServiceImpl}; the resolution of each referenced method is computed once and shared
+ * by all call sites naming it.
+ *
+ * When the application packages are known, the bodies of classes whose constant pool
+ * references no method of those packages, nor of a database or external service API, are
+ * not walked: their methods are registered without callees, as the calls they make could
+ * not appear in any call chain or method summary.
+ *
+ * Builders are not thread-safe.
+ */
+public final class CallGraphBuilder implements ClassFileParser.InvocationVisitor {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ClassFileParser parser = ClassFileParser.builder()
+        .includeMembers(false)
+        .includeAnnotations(false)
+        .build();
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> classNames = new ArrayList<>();
+    private final List<String> methodNames = new ArrayList<>();
+    private final List<String> descriptors = new ArrayList<>();
+    private final BitSet withBody = new BitSet();
+    private final Map<String, String> superClasses = new HashMap<>();
+    private final Map<String, List<Integer>> methodsByClass = new HashMap<>();
+    private final List<ClassInfo> headers = new ArrayList<>();
+    private Set<String> beanTypes = Collections.emptySet();
+    private Set<String> applicationPackages;
+
+    private int[] edgeSources = new int[INITIAL_CAPACITY];
+    private int[] edgeTargets = new int[INITIAL_CAPACITY];
+    private final BitSet virtualEdges = new BitSet();
+    private int edgeCount;
+
+    // Last caller that referenced each method plus one, to drop repeated calls within a body
+    private int[] lastCaller = new int[INITIAL_CAPACITY];
+    private int currentMethod = CallGraph.NO_METHOD;
+
+    /**
+     * Scans the methods of one class file.
+     *
+     * @param classFile the class file bytes, from the buffer position to its limit
+     * @return the class header parsed along the way
+     * @throws IOException if the bytes are not a valid class file
+     */
+    public ClassInfo addClass(ByteBuffer classFile) throws IOException {
+        currentMethod = CallGraph.NO_METHOD;
+        ClassInfo classInfo = parser.parseInvocations(classFile, this);
+        currentMethod = CallGraph.NO_METHOD;
+        superClasses.put(classInfo.getFullyQualifiedName(), classInfo.getSuperClassName());
+        headers.add(classInfo);
+        return classInfo;
+    }
+
+    /**
+     * Sets the types instantiated as beans by the application. Virtual calls with several
+     * possible implementations are resolved to those implemented by beans when there are any.
+     *
+     * @param beanTypes the fully qualified bean types
+     * @return this builder
+     */
+    public CallGraphBuilder beanTypes(Collection<String> beanTypes) {
+        this.beanTypes = beanTypes != null ? new HashSet<>(beanTypes) : Collections.emptySet();
+        return this;
+    }
+
+    /**
+     * Sets the packages of the application classes. By default every method body is walked.
+     *
+     * @param packageNames the package names, without wildcards
+     * @return this builder
+     */
+    public CallGraphBuilder applicationPackages(Collection<String> packageNames) {
+        this.applicationPackages = packageNames != null ? new HashSet<>(packageNames) : null;
+        return this;
+    }
+
+    @Override
+    public boolean acceptsOwner(String ownerClassName) {
+        if (applicationPackages == null) {
+            return true;
+        }
+        int lastDot = ownerClassName.lastIndexOf('.');
+        String packageName = lastDot > 0 ? ownerClassName.substring(0, lastDot) : "";
+        return applicationPackages.contains(packageName)
+            || MethodSummaries.isDatabaseApi(ownerClassName)
+            || MethodSummaries.isExternalApi(ownerClassName);
+    }
+
+    @Override
+    public void visitMethod(String className, String methodName, String descriptor) {
+        currentMethod = idOf(className, methodName, descriptor);
+        withBody.set(currentMethod);
+        methodsByClass.computeIfAbsent(className, name -> new ArrayList<>()).add(currentMethod);
+    }
+
+    @Override
+    public void visitInvocation(int opcode, String ownerClassName, String methodName, String descriptor) {
+        if (currentMethod == CallGraph.NO_METHOD) {
+            return;
+        }
+        int target = idOf(ownerClassName, methodName, descriptor);
+        if (lastCaller[target] == currentMethod + 1) {
+            return;
+        }
+        lastCaller[target] = currentMethod + 1;
+        if (edgeCount == edgeSources.length) {
+            edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+            edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+        }
+        edgeSources[edgeCount] = currentMethod;
+        edgeTargets[edgeCount] = target;
+        if (opcode == INVOKEVIRTUAL || opcode == INVOKEINTERFACE) {
+            virtualEdges.set(edgeCount);
+        }
+        edgeCount++;
+    }
+
+    /**
+     * Gets the number of methods registered so far.
+     */
+    public int getMethodCount() {
+        return classNames.size();
+    }
+
+    /**
+     * Builds the call graph of all classes added so far.
+     */
+    public CallGraph build() {
+        int methodCount = classNames.size();
+        String[] classes = classNames.toArray(new String[0]);
+        String[] names = methodNames.toArray(new String[0]);
+        String[] types = descriptors.toArray(new String[0]);
+
+        BitSet internal = new BitSet(methodCount);
+        int[] binding = new int[methodCount];
+        for (int method = 0; method < methodCount; method++) {
+            if (superClasses.containsKey(classes[method])) {
+                internal.set(method);
+            }
+            binding[method] = withBody.get(method) || !internal.get(method)
+                ? method
+                : bindInherited(classes[method], names[method], types[method], method);
+        }
+
+        // Dispatch targets of virtual calls, resolved once per referenced method
+        VirtualCallResolver resolver = new VirtualCallResolver(TypeHierarchy.of(headers), superClasses, ids,
+                                                               withBody, beanTypes);
+        int[][] dispatch = new int[methodCount][];
+        BitSet resolved = new BitSet(methodCount);
+        for (int edge = virtualEdges.nextSetBit(0); edge >= 0; edge = virtualEdges.nextSetBit(edge + 1)) {
+            int target = edgeTargets[edge];
+            if (!resolved.get(target)) {
+                resolved.set(target);
+                dispatch[target] = resolver.resolve(classes[target], names[target], types[target]);
+            }
+        }
+
+        // Counting sort of the edges by caller into CSR rows
+        int[] offsets = new int[methodCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int[] implementations = virtualEdges.get(edge) ? dispatch[edgeTargets[edge]] : null;
+            offsets[edgeSources[edge] + 1] += implementations != null ? implementations.length : 1;
+        }
+        for (int method = 0; method < methodCount; method++) {
+            offsets[method + 1] += offsets[method];
+        }
+        int[] next = Arrays.copyOf(offsets, methodCount);
+        int[] targets = new int[offsets[methodCount]];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int[] implementations = virtualEdges.get(edge) ? dispatch[edgeTargets[edge]] : null;
+            if (implementations == null) {
+                targets[next[edgeSources[edge]]++] = binding[edgeTargets[edge]];
+            } else {
+                for (int implementation : implementations) {
+                    targets[next[edgeSources[edge]]++] = implementation;
+                }
+            }
+        }
+
+        // Binding inherited calls and devirtualizing may merge edges of a row
+        int[] seen = new int[methodCount];
+        int size = 0;
+        int rowStart = 0;
+        for (int method = 0; method < methodCount; method++) {
+            int rowEnd = offsets[method + 1];
+            offsets[method] = size;
+            for (int edge = rowStart; edge < rowEnd; edge++) {
+                int target = targets[edge];
+                if (seen[target] != method + 1) {
+                    seen[target] = method + 1;
+                    targets[size++] = target;
+                }
+            }
+            rowStart = rowEnd;
+        }
+        offsets[methodCount] = size;
+
+        Map<String, int[]> methods = new HashMap<>(methodsByClass.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : methodsByClass.entrySet()) {
+            methods.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        return new CallGraph(classes, names, types, (BitSet) withBody.clone(), internal,
+                             offsets, Arrays.copyOf(targets, size), new HashMap<>(ids), methods);
+    }
+
+    /**
+     * Finds the method a call on a scanned class binds to when the class does not declare it.
+     */
+    private int bindInherited(String className, String methodName, String descriptor, int method) {
+        String superClass = superClasses.get(className);
+        while (superClass != null) {
+            Integer inherited = ids.get(CallGraph.key(superClass, methodName, descriptor));
+            if (inherited != null && withBody.get(inherited)) {
+                return inherited;
+            }
+            superClass = superClasses.get(superClass);
+        }
+        return method;
+    }
+
+    private int idOf(String className, String methodName, String descriptor) {
+        String key = CallGraph.key(className, methodName, descriptor);
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+        int newId = classNames.size();
+        ids.put(key, newId);
+        classNames.add(className);
+        methodNames.add(methodName);
+        descriptors.add(descriptor);
+        if (newId == lastCaller.length) {
+            lastCaller = Arrays.copyOf(lastCaller, newId * 2);
+        }
+        return newId;
+    }
+}
@@ -0,0 +1,159 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import it.denzosoft.jreverse.core.model.CallGraphChain;
+import it.denzosoft.jreverse.core.model.CallGraphNode;
+import it.denzosoft.jreverse.core.model.CallType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Derives {@link CallGraphNode} trees and {@link CallGraphChain}s from a {@link CallGraph} on demand.
+ * Only calls to methods of the scanned classes are shown, and calls within a recursive cycle
+ * appear as leaves. The subtree under a method therefore depends only on the method and its
+ * depth: it is built once per view from the {@link MethodSummaries} and shared by every chain
+ * and parent reaching the method at that depth, instead of being copied for each of them.
+ */
+public final class CallGraphViews {
+
+    /** Default maximum depth of the derived trees. */
+    public static final int DEFAULT_MAX_DEPTH = 32;
+
+    private final CallGraph graph;
+    private final MethodSummaries summaries;
+    private final int maxDepth;
+    private final Map<Long, Subtree> subtrees = new HashMap<>();
+
+    public CallGraphViews(CallGraph graph) {
+        this(graph, DEFAULT_MAX_DEPTH);
+    }
+
+    public CallGraphViews(CallGraph graph, int maxDepth) {
+        this(new MethodSummaries(Objects.requireNonNull(graph, "graph cannot be null")), maxDepth);
+    }
+
+    public CallGraphViews(MethodSummaries summaries, int maxDepth) {
+        this.summaries = Objects.requireNonNull(summaries, "summaries cannot be null");
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("maxDepth cannot be negative");
+        }
+        this.graph = summaries.getGraph();
+        this.maxDepth = maxDepth;
+    }
+
+    public MethodSummaries getSummaries() {
+        return summaries;
+    }
+
+    /**
+     * Derives the call tree rooted at a method.
+     *
+     * @param root the id of the root method
+     * @return the root node of the tree
+     */
+    public CallGraphNode node(int root) {
+        return subtree(root, 0).node;
+    }
+
+    /**
+     * Derives the call chain of an HTTP endpoint handled by a method.
+     *
+     * @param endpoint the endpoint path
+     * @param httpMethod the HTTP method, may be null
+     * @param root the id of the handler method
+     * @return the call chain of the endpoint
+     */
+    public CallGraphChain chain(String endpoint, String httpMethod, int root) {
+        Subtree tree = subtree(root, 0);
+        return CallGraphChain.builder()
+            .endpoint(endpoint)
+            .httpMethod(httpMethod)
+            .controllerClass(graph.getClassName(root))
+            .controllerMethod(graph.getMethodName(root))
+            .rootNode(tree.node)
+            .maxDepth(tree.maxDepth)
+            .totalCalls((int) tree.calls)
+            .build();
+    }
+
+    private Subtree subtree(int method, int depth) {
+        Long key = (long) method * (maxDepth + 1) + depth;
+        Subtree cached = subtrees.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        MethodSummary summary = summaries.get(method);
+        List<CallGraphNode> children = new ArrayList<>();
+        long calls = 0;
+        int deepest = depth;
+        if (depth < maxDepth) {
+            for (int i = 0; i < summary.getCalleeCount(); i++) {
+                int callee = summary.getCallee(i);
+                Subtree child = summaries.get(callee).getComponent() == summary.getComponent()
+                    ? new Subtree(newNode(callee, depth + 1, Collections.emptyList()), 0, depth + 1)
+                    : subtree(callee, depth + 1);
+                children.add(child.node);
+                calls = Math.min(calls + 1 + child.calls, Integer.MAX_VALUE);
+                deepest = Math.max(deepest, child.maxDepth);
+            }
+        }
+
+        Subtree subtree = new Subtree(newNode(method, depth, children), calls, deepest);
+        subtrees.put(key, subtree);
+        return subtree;
+    }
+
+    private CallGraphNode newNode(int method, int depth, List<CallGraphNode> children) {
+        return CallGraphNode.builder()
+            .className(graph.getClassName(method))
+            .methodName(graph.getMethodName(method))
+            .methodSignature(graph.toString(method))
+            .callType(classify(method, depth))
+            .depth(depth)
+            .children(children)
+            .build();
+    }
+
+    private CallType classify(int method, int depth) {
+        if (depth == 0) {
+            return CallType.CONTROLLER;
+        }
+        String className = graph.getClassName(method);
+        if (className.endsWith("Repository") || className.endsWith("Dao")) {
+            return CallType.REPOSITORY_CALL;
+        } else if (className.endsWith("Service") || className.endsWith("ServiceImpl")) {
+            return CallType.SERVICE_CALL;
+        } else if (className.endsWith("Controller")) {
+            return CallType.CONTROLLER;
+        }
+        MethodSummary summary = summaries.get(method);
+        if (summary.hasDirectExternalCall()) {
+            return CallType.EXTERNAL_HTTP_CALL;
+        } else if (summary.hasDirectDatabaseAccess()) {
+            return CallType.DATABASE_ACCESS;
+        }
+        return CallType.BUSINESS_LOGIC;
+    }
+
+    /**
+     * A shared subtree with its number of calls and the depth of its deepest node, which
+     * are kept so that chains never walk shared subtrees once per path.
+     */
+    private static final class Subtree {
+
+        private final CallGraphNode node;
+        private final long calls;
+        private final int maxDepth;
+
+        private Subtree(CallGraphNode node, long calls, int maxDepth) {
+            this.node = node;
+            this.calls = calls;
+            this.maxDepth = maxDepth;
+        }
+    }
+}
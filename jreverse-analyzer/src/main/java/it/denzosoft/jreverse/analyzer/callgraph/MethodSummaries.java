@@ -0,0 +1,239 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Computes the {@link MethodSummary} of the methods of a {@link CallGraph} on demand and keeps
+ * them, so a method shared by many callers is summarized once.
+ *
+ * Summaries are computed by an iterative Tarjan walk over the scanned callees that are not
+ * summarized yet. Components are completed callees first, so each summary is derived from the
+ * summaries of its callees and every method and call edge is visited once over the lifetime
+ * of the instance, however many methods are asked for.
+ *
+ * Instances are not thread-safe.
+ */
+public final class MethodSummaries {
+
+    private static final String[] DATABASE_PACKAGES = {
+        "java.sql.",
+        "javax.sql.",
+        "javax.persistence.",
+        "jakarta.persistence.",
+        "org.hibernate.",
+        "org.springframework.jdbc.",
+        "org.springframework.orm.",
+        "org.springframework.data.",
+        "org.mybatis.",
+        "org.jooq."
+    };
+
+    private static final String[] EXTERNAL_TYPES = {
+        "java.net.HttpURLConnection",
+        "java.net.http.",
+        "org.springframework.web.client.",
+        "org.springframework.web.reactive.function.client.",
+        "org.springframework.kafka.core.",
+        "org.springframework.jms.core.",
+        "org.springframework.amqp.",
+        "org.apache.http.",
+        "org.apache.hc.",
+        "okhttp3.",
+        "feign."
+    };
+
+    private final CallGraph graph;
+    private final MethodSummary[] summaries;
+
+    // Tarjan state, kept between calls so that each method is visited once
+    private final int[] index;
+    private final int[] lowLink;
+    private final BitSet onStack;
+    private final int[] componentStack;
+    private final int[] frames;
+    private final int[] cursors;
+    private int nextIndex;
+    private int nextComponent;
+
+    public MethodSummaries(CallGraph graph) {
+        this.graph = Objects.requireNonNull(graph, "graph cannot be null");
+        int methodCount = graph.getMethodCount();
+        this.summaries = new MethodSummary[methodCount];
+        this.index = new int[methodCount];
+        this.lowLink = new int[methodCount];
+        this.onStack = new BitSet(methodCount);
+        this.componentStack = new int[methodCount];
+        this.frames = new int[methodCount];
+        this.cursors = new int[methodCount];
+    }
+
+    public CallGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Gets the summary of a method, computing it and the summaries of the methods it reaches
+     * on first use.
+     *
+     * @param method the id of the method
+     * @return the summary of the method
+     */
+    public MethodSummary get(int method) {
+        if (summaries[method] == null) {
+            summarize(method);
+        }
+        return summaries[method];
+    }
+
+    /**
+     * Gets the summary of a method by signature.
+     *
+     * @return the summary, or null if the method is not in the call graph
+     */
+    public MethodSummary get(String className, String methodName, String descriptor) {
+        int method = graph.indexOf(className, methodName, descriptor);
+        return method != CallGraph.NO_METHOD ? get(method) : null;
+    }
+
+    /**
+     * Gets the number of methods summarized so far.
+     */
+    public int getSummarizedCount() {
+        int count = 0;
+        for (MethodSummary summary : summaries) {
+            if (summary != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void summarize(int root) {
+        int frameCount = 0;
+        int stackSize = 0;
+        frames[frameCount] = root;
+        cursors[frameCount++] = 0;
+        index[root] = lowLink[root] = ++nextIndex;
+        componentStack[stackSize++] = root;
+        onStack.set(root);
+
+        while (frameCount > 0) {
+            int method = frames[frameCount - 1];
+            if (cursors[frameCount - 1] < graph.getCalleeCount(method)) {
+                int callee = graph.getCallee(method, cursors[frameCount - 1]++);
+                if (!graph.isInternal(callee) || summaries[callee] != null) {
+                    continue;
+                }
+                if (index[callee] == 0) {
+                    frames[frameCount] = callee;
+                    cursors[frameCount++] = 0;
+                    index[callee] = lowLink[callee] = ++nextIndex;
+                    componentStack[stackSize++] = callee;
+                    onStack.set(callee);
+                } else if (onStack.get(callee)) {
+                    lowLink[method] = Math.min(lowLink[method], index[callee]);
+                }
+                continue;
+            }
+
+            frameCount--;
+            if (frameCount > 0) {
+                int caller = frames[frameCount - 1];
+                lowLink[caller] = Math.min(lowLink[caller], lowLink[method]);
+            }
+            if (lowLink[method] == index[method]) {
+                int start = stackSize;
+                do {
+                    start--;
+                    onStack.clear(componentStack[start]);
+                } while (componentStack[start] != method);
+                summarizeComponent(Arrays.copyOfRange(componentStack, start, stackSize));
+                stackSize = start;
+            }
+        }
+    }
+
+    /**
+     * Summarizes the methods of a component whose callees outside the component are summarized.
+     */
+    private void summarizeComponent(int[] members) {
+        int component = nextComponent++;
+        int[][] callees = new int[members.length][];
+        boolean[] directDatabase = new boolean[members.length];
+        boolean[] directExternal = new boolean[members.length];
+        boolean databaseAccess = false;
+        boolean externalCall = false;
+        int depth = 0;
+
+        for (int i = 0; i < members.length; i++) {
+            int method = members[i];
+            int[] internal = new int[graph.getCalleeCount(method)];
+            int internalCount = 0;
+            for (int j = 0; j < graph.getCalleeCount(method); j++) {
+                int callee = graph.getCallee(method, j);
+                directDatabase[i] |= isDatabaseAccess(callee);
+                directExternal[i] |= isExternalCall(callee);
+                if (!graph.isInternal(callee)) {
+                    continue;
+                }
+                internal[internalCount++] = callee;
+                MethodSummary summary = summaries[callee];
+                if (summary == null) {
+                    // Callee in this component: a cycle counts as one level
+                    depth = Math.max(depth, 1);
+                } else {
+                    depth = Math.max(depth, summary.getDepth() + 1);
+                    databaseAccess |= summary.hasDatabaseAccess();
+                    externalCall |= summary.hasExternalCall();
+                }
+            }
+            callees[i] = Arrays.copyOf(internal, internalCount);
+            databaseAccess |= directDatabase[i];
+            externalCall |= directExternal[i];
+        }
+
+        for (int i = 0; i < members.length; i++) {
+            summaries[members[i]] = new MethodSummary(members[i], graph.toString(members[i]), callees[i], component,
+                                                      directDatabase[i], directExternal[i],
+                                                      databaseAccess, externalCall, depth);
+        }
+    }
+
+    private boolean isDatabaseAccess(int callee) {
+        String className = graph.getClassName(callee);
+        if (graph.isInternal(callee)) {
+            // Repository interfaces have no bytecode: their implementations are generated at runtime
+            return !graph.hasBody(callee) && (className.endsWith("Repository") || className.endsWith("Dao"));
+        }
+        return isDatabaseApi(className);
+    }
+
+    private boolean isExternalCall(int callee) {
+        return !graph.isInternal(callee) && isExternalApi(graph.getClassName(callee));
+    }
+
+    /**
+     * Checks if a class belongs to a database access API.
+     */
+    static boolean isDatabaseApi(String className) {
+        return startsWithAny(className, DATABASE_PACKAGES);
+    }
+
+    /**
+     * Checks if a class belongs to an HTTP client or message broker API.
+     */
+    static boolean isExternalApi(String className) {
+        return startsWithAny(className, EXTERNAL_TYPES);
+    }
+
+    private static boolean startsWithAny(String className, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
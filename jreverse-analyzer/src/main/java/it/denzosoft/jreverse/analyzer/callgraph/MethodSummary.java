@@ -0,0 +1,112 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+/**
+ * What a method of a {@link CallGraph} does as seen from its callers: the scanned methods it
+ * calls directly, whether it or anything it reaches accesses the database or calls an external
+ * service, and how deep the calls below it go.
+ *
+ * Methods calling each other in a cycle belong to the same component and share their
+ * transitive flags and depth.
+ */
+public final class MethodSummary {
+
+    private final int method;
+    private final String signature;
+    private final int[] callees;
+    private final int component;
+    private final boolean directDatabaseAccess;
+    private final boolean directExternalCall;
+    private final boolean databaseAccess;
+    private final boolean externalCall;
+    private final int depth;
+
+    MethodSummary(int method, String signature, int[] callees, int component,
+                  boolean directDatabaseAccess, boolean directExternalCall,
+                  boolean databaseAccess, boolean externalCall, int depth) {
+        this.method = method;
+        this.signature = signature;
+        this.callees = callees;
+        this.component = component;
+        this.directDatabaseAccess = directDatabaseAccess;
+        this.directExternalCall = directExternalCall;
+        this.databaseAccess = databaseAccess;
+        this.externalCall = externalCall;
+        this.depth = depth;
+    }
+
+    /**
+     * Gets the id of the method in its call graph.
+     */
+    public int getMethod() {
+        return method;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * Gets the ids of the scanned methods called directly by the method.
+     */
+    public int[] getCallees() {
+        return callees.clone();
+    }
+
+    public int getCalleeCount() {
+        return callees.length;
+    }
+
+    public int getCallee(int index) {
+        return callees[index];
+    }
+
+    /**
+     * Gets the id of the strongly connected component of the method; methods calling
+     * each other in a cycle have the same component.
+     */
+    public int getComponent() {
+        return component;
+    }
+
+    /**
+     * Checks if the method itself calls a database API or a repository.
+     */
+    public boolean hasDirectDatabaseAccess() {
+        return directDatabaseAccess;
+    }
+
+    /**
+     * Checks if the method itself calls an HTTP client or message broker API.
+     */
+    public boolean hasDirectExternalCall() {
+        return directExternalCall;
+    }
+
+    /**
+     * Checks if the method or any method it reaches accesses the database.
+     */
+    public boolean hasDatabaseAccess() {
+        return databaseAccess;
+    }
+
+    /**
+     * Checks if the method or any method it reaches calls an external service.
+     */
+    public boolean hasExternalCall() {
+        return externalCall;
+    }
+
+    /**
+     * Gets the length of the longest chain of calls to scanned methods below the method,
+     * counting a cycle once.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MethodSummary{%s, callees=%d, depth=%d, db=%s, external=%s}",
+            signature, callees.length, depth, databaseAccess, externalCall);
+    }
+}
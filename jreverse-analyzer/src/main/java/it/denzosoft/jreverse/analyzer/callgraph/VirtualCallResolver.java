@@ -0,0 +1,104 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import it.denzosoft.jreverse.core.model.TypeHierarchy;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves virtual and interface call sites to the concrete methods they may dispatch to.
+ * Candidates come from class hierarchy analysis: every concrete scanned class assignable to
+ * the type named by the call site contributes the implementation it declares or inherits.
+ * When the bean types of the application are known, candidates that are beans are kept and
+ * the others dropped, which approximates rapid type analysis for applications whose services
+ * are instantiated by the container rather than with {@code new}.
+ *
+ * Call sites are left on the method they name when no implementation is found, when the type
+ * is {@code java.lang.Object}, or when more than {@link #MAX_TARGETS} implementations would be
+ * needed, since such megamorphic sites would add edges without telling anything useful.
+ */
+final class VirtualCallResolver {
+
+    /** Largest number of implementations a call site is resolved to. */
+    static final int MAX_TARGETS = 16;
+
+    private static final String OBJECT = "java.lang.Object";
+
+    private final TypeHierarchy hierarchy;
+    private final Map<String, String> superClasses;
+    private final Map<String, Integer> ids;
+    private final BitSet withBody;
+    private final Set<String> beanTypes;
+
+    VirtualCallResolver(TypeHierarchy hierarchy, Map<String, String> superClasses, Map<String, Integer> ids,
+                        BitSet withBody, Set<String> beanTypes) {
+        this.hierarchy = hierarchy;
+        this.superClasses = superClasses;
+        this.ids = ids;
+        this.withBody = withBody;
+        this.beanTypes = beanTypes;
+    }
+
+    /**
+     * Resolves a call site naming the given method.
+     *
+     * @return the ids of the implementations, or null to keep the call on the named method
+     */
+    int[] resolve(String ownerClassName, String methodName, String descriptor) {
+        if (OBJECT.equals(ownerClassName)) {
+            return null;
+        }
+        Set<String> implementors = hierarchy.getImplementors(ownerClassName);
+        if (implementors.isEmpty()) {
+            return null;
+        }
+
+        int[] all = new int[implementors.size()];
+        int allCount = 0;
+        int[] beans = new int[implementors.size()];
+        int beanCount = 0;
+        for (String implementor : implementors) {
+            int implementation = findImplementation(implementor, methodName, descriptor);
+            if (implementation == CallGraph.NO_METHOD) {
+                continue;
+            }
+            if (!contains(all, allCount, implementation)) {
+                all[allCount++] = implementation;
+            }
+            if (beanTypes.contains(implementor) && !contains(beans, beanCount, implementation)) {
+                beans[beanCount++] = implementation;
+            }
+        }
+
+        if (beanCount > 0 && beanCount <= MAX_TARGETS) {
+            return Arrays.copyOf(beans, beanCount);
+        }
+        return allCount > 0 && allCount <= MAX_TARGETS ? Arrays.copyOf(all, allCount) : null;
+    }
+
+    /**
+     * Finds the method with a body that a class declares or inherits from its superclasses.
+     */
+    private int findImplementation(String className, String methodName, String descriptor) {
+        String current = className;
+        while (current != null) {
+            Integer id = ids.get(CallGraph.key(current, methodName, descriptor));
+            if (id != null && withBody.get(id)) {
+                return id;
+            }
+            current = superClasses.get(current);
+        }
+        return CallGraph.NO_METHOD;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+package it.denzosoft.jreverse.analyzer.classfile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Opcode constants and instruction lengths for walking a Code attribute (JVMS 6.5).
+ */
+final class Bytecode {
+
+    static final int TABLESWITCH = 0xAA;
+    static final int LOOKUPSWITCH = 0xAB;
+    static final int INVOKEVIRTUAL = 0xB6;
+    static final int INVOKESPECIAL = 0xB7;
+    static final int INVOKESTATIC = 0xB8;
+    static final int INVOKEINTERFACE = 0xB9;
+    static final int INVOKEDYNAMIC = 0xBA;
+    static final int WIDE = 0xC4;
+    static final int IINC = 0x84;
+
+    // Length of each fixed-size instruction, 0 for variable-size or undefined opcodes
+    private static final byte[] LENGTHS = new byte[256];
+
+    static {
+        fill(0x00, 0x0F, 1);
+        LENGTHS[0x10] = 2;
+        LENGTHS[0x11] = 3;
+        LENGTHS[0x12] = 2;
+        fill(0x13, 0x14, 3);
+        fill(0x15, 0x19, 2);
+        fill(0x1A, 0x35, 1);
+        fill(0x36, 0x3A, 2);
+        fill(0x3B, 0x83, 1);
+        LENGTHS[IINC] = 3;
+        fill(0x85, 0x98, 1);
+        fill(0x99, 0xA8, 3);
+        LENGTHS[0xA9] = 2;
+        fill(0xAC, 0xB1, 1);
+        fill(0xB2, 0xB8, 3);
+        fill(0xB9, 0xBA, 5);
+        LENGTHS[0xBB] = 3;
+        LENGTHS[0xBC] = 2;
+        LENGTHS[0xBD] = 3;
+        fill(0xBE, 0xBF, 1);
+        fill(0xC0, 0xC1, 3);
+        fill(0xC2, 0xC3, 1);
+        LENGTHS[0xC5] = 4;
+        fill(0xC6, 0xC7, 3);
+        fill(0xC8, 0xC9, 5);
+    }
+
+    private Bytecode() {
+        // Utility class
+    }
+
+    /**
+     * Gets the offset of the instruction following the one at the given offset.
+     *
+     * @param code the bytecode array, positioned so that offset 0 is the first instruction
+     * @param offset the offset of the current instruction
+     * @throws IOException if the opcode is not defined
+     */
+    static int next(ByteBuffer code, int offset) throws IOException {
+        int opcode = code.get(offset) & 0xFF;
+        int length = LENGTHS[opcode];
+        if (length > 0) {
+            return offset + length;
+        }
+        switch (opcode) {
+            case TABLESWITCH: {
+                int base = alignedOperands(offset);
+                int low = code.getInt(base + 4);
+                int high = code.getInt(base + 8);
+                return base + 12 + (high - low + 1) * 4;
+            }
+            case LOOKUPSWITCH: {
+                int base = alignedOperands(offset);
+                int pairs = code.getInt(base + 4);
+                return base + 8 + pairs * 8;
+            }
+            case WIDE:
+                return offset + ((code.get(offset + 1) & 0xFF) == IINC ? 6 : 4);
+            default:
+                throw new IOException("Invalid opcode " + opcode + " at offset " + offset);
+        }
+    }
+
+    /**
+     * Gets the offset of the 4-byte aligned operands of a switch instruction.
+     */
+    private static int alignedOperands(int offset) {
+        return (offset + 4) & ~3;
+    }
+
+    private static void fill(int from, int to, int length) {
+        for (int opcode = from; opcode <= to; opcode++) {
+            LENGTHS[opcode] = (byte) length;
+        }
+    }
+}
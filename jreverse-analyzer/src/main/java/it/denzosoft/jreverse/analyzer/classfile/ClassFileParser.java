@@ -0,0 +1,645 @@
+package it.denzosoft.jreverse.analyzer.classfile;
+
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.ClassType;
+import it.denzosoft.jreverse.core.model.FieldInfo;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+import it.denzosoft.jreverse.core.model.ParameterInfo;
+import it.denzosoft.jreverse.core.model.SymbolTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lightweight class file parser that builds a complete {@link ClassInfo} in a single pass
+ * over the raw bytes, without loading the class into a Javassist ClassPool.
+ *
+ * The parser extracts class, field, method and parameter metadata together with their
+ * annotations. Method bodies are skipped unless a {@link CodeVisitor} is supplied, in which
+ * case it receives a read-only view of each Code attribute, or an {@link InvocationVisitor},
+ * which receives the resolved method invocations of each body. Instances are immutable and
+ * can be shared between threads.
+ */
+public final class ClassFileParser {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_PROTECTED = 0x0004;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SYNCHRONIZED = 0x0020;
+    private static final int ACC_VOLATILE = 0x0040;
+    private static final int ACC_BRIDGE = 0x0040;
+    private static final int ACC_TRANSIENT = 0x0080;
+    private static final int ACC_VARARGS = 0x0080;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_SYNTHETIC = 0x1000;
+    private static final int ACC_ENUM = 0x4000;
+
+    private static final String CODE = "Code";
+    private static final String EXCEPTIONS = "Exceptions";
+    private static final String CONSTANT_VALUE = "ConstantValue";
+    private static final String METHOD_PARAMETERS = "MethodParameters";
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final String RUNTIME_INVISIBLE_ANNOTATIONS = "RuntimeInvisibleAnnotations";
+    private static final String RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS = "RuntimeVisibleParameterAnnotations";
+    private static final String STATIC_INITIALIZER = "<clinit>";
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final ThreadLocal<byte[]> STREAM_BUFFERS = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+    /**
+     * Receives the bytecode of each parsed method that has a body.
+     */
+    @FunctionalInterface
+    public interface CodeVisitor {
+
+        /**
+         * @param className the binary name of the declaring class
+         * @param methodName the method name, {@code <init>} for constructors
+         * @param descriptor the JVM method descriptor
+         * @param code a read-only view of the bytecode array, valid only during the call
+         */
+        void visitCode(String className, String methodName, String descriptor, ByteBuffer code);
+    }
+
+    /**
+     * Receives the method invocations in the bytecode of each parsed method that has a body,
+     * with the invoked member resolved from the constant pool.
+     */
+    public interface InvocationVisitor {
+
+        int INVOKEVIRTUAL = Bytecode.INVOKEVIRTUAL;
+        int INVOKESPECIAL = Bytecode.INVOKESPECIAL;
+        int INVOKESTATIC = Bytecode.INVOKESTATIC;
+        int INVOKEINTERFACE = Bytecode.INVOKEINTERFACE;
+
+        /**
+         * Called before the invocations of a method body.
+         *
+         * @param className the binary name of the declaring class
+         * @param methodName the method name, {@code <init>} for constructors
+         * @param descriptor the JVM method descriptor
+         */
+        void visitMethod(String className, String methodName, String descriptor);
+
+        /**
+         * Called for each invoke instruction of the current method body, in bytecode order.
+         * Invokedynamic call sites are not reported.
+         *
+         * @param opcode one of the {@code INVOKE*} constants of this interface
+         * @param ownerClassName the binary name of the class named by the method reference
+         * @param methodName the invoked method name
+         * @param descriptor the invoked method descriptor
+         */
+        void visitInvocation(int opcode, String ownerClassName, String methodName, String descriptor);
+
+        /**
+         * Checks if invocations of the methods of a class are of interest. The method bodies of
+         * a class file are only walked if its constant pool references a method of at least one
+         * accepted class; otherwise {@link #visitMethod} is still called for each body, but no
+         * instruction is decoded.
+         *
+         * @param ownerClassName the binary name of a class named by a method reference
+         * @return true if invocations of methods of the class should be reported
+         */
+        default boolean acceptsOwner(String ownerClassName) {
+            return true;
+        }
+    }
+
+    private final boolean includeMembers;
+    private final boolean includeAnnotations;
+    private final boolean includeSynthetic;
+
+    private ClassFileParser(Builder builder) {
+        this.includeMembers = builder.includeMembers;
+        this.includeAnnotations = builder.includeAnnotations;
+        this.includeSynthetic = builder.includeSynthetic;
+    }
+
+    /**
+     * Parses a class file.
+     *
+     * @param classFile the class file bytes, from the buffer position to its limit
+     * @return the parsed class
+     * @throws IOException if the bytes are not a valid class file
+     */
+    public ClassInfo parse(ByteBuffer classFile) throws IOException {
+        return parse(classFile, null);
+    }
+
+    /**
+     * Parses a class file, passing the bytecode of each method to the given visitor.
+     *
+     * @param classFile the class file bytes, from the buffer position to its limit
+     * @param codeVisitor the visitor receiving method bodies, or null to skip them
+     * @return the parsed class
+     * @throws IOException if the bytes are not a valid class file
+     */
+    public ClassInfo parse(ByteBuffer classFile, CodeVisitor codeVisitor) throws IOException {
+        return parse(classFile, codeVisitor, null);
+    }
+
+    /**
+     * Parses a class file, interning the names, types and annotations of the model
+     * into the symbol table of the current analysis.
+     *
+     * @param classFile the class file bytes, from the buffer position to its limit
+     * @param codeVisitor the visitor receiving method bodies, or null to skip them
+     * @param symbols the symbol table of the analysis, or null to skip interning
+     * @return the parsed class
+     * @throws IOException if the bytes are not a valid class file
+     */
+    public ClassInfo parse(ByteBuffer classFile, CodeVisitor codeVisitor, SymbolTable symbols) throws IOException {
+        return read(classFile, codeVisitor, null, symbols);
+    }
+
+    /**
+     * Parses a class file, passing the method invocations of each method body to the given visitor.
+     * Each body is walked once, instruction by instruction, unless the constant pool shows that
+     * the class invokes no method of a class {@link InvocationVisitor#acceptsOwner accepted} by
+     * the visitor.
+     *
+     * @param classFile the class file bytes, from the buffer position to its limit
+     * @param invocationVisitor the visitor receiving the invocations
+     * @return the parsed class
+     * @throws IOException if the bytes are not a valid class file
+     */
+    public ClassInfo parseInvocations(ByteBuffer classFile, InvocationVisitor invocationVisitor) throws IOException {
+        return read(classFile, null, invocationVisitor, null);
+    }
+
+    private ClassInfo read(ByteBuffer classFile, CodeVisitor codeVisitor, InvocationVisitor invocationVisitor,
+                           SymbolTable symbols) throws IOException {
+        ByteBuffer buffer = classFile.slice().order(ByteOrder.BIG_ENDIAN);
+        try {
+            return new ClassReader(buffer, codeVisitor, invocationVisitor, symbols).readClass();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated class file", e);
+        }
+    }
+
+    /**
+     * Parses a class file read from a stream. The stream is read to its end but not closed.
+     *
+     * @param in the class file content
+     * @return the parsed class
+     * @throws IOException if the stream cannot be read or does not hold a valid class file
+     */
+    public ClassInfo parse(InputStream in) throws IOException {
+        return parse(in, null);
+    }
+
+    /**
+     * Parses a class file read from a stream, interning into the given symbol table.
+     * The stream is read to its end but not closed.
+     *
+     * @param in the class file content
+     * @param symbols the symbol table of the analysis, or null to skip interning
+     * @return the parsed class
+     * @throws IOException if the stream cannot be read or does not hold a valid class file
+     */
+    public ClassInfo parse(InputStream in, SymbolTable symbols) throws IOException {
+        byte[] buffer = STREAM_BUFFERS.get();
+        int length = 0;
+        int read;
+        while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                STREAM_BUFFERS.set(buffer);
+            }
+        }
+        return parse(ByteBuffer.wrap(buffer, 0, length), null, symbols);
+    }
+
+    /**
+     * Maps class file access flags to a ClassType, with the precedence of the Javassist
+     * based analyzers: annotation types also carry ACC_INTERFACE, so they map to INTERFACE.
+     * Classes declared abstract map to ABSTRACT_CLASS, so they are not taken for implementors.
+     *
+     * @param accessFlags the access_flags item of the class file
+     * @return the class type
+     */
+    public static ClassType toClassType(int accessFlags) {
+        if ((accessFlags & ACC_INTERFACE) != 0) {
+            return ClassType.INTERFACE;
+        } else if ((accessFlags & ACC_ENUM) != 0) {
+            return ClassType.ENUM;
+        } else if ((accessFlags & ACC_ABSTRACT) != 0) {
+            return ClassType.ABSTRACT_CLASS;
+        } else {
+            return ClassType.CLASS;
+        }
+    }
+
+    public boolean isIncludeMembers() {
+        return includeMembers;
+    }
+
+    public boolean isIncludeAnnotations() {
+        return includeAnnotations;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Single-use cursor over one class file.
+     */
+    private final class ClassReader {
+
+        private final ByteBuffer buffer;
+        private final CodeVisitor codeVisitor;
+        private final InvocationVisitor invocationVisitor;
+        private final SymbolTable symbols;
+        private ConstantPool constantPool;
+        private boolean walkInvocations;
+        private String className;
+        private int position;
+
+        ClassReader(ByteBuffer buffer, CodeVisitor codeVisitor, InvocationVisitor invocationVisitor,
+                    SymbolTable symbols) {
+            this.buffer = buffer;
+            this.codeVisitor = codeVisitor;
+            this.invocationVisitor = invocationVisitor;
+            this.symbols = symbols;
+        }
+
+        ClassInfo readClass() throws IOException {
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a class file: invalid magic number");
+            }
+            constantPool = ConstantPool.read(buffer, 8);
+            position = constantPool.getEnd();
+            walkInvocations = invocationVisitor != null
+                && constantPool.referencesMethodOf(invocationVisitor::acceptsOwner);
+
+            int accessFlags = u2();
+            className = constantPool.getClassName(u2());
+            int superIndex = u2();
+
+            ClassInfo.Builder builder = ClassInfo.builder()
+                .symbols(symbols)
+                .fullyQualifiedName(className)
+                .classType(toClassType(accessFlags))
+                .superClassName(superIndex != 0 ? constantPool.getClassName(superIndex) : null);
+
+            int interfaceCount = u2();
+            for (int i = 0; i < interfaceCount; i++) {
+                builder.addInterface(constantPool.getClassName(u2()));
+            }
+
+            int fieldCount = u2();
+            for (int i = 0; i < fieldCount; i++) {
+                builder.addField(readField());
+            }
+
+            int methodCount = u2();
+            for (int i = 0; i < methodCount; i++) {
+                builder.addMethod(readMethod());
+            }
+
+            int attributeCount = u2();
+            for (int i = 0; i < attributeCount; i++) {
+                String name = constantPool.getUtf8(u2());
+                int end = attributeEnd();
+                if (includeAnnotations && isAnnotationsAttribute(name)) {
+                    readAnnotations(builder::addAnnotation);
+                }
+                position = end;
+            }
+            return builder.build();
+        }
+
+        private FieldInfo readField() throws IOException {
+            int accessFlags = u2();
+            int nameIndex = u2();
+            int descriptorIndex = u2();
+            if (!includeMembers || isSkippedSynthetic(accessFlags)) {
+                skipAttributes();
+                return null;
+            }
+
+            FieldInfo.Builder builder = FieldInfo.builder()
+                .symbols(symbols)
+                .name(constantPool.getUtf8(nameIndex))
+                .type(TypeDescriptors.toTypeName(constantPool.getUtf8(descriptorIndex)))
+                .declaringClassName(className)
+                .isPublic((accessFlags & ACC_PUBLIC) != 0)
+                .isPrivate((accessFlags & ACC_PRIVATE) != 0)
+                .isProtected((accessFlags & ACC_PROTECTED) != 0)
+                .isStatic((accessFlags & ACC_STATIC) != 0)
+                .isFinal((accessFlags & ACC_FINAL) != 0)
+                .isTransient((accessFlags & ACC_TRANSIENT) != 0)
+                .isVolatile((accessFlags & ACC_VOLATILE) != 0);
+
+            int attributeCount = u2();
+            for (int i = 0; i < attributeCount; i++) {
+                String name = constantPool.getUtf8(u2());
+                int end = attributeEnd();
+                if (CONSTANT_VALUE.equals(name)) {
+                    builder.defaultValue(constantPool.getConstant(u2()));
+                } else if (includeAnnotations && isAnnotationsAttribute(name)) {
+                    readAnnotations(builder::addAnnotation);
+                }
+                position = end;
+            }
+            return builder.build();
+        }
+
+        private MethodInfo readMethod() throws IOException {
+            int accessFlags = u2();
+            int nameIndex = u2();
+            int descriptorIndex = u2();
+            boolean skipped = !includeMembers || isSkippedSynthetic(accessFlags) || (accessFlags & ACC_BRIDGE) != 0;
+            if (skipped && codeVisitor == null && invocationVisitor == null) {
+                skipAttributes();
+                return null;
+            }
+
+            String name = constantPool.getUtf8(nameIndex);
+            String descriptor = constantPool.getUtf8(descriptorIndex);
+            MethodInfo.Builder builder = null;
+            List<String> parameterTypes = null;
+            ParameterInfo.Builder[] parameters = null;
+            if (!skipped && !STATIC_INITIALIZER.equals(name)) {
+                parameterTypes = TypeDescriptors.parameterTypes(descriptor);
+                parameters = new ParameterInfo.Builder[parameterTypes.size()];
+                for (int i = 0; i < parameters.length; i++) {
+                    parameters[i] = ParameterInfo.builder().symbols(symbols).index(i).type(parameterTypes.get(i));
+                }
+                if ((accessFlags & ACC_VARARGS) != 0 && parameters.length > 0) {
+                    parameters[parameters.length - 1].isVarArgs(true);
+                }
+                builder = MethodInfo.builder()
+                    .symbols(symbols)
+                    .name(name)
+                    .returnType(TypeDescriptors.returnType(descriptor))
+                    .declaringClassName(className)
+                    .isPublic((accessFlags & ACC_PUBLIC) != 0)
+                    .isPrivate((accessFlags & ACC_PRIVATE) != 0)
+                    .isProtected((accessFlags & ACC_PROTECTED) != 0)
+                    .isStatic((accessFlags & ACC_STATIC) != 0)
+                    .isFinal((accessFlags & ACC_FINAL) != 0)
+                    .isAbstract((accessFlags & ACC_ABSTRACT) != 0)
+                    .isSynchronized((accessFlags & ACC_SYNCHRONIZED) != 0);
+            }
+
+            int attributeCount = u2();
+            for (int i = 0; i < attributeCount; i++) {
+                String attributeName = constantPool.getUtf8(u2());
+                int end = attributeEnd();
+                if (CODE.equals(attributeName)) {
+                    if (codeVisitor != null) {
+                        visitCode(name, descriptor);
+                    }
+                    if (walkInvocations) {
+                        visitInvocations(name, descriptor);
+                    } else if (invocationVisitor != null) {
+                        invocationVisitor.visitMethod(className, name, descriptor);
+                    }
+                } else if (builder != null) {
+                    readMethodAttribute(attributeName, builder, parameters);
+                }
+                position = end;
+            }
+
+            if (builder == null) {
+                return null;
+            }
+            for (ParameterInfo.Builder parameter : parameters) {
+                builder.addParameter(parameter.build());
+            }
+            return builder.build();
+        }
+
+        private void readMethodAttribute(String attributeName, MethodInfo.Builder builder,
+                                         ParameterInfo.Builder[] parameters) throws IOException {
+            if (EXCEPTIONS.equals(attributeName)) {
+                int count = u2();
+                for (int i = 0; i < count; i++) {
+                    builder.addThrownException(constantPool.getClassName(u2()));
+                }
+            } else if (METHOD_PARAMETERS.equals(attributeName)) {
+                int count = u1();
+                // Synthetic leading parameters may be omitted, so align with the descriptor from the end
+                int offset = parameters.length - count;
+                for (int i = 0; i < count; i++) {
+                    int nameIndex = u2();
+                    int flags = u2();
+                    int target = offset + i;
+                    if (target >= 0 && target < parameters.length) {
+                        if (nameIndex != 0) {
+                            parameters[target].name(constantPool.getUtf8(nameIndex));
+                        }
+                        parameters[target].isFinal((flags & ACC_FINAL) != 0);
+                    }
+                }
+            } else if (includeAnnotations && isAnnotationsAttribute(attributeName)) {
+                readAnnotations(builder::addAnnotation);
+            } else if (includeAnnotations && RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS.equals(attributeName)) {
+                int count = u1();
+                int offset = parameters.length - count;
+                for (int i = 0; i < count; i++) {
+                    int target = offset + i;
+                    if (target >= 0 && target < parameters.length) {
+                        readAnnotations(parameters[target]::addAnnotation);
+                    } else {
+                        readAnnotations(annotation -> { });
+                    }
+                }
+            }
+        }
+
+        private void visitCode(String methodName, String descriptor) {
+            int codeLength = buffer.getInt(position + 4);
+            ByteBuffer code = buffer.duplicate();
+            code.limit(position + 8 + codeLength);
+            code.position(position + 8);
+            codeVisitor.visitCode(className, methodName, descriptor, code.slice().asReadOnlyBuffer());
+        }
+
+        private void visitInvocations(String methodName, String descriptor) throws IOException {
+            int codeLength = buffer.getInt(position + 4);
+            ByteBuffer code = buffer.duplicate();
+            code.limit(position + 8 + codeLength);
+            code.position(position + 8);
+            code = code.slice();
+
+            invocationVisitor.visitMethod(className, methodName, descriptor);
+            int offset = 0;
+            while (offset < codeLength) {
+                int opcode = code.get(offset) & 0xFF;
+                if (opcode >= Bytecode.INVOKEVIRTUAL && opcode <= Bytecode.INVOKEINTERFACE) {
+                    int index = code.getShort(offset + 1) & 0xFFFF;
+                    invocationVisitor.visitInvocation(opcode,
+                        constantPool.getClassName(constantPool.getMemberClassIndex(index)),
+                        constantPool.getMemberName(index),
+                        constantPool.getMemberDescriptor(index));
+                }
+                offset = Bytecode.next(code, offset);
+            }
+        }
+
+        private void readAnnotations(AnnotationSink sink) throws IOException {
+            int count = u2();
+            for (int i = 0; i < count; i++) {
+                sink.accept(readAnnotation());
+            }
+        }
+
+        private AnnotationInfo readAnnotation() throws IOException {
+            AnnotationInfo.Builder builder = AnnotationInfo.builder()
+                .symbols(symbols)
+                .type(TypeDescriptors.toTypeName(constantPool.getUtf8(u2())));
+            int pairCount = u2();
+            for (int i = 0; i < pairCount; i++) {
+                String name = constantPool.getUtf8(u2());
+                builder.addAttribute(name, readElementValue());
+            }
+            return builder.build();
+        }
+
+        /**
+         * Reads an annotation element value. Enum constants are returned by name and class
+         * literals by type name, matching the representation used by the analyzers.
+         */
+        private Object readElementValue() throws IOException {
+            int tag = u1();
+            switch (tag) {
+                case 'B':
+                    return (byte) constantPool.getInt(u2());
+                case 'C':
+                    return (char) constantPool.getInt(u2());
+                case 'I':
+                    return constantPool.getInt(u2());
+                case 'S':
+                    return (short) constantPool.getInt(u2());
+                case 'Z':
+                    return constantPool.getInt(u2()) != 0;
+                case 'J':
+                    return constantPool.getLong(u2());
+                case 'F':
+                    return constantPool.getFloat(u2());
+                case 'D':
+                    return constantPool.getDouble(u2());
+                case 's':
+                    return constantPool.getUtf8(u2());
+                case 'e':
+                    u2();
+                    return constantPool.getUtf8(u2());
+                case 'c':
+                    return TypeDescriptors.toTypeName(constantPool.getUtf8(u2()));
+                case '@':
+                    return readAnnotation();
+                case '[':
+                    return readArrayValue();
+                default:
+                    throw new IOException("Invalid annotation element tag '" + (char) tag + "' in " + className);
+            }
+        }
+
+        private Object readArrayValue() throws IOException {
+            int count = u2();
+            Object[] values = new Object[count];
+            boolean allStrings = true;
+            for (int i = 0; i < count; i++) {
+                values[i] = readElementValue();
+                allStrings &= values[i] instanceof String;
+            }
+            if (allStrings) {
+                String[] strings = new String[count];
+                System.arraycopy(values, 0, strings, 0, count);
+                return strings;
+            }
+            return values;
+        }
+
+        private boolean isAnnotationsAttribute(String name) {
+            return RUNTIME_VISIBLE_ANNOTATIONS.equals(name) || RUNTIME_INVISIBLE_ANNOTATIONS.equals(name);
+        }
+
+        private boolean isSkippedSynthetic(int accessFlags) {
+            return !includeSynthetic && (accessFlags & ACC_SYNTHETIC) != 0;
+        }
+
+        private void skipAttributes() {
+            int attributeCount = u2();
+            for (int i = 0; i < attributeCount; i++) {
+                position += 2;
+                position = attributeEnd();
+            }
+        }
+
+        /**
+         * Reads an attribute length and returns the position of the end of the attribute.
+         */
+        private int attributeEnd() {
+            int length = buffer.getInt(position);
+            position += 4;
+            if (length < 0 || position + length > buffer.limit()) {
+                throw new IndexOutOfBoundsException("Attribute length " + length + " exceeds class file");
+            }
+            return position + length;
+        }
+
+        private int u1() {
+            return buffer.get(position++) & 0xFF;
+        }
+
+        private int u2() {
+            int value = buffer.getShort(position) & 0xFFFF;
+            position += 2;
+            return value;
+        }
+    }
+
+    @FunctionalInterface
+    private interface AnnotationSink {
+        void accept(AnnotationInfo annotation);
+    }
+
+    public static class Builder {
+        private boolean includeMembers = true;
+        private boolean includeAnnotations = true;
+        private boolean includeSynthetic = false;
+
+        /**
+         * Whether fields and methods are extracted; when false only the class header,
+         * hierarchy and class-level annotations are parsed.
+         */
+        public Builder includeMembers(boolean includeMembers) {
+            this.includeMembers = includeMembers;
+            return this;
+        }
+
+        public Builder includeAnnotations(boolean includeAnnotations) {
+            this.includeAnnotations = includeAnnotations;
+            return this;
+        }
+
+        /**
+         * Whether compiler generated (synthetic) members are extracted. Bridge methods are always skipped.
+         */
+        public Builder includeSynthetic(boolean includeSynthetic) {
+            this.includeSynthetic = includeSynthetic;
+            return this;
+        }
+
+        public ClassFileParser build() {
+            return new ClassFileParser(this);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package it.denzosoft.jreverse.analyzer.classfile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Lazily decoded view over the constant pool of a class file.
+ * Only the offset and tag of each entry are recorded when the pool is read; UTF-8 entries
+ * are decoded on first access and cached, so unused strings are never materialized.
+ */
+final class ConstantPool {
+
+    static final int UTF8 = 1;
+    static final int INTEGER = 3;
+    static final int FLOAT = 4;
+    static final int LONG = 5;
+    static final int DOUBLE = 6;
+    static final int CLASS = 7;
+    static final int STRING = 8;
+    static final int FIELD_REF = 9;
+    static final int METHOD_REF = 10;
+    static final int INTERFACE_METHOD_REF = 11;
+    static final int NAME_AND_TYPE = 12;
+    static final int METHOD_HANDLE = 15;
+    static final int METHOD_TYPE = 16;
+    static final int DYNAMIC = 17;
+    static final int INVOKE_DYNAMIC = 18;
+    static final int MODULE = 19;
+    static final int PACKAGE = 20;
+
+    private final ByteBuffer buffer;
+    private final int[] offsets;
+    private final byte[] tags;
+    private final int end;
+    private String[] strings;
+    private String[] classNames;
+    private char[] chars;
+
+    private ConstantPool(ByteBuffer buffer, int[] offsets, byte[] tags, int end) {
+        this.buffer = buffer;
+        this.offsets = offsets;
+        this.tags = tags;
+        this.end = end;
+    }
+
+    /**
+     * Reads the constant pool starting at the given absolute position, which must point
+     * at the {@code constant_pool_count} item.
+     */
+    static ConstantPool read(ByteBuffer buffer, int start) throws IOException {
+        int count = buffer.getShort(start) & 0xFFFF;
+        int[] offsets = new int[count];
+        byte[] tags = new byte[count];
+        int position = start + 2;
+        for (int index = 1; index < count; index++) {
+            int tag = buffer.get(position) & 0xFF;
+            tags[index] = (byte) tag;
+            offsets[index] = position + 1;
+            switch (tag) {
+                case UTF8:
+                    position += 3 + (buffer.getShort(position + 1) & 0xFFFF);
+                    break;
+                case INTEGER:
+                case FLOAT:
+                case FIELD_REF:
+                case METHOD_REF:
+                case INTERFACE_METHOD_REF:
+                case NAME_AND_TYPE:
+                case DYNAMIC:
+                case INVOKE_DYNAMIC:
+                    position += 5;
+                    break;
+                case LONG:
+                case DOUBLE:
+                    position += 9;
+                    index++;
+                    break;
+                case CLASS:
+                case STRING:
+                case METHOD_TYPE:
+                case MODULE:
+                case PACKAGE:
+                    position += 3;
+                    break;
+                case METHOD_HANDLE:
+                    position += 4;
+                    break;
+                default:
+                    throw new IOException("Invalid constant pool tag " + tag + " at index " + index);
+            }
+        }
+        return new ConstantPool(buffer, offsets, tags, position);
+    }
+
+    /**
+     * Gets the absolute position of the first byte following the constant pool.
+     */
+    int getEnd() {
+        return end;
+    }
+
+    int size() {
+        return offsets.length;
+    }
+
+    int getTag(int index) {
+        return index > 0 && index < tags.length ? tags[index] : 0;
+    }
+
+    String getUtf8(int index) throws IOException {
+        checkTag(index, UTF8);
+        if (strings == null) {
+            strings = new String[offsets.length];
+        }
+        String value = strings[index];
+        if (value == null) {
+            int offset = offsets[index];
+            value = decode(offset + 2, buffer.getShort(offset) & 0xFFFF);
+            strings[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the internal name of a CONSTANT_Class entry, for example {@code java/lang/String}.
+     */
+    String getClassInternalName(int index) throws IOException {
+        checkTag(index, CLASS);
+        return getUtf8(buffer.getShort(offsets[index]) & 0xFFFF);
+    }
+
+    /**
+     * Gets the binary name of a CONSTANT_Class entry, for example {@code java.lang.String}.
+     */
+    String getClassName(int index) throws IOException {
+        checkTag(index, CLASS);
+        if (classNames == null) {
+            classNames = new String[offsets.length];
+        }
+        String value = classNames[index];
+        if (value == null) {
+            value = getClassInternalName(index).replace('/', '.');
+            classNames[index] = value;
+        }
+        return value;
+    }
+
+    int getInt(int index) throws IOException {
+        checkTag(index, INTEGER);
+        return buffer.getInt(offsets[index]);
+    }
+
+    long getLong(int index) throws IOException {
+        checkTag(index, LONG);
+        return buffer.getLong(offsets[index]);
+    }
+
+    float getFloat(int index) throws IOException {
+        checkTag(index, FLOAT);
+        return buffer.getFloat(offsets[index]);
+    }
+
+    double getDouble(int index) throws IOException {
+        checkTag(index, DOUBLE);
+        return buffer.getDouble(offsets[index]);
+    }
+
+    /**
+     * Gets the value of a loadable constant as used by the ConstantValue attribute.
+     */
+    Object getConstant(int index) throws IOException {
+        switch (getTag(index)) {
+            case INTEGER:
+                return getInt(index);
+            case LONG:
+                return getLong(index);
+            case FLOAT:
+                return getFloat(index);
+            case DOUBLE:
+                return getDouble(index);
+            case STRING:
+                return getUtf8(buffer.getShort(offsets[index]) & 0xFFFF);
+            default:
+                throw new IOException("Constant pool entry " + index + " is not a constant value");
+        }
+    }
+
+    /**
+     * Gets the class index of a Fieldref, Methodref or InterfaceMethodref entry.
+     */
+    int getMemberClassIndex(int index) {
+        return buffer.getShort(offsets[index]) & 0xFFFF;
+    }
+
+    /**
+     * Checks if a Methodref or InterfaceMethodref entry names a class accepted by the filter.
+     * Only the entries are inspected, so a negative answer costs no bytecode decoding;
+     * the filter is applied once per distinct class entry.
+     */
+    boolean referencesMethodOf(Predicate<String> classFilter) throws IOException {
+        BitSet tested = new BitSet(offsets.length);
+        for (int index = 1; index < offsets.length; index++) {
+            if (tags[index] != METHOD_REF && tags[index] != INTERFACE_METHOD_REF) {
+                continue;
+            }
+            int classIndex = getMemberClassIndex(index);
+            if (!tested.get(classIndex)) {
+                tested.set(classIndex);
+                if (classFilter.test(getClassName(classIndex))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the member name of a Fieldref, Methodref or InterfaceMethodref entry.
+     */
+    String getMemberName(int index) throws IOException {
+        int nameAndType = getNameAndTypeIndex(index);
+        return getUtf8(buffer.getShort(offsets[nameAndType]) & 0xFFFF);
+    }
+
+    /**
+     * Gets the descriptor of a Fieldref, Methodref or InterfaceMethodref entry.
+     */
+    String getMemberDescriptor(int index) throws IOException {
+        int nameAndType = getNameAndTypeIndex(index);
+        return getUtf8(buffer.getShort(offsets[nameAndType] + 2) & 0xFFFF);
+    }
+
+    private int getNameAndTypeIndex(int index) throws IOException {
+        int tag = getTag(index);
+        if (tag != FIELD_REF && tag != METHOD_REF && tag != INTERFACE_METHOD_REF) {
+            throw new IOException("Constant pool entry " + index + " is not a member reference");
+        }
+        int nameAndType = buffer.getShort(offsets[index] + 2) & 0xFFFF;
+        checkTag(nameAndType, NAME_AND_TYPE);
+        return nameAndType;
+    }
+
+    private void checkTag(int index, int expectedTag) throws IOException {
+        if (getTag(index) != expectedTag) {
+            throw new IOException("Constant pool entry " + index + " has tag " + getTag(index) +
+                                  ", expected " + expectedTag);
+        }
+    }
+
+    /**
+     * Decodes a modified UTF-8 string (JVMS 4.4.7).
+     */
+    private String decode(int offset, int length) {
+        if (chars == null || chars.length < length) {
+            chars = new char[Math.max(length, 64)];
+        }
+        int count = 0;
+        int position = offset;
+        int limit = offset + length;
+        while (position < limit) {
+            int b = buffer.get(position++) & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                int b2 = buffer.get(position++) & 0x3F;
+                chars[count++] = (char) (((b & 0x1F) << 6) | b2);
+            } else {
+                int b2 = buffer.get(position++) & 0x3F;
+                int b3 = buffer.get(position++) & 0x3F;
+                chars[count++] = (char) (((b & 0x0F) << 12) | (b2 << 6) | b3);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+}
@@ -0,0 +1,110 @@
+package it.denzosoft.jreverse.analyzer.classfile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Converts JVM field and method descriptors to Java type names,
+ * for example {@code [Ljava/lang/String;} to {@code java.lang.String[]}.
+ */
+final class TypeDescriptors {
+
+    private TypeDescriptors() {
+    }
+
+    /**
+     * Converts a field descriptor to a Java type name.
+     */
+    static String toTypeName(String descriptor) throws IOException {
+        int end = typeEnd(descriptor, 0);
+        if (end != descriptor.length()) {
+            throw new IOException("Invalid field descriptor: " + descriptor);
+        }
+        return toTypeName(descriptor, 0, end);
+    }
+
+    /**
+     * Gets the Java type names of the parameters of a method descriptor.
+     */
+    static List<String> parameterTypes(String methodDescriptor) throws IOException {
+        if (methodDescriptor.isEmpty() || methodDescriptor.charAt(0) != '(') {
+            throw new IOException("Invalid method descriptor: " + methodDescriptor);
+        }
+        int position = 1;
+        if (methodDescriptor.charAt(position) == ')') {
+            return Collections.emptyList();
+        }
+        List<String> types = new ArrayList<>(4);
+        while (position < methodDescriptor.length() && methodDescriptor.charAt(position) != ')') {
+            int end = typeEnd(methodDescriptor, position);
+            types.add(toTypeName(methodDescriptor, position, end));
+            position = end;
+        }
+        return types;
+    }
+
+    /**
+     * Gets the Java type name of the return type of a method descriptor.
+     */
+    static String returnType(String methodDescriptor) throws IOException {
+        int close = methodDescriptor.indexOf(')');
+        if (close < 0 || close + 1 >= methodDescriptor.length()) {
+            throw new IOException("Invalid method descriptor: " + methodDescriptor);
+        }
+        return toTypeName(methodDescriptor, close + 1, methodDescriptor.length());
+    }
+
+    private static int typeEnd(String descriptor, int start) throws IOException {
+        int position = start;
+        while (position < descriptor.length() && descriptor.charAt(position) == '[') {
+            position++;
+        }
+        if (position >= descriptor.length()) {
+            throw new IOException("Invalid descriptor: " + descriptor);
+        }
+        if (descriptor.charAt(position) == 'L') {
+            int semicolon = descriptor.indexOf(';', position);
+            if (semicolon < 0) {
+                throw new IOException("Invalid descriptor: " + descriptor);
+            }
+            return semicolon + 1;
+        }
+        return position + 1;
+    }
+
+    private static String toTypeName(String descriptor, int start, int end) throws IOException {
+        int dimensions = 0;
+        while (descriptor.charAt(start + dimensions) == '[') {
+            dimensions++;
+        }
+        int elementStart = start + dimensions;
+        String elementType;
+        char kind = descriptor.charAt(elementStart);
+        switch (kind) {
+            case 'B': elementType = "byte"; break;
+            case 'C': elementType = "char"; break;
+            case 'D': elementType = "double"; break;
+            case 'F': elementType = "float"; break;
+            case 'I': elementType = "int"; break;
+            case 'J': elementType = "long"; break;
+            case 'S': elementType = "short"; break;
+            case 'Z': elementType = "boolean"; break;
+            case 'V': elementType = "void"; break;
+            case 'L':
+                elementType = descriptor.substring(elementStart + 1, end - 1).replace('/', '.');
+                break;
+            default:
+                throw new IOException("Invalid descriptor: " + descriptor);
+        }
+        if (dimensions == 0) {
+            return elementType;
+        }
+        StringBuilder name = new StringBuilder(elementType.length() + dimensions * 2).append(elementType);
+        for (int i = 0; i < dimensions; i++) {
+            name.append("[]");
+        }
+        return name.toString();
+    }
+}
@@ -1,5 +1,7 @@
 package it.denzosoft.jreverse.analyzer.componentscan;
 
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.model.*;
 import it.denzosoft.jreverse.core.port.ComponentScanAnalyzer;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
@@ -18,6 +20,19 @@ public class JavassistComponentScanAnalyzer implements ComponentScanAnalyzer {
     private static final String COMPONENT_SCAN_ANNOTATION = "org.springframework.context.annotation.ComponentScan";
     private static final String SPRING_BOOT_APPLICATION = "org.springframework.boot.autoconfigure.SpringBootApplication";
     
+    private final AnalysisSession session;
+    
+    public JavassistComponentScanAnalyzer() {
+        this(null);
+    }
+    
+    /**
+     * Creates an analyzer that stops when the analysis of the session is cancelled.
+     */
+    public JavassistComponentScanAnalyzer(AnalysisSession session) {
+        this.session = session;
+    }
+    
     @Override
     public ComponentScanAnalysisResult analyzeComponentScan(JarContent jarContent) {
         LOGGER.info("Starting component scan analysis for JAR: " + jarContent.getLocation().getFileName());
@@ -28,6 +43,7 @@ public class JavassistComponentScanAnalyzer implements ComponentScanAnalyzer {
         
         try {
             int configurationsFound = 0;
+            boolean complete = true;
             
             // Search for classes with @ComponentScan or @SpringBootApplication
             Set<ClassInfo> componentScanClasses = jarContent.getClassesWithAnnotation(COMPONENT_SCAN_ANNOTATION);
@@ -35,6 +51,10 @@ public class JavassistComponentScanAnalyzer implements ComponentScanAnalyzer {
             
             // Process @ComponentScan annotations
             for (ClassInfo classInfo : componentScanClasses) {
+                if (isCancelled()) {
+                    complete = false;
+                    break;
+                }
                 ComponentScanConfiguration config = extractComponentScanConfig(classInfo);
                 if (config != null) {
                     resultBuilder.addConfiguration(config);
@@ -55,6 +75,10 @@ public class JavassistComponentScanAnalyzer implements ComponentScanAnalyzer {
             
             // Process @SpringBootApplication annotations  
             for (ClassInfo classInfo : springBootAppClasses) {
+                if (isCancelled()) {
+                    complete = false;
+                    break;
+                }
                 ComponentScanConfiguration config = extractSpringBootApplicationConfig(classInfo);
                 if (config != null) {
                     resultBuilder.addConfiguration(config);
@@ -77,7 +101,10 @@ public class JavassistComponentScanAnalyzer implements ComponentScanAnalyzer {
             resultBuilder.effectivePackages(effectivePackages);
             
             // Set metadata
-            if (configurationsFound == 0) {
+            if (!complete) {
+                session.markIncomplete(SessionKeys.COMPONENT_SCAN.getName());
+                resultBuilder.metadata(AnalysisMetadata.incomplete("Component scan analysis stopped before the end of the JAR"));
+            } else if (configurationsFound == 0) {
                 resultBuilder.metadata(AnalysisMetadata.warning("No @ComponentScan configurations found"));
             } else {
                 resultBuilder.metadata(AnalysisMetadata.successful());
@@ -97,6 +124,10 @@ public class JavassistComponentScanAnalyzer implements ComponentScanAnalyzer {
         }
     }
     
+    private boolean isCancelled() {
+        return session != null && session.isCancelled();
+    }
+    
     @Override
     public boolean canAnalyze(JarContent jarContent) {
         return jarContent != null && jarContent.getClassCount() > 0;
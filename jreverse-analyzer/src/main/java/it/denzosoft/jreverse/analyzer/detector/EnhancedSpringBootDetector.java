@@ -25,7 +25,7 @@ public class EnhancedSpringBootDetector extends SpringBootDetector {
     private final SpringBootDetector legacyDetector;
     
     public EnhancedSpringBootDetector() {
-        this.detectionEngine = new JavassistSpringBootDetectionEngine();
+        this.detectionEngine = new JavassistSpringBootDetectionEngine(JavassistSpringBootDetectionEngine.defaultProfileStorage());
         this.legacyDetector = new SpringBootDetector(); // Original implementation as fallback
         
         LOGGER.info("Initialized EnhancedSpringBootDetector with %s", 
@@ -33,7 +33,8 @@ public class EnhancedSpringBootDetector extends SpringBootDetector {
     }
     
     public EnhancedSpringBootDetector(SpringBootDetectionEngine customEngine) {
-        this.detectionEngine = customEngine != null ? customEngine : new JavassistSpringBootDetectionEngine();
+        this.detectionEngine = customEngine != null ? customEngine
+            : new JavassistSpringBootDetectionEngine(JavassistSpringBootDetectionEngine.defaultProfileStorage());
         this.legacyDetector = new SpringBootDetector();
         
         LOGGER.info("Initialized EnhancedSpringBootDetector with custom engine: %s", 
@@ -0,0 +1,85 @@
+package it.denzosoft.jreverse.analyzer.entrypoint;
+
+import it.denzosoft.jreverse.analyzer.async.AsyncAnalysisResult;
+import it.denzosoft.jreverse.analyzer.messaging.MessagingAnalysisResult;
+import it.denzosoft.jreverse.analyzer.scheduling.SchedulingAnalysisResult;
+import it.denzosoft.jreverse.analyzer.security.SecurityAnalysisResult;
+
+import java.util.Objects;
+
+/**
+ * Results of the entrypoint analyzers computed by one {@link EntrypointScanner} pass.
+ */
+public class EntrypointScanResult {
+
+    private final SecurityAnalysisResult securityResult;
+    private final MessagingAnalysisResult messagingResult;
+    private final SchedulingAnalysisResult schedulingResult;
+    private final AsyncAnalysisResult asyncResult;
+    private final long analysisTimeMs;
+    private final boolean complete;
+
+    public EntrypointScanResult(SecurityAnalysisResult securityResult,
+                                MessagingAnalysisResult messagingResult,
+                                SchedulingAnalysisResult schedulingResult,
+                                AsyncAnalysisResult asyncResult,
+                                long analysisTimeMs) {
+        this(securityResult, messagingResult, schedulingResult, asyncResult, analysisTimeMs, true);
+    }
+
+    /**
+     * Creates the results of a scan, which is incomplete when it stopped before the end of the JAR.
+     */
+    public EntrypointScanResult(SecurityAnalysisResult securityResult,
+                                MessagingAnalysisResult messagingResult,
+                                SchedulingAnalysisResult schedulingResult,
+                                AsyncAnalysisResult asyncResult,
+                                long analysisTimeMs,
+                                boolean complete) {
+        this.securityResult = Objects.requireNonNull(securityResult, "securityResult cannot be null");
+        this.messagingResult = Objects.requireNonNull(messagingResult, "messagingResult cannot be null");
+        this.schedulingResult = Objects.requireNonNull(schedulingResult, "schedulingResult cannot be null");
+        this.asyncResult = Objects.requireNonNull(asyncResult, "asyncResult cannot be null");
+        this.analysisTimeMs = analysisTimeMs;
+        this.complete = complete;
+    }
+
+    public SecurityAnalysisResult getSecurityResult() {
+        return securityResult;
+    }
+
+    public MessagingAnalysisResult getMessagingResult() {
+        return messagingResult;
+    }
+
+    public SchedulingAnalysisResult getSchedulingResult() {
+        return schedulingResult;
+    }
+
+    public AsyncAnalysisResult getAsyncResult() {
+        return asyncResult;
+    }
+
+    public long getAnalysisTimeMs() {
+        return analysisTimeMs;
+    }
+
+    /**
+     * Checks whether the scan covered the whole JAR, which is not the case when it was cancelled.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public String toString() {
+        return "EntrypointScanResult{" +
+                "security=" + securityResult.getTotalSecurityEntrypoints() +
+                ", messaging=" + messagingResult.getMessagingEntrypoints().size() +
+                ", scheduling=" + schedulingResult.getSchedulingEntrypoints().size() +
+                ", async=" + asyncResult.getAsyncEntrypoints().size() +
+                ", analysisTimeMs=" + analysisTimeMs +
+                ", complete=" + complete +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package it.denzosoft.jreverse.analyzer.entrypoint;
+
+import it.denzosoft.jreverse.analyzer.async.AsyncAnalysisResult;
+import it.denzosoft.jreverse.analyzer.async.JavassistAsyncEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.messaging.JavassistMessagingEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.messaging.MessagingAnalysisResult;
+import it.denzosoft.jreverse.analyzer.scheduling.JavassistSchedulingEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.scheduling.SchedulingAnalysisResult;
+import it.denzosoft.jreverse.analyzer.security.JavassistSecurityEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.security.SecurityAnalysisResult;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
+import it.denzosoft.jreverse.core.model.CancellationToken;
+import it.denzosoft.jreverse.core.model.JarContent;
+
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Discovers security, messaging, scheduling and async entrypoints in a single traversal.
+ * Each entrypoint analyzer contributes its visitor to one {@link EntrypointTraversal}, so the
+ * classes of the JAR are walked once instead of once per analyzer. The results are identical
+ * to those of the analyzers run one by one.
+ *
+ * When created with an {@link AnalysisSession}, the scan result is memoized in the session.
+ */
+public class EntrypointScanner {
+
+    private static final Logger LOGGER = Logger.getLogger(EntrypointScanner.class.getName());
+
+    private final JavassistSecurityEntrypointAnalyzer securityAnalyzer = new JavassistSecurityEntrypointAnalyzer();
+    private final JavassistMessagingEntrypointAnalyzer messagingAnalyzer = new JavassistMessagingEntrypointAnalyzer();
+    private final JavassistSchedulingEntrypointAnalyzer schedulingAnalyzer = new JavassistSchedulingEntrypointAnalyzer();
+    private final JavassistAsyncEntrypointAnalyzer asyncAnalyzer = new JavassistAsyncEntrypointAnalyzer();
+    private final AnalysisSession session;
+
+    public EntrypointScanner() {
+        this(null);
+    }
+
+    /**
+     * Creates a scanner sharing its result through the given session.
+     *
+     * @param session the analysis session, may be null
+     */
+    public EntrypointScanner(AnalysisSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Scans the JAR for entrypoints of all kinds.
+     *
+     * @param jarContent the JAR to analyze
+     * @return the results of the four entrypoint analyses
+     */
+    public EntrypointScanResult scan(JarContent jarContent) {
+        Objects.requireNonNull(jarContent, "jarContent cannot be null");
+        return AnalysisSession.memoize(session, jarContent, SessionKeys.ENTRYPOINTS, () -> computeScan(jarContent));
+    }
+
+    private EntrypointScanResult computeScan(JarContent jarContent) {
+        long startTime = System.currentTimeMillis();
+
+        EntrypointVisitor<SecurityAnalysisResult> security = securityAnalyzer.createVisitor();
+        EntrypointVisitor<MessagingAnalysisResult> messaging = messagingAnalyzer.createVisitor();
+        EntrypointVisitor<SchedulingAnalysisResult> scheduling = schedulingAnalyzer.createVisitor();
+        EntrypointVisitor<AsyncAnalysisResult> async = asyncAnalyzer.createVisitor();
+        boolean complete = EntrypointTraversal.of(security, messaging, scheduling, async)
+            .traverse(jarContent, session != null ? session.getCancellationToken() : CancellationToken.NONE);
+        if (!complete && session != null) {
+            session.markIncomplete(SessionKeys.ENTRYPOINTS.getName());
+        }
+
+        long analysisTime = System.currentTimeMillis() - startTime;
+        String fileName = jarContent.getLocation() != null ? jarContent.getLocation().getFileName() : "";
+        EntrypointScanResult result = new EntrypointScanResult(
+            security.getResult(analysisTime, fileName),
+            messaging.getResult(analysisTime, fileName),
+            scheduling.getResult(analysisTime, fileName),
+            async.getResult(analysisTime, fileName),
+            analysisTime,
+            complete);
+
+        LOGGER.fine("Entrypoint scan of " + fileName + " completed in " + analysisTime + "ms: " + result);
+        return result;
+    }
+}
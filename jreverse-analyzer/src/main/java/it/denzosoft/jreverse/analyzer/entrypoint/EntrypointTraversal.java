@@ -0,0 +1,203 @@
+package it.denzosoft.jreverse.analyzer.entrypoint;
+
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.AnnotationTypeRegistry;
+import it.denzosoft.jreverse.core.model.CancellationToken;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Walks the classes, methods and annotations of a JAR once and dispatches each annotation
+ * to the visitors subscribed to its type.
+ * Entrypoint analyzers used to scan the whole JAR each on their own; registering them on one
+ * traversal makes entrypoint discovery cost a single pass however many of them are enabled.
+ *
+ * For each class, visitors receive the class annotations first and then the methods in
+ * {@link ClassInfo#getMethods()} iteration order. That order is unspecified, as it was when
+ * each analyzer iterated the methods itself, so visitors must not depend on it.
+ * A traversal is not thread-safe, since its visitors collect state while it runs.
+ *
+ * Subscriptions are indexed by the type ids of the {@link AnnotationTypeRegistry} the annotations
+ * were built with, so dispatching an annotation is an array lookup on its precomputed type id.
+ * The index is built for the registry of the analysis being traversed, and rebuilt only when
+ * annotations of another analysis show up; annotations without a registry are dispatched by
+ * type name.
+ *
+ * A traversal given a {@link CancellationToken} stops at the next class or method once the
+ * token is cancelled, leaving the visitors with the entrypoints found so far.
+ */
+public final class EntrypointTraversal {
+
+    private final List<EntrypointVisitor<?>> visitors;
+    private final Map<String, int[]> subscribersByType;
+    private final List<AnnotationInfo>[] matches;
+    private AnnotationTypeRegistry indexedRegistry;
+    private int[][] subscribers = new int[0][];
+
+    public EntrypointTraversal(Collection<? extends EntrypointVisitor<?>> visitors) {
+        Objects.requireNonNull(visitors, "visitors cannot be null");
+        this.visitors = Collections.unmodifiableList(new ArrayList<>(visitors));
+        this.subscribersByType = groupSubscribers(this.visitors);
+        this.matches = newMatches(this.visitors.size());
+    }
+
+    public static EntrypointTraversal of(EntrypointVisitor<?>... visitors) {
+        return new EntrypointTraversal(Arrays.asList(visitors));
+    }
+
+    public List<EntrypointVisitor<?>> getVisitors() {
+        return visitors;
+    }
+
+    /**
+     * Traverses all classes of the JAR.
+     *
+     * @param jarContent the JAR to traverse
+     */
+    public void traverse(JarContent jarContent) {
+        traverse(jarContent, CancellationToken.NONE);
+    }
+
+    /**
+     * Traverses the classes of the JAR until the token is cancelled.
+     *
+     * @param jarContent the JAR to traverse
+     * @param cancellationToken the token of the current analysis
+     * @return true if all classes were traversed, false if the traversal stopped early
+     */
+    public boolean traverse(JarContent jarContent, CancellationToken cancellationToken) {
+        Objects.requireNonNull(jarContent, "jarContent cannot be null");
+        for (ClassInfo classInfo : jarContent.getClasses()) {
+            if (cancellationToken.isCancelled() || !traverseClass(classInfo, cancellationToken)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Traverses a single class.
+     *
+     * @param classInfo the class to traverse
+     */
+    public void traverseClass(ClassInfo classInfo) {
+        traverseClass(classInfo, CancellationToken.NONE);
+    }
+
+    private boolean traverseClass(ClassInfo classInfo, CancellationToken cancellationToken) {
+        if (collect(classInfo.getAnnotations())) {
+            for (int i = 0; i < matches.length; i++) {
+                if (matches[i] != null) {
+                    visitors.get(i).visitClass(classInfo, matches[i]);
+                    matches[i] = null;
+                }
+            }
+        }
+
+        for (MethodInfo method : classInfo.getMethods()) {
+            if (cancellationToken.isCancelled()) {
+                return false;
+            }
+            collect(method.getAnnotations());
+            for (int i = 0; i < matches.length; i++) {
+                EntrypointVisitor<?> visitor = visitors.get(i);
+                if (matches[i] != null) {
+                    visitor.visitMethod(classInfo, method, matches[i]);
+                    matches[i] = null;
+                } else if (visitor.acceptsMethod(method)) {
+                    visitor.visitMethod(classInfo, method, Collections.<AnnotationInfo>emptyList());
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Groups the subscribed annotations by visitor.
+     *
+     * @return true if any annotation has a subscriber
+     */
+    private boolean collect(Collection<AnnotationInfo> annotations) {
+        boolean found = false;
+        for (AnnotationInfo annotation : annotations) {
+            int[] subscribed = subscribersOf(annotation);
+            if (subscribed == null) {
+                continue;
+            }
+            for (int index : subscribed) {
+                if (matches[index] == null) {
+                    matches[index] = new ArrayList<>(2);
+                }
+                matches[index].add(annotation);
+            }
+            found = true;
+        }
+        return found;
+    }
+
+    private int[] subscribersOf(AnnotationInfo annotation) {
+        AnnotationTypeRegistry registry = annotation.getTypeRegistry();
+        if (registry == null) {
+            return subscribersByType.get(annotation.getType());
+        }
+        if (registry != indexedRegistry) {
+            subscribers = indexSubscribers(registry);
+            indexedRegistry = registry;
+        }
+        int typeId = annotation.getTypeId();
+        return typeId < subscribers.length ? subscribers[typeId] : null;
+    }
+
+    /**
+     * Indexes the subscriptions by the type ids of the given registry.
+     */
+    private int[][] indexSubscribers(AnnotationTypeRegistry registry) {
+        int[] typeIds = new int[subscribersByType.size()];
+        int maxTypeId = -1;
+        int i = 0;
+        for (String type : subscribersByType.keySet()) {
+            typeIds[i] = registry.idOf(type);
+            maxTypeId = Math.max(maxTypeId, typeIds[i++]);
+        }
+
+        int[][] indexed = new int[maxTypeId + 1][];
+        i = 0;
+        for (int[] subscribed : subscribersByType.values()) {
+            indexed[typeIds[i++]] = subscribed;
+        }
+        return indexed;
+    }
+
+    private static Map<String, int[]> groupSubscribers(List<EntrypointVisitor<?>> visitors) {
+        Map<String, List<Integer>> byType = new LinkedHashMap<>();
+        for (int i = 0; i < visitors.size(); i++) {
+            for (String type : visitors.get(i).getAnnotationTypes()) {
+                List<Integer> indexes = byType.computeIfAbsent(type, key -> new ArrayList<>(1));
+                if (!indexes.contains(i)) {
+                    indexes.add(i);
+                }
+            }
+        }
+
+        Map<String, int[]> grouped = new LinkedHashMap<>(byType.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : byType.entrySet()) {
+            grouped.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return grouped;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static List<AnnotationInfo>[] newMatches(int size) {
+        return new List[size];
+    }
+}
@@ -0,0 +1,61 @@
+package it.denzosoft.jreverse.analyzer.entrypoint;
+
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Receives the entrypoint annotations found by an {@link EntrypointTraversal}.
+ * A visitor subscribes to the annotation types it handles and is only called for classes and
+ * methods carrying at least one of them, or for methods it accepts by signature.
+ * Visitors collect their entrypoints while the traversal runs and build the result afterwards.
+ *
+ * @param <R> the analysis result built by the visitor
+ */
+public interface EntrypointVisitor<R> {
+
+    /**
+     * Gets the fully qualified annotation types this visitor subscribes to.
+     */
+    Set<String> getAnnotationTypes();
+
+    /**
+     * Checks whether a method without subscribed annotations is still of interest,
+     * for example because of its return type. The default accepts none.
+     *
+     * @param method the method being traversed
+     * @return true to have {@link #visitMethod} called with an empty annotation list
+     */
+    default boolean acceptsMethod(MethodInfo method) {
+        return false;
+    }
+
+    /**
+     * Visits the subscribed annotations declared on a class.
+     *
+     * @param classInfo the class being traversed
+     * @param annotations the subscribed annotations, in unspecified order, never empty
+     */
+    void visitClass(ClassInfo classInfo, List<AnnotationInfo> annotations);
+
+    /**
+     * Visits a method carrying subscribed annotations or accepted by {@link #acceptsMethod}.
+     *
+     * @param classInfo the declaring class
+     * @param method the method being traversed
+     * @param annotations the subscribed annotations, in unspecified order, possibly empty
+     */
+    void visitMethod(ClassInfo classInfo, MethodInfo method, List<AnnotationInfo> annotations);
+
+    /**
+     * Builds the result from the entrypoints collected so far.
+     *
+     * @param analysisTimeMs the analysis time to report
+     * @param jarFileName the name of the analyzed JAR
+     * @return the analysis result
+     */
+    R getResult(long analysisTimeMs, String jarFileName);
+}
@@ -8,32 +8,58 @@ import it.denzosoft.jreverse.analyzer.impl.DefaultJarAnalyzer;
 import it.denzosoft.jreverse.analyzer.impl.SpringBootJarAnalyzer;
 import it.denzosoft.jreverse.analyzer.impl.RegularJarAnalyzer;
 import it.denzosoft.jreverse.analyzer.detector.SpringBootDetector;
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.JarTypeSniffer;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
+import it.denzosoft.jreverse.analyzer.session.BoundedClassPool;
 import javassist.ClassPool;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.logging.Logger;
 
 /**
  * Concrete Factory implementation using Javassist for creating JAR analyzers.
  * Follows Factory Pattern with automatic analyzer selection based on JAR type detection.
+ * The JAR type is sniffed from the ZIP central directory only, through the shared reader
+ * registry, so no entry is read just to choose the analyzer. The sniffing reader is released
+ * before the analyzer is returned, so the analysis maps the archive again unless another
+ * holder of the registry still has it open.
+ * A factory created with parallel ingestion owns its fork-join pool and must be closed
+ * when its analyzers are no longer used.
  */
-public class JavassistAnalyzerFactory implements AnalyzerFactory {
+public class JavassistAnalyzerFactory implements AnalyzerFactory, AutoCloseable {
     
     private static final Logger LOGGER = Logger.getLogger(JavassistAnalyzerFactory.class.getName());
     
     private final ClassPool classPool;
     private final SpringBootDetector springBootDetector;
+    private final ForkJoinPool ingestionPool;
+    private final JarReaderRegistry readerRegistry = new JarReaderRegistry();
     
     public JavassistAnalyzerFactory() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Creates a factory whose analyzers decode class entries on a shared fork-join pool.
+     * 
+     * @param ingestionParallelism number of ingestion workers; 1 or less selects sequential analysis
+     */
+    public JavassistAnalyzerFactory(int ingestionParallelism) {
         this.classPool = createConfiguredClassPool();
         this.springBootDetector = new SpringBootDetector();
-        LOGGER.info("JavassistAnalyzerFactory initialized with ClassPool");
+        this.ingestionPool = createIngestionPool(ingestionParallelism);
+        LOGGER.info("JavassistAnalyzerFactory initialized with ClassPool (ingestion parallelism: " + 
+                   Math.max(1, ingestionParallelism) + ")");
     }
     
     // Package-visible constructor for testing
     JavassistAnalyzerFactory(SpringBootDetector springBootDetector) {
         this.classPool = createConfiguredClassPool();
         this.springBootDetector = springBootDetector;
+        this.ingestionPool = null;
         LOGGER.info("JavassistAnalyzerFactory initialized with ClassPool and custom SpringBootDetector");
     }
     
@@ -44,12 +70,21 @@ public class JavassistAnalyzerFactory implements AnalyzerFactory {
         LOGGER.info("Creating analyzer for JAR: " + jarLocation.getPath());
         
         try {
-            if (springBootDetector.isSpringBootJar(jarLocation)) {
-                LOGGER.info("Detected Spring Boot JAR, using specialized analyzer");
-                return createSpringBootAnalyzer();
-            } else {
-                LOGGER.info("Detected regular JAR, using standard analyzer");
-                return createRegularJarAnalyzer();
+            JarTypeSniffer.ArchiveKind kind;
+            try (MappedJarReader reader = readerRegistry.acquire(jarLocation.getPath())) {
+                kind = JarTypeSniffer.sniff(reader, jarLocation.getFileName());
+            }
+            
+            switch (kind) {
+                case SPRING_BOOT_FAT_JAR:
+                    LOGGER.info("Detected Spring Boot JAR, using specialized analyzer");
+                    return createSpringBootAnalyzer();
+                case WAR:
+                    LOGGER.info("Detected web archive, using default analyzer");
+                    return createDefaultAnalyzer();
+                default:
+                    LOGGER.info("Detected " + kind + " archive, using standard analyzer");
+                    return createRegularJarAnalyzer();
             }
         } catch (Exception e) {
             LOGGER.warning("Failed to detect JAR type for " + jarLocation.getPath() + 
@@ -61,19 +96,19 @@ public class JavassistAnalyzerFactory implements AnalyzerFactory {
     @Override
     public JarAnalyzerPort createDefaultAnalyzer() {
         LOGGER.fine("Creating default analyzer");
-        return new DefaultJarAnalyzer(classPool);
+        return new DefaultJarAnalyzer(classPool, ingestionPool, readerRegistry);
     }
     
     @Override
     public JarAnalyzerPort createSpringBootAnalyzer() {
         LOGGER.fine("Creating Spring Boot analyzer");
-        return new SpringBootJarAnalyzer(classPool, springBootDetector);
+        return new SpringBootJarAnalyzer(classPool, springBootDetector, ingestionPool, readerRegistry);
     }
     
     @Override
     public JarAnalyzerPort createRegularJarAnalyzer() {
         LOGGER.fine("Creating regular JAR analyzer");
-        return new RegularJarAnalyzer(classPool);
+        return new RegularJarAnalyzer(classPool, ingestionPool, readerRegistry);
     }
     
     @Override
@@ -93,26 +128,51 @@ public class JavassistAnalyzerFactory implements AnalyzerFactory {
     
     /**
      * Creates and configures a ClassPool with appropriate settings for JAR analysis.
+     * The pool is private to this factory and bounded, so it does not grow with the number of
+     * analyzed JARs; per-JAR class resolution goes through an analysis session.
      * 
      * @return configured ClassPool instance
      */
     private ClassPool createConfiguredClassPool() {
-        ClassPool pool = ClassPool.getDefault();
+        ClassPool pool = new BoundedClassPool();
         
         // Optimize for JAR analysis
         pool.childFirstLookup = true;
         
-        // Add system classpath for better class resolution
-        try {
-            pool.appendSystemPath();
-        } catch (Exception e) {
-            LOGGER.warning("Could not append system path to ClassPool: " + e.getMessage());
-        }
-        
         LOGGER.fine("ClassPool configured for JAR analysis");
         return pool;
     }
     
+    /**
+     * Creates the fork-join pool shared by all analyzers of this factory for parallel class decoding.
+     * 
+     * @param parallelism requested number of workers
+     * @return the ingestion pool, or null if sequential analysis is requested
+     */
+    private ForkJoinPool createIngestionPool(int parallelism) {
+        if (parallelism <= 1) {
+            return null;
+        }
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("jar-ingestion-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+    
+    /**
+     * Shuts down the ingestion pool of this factory. Decoding tasks already submitted still
+     * complete; analyzers created by this factory decode sequentially afterwards.
+     */
+    @Override
+    public void close() {
+        if (ingestionPool != null) {
+            ingestionPool.shutdown();
+            LOGGER.fine("Ingestion pool shut down");
+        }
+    }
+    
     /**
      * Validates that the factory is properly initialized.
      * 
@@ -131,6 +191,24 @@ public class JavassistAnalyzerFactory implements AnalyzerFactory {
         return classPool;
     }
     
+    /**
+     * Gets the fork-join pool used for parallel class decoding.
+     * 
+     * @return the ingestion pool, or null if analyzers run sequentially
+     */
+    public ForkJoinPool getIngestionPool() {
+        return ingestionPool;
+    }
+    
+    /**
+     * Gets the registry of memory-mapped JAR readers shared by the analyzers of this factory.
+     * 
+     * @return the JAR reader registry
+     */
+    public JarReaderRegistry getReaderRegistry() {
+        return readerRegistry;
+    }
+    
     /**
      * Gets the Spring Boot detector for testing purposes.
      * 
@@ -1,9 +1,12 @@
 package it.denzosoft.jreverse.analyzer.factory;
 
 import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationAnalyzer;
+import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationResult;
 import it.denzosoft.jreverse.analyzer.beancreation.JavassistBeanCreationAnalyzer;
 import it.denzosoft.jreverse.analyzer.bootstrap.BootstrapAnalyzer;
 import it.denzosoft.jreverse.analyzer.bootstrap.JavassistBootstrapAnalyzer;
+import it.denzosoft.jreverse.analyzer.callgraph.BytecodeCallGraphAnalyzer;
+import it.denzosoft.jreverse.core.port.CallGraphAnalyzer;
 import it.denzosoft.jreverse.core.port.MainMethodAnalyzer;
 import it.denzosoft.jreverse.analyzer.mainmethod.JavassistMainMethodAnalyzer;
 import it.denzosoft.jreverse.analyzer.restcontroller.RestControllerAnalyzer;
@@ -16,6 +19,7 @@ import it.denzosoft.jreverse.analyzer.restcontroller.ResponseAnalyzer;
 import it.denzosoft.jreverse.analyzer.restcontroller.JavassistResponseAnalyzer;
 import it.denzosoft.jreverse.analyzer.security.SecurityEntrypointAnalyzer;
 import it.denzosoft.jreverse.analyzer.security.JavassistSecurityEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointScanner;
 import it.denzosoft.jreverse.core.port.RestEndpointAnalyzer;
 import it.denzosoft.jreverse.analyzer.restendpoint.JavassistRestEndpointAnalyzer;
 import it.denzosoft.jreverse.core.port.ComponentScanAnalyzer;
@@ -29,6 +33,23 @@ import it.denzosoft.jreverse.analyzer.servicelayer.JavassistServiceLayerAnalyzer
 import it.denzosoft.jreverse.core.port.RepositoryAnalyzer;
 import it.denzosoft.jreverse.analyzer.componentscan.JavassistComponentScanAnalyzer;
 import it.denzosoft.jreverse.analyzer.repository.JavassistRepositoryAnalyzer;
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisScheduler;
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisTask;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
+import it.denzosoft.jreverse.core.model.ComponentScanAnalysisResult;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.MainMethodAnalysisResult;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Factory for creating specialized analyzers for different aspects of Spring Boot applications.
@@ -37,6 +58,9 @@ import it.denzosoft.jreverse.analyzer.repository.JavassistRepositoryAnalyzer;
  * 
  * This complements the main JarAnalyzer factories by providing specialized analyzers
  * that can be used for detailed analysis of specific application aspects.
+ * 
+ * Analyzers created with an {@link AnalysisSession} share its class pool and its memo of
+ * intermediate results when they analyze the session JAR.
  */
 public class SpecializedAnalyzerFactory {
     
@@ -52,6 +76,17 @@ public class SpecializedAnalyzerFactory {
         return new JavassistBeanCreationAnalyzer();
     }
     
+    /**
+     * Creates a BeanCreationAnalyzer whose result is shared through the given session.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured BeanCreationAnalyzer instance
+     */
+    public static BeanCreationAnalyzer createBeanCreationAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session BeanCreationAnalyzer");
+        return new JavassistBeanCreationAnalyzer(session);
+    }
+    
     /**
      * Creates a ComponentScanAnalyzer for analyzing @ComponentScan configurations.
      * 
@@ -62,6 +97,17 @@ public class SpecializedAnalyzerFactory {
         return new JavassistComponentScanAnalyzer();
     }
     
+    /**
+     * Creates a ComponentScanAnalyzer that stops when the analysis of the given session is cancelled.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured ComponentScanAnalyzer instance
+     */
+    public static ComponentScanAnalyzer createComponentScanAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session ComponentScanAnalyzer");
+        return new JavassistComponentScanAnalyzer(session);
+    }
+    
     /**
      * Creates a MainMethodAnalyzer for analyzing main methods and Spring Boot applications.
      * 
@@ -72,6 +118,17 @@ public class SpecializedAnalyzerFactory {
         return new JavassistMainMethodAnalyzer();
     }
     
+    /**
+     * Creates a MainMethodAnalyzer that uses the given session.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured MainMethodAnalyzer instance
+     */
+    public static MainMethodAnalyzer createMainMethodAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session MainMethodAnalyzer");
+        return new JavassistMainMethodAnalyzer(session);
+    }
+    
     /**
      * Creates a BootstrapAnalyzer for analyzing Spring Boot bootstrap sequences.
      * 
@@ -82,6 +139,17 @@ public class SpecializedAnalyzerFactory {
         return new JavassistBootstrapAnalyzer();
     }
     
+    /**
+     * Creates a BootstrapAnalyzer whose dependencies use the given session.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured BootstrapAnalyzer instance
+     */
+    public static BootstrapAnalyzer createBootstrapAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session BootstrapAnalyzer");
+        return new JavassistBootstrapAnalyzer(session);
+    }
+    
     /**
      * Creates a RestControllerAnalyzer for analyzing REST controllers and endpoints.
      * 
@@ -132,6 +200,17 @@ public class SpecializedAnalyzerFactory {
         return new JavassistRestEndpointAnalyzer();
     }
     
+    /**
+     * Creates a RestEndpointAnalyzer that stops when the analysis of the given session is cancelled.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured RestEndpointAnalyzer instance
+     */
+    public static RestEndpointAnalyzer createRestEndpointAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session RestEndpointAnalyzer");
+        return new JavassistRestEndpointAnalyzer(session);
+    }
+    
     /**
      * Creates a WebMvcAnalyzer for analyzing Spring MVC mappings.
      * 
@@ -162,6 +241,17 @@ public class SpecializedAnalyzerFactory {
         return new JavassistPropertyAnalyzer();
     }
     
+    /**
+     * Creates a PropertyAnalyzer that uses the given session.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured PropertyAnalyzer instance
+     */
+    public static PropertyAnalyzer createPropertyAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session PropertyAnalyzer");
+        return new JavassistPropertyAnalyzer(session);
+    }
+    
     /**
      * Creates a SecurityEntrypointAnalyzer for analyzing security annotations and entrypoints.
      * 
@@ -172,6 +262,18 @@ public class SpecializedAnalyzerFactory {
         return new JavassistSecurityEntrypointAnalyzer();
     }
     
+    /**
+     * Creates an EntrypointScanner discovering security, messaging, scheduling and async
+     * entrypoints in a single pass, sharing its result through the given session.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured EntrypointScanner instance
+     */
+    public static EntrypointScanner createEntrypointScanner(AnalysisSession session) {
+        LOGGER.debug("Creating EntrypointScanner");
+        return new EntrypointScanner(session);
+    }
+    
     /**
      * Creates a ServiceLayerAnalyzer for analyzing Spring service layer components.
      * 
@@ -182,6 +284,17 @@ public class SpecializedAnalyzerFactory {
         return new JavassistServiceLayerAnalyzer(createBeanCreationAnalyzer());
     }
     
+    /**
+     * Creates a ServiceLayerAnalyzer reusing the bean creation result of the given session.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured ServiceLayerAnalyzer instance
+     */
+    public static ServiceLayerAnalyzer createServiceLayerAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session ServiceLayerAnalyzer");
+        return new JavassistServiceLayerAnalyzer(createBeanCreationAnalyzer(session), session);
+    }
+    
     /**
      * Creates a RepositoryAnalyzer for analyzing Spring repository components.
      * 
@@ -192,6 +305,166 @@ public class SpecializedAnalyzerFactory {
         return new JavassistRepositoryAnalyzer();
     }
     
+    /**
+     * Creates a RepositoryAnalyzer that uses the given session.
+     * 
+     * @param session the analysis session, may be null
+     * @return a configured RepositoryAnalyzer instance
+     */
+    public static RepositoryAnalyzer createRepositoryAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session RepositoryAnalyzer");
+        return new JavassistRepositoryAnalyzer(session);
+    }
+    
+    /**
+     * Creates a CallGraphAnalyzer tracing the call chains of HTTP endpoints through
+     * a call graph built from a single scan of the JAR bytecode.
+     * 
+     * @return a configured CallGraphAnalyzer instance
+     */
+    public static CallGraphAnalyzer createCallGraphAnalyzer() {
+        LOGGER.debug("Creating CallGraphAnalyzer");
+        return new BytecodeCallGraphAnalyzer();
+    }
+    
+    /**
+     * Creates a CallGraphAnalyzer that follows interface calls to the beans found by
+     * the bean creation analysis of the session.
+     * 
+     * @param session the analysis session
+     * @return a configured CallGraphAnalyzer instance
+     */
+    public static CallGraphAnalyzer createCallGraphAnalyzer(AnalysisSession session) {
+        LOGGER.debug("Creating session CallGraphAnalyzer");
+        return new BytecodeCallGraphAnalyzer(session);
+    }
+    
+    /**
+     * Creates the tasks of a full Spring Boot analysis as a DAG keyed by {@link SessionKeys}.
+     * Bootstrap analysis depends on the main method, bean creation and component scan results,
+     * service layer analysis on the bean creation result; all other tasks are independent.
+     * Web MVC and configuration analyses have no implementation yet and are not part of the DAG.
+     * Dependent tasks read their inputs from the scheduler results, so each shared input is
+     * computed once per run whether or not a session is given.
+     * 
+     * @param session the analysis session whose memo the analyzers share, may be null
+     * @return the analysis tasks
+     */
+    public static List<AnalysisTask<?>> createSpringBootAnalysisTasks(AnalysisSession session) {
+        List<AnalysisTask<?>> tasks = new ArrayList<>();
+        tasks.add(AnalysisTask.of(SessionKeys.MAIN_METHOD,
+            (jar, inputs) -> createMainMethodAnalyzer(session).analyzeMainMethod(jar)));
+        tasks.add(AnalysisTask.of(SessionKeys.BEAN_CREATION,
+            (jar, inputs) -> createBeanCreationAnalyzer(session).analyzeBeanCreation(jar)));
+        tasks.add(AnalysisTask.of(SessionKeys.COMPONENT_SCAN,
+            (jar, inputs) -> createComponentScanAnalyzer(session).analyzeComponentScan(jar)));
+        tasks.add(AnalysisTask.of(SessionKeys.BOOTSTRAP,
+            (jar, inputs) -> new JavassistBootstrapAnalyzer(
+                    computedMainMethod(createMainMethodAnalyzer(session), inputs.get(SessionKeys.MAIN_METHOD)),
+                    computedComponentScan(createComponentScanAnalyzer(session), inputs.get(SessionKeys.COMPONENT_SCAN)),
+                    computedBeanCreation(inputs.get(SessionKeys.BEAN_CREATION)))
+                .analyzeBootstrap(jar),
+            SessionKeys.MAIN_METHOD, SessionKeys.BEAN_CREATION, SessionKeys.COMPONENT_SCAN));
+        tasks.add(AnalysisTask.of(SessionKeys.SERVICE_LAYER,
+            (jar, inputs) -> new JavassistServiceLayerAnalyzer(computedBeanCreation(inputs.get(SessionKeys.BEAN_CREATION)), session)
+                .analyzeServiceLayer(jar),
+            SessionKeys.BEAN_CREATION));
+        tasks.add(AnalysisTask.of(SessionKeys.REPOSITORY,
+            (jar, inputs) -> createRepositoryAnalyzer(session).analyzeRepositories(jar)));
+        tasks.add(AnalysisTask.of(SessionKeys.PROPERTY,
+            (jar, inputs) -> createPropertyAnalyzer(session).analyzeProperties(jar)));
+        tasks.add(AnalysisTask.of(SessionKeys.REST_ENDPOINTS,
+            (jar, inputs) -> createRestEndpointAnalyzer(session).analyzeRestEndpoints(jar)));
+        tasks.add(AnalysisTask.of(SessionKeys.ENTRYPOINTS,
+            (jar, inputs) -> createEntrypointScanner(session).scan(jar)));
+        return tasks;
+    }
+    
+    /**
+     * Creates a scheduler running the Spring Boot analysis tasks that produce the given
+     * outputs, together with the tasks producing their inputs. Independent analyzers run
+     * concurrently on a bounded pool.
+     * 
+     * @param session the analysis session whose memo the analyzers share, may be null
+     * @param outputs the results to compute; all Spring Boot analyses when none is given
+     * @return a configured AnalysisScheduler instance
+     */
+    public static AnalysisScheduler createSpringBootAnalysisScheduler(AnalysisSession session,
+                                                                      AnalysisSession.Key<?>... outputs) {
+        LOGGER.debug("Creating Spring Boot AnalysisScheduler for %s", Arrays.toString(outputs));
+        List<AnalysisTask<?>> tasks = createSpringBootAnalysisTasks(session);
+        if (outputs.length == 0) {
+            return new AnalysisScheduler(tasks);
+        }
+        
+        Map<AnalysisSession.Key<?>, AnalysisTask<?>> byOutput = new HashMap<>();
+        for (AnalysisTask<?> task : tasks) {
+            byOutput.put(task.getOutput(), task);
+        }
+        Set<AnalysisSession.Key<?>> selected = new HashSet<>();
+        Deque<AnalysisSession.Key<?>> pending = new ArrayDeque<>(Arrays.asList(outputs));
+        while (!pending.isEmpty()) {
+            AnalysisSession.Key<?> key = pending.pop();
+            AnalysisTask<?> task = byOutput.get(key);
+            if (task == null) {
+                throw new IllegalArgumentException("No Spring Boot analysis task produces " + key);
+            }
+            if (selected.add(key)) {
+                pending.addAll(task.getInputs());
+            }
+        }
+        
+        List<AnalysisTask<?>> selectedTasks = new ArrayList<>();
+        for (AnalysisTask<?> task : tasks) {
+            if (selected.contains(task.getOutput())) {
+                selectedTasks.add(task);
+            }
+        }
+        return new AnalysisScheduler(selectedTasks);
+    }
+    
+    /**
+     * Wraps a main method result already computed by a scheduler run as an analyzer.
+     */
+    private static MainMethodAnalyzer computedMainMethod(MainMethodAnalyzer analyzer, MainMethodAnalysisResult result) {
+        return new MainMethodAnalyzer() {
+            @Override
+            public MainMethodAnalysisResult analyzeMainMethod(JarContent jarContent) {
+                return result;
+            }
+            
+            @Override
+            public boolean canAnalyze(JarContent jarContent) {
+                return analyzer.canAnalyze(jarContent);
+            }
+        };
+    }
+    
+    /**
+     * Wraps a component scan result already computed by a scheduler run as an analyzer.
+     */
+    private static ComponentScanAnalyzer computedComponentScan(ComponentScanAnalyzer analyzer,
+                                                               ComponentScanAnalysisResult result) {
+        return new ComponentScanAnalyzer() {
+            @Override
+            public ComponentScanAnalysisResult analyzeComponentScan(JarContent jarContent) {
+                return result;
+            }
+            
+            @Override
+            public boolean canAnalyze(JarContent jarContent) {
+                return analyzer.canAnalyze(jarContent);
+            }
+        };
+    }
+    
+    /**
+     * Wraps a bean creation result already computed by a scheduler run as an analyzer.
+     */
+    private static BeanCreationAnalyzer computedBeanCreation(BeanCreationResult result) {
+        return jarContent -> result;
+    }
+    
     /**
      * Creates all specialized analyzers for comprehensive Spring Boot application analysis.
      * 
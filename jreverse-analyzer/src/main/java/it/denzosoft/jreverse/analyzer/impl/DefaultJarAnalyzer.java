@@ -1,50 +1,122 @@
 package it.denzosoft.jreverse.analyzer.impl;
 
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.JarTypeSniffer;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarEntry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
+import it.denzosoft.jreverse.analyzer.archive.NestedJarScanner;
+import it.denzosoft.jreverse.analyzer.classfile.ClassFileParser;
+import it.denzosoft.jreverse.analyzer.session.BoundedClassPool;
 import it.denzosoft.jreverse.core.exception.JarAnalysisException;
 import it.denzosoft.jreverse.core.model.*;
 import it.denzosoft.jreverse.core.port.JarAnalyzerPort;
 import javassist.ClassPool;
-import javassist.CtClass;
-import javassist.NotFoundException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * Default JAR analyzer implementation using Javassist.
  * Provides basic analysis capabilities for all types of JAR files.
+ * 
+ * The archive is read through a memory-mapped {@link MappedJarReader} obtained from a
+ * {@link JarReaderRegistry}, so the JAR is opened once per run. Class entries are decoded
+ * straight from their bytes by a {@link ClassFileParser}, which fills the complete ClassInfo
+ * (members, annotations and hierarchy) without resolving classes through the ClassPool.
+ * When created with an ingestion pool, class entries are decoded concurrently on that pool.
+ * Libraries nested under {@code BOOT-INF/lib/} or {@code WEB-INF/lib/} are analyzed in place
+ * through a {@link NestedJarScanner}, in parallel on the same pool when it is available.
+ * 
+ * The {@link CancellationToken} of the analysis is checked before each class entry and nested JAR,
+ * also by the workers of the ingestion pool. Once it is cancelled or expired the remaining entries
+ * are skipped and the content read so far is returned, marked as incomplete. Interrupting the
+ * thread that called {@link #analyzeJar(JarLocation)} aborts the analysis instead, which then
+ * fails with {@link JarAnalysisException.ErrorCode#CANCELLED}.
  */
 public class DefaultJarAnalyzer implements JarAnalyzerPort {
     
     private static final Logger LOGGER = Logger.getLogger(DefaultJarAnalyzer.class.getName());
     
+    protected static final String BOOT_INF_LIB = "BOOT-INF/lib/";
+    protected static final String WEB_INF_LIB = "WEB-INF/lib/";
+    
+    /** Class count from which the application classes are kept in columnar storage. */
+    protected static final int COMPACT_STORAGE_THRESHOLD = 20000;
+    
     protected final ClassPool classPool;
+    protected final ForkJoinPool ingestionPool;
+    protected final JarReaderRegistry readerRegistry;
+    protected final ClassFileParser classFileParser;
+    protected final ClassFileParser libraryClassFileParser;
     
     public DefaultJarAnalyzer(ClassPool classPool) {
-        this.classPool = classPool != null ? classPool : ClassPool.getDefault();
+        this(classPool, null);
+    }
+    
+    /**
+     * Creates an analyzer that decodes class entries in parallel.
+     * 
+     * @param classPool the ClassPool used for class resolution
+     * @param ingestionPool the fork-join pool used for parallel decoding, or null for sequential analysis
+     */
+    public DefaultJarAnalyzer(ClassPool classPool, ForkJoinPool ingestionPool) {
+        this(classPool, ingestionPool, null);
+    }
+    
+    /**
+     * Creates an analyzer that reads archives through a shared reader registry.
+     * 
+     * @param classPool the ClassPool used for class resolution
+     * @param ingestionPool the fork-join pool used for parallel decoding, or null for sequential analysis
+     * @param readerRegistry the registry providing shared JAR readers, or null for a private registry
+     */
+    public DefaultJarAnalyzer(ClassPool classPool, ForkJoinPool ingestionPool, JarReaderRegistry readerRegistry) {
+        this.classPool = classPool != null ? classPool : new BoundedClassPool();
+        this.ingestionPool = ingestionPool;
+        this.readerRegistry = readerRegistry != null ? readerRegistry : new JarReaderRegistry();
+        this.classFileParser = ClassFileParser.builder().build();
+        // Nested libraries are summarized, so their members are not materialized
+        this.libraryClassFileParser = ClassFileParser.builder().includeMembers(false).build();
     }
     
     @Override
     public JarContent analyzeJar(JarLocation jarLocation) throws JarAnalysisException {
+        return analyzeJar(jarLocation, CancellationToken.NONE);
+    }
+    
+    @Override
+    public JarContent analyzeJar(JarLocation jarLocation, CancellationToken cancellationToken) throws JarAnalysisException {
         LOGGER.info("Starting analysis of JAR: " + jarLocation.getPath());
         
-        try (JarFile jarFile = new JarFile(jarLocation.getPath().toFile())) {
-            Set<ClassInfo> classes = analyzeClasses(jarFile, jarLocation);
-            JarManifestInfo manifestInfo = analyzeManifest(jarFile);
+        try (MappedJarReader jarReader = readerRegistry.acquire(jarLocation.getPath())) {
+            SymbolTable symbols = new SymbolTable();
+            Set<ClassInfo> classes = analyzeClasses(jarReader, jarLocation, symbols, cancellationToken);
+            JarManifestInfo manifestInfo = analyzeManifest(jarReader);
+            JarType jarType = determineJarType(jarReader, jarLocation);
             
             JarContent jarContent = JarContent.builder()
                 .location(jarLocation)
-                .jarType(determineJarType(jarFile, jarLocation))
+                .jarType(jarType)
                 .classes(classes)
+                .compact(useCompactStorage(classes.size()))
                 .manifest(manifestInfo)
+                .nestedJars(analyzeNestedJars(jarReader, jarType, jarLocation, symbols, cancellationToken))
+                .complete(!cancellationToken.isCancelled())
                 .build();
                 
-            LOGGER.info("Analysis completed. Found " + classes.size() + " classes in " + 
-                       jarLocation.getFileName());
+            LOGGER.info("Analysis " + (jarContent.isComplete() ? "completed" : "stopped early") + ". Found " + 
+                       classes.size() + " classes in " + jarLocation.getFileName());
+            LOGGER.fine("Symbol table for " + jarLocation.getFileName() + ": " + symbols);
             
             return jarContent;
             
@@ -56,45 +128,95 @@ public class DefaultJarAnalyzer implements JarAnalyzerPort {
         }
     }
     
-    protected Set<ClassInfo> analyzeClasses(JarFile jarFile, JarLocation jarLocation) throws JarAnalysisException {
-        Set<ClassInfo> classes = new HashSet<>();
-        
-        // Add JAR to ClassPool
-        try {
-            classPool.appendClassPath(jarLocation.getPath().toString());
-        } catch (Exception e) {
-            LOGGER.warning("Could not add JAR to ClassPool: " + e.getMessage());
+    /**
+     * Decodes the class entries selected by {@link #isClassFile(MappedJarEntry)}.
+     * 
+     * @param symbols the symbol table of the current analysis, shared by all decoded classes
+     */
+    protected Set<ClassInfo> analyzeClasses(MappedJarReader jarReader, JarLocation jarLocation,
+                                            SymbolTable symbols) throws JarAnalysisException {
+        return analyzeClasses(jarReader, jarLocation, symbols, CancellationToken.NONE);
+    }
+    
+    /**
+     * Decodes the class entries selected by {@link #isClassFile(MappedJarEntry)} until the token is cancelled.
+     * 
+     * @param symbols the symbol table of the current analysis, shared by all decoded classes
+     * @param cancellationToken the token of the current analysis; entries left when it is cancelled are skipped
+     */
+    protected Set<ClassInfo> analyzeClasses(MappedJarReader jarReader, JarLocation jarLocation, SymbolTable symbols,
+                                            CancellationToken cancellationToken) throws JarAnalysisException {
+        Thread requester = Thread.currentThread();
+        if (isParallelIngestionEnabled()) {
+            return analyzeClassesInParallel(jarReader, jarLocation, symbols, requester, cancellationToken);
         }
         
-        jarFile.stream()
-            .filter(this::isClassFile)
-            .forEach(entry -> {
-                try {
-                    ClassInfo classInfo = analyzeClassEntry(entry, jarFile, jarLocation);
+        Set<ClassInfo> classes = new HashSet<>();
+        try {
+            jarReader.stream()
+                .filter(this::isClassFile)
+                .filter(entry -> isActive(requester, cancellationToken))
+                .forEach(entry -> {
+                    ClassInfo classInfo = analyzeClassEntry(entry, jarReader, jarLocation, symbols);
                     if (classInfo != null) {
                         classes.add(classInfo);
                     }
-                } catch (Exception e) {
-                    LOGGER.warning("Failed to analyze class " + entry.getName() + ": " + e.getMessage());
-                }
-            });
+                });
+        } catch (CancellationException e) {
+            throw cancelled(jarLocation, e);
+        }
             
         return classes;
     }
     
-    protected ClassInfo analyzeClassEntry(JarEntry entry, JarFile jarFile, JarLocation jarLocation) {
+    /**
+     * Decodes all class entries on the ingestion pool. Each worker parses the raw class file
+     * bytes on its own; partial results are merged by the collector.
+     */
+    private Set<ClassInfo> analyzeClassesInParallel(MappedJarReader jarReader, JarLocation jarLocation,
+                                                    SymbolTable symbols, Thread requester,
+                                                    CancellationToken cancellationToken) throws JarAnalysisException {
+        List<MappedJarEntry> classEntries = jarReader.stream()
+            .filter(this::isClassFile)
+            .collect(Collectors.toList());
+        
+        LOGGER.fine("Decoding " + classEntries.size() + " class entries with parallelism " + 
+                   ingestionPool.getParallelism());
+        
+        try {
+            return ingestionPool.submit(() -> classEntries.parallelStream()
+                    .filter(entry -> isActive(requester, cancellationToken))
+                    .map(entry -> analyzeClassEntry(entry, jarReader, jarLocation, symbols))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet()))
+                .get();
+        } catch (InterruptedException | CancellationException e) {
+            // Keeps the requester interrupted, so the pool workers stop at their next entry
+            Thread.currentThread().interrupt();
+            throw cancelled(jarLocation, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                throw cancelled(jarLocation, e.getCause());
+            }
+            throw new JarAnalysisException("Parallel class analysis failed: " + e.getCause().getMessage(),
+                                           jarLocation.getPath().toString(),
+                                           JarAnalysisException.ErrorCode.ANALYSIS_FAILED,
+                                           e.getCause());
+        }
+    }
+    
+    /**
+     * Decodes a single class entry directly from its class file bytes.
+     * Must be safe to call concurrently, as it runs on the ingestion pool in parallel mode.
+     */
+    protected ClassInfo analyzeClassEntry(MappedJarEntry entry, MappedJarReader jarReader, JarLocation jarLocation,
+                                          SymbolTable symbols) {
         String className = getClassName(entry);
         
         try {
-            CtClass ctClass = classPool.get(className);
-            
-            return ClassInfo.builder()
-                .fullyQualifiedName(className)
-                .classType(determineClassType(ctClass))
-                .build();
-                
-        } catch (NotFoundException e) {
-            LOGGER.fine("Class not found in pool: " + className + " - " + e.getMessage());
+            return classFileParser.parse(jarReader.read(entry), null, symbols);
+        } catch (IOException e) {
+            LOGGER.fine("Could not decode class file: " + className + " - " + e.getMessage());
             
             // Create basic ClassInfo from entry name
             return ClassInfo.builder()
@@ -107,8 +229,147 @@ public class DefaultJarAnalyzer implements JarAnalyzerPort {
         }
     }
     
-    protected JarManifestInfo analyzeManifest(JarFile jarFile) throws IOException {
-        java.util.jar.Manifest manifest = jarFile.getManifest();
+    /**
+     * Analyzes the library JARs nested in the archive, reading each one in place from the
+     * outer archive. Nested JARs are processed in parallel when an ingestion pool is configured.
+     * 
+     * @param jarReader the reader of the outer archive
+     * @param jarType the detected archive type, which selects the library directory
+     * @param jarLocation the location of the outer archive
+     * @param symbols the symbol table of the current analysis
+     * @return the nested JARs, in archive order
+     */
+    protected List<NestedJarInfo> analyzeNestedJars(MappedJarReader jarReader, JarType jarType,
+                                                    JarLocation jarLocation, SymbolTable symbols) throws JarAnalysisException {
+        return analyzeNestedJars(jarReader, jarType, jarLocation, symbols, CancellationToken.NONE);
+    }
+    
+    /**
+     * Analyzes the library JARs nested in the archive until the token is cancelled.
+     * Nested JARs left when the token is cancelled are skipped.
+     */
+    protected List<NestedJarInfo> analyzeNestedJars(MappedJarReader jarReader, JarType jarType, JarLocation jarLocation,
+                                                    SymbolTable symbols, CancellationToken cancellationToken)
+            throws JarAnalysisException {
+        String libraryDirectory = getLibraryDirectory(jarType);
+        if (libraryDirectory == null) {
+            return Collections.emptyList();
+        }
+        
+        NestedJarScanner scanner = new NestedJarScanner(jarReader);
+        List<MappedJarEntry> nestedJars = scanner.findNestedJars(libraryDirectory);
+        if (nestedJars.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        LOGGER.fine("Analyzing " + nestedJars.size() + " nested JARs in " + libraryDirectory);
+        
+        Thread requester = Thread.currentThread();
+        if (!isParallelIngestionEnabled()) {
+            try {
+                return nestedJars.stream()
+                    .filter(nestedJar -> isActive(requester, cancellationToken))
+                    .map(nestedJar -> analyzeNestedJar(scanner, nestedJar, symbols))
+                    .collect(Collectors.toList());
+            } catch (CancellationException e) {
+                throw cancelled(jarLocation, e);
+            }
+        }
+        
+        try {
+            return ingestionPool.submit(() -> nestedJars.parallelStream()
+                    .filter(nestedJar -> isActive(requester, cancellationToken))
+                    .map(nestedJar -> analyzeNestedJar(scanner, nestedJar, symbols))
+                    .collect(Collectors.toList()))
+                .get();
+        } catch (InterruptedException | CancellationException e) {
+            Thread.currentThread().interrupt();
+            throw cancelled(jarLocation, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                throw cancelled(jarLocation, e.getCause());
+            }
+            throw new JarAnalysisException("Nested JAR analysis failed: " + e.getCause().getMessage(),
+                                           jarLocation.getPath().toString(),
+                                           JarAnalysisException.ErrorCode.ANALYSIS_FAILED,
+                                           e.getCause());
+        }
+    }
+    
+    private NestedJarInfo analyzeNestedJar(NestedJarScanner scanner, MappedJarEntry nestedJar, SymbolTable symbols) {
+        NestedJarInfo.Builder builder = NestedJarInfo.builder()
+            .entryName(nestedJar.getName())
+            .size(nestedJar.getSize())
+            .compressed(!nestedJar.isStored())
+            .compact(true);
+        int[] resourceCount = new int[1];
+        
+        try {
+            scanner.scan(nestedJar, (entryName, content) -> {
+                if (isClassFileName(entryName)) {
+                    builder.addClass(analyzeLibraryClass(toClassName(entryName), content, symbols));
+                } else {
+                    resourceCount[0]++;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warning("Failed to analyze nested JAR " + nestedJar.getName() + ": " + e.getMessage());
+        }
+        
+        return builder.resourceCount(resourceCount[0]).build();
+    }
+    
+    /**
+     * Checks whether the next entry should be analyzed. Aborts the analysis when the thread
+     * that requested it has been interrupted; skips the entry when the token is cancelled.
+     * 
+     * @param requester the thread that called {@link #analyzeJar(JarLocation)}
+     * @param cancellationToken the token of the current analysis
+     * @return false if the entry must be skipped
+     * @throws CancellationException if the requester is interrupted
+     */
+    protected static boolean isActive(Thread requester, CancellationToken cancellationToken) {
+        if (requester.isInterrupted()) {
+            throw new CancellationException("Analysis cancelled");
+        }
+        return !cancellationToken.isCancelled();
+    }
+    
+    private static JarAnalysisException cancelled(JarLocation jarLocation, Throwable cause) {
+        return new JarAnalysisException("Analysis was cancelled: " + jarLocation.getPath(),
+                                        jarLocation.getPath().toString(),
+                                        JarAnalysisException.ErrorCode.CANCELLED,
+                                        cause);
+    }
+    
+    private ClassInfo analyzeLibraryClass(String className, InputStream content, SymbolTable symbols) {
+        try {
+            return libraryClassFileParser.parse(content, symbols);
+        } catch (IOException e) {
+            LOGGER.fine("Could not decode library class file: " + className + " - " + e.getMessage());
+            return ClassInfo.builder()
+                .fullyQualifiedName(className)
+                .classType(ClassType.CLASS)
+                .build();
+        }
+    }
+    
+    /**
+     * Gets the directory holding nested library JARs for the given archive type.
+     * 
+     * @return the library directory, or null if the archive type has no nested libraries
+     */
+    protected String getLibraryDirectory(JarType jarType) {
+        if (jarType == JarType.SPRING_BOOT_JAR) {
+            return BOOT_INF_LIB;
+        } else if (jarType == JarType.WAR_ARCHIVE) {
+            return WEB_INF_LIB;
+        }
+        return null;
+    }
+    
+    protected JarManifestInfo analyzeManifest(MappedJarReader jarReader) throws IOException {
+        java.util.jar.Manifest manifest = jarReader.getManifest();
         if (manifest == null) {
             return JarManifestInfo.builder().build();
         }
@@ -129,49 +390,49 @@ public class DefaultJarAnalyzer implements JarAnalyzerPort {
             .build();
     }
     
-    protected JarType determineJarType(JarFile jarFile, JarLocation jarLocation) {
-        // Basic JAR type detection
-        if (jarLocation.getFileName().endsWith(".war")) {
-            return JarType.WAR_ARCHIVE;
-        }
-        
-        // Check for Spring Boot indicators (basic check)
-        if (jarFile.getEntry("BOOT-INF/") != null) {
-            return JarType.SPRING_BOOT_JAR;
-        }
-        
-        return JarType.REGULAR_JAR;
+    protected JarType determineJarType(MappedJarReader jarReader, JarLocation jarLocation) {
+        // Classified from the central directory already parsed by the reader
+        return JarTypeSniffer.sniff(jarReader, jarLocation.getFileName()).getJarType();
+    }
+    
+    protected boolean isClassFile(MappedJarEntry entry) {
+        return !entry.isDirectory() && isClassFileName(entry.getName());
+    }
+    
+    private boolean isClassFileName(String name) {
+        return name.endsWith(".class") &&
+               !name.contains("$") && // Skip inner classes for basic analysis
+               !name.startsWith("META-INF/");
     }
     
-    protected boolean isClassFile(JarEntry entry) {
-        return !entry.isDirectory() && 
-               entry.getName().endsWith(".class") &&
-               !entry.getName().contains("$") && // Skip inner classes for basic analysis
-               !entry.getName().startsWith("META-INF/");
+    protected String getClassName(MappedJarEntry entry) {
+        return toClassName(entry.getName());
     }
     
-    protected String getClassName(JarEntry entry) {
-        String name = entry.getName();
+    private String toClassName(String name) {
         // Convert path to class name: com/example/Class.class -> com.example.Class
         return name.substring(0, name.length() - 6) // Remove .class
                    .replace('/', '.');
     }
     
-    protected ClassType determineClassType(CtClass ctClass) {
-        try {
-            if (ctClass.isInterface()) {
-                return ClassType.INTERFACE;
-            } else if (ctClass.isEnum()) {
-                return ClassType.ENUM;
-            } else if (ctClass.isAnnotation()) {
-                return ClassType.ANNOTATION;
-            } else {
-                return ClassType.CLASS;
-            }
-        } catch (Exception e) {
-            LOGGER.fine("Could not determine class type for " + ctClass.getName() + ": " + e.getMessage());
-            return ClassType.CLASS;
-        }
+    /**
+     * Checks whether the analyzed classes are kept in a {@link CompactClassModel} rather than
+     * as {@link ClassInfo} instances. Nested library classes are always stored compactly.
+     * 
+     * @param classCount the number of application classes
+     * @return true if the class model should use columnar storage
+     */
+    protected boolean useCompactStorage(int classCount) {
+        return classCount >= COMPACT_STORAGE_THRESHOLD;
+    }
+    
+    /**
+     * Checks whether class entries are decoded in parallel.
+     * 
+     * @return true if an ingestion pool with more than one worker is configured and not shut down
+     */
+    public boolean isParallelIngestionEnabled() {
+        return ingestionPool != null && ingestionPool.getParallelism() > 1 && !ingestionPool.isShutdown();
     }
     
     @Override
@@ -193,4 +454,13 @@ public class DefaultJarAnalyzer implements JarAnalyzerPort {
     public ClassPool getClassPool() {
         return classPool;
     }
+    
+    /**
+     * Gets the registry providing the shared JAR readers used by this analyzer.
+     * 
+     * @return the JarReaderRegistry instance
+     */
+    public JarReaderRegistry getReaderRegistry() {
+        return readerRegistry;
+    }
 }
\ No newline at end of file
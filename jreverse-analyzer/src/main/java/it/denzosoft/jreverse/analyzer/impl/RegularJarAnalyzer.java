@@ -1,12 +1,15 @@
 package it.denzosoft.jreverse.analyzer.impl;
 
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
 import it.denzosoft.jreverse.core.exception.JarAnalysisException;
 import it.denzosoft.jreverse.core.model.*;
 import javassist.ClassPool;
 
 import java.io.IOException;
 import java.util.Set;
-import java.util.jar.JarFile;
+import java.util.concurrent.ForkJoinPool;
+import java.util.jar.Manifest;
 import java.util.logging.Logger;
 
 /**
@@ -21,19 +24,32 @@ public class RegularJarAnalyzer extends DefaultJarAnalyzer {
         super(classPool);
     }
     
+    public RegularJarAnalyzer(ClassPool classPool, ForkJoinPool ingestionPool) {
+        super(classPool, ingestionPool);
+    }
+    
+    public RegularJarAnalyzer(ClassPool classPool, ForkJoinPool ingestionPool, JarReaderRegistry readerRegistry) {
+        super(classPool, ingestionPool, readerRegistry);
+    }
+    
     @Override
-    public JarContent analyzeJar(JarLocation jarLocation) throws JarAnalysisException {
+    public JarContent analyzeJar(JarLocation jarLocation, CancellationToken cancellationToken) throws JarAnalysisException {
         LOGGER.info("Starting regular JAR analysis of: " + jarLocation.getPath());
         
-        try (JarFile jarFile = new JarFile(jarLocation.getPath().toFile())) {
-            Set<ClassInfo> classes = analyzeClasses(jarFile, jarLocation);
-            JarManifestInfo manifestInfo = analyzeManifest(jarFile);
+        try (MappedJarReader jarReader = readerRegistry.acquire(jarLocation.getPath())) {
+            SymbolTable symbols = new SymbolTable();
+            Set<ClassInfo> classes = analyzeClasses(jarReader, jarLocation, symbols, cancellationToken);
+            JarManifestInfo manifestInfo = analyzeManifest(jarReader);
+            JarType jarType = determineRegularJarType(jarReader, jarLocation);
             
             JarContent jarContent = JarContent.builder()
                 .location(jarLocation)
-                .jarType(determineRegularJarType(jarFile, jarLocation))
+                .jarType(jarType)
                 .classes(classes)
+                .compact(useCompactStorage(classes.size()))
                 .manifest(manifestInfo)
+                .nestedJars(analyzeNestedJars(jarReader, jarType, jarLocation, symbols, cancellationToken))
+                .complete(!cancellationToken.isCancelled())
                 .build();
                 
             LOGGER.info("Regular JAR analysis completed. Found " + classes.size() + " classes in " + 
@@ -49,7 +65,7 @@ public class RegularJarAnalyzer extends DefaultJarAnalyzer {
         }
     }
     
-    private JarType determineRegularJarType(JarFile jarFile, JarLocation jarLocation) {
+    private JarType determineRegularJarType(MappedJarReader jarReader, JarLocation jarLocation) {
         String fileName = jarLocation.getFileName();
         
         // WAR file detection
@@ -59,8 +75,9 @@ public class RegularJarAnalyzer extends DefaultJarAnalyzer {
         
         // Check if it's an executable JAR
         try {
-            if (jarFile.getManifest() != null) {
-                String mainClass = jarFile.getManifest().getMainAttributes().getValue("Main-Class");
+            Manifest manifest = jarReader.getManifest();
+            if (manifest != null) {
+                String mainClass = manifest.getMainAttributes().getValue("Main-Class");
                 if (mainClass != null) {
                     LOGGER.fine("Detected executable JAR with main class: " + mainClass);
                     return JarType.EXECUTABLE_JAR;
@@ -92,11 +109,11 @@ public class RegularJarAnalyzer extends DefaultJarAnalyzer {
     /**
      * Analyzes package structure specific to regular JARs.
      * 
-     * @param jarFile the JAR file to analyze
+     * @param jarReader the reader of the JAR file to analyze
      * @return package analysis information
      */
-    public PackageAnalysisInfo analyzePackageStructure(JarFile jarFile) {
-        Set<String> packages = extractPackages(jarFile);
+    public PackageAnalysisInfo analyzePackageStructure(MappedJarReader jarReader) {
+        Set<String> packages = extractPackages(jarReader);
         
         return PackageAnalysisInfo.builder()
             .totalPackages(packages.size())
@@ -105,8 +122,8 @@ public class RegularJarAnalyzer extends DefaultJarAnalyzer {
             .build();
     }
     
-    private Set<String> extractPackages(JarFile jarFile) {
-        return jarFile.stream()
+    private Set<String> extractPackages(MappedJarReader jarReader) {
+        return jarReader.stream()
             .filter(entry -> !entry.isDirectory() && entry.getName().endsWith(".class"))
             .map(entry -> {
                 String name = entry.getName();
@@ -1,15 +1,16 @@
 package it.denzosoft.jreverse.analyzer.impl;
 
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarEntry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
 import it.denzosoft.jreverse.analyzer.detector.SpringBootDetector;
 import it.denzosoft.jreverse.core.exception.JarAnalysisException;
 import it.denzosoft.jreverse.core.model.*;
 import javassist.ClassPool;
 
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 /**
@@ -21,32 +22,46 @@ public class SpringBootJarAnalyzer extends DefaultJarAnalyzer {
     private static final Logger LOGGER = Logger.getLogger(SpringBootJarAnalyzer.class.getName());
     
     private static final String BOOT_INF_CLASSES = "BOOT-INF/classes/";
-    private static final String BOOT_INF_LIB = "BOOT-INF/lib/";
     
     private final SpringBootDetector springBootDetector;
     
     public SpringBootJarAnalyzer(ClassPool classPool, SpringBootDetector springBootDetector) {
-        super(classPool);
+        this(classPool, springBootDetector, null);
+    }
+    
+    public SpringBootJarAnalyzer(ClassPool classPool, SpringBootDetector springBootDetector,
+                                 JarReaderRegistry readerRegistry) {
+        this(classPool, springBootDetector, null, readerRegistry);
+    }
+    
+    public SpringBootJarAnalyzer(ClassPool classPool, SpringBootDetector springBootDetector,
+                                 ForkJoinPool ingestionPool, JarReaderRegistry readerRegistry) {
+        super(classPool, ingestionPool, readerRegistry);
         this.springBootDetector = springBootDetector;
     }
     
     @Override
-    public JarContent analyzeJar(JarLocation jarLocation) throws JarAnalysisException {
+    public JarContent analyzeJar(JarLocation jarLocation, CancellationToken cancellationToken) throws JarAnalysisException {
         LOGGER.info("Starting Spring Boot analysis of JAR: " + jarLocation.getPath());
         
-        try (JarFile jarFile = new JarFile(jarLocation.getPath().toFile())) {
-            Set<ClassInfo> classes = analyzeSpringBootClasses(jarFile, jarLocation);
-            JarManifestInfo manifestInfo = analyzeManifest(jarFile);
+        try (MappedJarReader jarReader = readerRegistry.acquire(jarLocation.getPath())) {
+            SymbolTable symbols = new SymbolTable();
+            Set<ClassInfo> classes = analyzeSpringBootClasses(jarReader, jarLocation, symbols, cancellationToken);
+            JarManifestInfo manifestInfo = analyzeManifest(jarReader);
             
             JarContent jarContent = JarContent.builder()
                 .location(jarLocation)
                 .jarType(JarType.SPRING_BOOT_JAR)
                 .classes(classes)
+                .compact(useCompactStorage(classes.size()))
                 .manifest(manifestInfo)
+                .nestedJars(analyzeNestedJars(jarReader, JarType.SPRING_BOOT_JAR, jarLocation, symbols,
+                                              cancellationToken))
+                .complete(!cancellationToken.isCancelled())
                 .build();
                 
-            LOGGER.info("Spring Boot analysis completed. Found " + classes.size() + " classes in " + 
-                       jarLocation.getFileName());
+            LOGGER.info("Spring Boot analysis completed. Found " + classes.size() + " classes and " +
+                       jarContent.getNestedJars().size() + " nested libraries in " + jarLocation.getFileName());
             
             return jarContent;
             
@@ -58,57 +73,27 @@ public class SpringBootJarAnalyzer extends DefaultJarAnalyzer {
         }
     }
     
-    private Set<ClassInfo> analyzeSpringBootClasses(JarFile jarFile, JarLocation jarLocation) throws JarAnalysisException {
-        Set<ClassInfo> classes = new HashSet<>();
-        
-        // Add JAR to ClassPool for Spring Boot analysis
-        try {
-            classPool.appendClassPath(jarLocation.getPath().toString());
-        } catch (Exception e) {
-            LOGGER.warning("Could not add Spring Boot JAR to ClassPool: " + e.getMessage());
-        }
-        
-        // Analyze classes in BOOT-INF/classes/ directory
-        jarFile.stream()
-            .filter(this::isSpringBootClassFile)
-            .forEach(entry -> {
-                try {
-                    ClassInfo classInfo = analyzeSpringBootClassEntry(entry, jarFile, jarLocation);
-                    if (classInfo != null) {
-                        classes.add(classInfo);
-                    }
-                } catch (Exception e) {
-                    LOGGER.warning("Failed to analyze Spring Boot class " + entry.getName() + ": " + e.getMessage());
-                }
-            });
+    private Set<ClassInfo> analyzeSpringBootClasses(MappedJarReader jarReader, JarLocation jarLocation,
+                                                    SymbolTable symbols, CancellationToken cancellationToken)
+            throws JarAnalysisException {
+        // Analyze classes in BOOT-INF/classes/ directory, selected by isClassFile below
+        Set<ClassInfo> classes = analyzeClasses(jarReader, jarLocation, symbols, cancellationToken);
             
         LOGGER.info("Found " + classes.size() + " application classes in BOOT-INF/classes/");
         
         return classes;
     }
     
-    private ClassInfo analyzeSpringBootClassEntry(JarEntry entry, JarFile jarFile, JarLocation jarLocation) {
-        String className = getSpringBootClassName(entry);
-        
-        try {
-            return ClassInfo.builder()
-                .fullyQualifiedName(className)
-                .classType(ClassType.CLASS) // Basic implementation
-                .build();
-        } catch (Exception e) {
-            LOGGER.warning("Failed to analyze Spring Boot class " + className + ": " + e.getMessage());
-            return null;
-        }
-    }
-    
-    private boolean isSpringBootClassFile(JarEntry entry) {
+    @Override
+    protected boolean isClassFile(MappedJarEntry entry) {
         return !entry.isDirectory() && 
                entry.getName().endsWith(".class") &&
                entry.getName().startsWith(BOOT_INF_CLASSES) &&
                !entry.getName().contains("$"); // Skip inner classes for basic analysis
     }
     
-    private String getSpringBootClassName(JarEntry entry) {
+    @Override
+    protected String getClassName(MappedJarEntry entry) {
         String name = entry.getName();
         
         // Remove BOOT-INF/classes/ prefix and .class suffix
@@ -122,33 +107,33 @@ public class SpringBootJarAnalyzer extends DefaultJarAnalyzer {
     }
     
     @Override
-    protected JarType determineJarType(JarFile jarFile, JarLocation jarLocation) {
+    protected JarType determineJarType(MappedJarReader jarReader, JarLocation jarLocation) {
         return JarType.SPRING_BOOT_JAR;
     }
     
     /**
      * Analyzes Spring Boot specific configuration and dependencies.
      * 
-     * @param jarFile the Spring Boot JAR file
+     * @param jarReader the reader of the Spring Boot JAR file
      * @return analysis results specific to Spring Boot
      */
-    public SpringBootAnalysisInfo analyzeSpringBootSpecifics(JarFile jarFile) {
+    public SpringBootAnalysisInfo analyzeSpringBootSpecifics(MappedJarReader jarReader) {
         // This would analyze Spring Boot specific configurations
         // For now, return basic info
         return SpringBootAnalysisInfo.builder()
-            .hasBootInfStructure(hasBootInfStructure(jarFile))
-            .dependencyCount(countBootInfLibraries(jarFile))
+            .hasBootInfStructure(hasBootInfStructure(jarReader))
+            .dependencyCount(countBootInfLibraries(jarReader))
             .build();
     }
     
-    private boolean hasBootInfStructure(JarFile jarFile) {
-        return jarFile.stream()
+    private boolean hasBootInfStructure(MappedJarReader jarReader) {
+        return jarReader.stream()
             .anyMatch(entry -> entry.getName().startsWith(BOOT_INF_CLASSES) || 
                               entry.getName().startsWith(BOOT_INF_LIB));
     }
     
-    private int countBootInfLibraries(JarFile jarFile) {
-        return (int) jarFile.stream()
+    private int countBootInfLibraries(MappedJarReader jarReader) {
+        return (int) jarReader.stream()
             .filter(entry -> entry.getName().startsWith(BOOT_INF_LIB) && 
                            entry.getName().endsWith(".jar"))
             .count();
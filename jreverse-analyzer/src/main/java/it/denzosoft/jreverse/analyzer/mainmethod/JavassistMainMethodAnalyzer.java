@@ -1,5 +1,7 @@
 package it.denzosoft.jreverse.analyzer.mainmethod;
 
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.JarContent;
@@ -9,7 +11,6 @@ import it.denzosoft.jreverse.core.model.MethodInfo;
 import it.denzosoft.jreverse.core.model.SpringApplicationCallInfo;
 import it.denzosoft.jreverse.core.model.SpringApplicationCallType;
 import it.denzosoft.jreverse.core.port.MainMethodAnalyzer;
-import javassist.ClassPool;
 import javassist.CtClass;
 import javassist.CtMethod;
 import javassist.Modifier;
@@ -34,12 +35,31 @@ public class JavassistMainMethodAnalyzer implements MainMethodAnalyzer {
     private static final String SPRING_APPLICATION_CLASS = "org.springframework.boot.SpringApplication";
     private static final String SPRING_APPLICATION_BUILDER_CLASS = "org.springframework.boot.builder.SpringApplicationBuilder";
     
+    private final AnalysisSession session;
+    
+    public JavassistMainMethodAnalyzer() {
+        this(null);
+    }
+    
+    /**
+     * Creates an analyzer that resolves classes through the shared session and computes
+     * its result for the session JAR once.
+     */
+    public JavassistMainMethodAnalyzer(AnalysisSession session) {
+        this.session = session;
+    }
+    
     @Override
     public MainMethodAnalysisResult analyzeMainMethod(JarContent jarContent) {
         if (jarContent == null || jarContent.isEmpty()) {
             return MainMethodAnalysisResult.noMainFound();
         }
         
+        return AnalysisSession.memoize(session, jarContent, SessionKeys.MAIN_METHOD,
+                                       () -> computeMainMethod(jarContent));
+    }
+    
+    private MainMethodAnalysisResult computeMainMethod(JarContent jarContent) {
         long startTime = System.currentTimeMillis();
         LOGGER.info("Starting main method analysis for JAR: %s", 
                    jarContent.getLocation() != null ? jarContent.getLocation().getFileName() : "unknown");
@@ -47,6 +67,10 @@ public class JavassistMainMethodAnalyzer implements MainMethodAnalyzer {
         try {
             Optional<MainMethodInfo> mainMethodOpt = findMainMethod(jarContent);
             
+            if (mainMethodOpt.isEmpty() && isStopped()) {
+                return MainMethodAnalysisResult.incomplete("Main method search stopped before the end of the JAR")
+                    .withAnalysisTime(System.currentTimeMillis() - startTime);
+            }
             if (mainMethodOpt.isEmpty()) {
                 LOGGER.info("No main method found in JAR");
                 return MainMethodAnalysisResult.noMainFound()
@@ -57,7 +81,7 @@ public class JavassistMainMethodAnalyzer implements MainMethodAnalyzer {
             LOGGER.info("Found main method in class: %s", mainMethodInfo.getDeclaringClassName());
             
             // Analyze if it's a Spring Boot main method
-            Optional<SpringApplicationCallInfo> springCallOpt = analyzeSpringApplicationCall(mainMethodInfo);
+            Optional<SpringApplicationCallInfo> springCallOpt = analyzeSpringApplicationCall(jarContent, mainMethodInfo);
             
             MainMethodAnalysisResult result;
             if (springCallOpt.isPresent()) {
@@ -87,6 +111,10 @@ public class JavassistMainMethodAnalyzer implements MainMethodAnalyzer {
     
     private Optional<MainMethodInfo> findMainMethod(JarContent jarContent) {
         for (ClassInfo classInfo : jarContent.getClasses()) {
+            if (isCancelled()) {
+                session.markIncomplete(SessionKeys.MAIN_METHOD.getName());
+                break;
+            }
             Optional<MethodInfo> mainMethodOpt = findMainMethodInClass(classInfo);
             if (mainMethodOpt.isPresent()) {
                 return Optional.of(new MainMethodInfo(classInfo.getFullyQualifiedName(), mainMethodOpt.get()));
@@ -96,9 +124,26 @@ public class JavassistMainMethodAnalyzer implements MainMethodAnalyzer {
     }
     
     private Optional<MethodInfo> findMainMethodInClass(ClassInfo classInfo) {
-        return classInfo.getMethods().stream()
-            .filter(this::isMainMethod)
-            .findFirst();
+        for (MethodInfo method : classInfo.getMethods()) {
+            if (isCancelled()) {
+                break;
+            }
+            if (isMainMethod(method)) {
+                return Optional.of(method);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isCancelled() {
+        return session != null && session.isCancelled();
+    }
+    
+    /**
+     * Checks whether the search was cut short, so a missing main method may just not have been reached.
+     */
+    private boolean isStopped() {
+        return session != null && session.getIncompleteAnalyses().contains(SessionKeys.MAIN_METHOD.getName());
     }
     
     private boolean isMainMethod(MethodInfo method) {
@@ -114,10 +159,10 @@ public class JavassistMainMethodAnalyzer implements MainMethodAnalyzer {
                method.getParameters().get(0).getType().equals("java.lang.String[]");
     }
     
-    private Optional<SpringApplicationCallInfo> analyzeSpringApplicationCall(MainMethodInfo mainMethodInfo) {
-        try {
-            ClassPool pool = ClassPool.getDefault();
-            CtClass ctClass = pool.get(mainMethodInfo.getDeclaringClassName());
+    private Optional<SpringApplicationCallInfo> analyzeSpringApplicationCall(JarContent jarContent,
+                                                                              MainMethodInfo mainMethodInfo) {
+        try (AnalysisSession classSession = AnalysisSession.share(session, jarContent)) {
+            CtClass ctClass = classSession.getCtClass(mainMethodInfo.getDeclaringClassName());
             CtMethod ctMethod = ctClass.getDeclaredMethod("main");
             
             return extractSpringApplicationCallInfo(ctMethod);
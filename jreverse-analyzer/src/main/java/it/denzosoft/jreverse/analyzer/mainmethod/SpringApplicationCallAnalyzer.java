@@ -1,5 +1,6 @@
 package it.denzosoft.jreverse.analyzer.mainmethod;
 
+import it.denzosoft.jreverse.analyzer.session.BoundedClassPool;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
 
 import javassist.ClassPool;
@@ -21,6 +22,20 @@ public class SpringApplicationCallAnalyzer {
     private static final String SPRING_APPLICATION_CLASS = "org.springframework.boot.SpringApplication";
     private static final String SPRING_APPLICATION_BUILDER_CLASS = "org.springframework.boot.builder.SpringApplicationBuilder";
     
+    private final ClassPool classPool;
+    
+    public SpringApplicationCallAnalyzer() {
+        this(null);
+    }
+    
+    /**
+     * Creates an analyzer resolving main classes through the given pool,
+     * typically the pool of the current analysis session.
+     */
+    public SpringApplicationCallAnalyzer(ClassPool classPool) {
+        this.classPool = classPool != null ? classPool : new BoundedClassPool();
+    }
+    
     /**
      * Analyzes a SpringApplication call in the given main method.
      */
@@ -33,10 +48,9 @@ public class SpringApplicationCallAnalyzer {
         LOGGER.debug("Analyzing SpringApplication call in %s", mainMethod.getSignature());
         
         try {
-            ClassPool pool = ClassPool.getDefault();
-            CtClass ctClass = pool.get(mainMethod.getClassName());
+            CtClass ctClass = classPool.get(mainMethod.getClassName());
             CtMethod ctMethod = ctClass.getDeclaredMethod("main", 
-                new CtClass[]{pool.get("java.lang.String[]")});
+                new CtClass[]{classPool.get("java.lang.String[]")});
             
             return extractCallInformation(ctMethod);
             
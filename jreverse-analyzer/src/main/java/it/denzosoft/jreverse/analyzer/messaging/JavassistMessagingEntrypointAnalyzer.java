@@ -1,12 +1,13 @@
 package it.denzosoft.jreverse.analyzer.messaging;
 
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointTraversal;
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointVisitor;
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.model.MethodInfo;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Javassist-based implementation of MessagingEntrypointAnalyzer.
@@ -68,96 +69,90 @@ public class JavassistMessagingEntrypointAnalyzer implements MessagingEntrypoint
     @Override
     public MessagingAnalysisResult analyze(JarContent jarContent) {
         long startTime = System.currentTimeMillis();
-        List<MessagingEntrypointInfo> allEntrypoints = new ArrayList<>();
-        
-        for (ClassInfo classInfo : jarContent.getClasses()) {
-            if (hasMessagingPatterns(classInfo)) {
-                MessagingAnalysisResult classResult = analyzeClass(classInfo);
-                allEntrypoints.addAll(classResult.getMessagingEntrypoints());
-            }
-        }
+        EntrypointVisitor<MessagingAnalysisResult> visitor = createVisitor();
+        EntrypointTraversal.of(visitor).traverse(jarContent);
         
         long analysisTime = System.currentTimeMillis() - startTime;
         String fileName = jarContent.getLocation() != null ? jarContent.getLocation().getFileName() : "";
-        return new MessagingAnalysisResult(allEntrypoints, analysisTime, fileName);
+        return visitor.getResult(analysisTime, fileName);
     }
     
     @Override
     public MessagingAnalysisResult analyzeClass(ClassInfo classInfo) {
-        List<MessagingEntrypointInfo> entrypoints = new ArrayList<>();
+        EntrypointVisitor<MessagingAnalysisResult> visitor = createVisitor();
+        EntrypointTraversal.of(visitor).traverseClass(classInfo);
+        return visitor.getResult(0L, "");
+    }
+    
+    /**
+     * Creates a visitor collecting messaging entrypoints, to be registered on an
+     * {@link EntrypointTraversal} shared with other entrypoint analyzers.
+     *
+     * @return a new visitor
+     */
+    public EntrypointVisitor<MessagingAnalysisResult> createVisitor() {
+        return new MessagingVisitor();
+    }
+    
+    private class MessagingVisitor implements EntrypointVisitor<MessagingAnalysisResult> {
         
-        // Analyze class-level messaging annotations (@EnableJms, @EnableKafka, etc.)
-        List<AnnotationInfo> classAnnotations = getMessagingAnnotations(new ArrayList<>(classInfo.getAnnotations()));
-        for (AnnotationInfo annotation : classAnnotations) {
-            MessagingEntrypointInfo entrypoint = analyzeMessagingAnnotation(
-                annotation, classInfo.getFullyQualifiedName(), "<class-level>", "void"
-            );
-            if (entrypoint != null) {
-                entrypoints.add(entrypoint);
+        private final List<MessagingEntrypointInfo> entrypoints = new ArrayList<>();
+        
+        @Override
+        public Set<String> getAnnotationTypes() {
+            return Collections.unmodifiableSet(MESSAGING_ANNOTATIONS);
+        }
+        
+        @Override
+        public boolean acceptsMethod(MethodInfo method) {
+            // Messaging template usage (basic heuristic)
+            return findMessagingTemplate(method.getReturnType()) != null;
+        }
+        
+        @Override
+        public void visitClass(ClassInfo classInfo, List<AnnotationInfo> annotations) {
+            // Class-level messaging annotations (@EnableJms, @EnableKafka, etc.)
+            for (AnnotationInfo annotation : annotations) {
+                MessagingEntrypointInfo entrypoint = analyzeMessagingAnnotation(
+                    annotation, classInfo.getFullyQualifiedName(), "<class-level>", "void"
+                );
+                if (entrypoint != null) {
+                    entrypoints.add(entrypoint);
+                }
             }
         }
         
-        // Analyze method-level messaging patterns
-        for (MethodInfo method : classInfo.getMethods()) {
-            MessagingEntrypointInfo entrypoint = analyzeMethod(method, classInfo.getFullyQualifiedName());
+        @Override
+        public void visitMethod(ClassInfo classInfo, MethodInfo method, List<AnnotationInfo> annotations) {
+            String className = classInfo.getFullyQualifiedName();
+            MessagingEntrypointInfo entrypoint;
+            
+            // Messaging annotations take precedence over template-based producers
+            if (!annotations.isEmpty()) {
+                entrypoint = analyzeMessagingAnnotation(annotations.get(0), className, method.getName(), method.getReturnType());
+            } else {
+                entrypoint = analyzeTemplateProducer(findMessagingTemplate(method.getReturnType()), method, className);
+            }
+            
             if (entrypoint != null) {
                 entrypoints.add(entrypoint);
             }
         }
         
-        return new MessagingAnalysisResult(entrypoints, 0L, "");
-    }
-    
-    private boolean hasMessagingPatterns(ClassInfo classInfo) {
-        // Check class-level annotations
-        if (classInfo.getAnnotations().stream().anyMatch(this::isMessagingAnnotation)) {
-            return true;
-        }
-        
-        // Check method-level patterns
-        return classInfo.getMethods().stream()
-            .anyMatch(method -> hasMessagingPattern(method));
-    }
-    
-    private boolean hasMessagingPattern(MethodInfo method) {
-        // Check messaging annotations
-        if (method.getAnnotations().stream().anyMatch(this::isMessagingAnnotation)) {
-            return true;
+        @Override
+        public MessagingAnalysisResult getResult(long analysisTimeMs, String jarFileName) {
+            return new MessagingAnalysisResult(entrypoints, analysisTimeMs, jarFileName);
         }
-        
-        // Check for messaging template usage (basic heuristic)
-        String returnType = method.getReturnType();
-        return returnType != null && MESSAGING_TEMPLATES.stream()
-            .anyMatch(template -> returnType.contains(template));
     }
     
-    private boolean isMessagingAnnotation(AnnotationInfo annotation) {
-        return MESSAGING_ANNOTATIONS.contains(annotation.getType());
-    }
-    
-    private List<AnnotationInfo> getMessagingAnnotations(List<AnnotationInfo> annotations) {
-        return annotations.stream()
-            .filter(this::isMessagingAnnotation)
-            .collect(Collectors.toList());
-    }
-    
-    private MessagingEntrypointInfo analyzeMethod(MethodInfo method, String className) {
-        // Check for messaging annotations
-        List<AnnotationInfo> methodAnnotations = getMessagingAnnotations(new ArrayList<>(method.getAnnotations()));
-        if (!methodAnnotations.isEmpty()) {
-            return analyzeMessagingAnnotation(methodAnnotations.get(0), className, method.getName(), method.getReturnType());
-        }
-        
-        // Check for template-based producers
-        String returnType = method.getReturnType();
+    private String findMessagingTemplate(String returnType) {
         if (returnType != null) {
             for (String template : MESSAGING_TEMPLATES) {
                 if (returnType.contains(template)) {
-                    return analyzeTemplateProducer(template, method, className);
+                    return template;
                 }
             }
         }
-        
         return null;
     }
     
@@ -1,5 +1,7 @@
 package it.denzosoft.jreverse.analyzer.property;
 
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.model.*;
 import it.denzosoft.jreverse.core.port.PropertyAnalyzer;
 import javassist.ClassPool;
@@ -49,20 +51,38 @@ public class JavassistPropertyAnalyzer implements PropertyAnalyzer {
     private static final Pattern PROPERTY_PATTERN = Pattern.compile("\\$\\{([^}:]+)(?::([^}]*))?\\}");
     private static final Pattern SPEL_PATTERN = Pattern.compile("#\\{.*\\}");
     
+    private final AnalysisSession session;
+    
+    public JavassistPropertyAnalyzer() {
+        this(null);
+    }
+    
+    /**
+     * Creates an analyzer that resolves classes through the shared session when analyzing its JAR.
+     */
+    public JavassistPropertyAnalyzer(AnalysisSession session) {
+        this.session = session;
+    }
+    
     @Override
     public PropertyAnalysisResult analyzeProperties(JarContent jarContent) {
         LOGGER.info("Starting property analysis");
         
-        try {
-            ClassPool classPool = ClassPool.getDefault();
-            loadJarIntoClassPool(classPool, jarContent);
+        try (AnalysisSession classSession = AnalysisSession.share(session, jarContent)) {
+            ClassPool classPool = classSession.getClassPool();
             
             List<PropertyUsageInfo> valueInjections = new ArrayList<>();
             List<ConfigurationPropertiesInfo> configurationProperties = new ArrayList<>();
             List<PropertySourceInfo> propertySources = new ArrayList<>();
             Map<String, List<String>> propertyReferences = new HashMap<>();
+            boolean complete = true;
             
             for (ClassInfo classInfo : jarContent.getClasses()) {
+                if (classSession.isCancelled()) {
+                    complete = false;
+                    classSession.markIncomplete(SessionKeys.PROPERTY.getName());
+                    break;
+                }
                 String className = classInfo.getFullyQualifiedName();
                 try {
                     CtClass ctClass = classPool.get(className);
@@ -85,7 +105,8 @@ public class JavassistPropertyAnalyzer implements PropertyAnalyzer {
                     .configurationProperties(configurationProperties)
                     .propertySources(propertySources)
                     .propertyReferences(propertyReferences)
-                    .metadata(AnalysisMetadata.successful())
+                    .metadata(complete ? AnalysisMetadata.successful()
+                                       : AnalysisMetadata.incomplete("Property analysis stopped before the end of the JAR"))
                     .build();
                     
         } catch (Exception e) {
@@ -101,14 +122,6 @@ public class JavassistPropertyAnalyzer implements PropertyAnalyzer {
         return jarContent != null && !jarContent.getClasses().isEmpty();
     }
     
-    private void loadJarIntoClassPool(ClassPool classPool, JarContent jarContent) {
-        try {
-            classPool.insertClassPath(jarContent.getLocation().getPath().toFile().getAbsolutePath());
-        } catch (NotFoundException e) {
-            LOGGER.log(Level.WARNING, "Could not load JAR into ClassPool", e);
-        }
-    }
-    
     private void analyzeValueInjections(CtClass ctClass, List<PropertyUsageInfo> valueInjections) {
         try {
             analyzeFieldValueInjections(ctClass, valueInjections);
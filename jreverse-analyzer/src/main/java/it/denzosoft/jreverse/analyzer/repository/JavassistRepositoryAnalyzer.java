@@ -1,5 +1,7 @@
 package it.denzosoft.jreverse.analyzer.repository;
 
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.model.*;
 import it.denzosoft.jreverse.core.port.RepositoryAnalyzer;
 import javassist.*;
@@ -58,6 +60,19 @@ public class JavassistRepositoryAnalyzer implements RepositoryAnalyzer {
         "jakarta.persistence.NamedQueries"
     );
     
+    private final AnalysisSession session;
+    
+    public JavassistRepositoryAnalyzer() {
+        this(null);
+    }
+    
+    /**
+     * Creates an analyzer that resolves classes through the shared session when analyzing its JAR.
+     */
+    public JavassistRepositoryAnalyzer(AnalysisSession session) {
+        this.session = session;
+    }
+    
     @Override
     public boolean canAnalyze(JarContent jarContent) {
         return jarContent != null && !jarContent.getClasses().isEmpty();
@@ -70,9 +85,9 @@ public class JavassistRepositoryAnalyzer implements RepositoryAnalyzer {
         LOGGER.info("Starting repository analysis for JAR: " + jarContent.getLocation().getPath());
         long startTime = System.currentTimeMillis();
         
-        try {
-            // Set up Javassist ClassPool
-            ClassPool classPool = setupClassPool(jarContent);
+        try (AnalysisSession classSession = AnalysisSession.share(session, jarContent)) {
+            ClassPool classPool = classSession.getClassPool();
+            TypeHierarchy hierarchy = jarContent.getTypeHierarchy();
             
             // Collect repository classes and interfaces
             List<RepositoryComponentInfo> repositories = new ArrayList<>();
@@ -81,8 +96,13 @@ public class JavassistRepositoryAnalyzer implements RepositoryAnalyzer {
             
             // Analyze all classes for repository patterns
             for (ClassInfo classInfo : jarContent.getClasses()) {
+                if (classSession.isCancelled()) {
+                    LOGGER.warning("Repository analysis stopped early, returning partial result");
+                    classSession.markIncomplete(SessionKeys.REPOSITORY.getName());
+                    break;
+                }
                 try {
-                    analyzeClassForRepository(classPool, classInfo, repositories, jpaRepositories, issues);
+                    analyzeClassForRepository(classPool, hierarchy, classInfo, repositories, jpaRepositories, issues);
                 } catch (Exception e) {
                     LOGGER.log(Level.WARNING, "Failed to analyze class: " + classInfo.getFullyQualifiedName(), e);
                     issues.add(createAnalysisErrorIssue(classInfo.getFullyQualifiedName(), e.getMessage()));
@@ -141,20 +161,7 @@ public class JavassistRepositoryAnalyzer implements RepositoryAnalyzer {
         }
     }
     
-    private ClassPool setupClassPool(JarContent jarContent) throws NotFoundException {
-        ClassPool classPool = ClassPool.getDefault();
-        
-        // Add JAR path to classpath if possible
-        try {
-            classPool.appendClassPath(jarContent.getLocation().getPath().toString());
-        } catch (NotFoundException e) {
-            LOGGER.warning("Could not add JAR to classpath: " + e.getMessage());
-        }
-        
-        return classPool;
-    }
-    
-    private void analyzeClassForRepository(ClassPool classPool, ClassInfo classInfo, 
+    private void analyzeClassForRepository(ClassPool classPool, TypeHierarchy hierarchy, ClassInfo classInfo, 
                                          List<RepositoryComponentInfo> repositories,
                                          List<JpaRepositoryInfo> jpaRepositories,
                                          List<RepositoryIssue> issues) throws NotFoundException {
@@ -163,11 +170,11 @@ public class JavassistRepositoryAnalyzer implements RepositoryAnalyzer {
         
         // Check for @Repository annotation
         if (isRepositoryComponent(ctClass)) {
-            repositories.add(analyzeRepositoryComponent(ctClass));
+            repositories.add(analyzeRepositoryComponent(ctClass, hierarchy));
         }
         
         // Check for JPA Repository interface
-        if (isJpaRepositoryInterface(ctClass)) {
+        if (isJpaRepositoryInterface(ctClass, hierarchy)) {
             jpaRepositories.add(analyzeJpaRepository(ctClass));
         }
     }
@@ -198,14 +205,14 @@ public class JavassistRepositoryAnalyzer implements RepositoryAnalyzer {
         }
     }
     
-    private boolean isJpaRepositoryInterface(CtClass ctClass) {
+    private boolean isJpaRepositoryInterface(CtClass ctClass, TypeHierarchy hierarchy) {
         try {
             if (!ctClass.isInterface()) {
                 return false;
             }
             
             // Check if extends known JPA repository interfaces
-            return extendsJpaRepositoryInterface(ctClass);
+            return extendsJpaRepositoryInterface(ctClass.getName(), hierarchy);
             
         } catch (Exception e) {
             LOGGER.log(Level.FINE, "Error checking JPA repository: " + ctClass.getName(), e);
@@ -232,43 +239,32 @@ public class JavassistRepositoryAnalyzer implements RepositoryAnalyzer {
         }
     }
     
-    private boolean extendsJpaRepositoryInterface(CtClass ctClass) {
-        try {
-            // Check direct interfaces
-            CtClass[] interfaces = ctClass.getInterfaces();
-            for (CtClass iface : interfaces) {
-                String interfaceName = iface.getName();
-                if (JPA_REPOSITORY_INTERFACES.contains(interfaceName)) {
-                    return true;
-                }
-                
-                // Check if interface name contains repository keywords
-                if (interfaceName.contains("Repository") || interfaceName.contains("repository")) {
-                    return true;
-                }
-            }
-            
-            // Check superclass interfaces recursively
-            CtClass superClass = ctClass.getSuperclass();
-            if (superClass != null && !superClass.getName().equals("java.lang.Object")) {
-                return extendsJpaRepositoryInterface(superClass);
+    /**
+     * Checks the transitive supertypes of a class against the known JPA repository interfaces,
+     * using the hierarchy index instead of loading each supertype from the class pool.
+     */
+    private boolean extendsJpaRepositoryInterface(String className, TypeHierarchy hierarchy) {
+        if (hierarchy.isSubtypeOfAny(className, JPA_REPOSITORY_INTERFACES)) {
+            return true;
+        }
+        
+        // Check if any inherited type name contains repository keywords
+        for (String supertypeName : hierarchy.getSupertypes(className)) {
+            if (supertypeName.contains("Repository") || supertypeName.contains("repository")) {
+                return true;
             }
-            
-            return false;
-        } catch (Exception e) {
-            LOGGER.log(Level.FINE, "Error checking JPA repository interface", e);
-            return false;
         }
+        return false;
     }
     
-    private RepositoryComponentInfo analyzeRepositoryComponent(CtClass ctClass) {
+    private RepositoryComponentInfo analyzeRepositoryComponent(CtClass ctClass, TypeHierarchy hierarchy) {
         try {
             String className = ctClass.getName();
             String packageName = ctClass.getPackageName();
             String repositoryName = extractRepositoryName(className);
             String entityType = extractEntityType(ctClass);
             List<String> customMethods = extractCustomMethods(ctClass);
-            boolean isJpaRepository = extendsJpaRepositoryInterface(ctClass);
+            boolean isJpaRepository = extendsJpaRepositoryInterface(className, hierarchy);
             boolean isTransactional = hasTransactionalAnnotation(ctClass);
             String scope = extractScope(ctClass);
             
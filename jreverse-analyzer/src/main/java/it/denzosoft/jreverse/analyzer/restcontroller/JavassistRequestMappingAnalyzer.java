@@ -2,6 +2,7 @@ package it.denzosoft.jreverse.analyzer.restcontroller;
 
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.AnnotationMatcher;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.model.MethodInfo;
@@ -29,6 +30,9 @@ public class JavassistRequestMappingAnalyzer implements RequestMappingAnalyzer {
     private static final String DELETE_MAPPING = "org.springframework.web.bind.annotation.DeleteMapping";
     private static final String PATCH_MAPPING = "org.springframework.web.bind.annotation.PatchMapping";
     
+    private static final AnnotationMatcher REQUEST_MAPPING_ANNOTATIONS = AnnotationMatcher.of(
+        REQUEST_MAPPING, GET_MAPPING, POST_MAPPING, PUT_MAPPING, DELETE_MAPPING, PATCH_MAPPING);
+    
     // Annotation attribute names
     private static final String VALUE_ATTR = "value";
     private static final String PATH_ATTR = "path";
@@ -96,31 +100,17 @@ public class JavassistRequestMappingAnalyzer implements RequestMappingAnalyzer {
     }
     
     private boolean hasRequestMappingAnnotation(MethodInfo methodInfo) {
-        return methodInfo.getAnnotations().stream()
-                .anyMatch(annotation -> isRequestMappingAnnotation(annotation.getType()));
-    }
-    
-    private boolean isRequestMappingAnnotation(String annotationType) {
-        return REQUEST_MAPPING.equals(annotationType) ||
-               GET_MAPPING.equals(annotationType) ||
-               POST_MAPPING.equals(annotationType) ||
-               PUT_MAPPING.equals(annotationType) ||
-               DELETE_MAPPING.equals(annotationType) ||
-               PATCH_MAPPING.equals(annotationType);
+        return REQUEST_MAPPING_ANNOTATIONS.matchesAny(methodInfo.getAnnotations());
     }
     
     private RestEndpointInfo createEndpointInfo(MethodInfo methodInfo, String controllerClassName, String basePath) {
         try {
             // Find the request mapping annotation
-            Optional<AnnotationInfo> mappingAnnotation = methodInfo.getAnnotations().stream()
-                    .filter(annotation -> isRequestMappingAnnotation(annotation.getType()))
-                    .findFirst();
-            
-            if (!mappingAnnotation.isPresent()) {
+            AnnotationInfo annotation = REQUEST_MAPPING_ANNOTATIONS.findFirst(methodInfo.getAnnotations());
+            if (annotation == null) {
                 return null;
             }
             
-            AnnotationInfo annotation = mappingAnnotation.get();
             RestEndpointInfo.Builder builder = RestEndpointInfo.builder()
                     .methodInfo(methodInfo)
                     .controllerClassName(controllerClassName)
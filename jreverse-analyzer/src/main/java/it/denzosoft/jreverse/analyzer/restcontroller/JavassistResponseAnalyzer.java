@@ -1,6 +1,7 @@
 package it.denzosoft.jreverse.analyzer.restcontroller;
 
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.AnnotationMatcher;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.MethodInfo;
 
@@ -16,16 +17,22 @@ import java.util.regex.Pattern;
 public class JavassistResponseAnalyzer implements ResponseAnalyzer {
     
     // Spring response-related annotations
-    private static final Set<String> RESPONSE_BODY_ANNOTATIONS = Collections.unmodifiableSet(
-        new HashSet<>(Arrays.asList("org.springframework.web.bind.annotation.ResponseBody"))
-    );
+    private static final AnnotationMatcher RESPONSE_BODY_ANNOTATIONS =
+        AnnotationMatcher.of("org.springframework.web.bind.annotation.ResponseBody");
     
-    private static final Set<String> REST_CONTROLLER_ANNOTATIONS = Collections.unmodifiableSet(
-        new HashSet<>(Arrays.asList("org.springframework.web.bind.annotation.RestController"))
-    );
+    private static final AnnotationMatcher REST_CONTROLLER_ANNOTATIONS =
+        AnnotationMatcher.of("org.springframework.web.bind.annotation.RestController");
+    
+    private static final AnnotationMatcher RESPONSE_STATUS_ANNOTATIONS =
+        AnnotationMatcher.of("org.springframework.web.bind.annotation.ResponseStatus");
     
-    private static final Set<String> RESPONSE_STATUS_ANNOTATIONS = Collections.unmodifiableSet(
-        new HashSet<>(Arrays.asList("org.springframework.web.bind.annotation.ResponseStatus"))
+    private static final AnnotationMatcher MAPPING_ANNOTATIONS = AnnotationMatcher.of(
+        "org.springframework.web.bind.annotation.RequestMapping",
+        "org.springframework.web.bind.annotation.GetMapping",
+        "org.springframework.web.bind.annotation.PostMapping",
+        "org.springframework.web.bind.annotation.PutMapping",
+        "org.springframework.web.bind.annotation.DeleteMapping",
+        "org.springframework.web.bind.annotation.PatchMapping"
     );
     
     // Type patterns for categorization
@@ -153,12 +160,12 @@ public class JavassistResponseAnalyzer implements ResponseAnalyzer {
     @Override
     public boolean hasResponseBody(MethodInfo method, ClassInfo controllerClass) {
         // Check method-level @ResponseBody
-        if (hasAnnotation(method.getAnnotations(), RESPONSE_BODY_ANNOTATIONS)) {
+        if (RESPONSE_BODY_ANNOTATIONS.matchesAny(method.getAnnotations())) {
             return true;
         }
         
         // Check if controller is @RestController (implies @ResponseBody on all methods)
-        if (hasAnnotation(controllerClass.getAnnotations(), REST_CONTROLLER_ANNOTATIONS)) {
+        if (REST_CONTROLLER_ANNOTATIONS.matchesAny(controllerClass.getAnnotations())) {
             return true;
         }
         
@@ -168,25 +175,16 @@ public class JavassistResponseAnalyzer implements ResponseAnalyzer {
     }
     
     private boolean isRestEndpointMethod(MethodInfo method) {
-        Set<String> mappingAnnotations = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
-            "org.springframework.web.bind.annotation.RequestMapping",
-            "org.springframework.web.bind.annotation.GetMapping",
-            "org.springframework.web.bind.annotation.PostMapping",
-            "org.springframework.web.bind.annotation.PutMapping",
-            "org.springframework.web.bind.annotation.DeleteMapping",
-            "org.springframework.web.bind.annotation.PatchMapping"
-        )));
-        
-        return hasAnnotation(method.getAnnotations(), mappingAnnotations);
+        return MAPPING_ANNOTATIONS.matchesAny(method.getAnnotations());
     }
     
     private void analyzeResponseAnnotations(MethodInfo method, ResponseInfo.Builder builder) {
         for (AnnotationInfo annotation : method.getAnnotations()) {
-            if (RESPONSE_STATUS_ANNOTATIONS.contains(annotation.getType())) {
+            if (RESPONSE_STATUS_ANNOTATIONS.matches(annotation)) {
                 analyzeResponseStatusAnnotation(annotation, builder);
             }
             
-            if (RESPONSE_BODY_ANNOTATIONS.contains(annotation.getType())) {
+            if (RESPONSE_BODY_ANNOTATIONS.matches(annotation)) {
                 builder.addResponseAnnotation(annotation);
             }
         }
@@ -254,17 +252,8 @@ public class JavassistResponseAnalyzer implements ResponseAnalyzer {
     }
     
     private void extractContentTypesFromMethod(MethodInfo method, ResponseInfo.Builder builder) {
-        Set<String> mappingAnnotations = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
-            "org.springframework.web.bind.annotation.RequestMapping",
-            "org.springframework.web.bind.annotation.GetMapping",
-            "org.springframework.web.bind.annotation.PostMapping",
-            "org.springframework.web.bind.annotation.PutMapping",
-            "org.springframework.web.bind.annotation.DeleteMapping",
-            "org.springframework.web.bind.annotation.PatchMapping"
-        )));
-        
         for (AnnotationInfo annotation : method.getAnnotations()) {
-            if (mappingAnnotations.contains(annotation.getType())) {
+            if (MAPPING_ANNOTATIONS.matches(annotation)) {
                 Object producesObj = annotation.getAttributes().get("produces");
                 if (producesObj != null) {
                     List<String> contentTypes = parseContentTypes(producesObj.toString());
@@ -340,11 +329,6 @@ public class JavassistResponseAnalyzer implements ResponseAnalyzer {
                type.equals("java.util.ConcurrentHashMap");
     }
     
-    private boolean hasAnnotation(Set<AnnotationInfo> annotations, Set<String> targetAnnotations) {
-        return annotations.stream()
-            .anyMatch(annotation -> targetAnnotations.contains(annotation.getType()));
-    }
-    
     private String extractStatusCode(String statusValue) {
         // Handle enum values like "HttpStatus.OK" or direct codes like "200"
         if (statusValue.contains(".")) {
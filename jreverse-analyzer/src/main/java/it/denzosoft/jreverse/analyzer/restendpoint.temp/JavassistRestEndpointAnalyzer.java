@@ -1,6 +1,9 @@
 package it.denzosoft.jreverse.analyzer.restendpoint;
 
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
+import it.denzosoft.jreverse.core.model.AnalysisMetadata;
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.JarContent;
@@ -9,12 +12,12 @@ import it.denzosoft.jreverse.core.model.RestEndpointAnalysisResult;
 import it.denzosoft.jreverse.core.model.RestEndpointInfo;
 import it.denzosoft.jreverse.core.port.RestEndpointAnalyzer;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Javassist-based implementation of RestEndpointAnalyzer.
@@ -38,6 +41,19 @@ public class JavassistRestEndpointAnalyzer implements RestEndpointAnalyzer {
         "org.springframework.web.bind.annotation.PatchMapping"
     );
     
+    private final AnalysisSession session;
+    
+    public JavassistRestEndpointAnalyzer() {
+        this(null);
+    }
+    
+    /**
+     * Creates an analyzer that stops when the analysis of the session is cancelled.
+     */
+    public JavassistRestEndpointAnalyzer(AnalysisSession session) {
+        this.session = session;
+    }
+    
     @Override
     public RestEndpointAnalysisResult analyzeRestEndpoints(JarContent jarContent) {
         LOGGER.info("Starting REST endpoint analysis for JAR: %s", jarContent.getLocation().getFileName());
@@ -58,6 +74,11 @@ public class JavassistRestEndpointAnalyzer implements RestEndpointAnalyzer {
                 }
             }
             
+            if (isCancelled()) {
+                session.markIncomplete(SessionKeys.REST_ENDPOINTS.getName());
+                resultBuilder.metadata(AnalysisMetadata.incomplete("REST endpoint analysis stopped before the end of the JAR"));
+            }
+            
             long analysisTime = System.currentTimeMillis() - startTime;
             LOGGER.info("REST endpoint analysis completed for %s: %d endpoints in %dms",
                     jarContent.getLocation().getFileName(), 
@@ -75,9 +96,20 @@ public class JavassistRestEndpointAnalyzer implements RestEndpointAnalyzer {
      * Finds all classes annotated with controller annotations.
      */
     private List<ClassInfo> findControllerClasses(JarContent jarContent) {
-        return jarContent.getClasses().stream()
-                .filter(this::isControllerClass)
-                .collect(Collectors.toList());
+        List<ClassInfo> controllerClasses = new ArrayList<>();
+        for (ClassInfo classInfo : jarContent.getClasses()) {
+            if (isCancelled()) {
+                break;
+            }
+            if (isControllerClass(classInfo)) {
+                controllerClasses.add(classInfo);
+            }
+        }
+        return controllerClasses;
+    }
+    
+    private boolean isCancelled() {
+        return session != null && session.isCancelled();
     }
     
     /**
@@ -94,10 +126,16 @@ public class JavassistRestEndpointAnalyzer implements RestEndpointAnalyzer {
     private List<RestEndpointInfo> analyzeControllerEndpoints(ClassInfo controllerClass) {
         String classPath = extractClassLevelPath(controllerClass);
         
-        return controllerClass.getMethods().stream()
-                .filter(this::isEndpointMethod)
-                .map(method -> createEndpointInfo(method, controllerClass, classPath))
-                .collect(Collectors.toList());
+        List<RestEndpointInfo> endpoints = new ArrayList<>();
+        for (MethodInfo method : controllerClass.getMethods()) {
+            if (isCancelled()) {
+                break;
+            }
+            if (isEndpointMethod(method)) {
+                endpoints.add(createEndpointInfo(method, controllerClass, classPath));
+            }
+        }
+        return endpoints;
     }
     
     /**
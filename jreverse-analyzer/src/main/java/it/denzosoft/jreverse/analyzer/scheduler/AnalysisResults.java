@@ -0,0 +1,132 @@
+package it.denzosoft.jreverse.analyzer.scheduler;
+
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Outputs, failures and timings of the tasks run by an {@link AnalysisScheduler}.
+ * While the scheduler runs, tasks read their inputs from the same instance.
+ */
+public class AnalysisResults {
+
+    private final ConcurrentMap<AnalysisSession.Key<?>, Object> outputs = new ConcurrentHashMap<>();
+    private final ConcurrentMap<AnalysisSession.Key<?>, Throwable> failures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<AnalysisSession.Key<?>, Long> taskTimes = new ConcurrentHashMap<>();
+    private volatile long elapsedTimeMs;
+    private volatile long criticalPathTimeMs;
+    private volatile Set<String> incompleteAnalyses = Collections.emptySet();
+
+    /**
+     * Gets the output of a completed task.
+     *
+     * @param key the task output key
+     * @return the output, or null if the task did not run or failed
+     */
+    public <T> T get(AnalysisSession.Key<T> key) {
+        return key.getType().cast(outputs.get(key));
+    }
+
+    public boolean contains(AnalysisSession.Key<?> key) {
+        return outputs.containsKey(key);
+    }
+
+    /**
+     * Gets the failure of a task. A task whose inputs failed is not run and fails with
+     * an {@link IllegalStateException} naming the failed input.
+     *
+     * @param key the task output key
+     * @return the failure, or null if the task succeeded or did not run
+     */
+    public Throwable getFailure(AnalysisSession.Key<?> key) {
+        return failures.get(key);
+    }
+
+    public Map<String, Throwable> getFailures() {
+        Map<String, Throwable> named = new LinkedHashMap<>();
+        failures.forEach((key, failure) -> named.put(key.getName(), failure));
+        return Collections.unmodifiableMap(named);
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Gets the analyses that stopped early because the run was cancelled or its deadline passed:
+     * tasks that returned partial results and tasks that were not started.
+     */
+    public Set<String> getIncompleteAnalyses() {
+        return incompleteAnalyses;
+    }
+
+    /**
+     * Checks whether every task ran to completion on the whole JAR.
+     */
+    public boolean isComplete() {
+        return incompleteAnalyses.isEmpty();
+    }
+
+    /**
+     * Gets the time spent computing each task, by task name.
+     */
+    public Map<String, Long> getTaskTimes() {
+        Map<String, Long> named = new LinkedHashMap<>();
+        taskTimes.forEach((key, time) -> named.put(key.getName(), time));
+        return Collections.unmodifiableMap(named);
+    }
+
+    /**
+     * Gets the wall-clock time of the whole run.
+     */
+    public long getElapsedTimeMs() {
+        return elapsedTimeMs;
+    }
+
+    /**
+     * Gets the duration of the longest chain of dependent tasks, the lower bound of
+     * {@link #getElapsedTimeMs()} with unlimited parallelism.
+     */
+    public long getCriticalPathTimeMs() {
+        return criticalPathTimeMs;
+    }
+
+    void put(AnalysisSession.Key<?> key, Object output, long timeMs) {
+        if (output != null) {
+            outputs.put(key, output);
+        }
+        taskTimes.put(key, timeMs);
+    }
+
+    void fail(AnalysisSession.Key<?> key, Throwable failure) {
+        failures.put(key, failure);
+    }
+
+    long getTaskTime(AnalysisSession.Key<?> key) {
+        Long time = taskTimes.get(key);
+        return time != null ? time : 0L;
+    }
+
+    void complete(long elapsedTimeMs, long criticalPathTimeMs, Set<String> incompleteAnalyses) {
+        this.elapsedTimeMs = elapsedTimeMs;
+        this.criticalPathTimeMs = criticalPathTimeMs;
+        this.incompleteAnalyses = Collections.unmodifiableSet(new LinkedHashSet<>(incompleteAnalyses));
+    }
+
+    @Override
+    public String toString() {
+        return "AnalysisResults{" +
+                "completed=" + outputs.size() +
+                ", failed=" + failures.keySet() +
+                ", incomplete=" + incompleteAnalyses +
+                ", elapsedTimeMs=" + elapsedTimeMs +
+                ", criticalPathTimeMs=" + criticalPathTimeMs +
+                '}';
+    }
+}
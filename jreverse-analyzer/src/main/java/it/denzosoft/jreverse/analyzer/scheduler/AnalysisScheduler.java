@@ -0,0 +1,337 @@
+package it.denzosoft.jreverse.analyzer.scheduler;
+
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.core.logging.JReverseLogger;
+import it.denzosoft.jreverse.core.model.CancellationToken;
+import it.denzosoft.jreverse.core.model.JarContent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Runs a DAG of {@link AnalysisTask analysis tasks} on a bounded pool.
+ * A task is submitted as soon as all the tasks producing its inputs have completed, so
+ * independent analyzers run concurrently and the wall-clock time of a run approaches the
+ * duration of its critical path. Every task runs at most once per run, which computes each
+ * shared input exactly once however many tasks consume it.
+ *
+ * The graph is validated when the scheduler is created: outputs must be unique, every input
+ * must be produced by a task and the graph must be acyclic.
+ *
+ * When a run is given an {@link AnalysisSession} covering the analyzed JAR, results already
+ * memoized in the session are reused and new results are published to its memo, so analyzers
+ * created with the same session find them.
+ *
+ * A run honours the {@link CancellationToken} of its session: once it is cancelled or expired,
+ * tasks not yet started fail with a {@link CancellationException} and are
+ * reported, with the analyses that returned partial results, by
+ * {@link AnalysisResults#getIncompleteAnalyses()}.
+ */
+public class AnalysisScheduler {
+
+    private static final JReverseLogger LOGGER = JReverseLogger.getLogger(AnalysisScheduler.class);
+
+    public static final int DEFAULT_PARALLELISM = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final List<AnalysisTask<?>> tasks;
+    private final int[][] inputTasks;
+    private final int[][] dependentTasks;
+    private final int parallelism;
+
+    public AnalysisScheduler(Collection<? extends AnalysisTask<?>> tasks) {
+        this(tasks, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a scheduler for the given tasks.
+     *
+     * @param tasks the tasks of the DAG
+     * @param parallelism the maximum number of tasks running at the same time
+     * @throws IllegalArgumentException if the tasks do not form a valid DAG
+     */
+    public AnalysisScheduler(Collection<? extends AnalysisTask<?>> tasks, int parallelism) {
+        Objects.requireNonNull(tasks, "tasks cannot be null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+
+        List<AnalysisTask<?>> declared = new ArrayList<>(tasks);
+        Map<AnalysisSession.Key<?>, Integer> producers = new HashMap<>();
+        for (int i = 0; i < declared.size(); i++) {
+            if (producers.put(declared.get(i).getOutput(), i) != null) {
+                throw new IllegalArgumentException("Output produced by more than one task: " + declared.get(i).getOutput());
+            }
+        }
+
+        // Order the tasks topologically so that inputs always precede their consumers
+        int size = declared.size();
+        int[] pending = new int[size];
+        List<List<Integer>> consumers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            consumers.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            AnalysisTask<?> task = declared.get(i);
+            for (AnalysisSession.Key<?> input : task.getInputs()) {
+                Integer producer = producers.get(input);
+                if (producer == null) {
+                    throw new IllegalArgumentException("No task produces input " + input + " of task " + task.getName());
+                }
+                if (!consumers.get(producer).contains(i)) {
+                    consumers.get(producer).add(i);
+                    pending[i]++;
+                }
+            }
+        }
+
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            if (pending[i] == 0) {
+                ready.add(i);
+            }
+        }
+        int[] order = new int[size];
+        int[] position = new int[size];
+        int ordered = 0;
+        while (!ready.isEmpty()) {
+            int index = ready.poll();
+            position[index] = ordered;
+            order[ordered++] = index;
+            for (int consumer : consumers.get(index)) {
+                if (--pending[consumer] == 0) {
+                    ready.add(consumer);
+                }
+            }
+        }
+        if (ordered < size) {
+            List<String> cyclic = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (pending[i] > 0) {
+                    cyclic.add(declared.get(i).getName());
+                }
+            }
+            throw new IllegalArgumentException("Analysis tasks have cyclic dependencies: " + cyclic);
+        }
+
+        List<AnalysisTask<?>> sorted = new ArrayList<>(size);
+        this.inputTasks = new int[size][];
+        this.dependentTasks = new int[size][];
+        for (int i = 0; i < size; i++) {
+            AnalysisTask<?> task = declared.get(order[i]);
+            sorted.add(task);
+            inputTasks[i] = task.getInputs().stream().mapToInt(input -> position[producers.get(input)]).distinct().toArray();
+            dependentTasks[i] = consumers.get(order[i]).stream().mapToInt(consumer -> position[consumer]).toArray();
+        }
+        this.tasks = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Gets the tasks in a topological order.
+     */
+    public List<AnalysisTask<?>> getTasks() {
+        return tasks;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Runs all tasks on a pool created for this run.
+     *
+     * @param jarContent the JAR to analyze
+     * @param session the session sharing results with other analyzers, may be null
+     * @return the results of the run
+     */
+    public AnalysisResults run(JarContent jarContent, AnalysisSession session) {
+        if (tasks.isEmpty()) {
+            return run(jarContent, session, null);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()), r -> {
+            Thread t = new Thread(r, "AnalysisScheduler-" + THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            return run(jarContent, session, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs all tasks on the given executor.
+     * A failing task does not stop the run: its dependents are skipped and recorded as failed,
+     * while independent tasks complete normally.
+     *
+     * @param jarContent the JAR to analyze
+     * @param session the session sharing results with other analyzers, may be null
+     * @param executor the executor running the tasks, bounding their concurrency
+     * @return the results of the run
+     */
+    public AnalysisResults run(JarContent jarContent, AnalysisSession session, ExecutorService executor) {
+        Objects.requireNonNull(jarContent, "jarContent cannot be null");
+        long startTime = System.currentTimeMillis();
+        AnalysisResults results = new AnalysisResults();
+        Set<String> incompleteAnalyses = ConcurrentHashMap.newKeySet();
+        if (!tasks.isEmpty()) {
+            Objects.requireNonNull(executor, "executor cannot be null");
+            CancellationToken cancellationToken = session != null ? session.getCancellationToken() : CancellationToken.NONE;
+            new Run(jarContent, session != null && session.covers(jarContent) ? session : null, cancellationToken,
+                    executor, results, incompleteAnalyses).start();
+        }
+        if (session != null) {
+            incompleteAnalyses.addAll(session.getIncompleteAnalyses());
+        }
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        results.complete(elapsedTime, criticalPathTime(results), incompleteAnalyses);
+        LOGGER.info("Ran %d analysis tasks in %dms (critical path %dms, %d failed)",
+                   tasks.size(), elapsedTime, results.getCriticalPathTimeMs(), results.getFailures().size());
+        return results;
+    }
+
+    private long criticalPathTime(AnalysisResults results) {
+        long[] finish = new long[tasks.size()];
+        long longest = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            long start = 0;
+            for (int input : inputTasks[i]) {
+                start = Math.max(start, finish[input]);
+            }
+            finish[i] = start + results.getTaskTime(tasks.get(i).getOutput());
+            longest = Math.max(longest, finish[i]);
+        }
+        return longest;
+    }
+
+    /**
+     * State of one run: the number of unfinished inputs of each task and the completion latch.
+     */
+    private final class Run {
+
+        private final JarContent jarContent;
+        private final AnalysisSession session;
+        private final CancellationToken cancellationToken;
+        private final ExecutorService executor;
+        private final AnalysisResults results;
+        private final Set<String> incompleteAnalyses;
+        private final AtomicIntegerArray pendingInputs;
+        private final CountDownLatch completion;
+
+        Run(JarContent jarContent, AnalysisSession session, CancellationToken cancellationToken, ExecutorService executor,
+            AnalysisResults results, Set<String> incompleteAnalyses) {
+            this.jarContent = jarContent;
+            this.session = session;
+            this.cancellationToken = cancellationToken;
+            this.executor = executor;
+            this.results = results;
+            this.incompleteAnalyses = incompleteAnalyses;
+            this.pendingInputs = new AtomicIntegerArray(tasks.size());
+            this.completion = new CountDownLatch(tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                pendingInputs.set(i, inputTasks[i].length);
+            }
+        }
+
+        void start() {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (inputTasks[i].length == 0) {
+                    schedule(i);
+                }
+            }
+            try {
+                completion.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while running analysis tasks", e);
+            }
+        }
+
+        private void schedule(int index) {
+            AnalysisTask<?> task = tasks.get(index);
+            for (int input : inputTasks[index]) {
+                AnalysisSession.Key<?> inputKey = tasks.get(input).getOutput();
+                if (results.getFailure(inputKey) != null) {
+                    finish(index, new IllegalStateException("Input " + inputKey + " of task " + task.getName() + " failed"));
+                    return;
+                }
+            }
+
+            try {
+                executor.execute(() -> execute(index));
+            } catch (RejectedExecutionException e) {
+                finish(index, e);
+            }
+        }
+
+        private void execute(int index) {
+            if (cancellationToken.isCancelled()) {
+                // Tasks not started before the deadline are skipped, so the run frees its workers
+                incompleteAnalyses.add(tasks.get(index).getName());
+                finish(index, new CancellationException("Task " + tasks.get(index).getName() + " not started: " +
+                                                        (cancellationToken.isExpired() ? "deadline exceeded" : "cancelled")));
+                return;
+            }
+            Throwable failure = null;
+            try {
+                compute(tasks.get(index));
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            }
+            finish(index, failure);
+        }
+
+        private <T> void compute(AnalysisTask<T> task) {
+            AnalysisSession.Key<T> key = task.getOutput();
+            long taskStart = System.currentTimeMillis();
+            T output;
+            if (session != null && session.isMemoized(key)) {
+                output = session.memoize(key, () -> task.compute(jarContent, results));
+            } else {
+                // Analyzers created with the session may memoize their own result under the same key,
+                // so the task computes outside the memo and publishes the result afterwards
+                output = task.compute(jarContent, results);
+                if (session != null && output != null) {
+                    T computed = output;
+                    output = session.memoize(key, () -> computed);
+                }
+            }
+            long taskTime = System.currentTimeMillis() - taskStart;
+            results.put(key, output, taskTime);
+            LOGGER.debug("Analysis task %s completed in %dms", task.getName(), taskTime);
+        }
+
+        private void finish(int index, Throwable failure) {
+            if (failure != null) {
+                LOGGER.warn("Analysis task %s failed: %s", tasks.get(index).getName(), failure.getMessage());
+                results.fail(tasks.get(index).getOutput(), failure);
+            }
+            completion.countDown();
+            for (int dependent : dependentTasks[index]) {
+                if (pendingInputs.decrementAndGet(dependent) == 0) {
+                    schedule(dependent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package it.denzosoft.jreverse.analyzer.scheduler;
+
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.core.model.JarContent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Node of an analysis DAG: an analyzer invocation with declared inputs and one output.
+ * Inputs and outputs are {@link AnalysisSession.Key session keys}; a task runs once the tasks
+ * producing all its inputs have completed, and reads their results from {@link AnalysisResults}.
+ *
+ * @param <T> the type of the task output
+ */
+public final class AnalysisTask<T> {
+
+    /**
+     * Computes the output of a task.
+     */
+    @FunctionalInterface
+    public interface Computation<T> {
+
+        /**
+         * @param jarContent the analyzed JAR
+         * @param inputs the results computed so far, including all declared inputs
+         * @return the task output
+         */
+        T compute(JarContent jarContent, AnalysisResults inputs);
+    }
+
+    private final AnalysisSession.Key<T> output;
+    private final List<AnalysisSession.Key<?>> inputs;
+    private final Computation<T> computation;
+
+    private AnalysisTask(AnalysisSession.Key<T> output, List<AnalysisSession.Key<?>> inputs, Computation<T> computation) {
+        this.output = Objects.requireNonNull(output, "output cannot be null");
+        this.inputs = Collections.unmodifiableList(new ArrayList<>(inputs));
+        this.computation = Objects.requireNonNull(computation, "computation cannot be null");
+        if (this.inputs.contains(output)) {
+            throw new IllegalArgumentException("Task " + output + " cannot depend on its own output");
+        }
+    }
+
+    /**
+     * Creates a task.
+     *
+     * @param output the key of the task output
+     * @param computation computes the output
+     * @param inputs the keys of the results the computation needs
+     * @return a new task
+     */
+    public static <T> AnalysisTask<T> of(AnalysisSession.Key<T> output, Computation<T> computation,
+                                         AnalysisSession.Key<?>... inputs) {
+        return new AnalysisTask<>(output, Arrays.asList(inputs), computation);
+    }
+
+    public AnalysisSession.Key<T> getOutput() {
+        return output;
+    }
+
+    public List<AnalysisSession.Key<?>> getInputs() {
+        return inputs;
+    }
+
+    public String getName() {
+        return output.getName();
+    }
+
+    T compute(JarContent jarContent, AnalysisResults inputs) {
+        return computation.compute(jarContent, inputs);
+    }
+
+    @Override
+    public String toString() {
+        return "AnalysisTask{" + output + " <- " + inputs + '}';
+    }
+}
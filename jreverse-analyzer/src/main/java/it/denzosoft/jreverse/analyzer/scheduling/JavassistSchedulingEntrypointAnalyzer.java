@@ -1,12 +1,13 @@
 package it.denzosoft.jreverse.analyzer.scheduling;
 
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointTraversal;
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointVisitor;
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.model.MethodInfo;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Javassist-based implementation of SchedulingEntrypointAnalyzer.
@@ -30,80 +31,68 @@ public class JavassistSchedulingEntrypointAnalyzer implements SchedulingEntrypoi
     @Override
     public SchedulingAnalysisResult analyze(JarContent jarContent) {
         long startTime = System.currentTimeMillis();
-        List<SchedulingEntrypointInfo> allEntrypoints = new ArrayList<>();
-        
-        for (ClassInfo classInfo : jarContent.getClasses()) {
-            if (hasSchedulingPatterns(classInfo)) {
-                SchedulingAnalysisResult classResult = analyzeClass(classInfo);
-                allEntrypoints.addAll(classResult.getSchedulingEntrypoints());
-            }
-        }
+        EntrypointVisitor<SchedulingAnalysisResult> visitor = createVisitor();
+        EntrypointTraversal.of(visitor).traverse(jarContent);
         
         long analysisTime = System.currentTimeMillis() - startTime;
         String fileName = jarContent.getLocation() != null ? jarContent.getLocation().getFileName() : "";
-        return new SchedulingAnalysisResult(allEntrypoints, analysisTime, fileName);
+        return visitor.getResult(analysisTime, fileName);
     }
     
     @Override
     public SchedulingAnalysisResult analyzeClass(ClassInfo classInfo) {
-        List<SchedulingEntrypointInfo> entrypoints = new ArrayList<>();
+        EntrypointVisitor<SchedulingAnalysisResult> visitor = createVisitor();
+        EntrypointTraversal.of(visitor).traverseClass(classInfo);
+        return visitor.getResult(0L, "");
+    }
+    
+    /**
+     * Creates a visitor collecting scheduling entrypoints, to be registered on an
+     * {@link EntrypointTraversal} shared with other entrypoint analyzers.
+     *
+     * @return a new visitor
+     */
+    public EntrypointVisitor<SchedulingAnalysisResult> createVisitor() {
+        return new SchedulingVisitor();
+    }
+    
+    private class SchedulingVisitor implements EntrypointVisitor<SchedulingAnalysisResult> {
         
-        // Analyze class-level scheduling annotations (@EnableScheduling)
-        List<AnnotationInfo> classAnnotations = getSchedulingAnnotations(new ArrayList<>(classInfo.getAnnotations()));
-        for (AnnotationInfo annotation : classAnnotations) {
-            SchedulingEntrypointInfo entrypoint = analyzeSchedulingAnnotation(
-                annotation, classInfo.getFullyQualifiedName(), "<class-level>", "void"
-            );
-            if (entrypoint != null) {
-                entrypoints.add(entrypoint);
+        private final List<SchedulingEntrypointInfo> entrypoints = new ArrayList<>();
+        
+        @Override
+        public Set<String> getAnnotationTypes() {
+            return Collections.unmodifiableSet(SCHEDULING_ANNOTATIONS);
+        }
+        
+        @Override
+        public void visitClass(ClassInfo classInfo, List<AnnotationInfo> annotations) {
+            // Class-level scheduling annotations (@EnableScheduling)
+            for (AnnotationInfo annotation : annotations) {
+                SchedulingEntrypointInfo entrypoint = analyzeSchedulingAnnotation(
+                    annotation, classInfo.getFullyQualifiedName(), "<class-level>", "void"
+                );
+                if (entrypoint != null) {
+                    entrypoints.add(entrypoint);
+                }
             }
         }
         
-        // Analyze method-level scheduling patterns
-        for (MethodInfo method : classInfo.getMethods()) {
-            SchedulingEntrypointInfo entrypoint = analyzeMethod(method, classInfo.getFullyQualifiedName());
+        @Override
+        public void visitMethod(ClassInfo classInfo, MethodInfo method, List<AnnotationInfo> annotations) {
+            // The first scheduling annotation defines the method entrypoint
+            SchedulingEntrypointInfo entrypoint = analyzeSchedulingAnnotation(
+                annotations.get(0), classInfo.getFullyQualifiedName(), method.getName(), method.getReturnType()
+            );
             if (entrypoint != null) {
                 entrypoints.add(entrypoint);
             }
         }
         
-        return new SchedulingAnalysisResult(entrypoints, 0L, "");
-    }
-    
-    private boolean hasSchedulingPatterns(ClassInfo classInfo) {
-        // Check class-level annotations
-        if (classInfo.getAnnotations().stream().anyMatch(this::isSchedulingAnnotation)) {
-            return true;
-        }
-        
-        // Check method-level patterns
-        return classInfo.getMethods().stream()
-            .anyMatch(method -> hasSchedulingPattern(method));
-    }
-    
-    private boolean hasSchedulingPattern(MethodInfo method) {
-        // Check scheduling annotations
-        return method.getAnnotations().stream().anyMatch(this::isSchedulingAnnotation);
-    }
-    
-    private boolean isSchedulingAnnotation(AnnotationInfo annotation) {
-        return SCHEDULING_ANNOTATIONS.contains(annotation.getType());
-    }
-    
-    private List<AnnotationInfo> getSchedulingAnnotations(List<AnnotationInfo> annotations) {
-        return annotations.stream()
-            .filter(this::isSchedulingAnnotation)
-            .collect(Collectors.toList());
-    }
-    
-    private SchedulingEntrypointInfo analyzeMethod(MethodInfo method, String className) {
-        // Check for scheduling annotations
-        List<AnnotationInfo> methodAnnotations = getSchedulingAnnotations(new ArrayList<>(method.getAnnotations()));
-        if (!methodAnnotations.isEmpty()) {
-            return analyzeSchedulingAnnotation(methodAnnotations.get(0), className, method.getName(), method.getReturnType());
+        @Override
+        public SchedulingAnalysisResult getResult(long analysisTimeMs, String jarFileName) {
+            return new SchedulingAnalysisResult(entrypoints, analysisTimeMs, jarFileName);
         }
-        
-        return null;
     }
     
     private SchedulingEntrypointInfo analyzeSchedulingAnnotation(AnnotationInfo annotation, String className, 
@@ -1,12 +1,13 @@
 package it.denzosoft.jreverse.analyzer.security;
 
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointTraversal;
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointVisitor;
 import it.denzosoft.jreverse.core.model.AnnotationInfo;
 import it.denzosoft.jreverse.core.model.ClassInfo;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.model.MethodInfo;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Javassist-based implementation of SecurityEntrypointAnalyzer.
@@ -38,70 +39,66 @@ public class JavassistSecurityEntrypointAnalyzer implements SecurityEntrypointAn
     @Override
     public SecurityAnalysisResult analyze(JarContent jarContent) {
         long startTime = System.currentTimeMillis();
-        List<SecurityEntrypointInfo> allEntrypoints = new ArrayList<>();
-        
-        for (ClassInfo classInfo : jarContent.getClasses()) {
-            if (hasSecurityAnnotations(classInfo)) {
-                SecurityAnalysisResult classResult = analyzeClass(classInfo);
-                allEntrypoints.addAll(classResult.getSecurityEntrypoints());
-            }
-        }
+        EntrypointVisitor<SecurityAnalysisResult> visitor = createVisitor();
+        EntrypointTraversal.of(visitor).traverse(jarContent);
         
         long analysisTime = System.currentTimeMillis() - startTime;
         String fileName = jarContent.getLocation() != null ? jarContent.getLocation().getFileName() : "";
-        return new SecurityAnalysisResult(allEntrypoints, analysisTime, fileName);
+        return visitor.getResult(analysisTime, fileName);
     }
     
     @Override
     public SecurityAnalysisResult analyzeClass(ClassInfo classInfo) {
-        List<SecurityEntrypointInfo> entrypoints = new ArrayList<>();
-        
-        // Analyze class-level security annotations
-        List<AnnotationInfo> classAnnotations = getSecurityAnnotations(new ArrayList<>(classInfo.getAnnotations()));
-        for (AnnotationInfo annotation : classAnnotations) {
-            SecurityEntrypointInfo entrypoint = analyzeSecurityAnnotation(
-                annotation, classInfo.getFullyQualifiedName(), "<class-level>", true, false
-            );
-            if (entrypoint != null) {
-                entrypoints.add(entrypoint);
+        EntrypointVisitor<SecurityAnalysisResult> visitor = createVisitor();
+        EntrypointTraversal.of(visitor).traverseClass(classInfo);
+        return visitor.getResult(0L, "");
+    }
+    
+    /**
+     * Creates a visitor collecting security entrypoints, to be registered on an
+     * {@link EntrypointTraversal} shared with other entrypoint analyzers.
+     *
+     * @return a new visitor
+     */
+    public EntrypointVisitor<SecurityAnalysisResult> createVisitor() {
+        return new SecurityVisitor();
+    }
+    
+    private class SecurityVisitor implements EntrypointVisitor<SecurityAnalysisResult> {
+        
+        private final List<SecurityEntrypointInfo> entrypoints = new ArrayList<>();
+        
+        @Override
+        public Set<String> getAnnotationTypes() {
+            return Collections.unmodifiableSet(SECURITY_ANNOTATIONS);
+        }
+        
+        @Override
+        public void visitClass(ClassInfo classInfo, List<AnnotationInfo> annotations) {
+            // Class-level security annotations
+            for (AnnotationInfo annotation : annotations) {
+                add(analyzeSecurityAnnotation(annotation, classInfo.getFullyQualifiedName(), "<class-level>", true, false));
             }
         }
         
-        // Analyze method-level security annotations
-        for (MethodInfo method : classInfo.getMethods()) {
-            List<AnnotationInfo> methodAnnotations = getSecurityAnnotations(new ArrayList<>(method.getAnnotations()));
-            for (AnnotationInfo annotation : methodAnnotations) {
-                SecurityEntrypointInfo entrypoint = analyzeSecurityAnnotation(
-                    annotation, classInfo.getFullyQualifiedName(), method.getName(), false, true
-                );
-                if (entrypoint != null) {
-                    entrypoints.add(entrypoint);
-                }
+        @Override
+        public void visitMethod(ClassInfo classInfo, MethodInfo method, List<AnnotationInfo> annotations) {
+            // Every security annotation of the method is an entrypoint
+            for (AnnotationInfo annotation : annotations) {
+                add(analyzeSecurityAnnotation(annotation, classInfo.getFullyQualifiedName(), method.getName(), false, true));
             }
         }
         
-        return new SecurityAnalysisResult(entrypoints, 0L, "");
-    }
-    
-    private boolean hasSecurityAnnotations(ClassInfo classInfo) {
-        // Check class-level annotations
-        if (classInfo.getAnnotations().stream().anyMatch(this::isSecurityAnnotation)) {
-            return true;
+        @Override
+        public SecurityAnalysisResult getResult(long analysisTimeMs, String jarFileName) {
+            return new SecurityAnalysisResult(entrypoints, analysisTimeMs, jarFileName);
         }
         
-        // Check method-level annotations
-        return classInfo.getMethods().stream()
-            .anyMatch(method -> method.getAnnotations().stream().anyMatch(this::isSecurityAnnotation));
-    }
-    
-    private boolean isSecurityAnnotation(AnnotationInfo annotation) {
-        return SECURITY_ANNOTATIONS.contains(annotation.getType());
-    }
-    
-    private List<AnnotationInfo> getSecurityAnnotations(List<AnnotationInfo> annotations) {
-        return annotations.stream()
-            .filter(this::isSecurityAnnotation)
-            .collect(Collectors.toList());
+        private void add(SecurityEntrypointInfo entrypoint) {
+            if (entrypoint != null) {
+                entrypoints.add(entrypoint);
+            }
+        }
     }
     
     private SecurityEntrypointInfo analyzeSecurityAnnotation(AnnotationInfo annotation, 
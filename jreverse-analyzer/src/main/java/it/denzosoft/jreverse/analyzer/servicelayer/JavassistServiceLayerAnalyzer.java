@@ -3,6 +3,8 @@ package it.denzosoft.jreverse.analyzer.servicelayer;
 import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationAnalyzer;
 import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationResult;
 import it.denzosoft.jreverse.analyzer.beancreation.BeanInfo;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.model.*;
 import it.denzosoft.jreverse.core.port.ServiceLayerAnalyzer;
 
@@ -19,10 +21,20 @@ public class JavassistServiceLayerAnalyzer implements ServiceLayerAnalyzer {
     private static final Logger LOGGER = Logger.getLogger(JavassistServiceLayerAnalyzer.class.getName());
     
     private final BeanCreationAnalyzer beanCreationAnalyzer;
+    private final AnalysisSession session;
     
     public JavassistServiceLayerAnalyzer(BeanCreationAnalyzer beanCreationAnalyzer) {
+        this(beanCreationAnalyzer, null);
+    }
+    
+    /**
+     * Creates an analyzer that stops when the analysis of the session is cancelled, and reports
+     * its result incomplete when the bean creation analysis of the session was.
+     */
+    public JavassistServiceLayerAnalyzer(BeanCreationAnalyzer beanCreationAnalyzer, AnalysisSession session) {
         this.beanCreationAnalyzer = Objects.requireNonNull(beanCreationAnalyzer, 
             "BeanCreationAnalyzer is required");
+        this.session = session;
     }
     
     @Override
@@ -35,6 +47,10 @@ public class JavassistServiceLayerAnalyzer implements ServiceLayerAnalyzer {
             
             // Extract service-specific information
             List<ServiceComponentInfo> serviceComponents = transformServiceComponents(beanResult.getServiceBeans());
+            boolean complete = !isCancelled() && !isIncomplete(SessionKeys.BEAN_CREATION);
+            if (!complete) {
+                session.markIncomplete(SessionKeys.SERVICE_LAYER.getName());
+            }
             ServiceLayerMetrics metrics = calculateServiceMetrics(beanResult);
             List<ServiceLayerIssue> issues = analyzeServiceIssues(serviceComponents, beanResult);
             ServiceLayerSummary summary = buildServiceSummary(serviceComponents, metrics, issues);
@@ -47,6 +63,8 @@ public class JavassistServiceLayerAnalyzer implements ServiceLayerAnalyzer {
                 .metrics(metrics)
                 .issues(issues)
                 .summary(summary)
+                .metadata(complete ? AnalysisMetadata.successful()
+                                   : AnalysisMetadata.incomplete("Service layer analysis stopped before the end of the JAR"))
                 .build();
                 
         } catch (Exception e) {
@@ -61,9 +79,22 @@ public class JavassistServiceLayerAnalyzer implements ServiceLayerAnalyzer {
     }
     
     private List<ServiceComponentInfo> transformServiceComponents(List<BeanInfo> serviceBeans) {
-        return serviceBeans.stream()
-            .map(this::transformToServiceComponent)
-            .collect(Collectors.toList());
+        List<ServiceComponentInfo> serviceComponents = new ArrayList<>(serviceBeans.size());
+        for (BeanInfo serviceBean : serviceBeans) {
+            if (isCancelled()) {
+                break;
+            }
+            serviceComponents.add(transformToServiceComponent(serviceBean));
+        }
+        return serviceComponents;
+    }
+    
+    private boolean isCancelled() {
+        return session != null && session.isCancelled();
+    }
+    
+    private boolean isIncomplete(AnalysisSession.Key<?> key) {
+        return session != null && session.getIncompleteAnalyses().contains(key.getName());
     }
     
     private ServiceComponentInfo transformToServiceComponent(BeanInfo beanInfo) {
@@ -0,0 +1,435 @@
+package it.denzosoft.jreverse.analyzer.session;
+
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarClassPath;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
+import it.denzosoft.jreverse.core.model.CancellationToken;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.TypeHierarchy;
+import javassist.ClassPath;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.NotFoundException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Scope of the analysis of one JAR.
+ * A session owns a private {@link BoundedClassPool} that resolves classes from the analyzed
+ * archive, so bytecode analyzers no longer append JAR paths to the global default pool.
+ * Closing the session detaches every cached CtClass and releases the archive, which keeps
+ * memory flat when many JARs are analyzed in the same process.
+ *
+ * A session can be shared by all specialized analyzers working on the same JAR. Besides the
+ * decoded classes, their indexes and the class pool, it holds a memo of intermediate results,
+ * so a result needed by several analyzers, such as the bean creation analysis, is computed once.
+ * Analyzers acquire a shared session with {@link #share(AnalysisSession, JarContent)}; the
+ * session is released when its last holder closes it.
+ *
+ * The session also carries the {@link CancellationToken} of the analysis. Analyzers poll it
+ * through {@link #isCancelled()} at class and method granularity; an analyzer that stops early
+ * still returns what it collected and records its analysis with {@link #markIncomplete(String)}.
+ *
+ * Sessions are meant to be used with try-with-resources.
+ */
+public class AnalysisSession implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AnalysisSession.class.getName());
+
+    /**
+     * Entry prefixes under which packaged applications keep their own classes.
+     */
+    private static final String[] CLASS_ENTRY_PREFIXES = {"", "BOOT-INF/classes/", "WEB-INF/classes/"};
+
+    private final JarContent jarContent;
+    private final BoundedClassPool classPool;
+    private final JarReaderRegistry readerRegistry;
+    private final MappedJarReader reader;
+    private final List<ClassPath> classPaths;
+    private final ConcurrentMap<Key<?>, FutureTask<Object>> memo = new ConcurrentHashMap<>();
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final CancellationToken cancellationToken;
+    private final Set<String> incompleteAnalyses = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    private AnalysisSession(JarContent jarContent, BoundedClassPool classPool, JarReaderRegistry readerRegistry,
+                            MappedJarReader reader, CancellationToken cancellationToken) {
+        this.jarContent = jarContent;
+        this.classPool = classPool;
+        this.readerRegistry = readerRegistry;
+        this.reader = reader;
+        this.cancellationToken = cancellationToken != null ? cancellationToken : CancellationToken.NONE;
+        this.classPaths = new ArrayList<>();
+        if (reader != null) {
+            for (String prefix : CLASS_ENTRY_PREFIXES) {
+                classPaths.add(classPool.insertClassPath(new MappedJarClassPath(reader, prefix)));
+            }
+        }
+    }
+
+    /**
+     * Opens a session on the given JAR with the default class cache limit.
+     *
+     * @param jarContent the analyzed JAR
+     * @return a new session that must be closed by the caller
+     */
+    public static AnalysisSession open(JarContent jarContent) {
+        return open(jarContent, CancellationToken.NONE);
+    }
+
+    /**
+     * Opens a session on the given JAR whose analyzers stop when the token is cancelled.
+     *
+     * @param jarContent the analyzed JAR
+     * @param cancellationToken the cancellation and deadline signal of the analysis
+     * @return a new session that must be closed by the caller
+     */
+    public static AnalysisSession open(JarContent jarContent, CancellationToken cancellationToken) {
+        return open(jarContent, null, BoundedClassPool.DEFAULT_MAX_CACHED_CLASSES, cancellationToken);
+    }
+
+    /**
+     * Opens a session on the given JAR.
+     * If the archive cannot be opened the session still resolves JDK classes, and lookups of
+     * classes of the JAR fail with {@link NotFoundException} as they would on a pool without the JAR.
+     *
+     * @param jarContent the analyzed JAR
+     * @param readerRegistry registry sharing the archive mapping with the JAR analyzer, may be null
+     * @param maxCachedClasses the maximum number of CtClass instances retained by the session
+     * @return a new session that must be closed by the caller
+     */
+    public static AnalysisSession open(JarContent jarContent, JarReaderRegistry readerRegistry, int maxCachedClasses) {
+        return open(jarContent, readerRegistry, maxCachedClasses, CancellationToken.NONE);
+    }
+
+    /**
+     * Opens a session on the given JAR whose analyzers stop when the token is cancelled.
+     *
+     * @param jarContent the analyzed JAR
+     * @param readerRegistry registry sharing the archive mapping with the JAR analyzer, may be null
+     *        to use a registry private to the session
+     * @param maxCachedClasses the maximum number of CtClass instances retained by the session
+     * @param cancellationToken the cancellation and deadline signal of the analysis
+     * @return a new session that must be closed by the caller
+     */
+    public static AnalysisSession open(JarContent jarContent, JarReaderRegistry readerRegistry, int maxCachedClasses,
+                                       CancellationToken cancellationToken) {
+        Objects.requireNonNull(jarContent, "jarContent cannot be null");
+        BoundedClassPool classPool = new BoundedClassPool(maxCachedClasses);
+
+        JarReaderRegistry registry = readerRegistry != null ? readerRegistry : new JarReaderRegistry();
+
+        MappedJarReader reader = null;
+        Path path = jarContent.getLocation().getPath();
+        try {
+            reader = registry.acquire(path);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not open JAR for class resolution: " + path, e);
+        }
+        return new AnalysisSession(jarContent, classPool, registry, reader, cancellationToken);
+    }
+
+    /**
+     * Acquires a session for the given JAR: the shared session when it covers that JAR,
+     * otherwise a new private session with the same cancellation token. Either way the caller
+     * closes the returned session, which only releases the shared one when its owner has closed it too.
+     *
+     * @param shared the shared session, may be null
+     * @param jarContent the JAR to analyze
+     * @return a session that must be closed by the caller
+     */
+    public static AnalysisSession share(AnalysisSession shared, JarContent jarContent) {
+        if (shared != null && shared.covers(jarContent) && shared.retain()) {
+            return shared;
+        }
+        return open(jarContent, shared != null ? shared.cancellationToken : CancellationToken.NONE);
+    }
+
+    /**
+     * Computes a result through the memo of the shared session when it covers the given JAR,
+     * or directly otherwise.
+     *
+     * @param shared the shared session, may be null
+     * @param jarContent the analyzed JAR
+     * @param key the memo key
+     * @param computation computes the result
+     * @return the memoized or computed result
+     */
+    public static <T> T memoize(AnalysisSession shared, JarContent jarContent, Key<T> key, Supplier<T> computation) {
+        if (shared != null && shared.covers(jarContent)) {
+            return shared.memoize(key, computation);
+        }
+        return computation.get();
+    }
+
+    /**
+     * Gets the path of a class entry relative to the classes directory of a packaged application,
+     * such as {@code com/example/App.class} for {@code WEB-INF/classes/com/example/App.class}.
+     *
+     * @param entryName the archive entry name
+     * @return the entry name without its classes directory
+     */
+    public static String classPathOf(String entryName) {
+        for (String prefix : CLASS_ENTRY_PREFIXES) {
+            if (!prefix.isEmpty() && entryName.startsWith(prefix)) {
+                return entryName.substring(prefix.length());
+            }
+        }
+        return entryName;
+    }
+
+    public JarContent getJarContent() {
+        return jarContent;
+    }
+
+    /**
+     * Gets the registry the session acquired its archive reader from. Analyzers that read
+     * the archive entries directly acquire their reader here, so they reuse the mapping of the session.
+     */
+    public JarReaderRegistry getReaderRegistry() {
+        return readerRegistry;
+    }
+
+    /**
+     * Checks whether this session is open on the given JAR content.
+     */
+    public boolean covers(JarContent content) {
+        return !closed && content == jarContent;
+    }
+
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * Checks whether analyzers should stop, because the analysis was cancelled or its deadline has passed.
+     */
+    public boolean isCancelled() {
+        return cancellationToken.isCancelled();
+    }
+
+    /**
+     * Records that an analysis stopped early and returned a partial result.
+     *
+     * @param analysisName the name of the incomplete analysis
+     */
+    public void markIncomplete(String analysisName) {
+        incompleteAnalyses.add(analysisName);
+        LOGGER.fine("Analysis " + analysisName + " stopped early for " + jarContent.getLocation().getFileName());
+    }
+
+    /**
+     * Gets the analyses that returned partial results in this session.
+     */
+    public Set<String> getIncompleteAnalyses() {
+        return Collections.unmodifiableSet(incompleteAnalyses);
+    }
+
+    /**
+     * Checks whether every analysis of this session, and the JAR content itself, is complete.
+     */
+    public boolean isComplete() {
+        return incompleteAnalyses.isEmpty() && jarContent.isComplete();
+    }
+
+    public TypeHierarchy getTypeHierarchy() {
+        return jarContent.getTypeHierarchy();
+    }
+
+    /**
+     * Gets the class pool of this session. The pool must not be used after the session is closed.
+     */
+    public ClassPool getClassPool() {
+        ensureOpen();
+        return classPool;
+    }
+
+    /**
+     * Resolves a class through the session pool.
+     *
+     * @param className the fully qualified class name
+     * @return the CtClass
+     * @throws NotFoundException if the class cannot be found
+     */
+    public CtClass getCtClass(String className) throws NotFoundException {
+        ensureOpen();
+        return classPool.get(className);
+    }
+
+    /**
+     * Resolves a class through the session pool.
+     *
+     * @param className the fully qualified class name
+     * @return the CtClass, or null if the class cannot be found
+     */
+    public CtClass findCtClass(String className) {
+        ensureOpen();
+        return classPool.getOrNull(className);
+    }
+
+    /**
+     * Gets the result memoized under the given key, computing it on first request.
+     * Concurrent requests for the same key wait for a single computation. A computation that
+     * fails is not memoized, so a later request computes the result again.
+     *
+     * @param key the memo key
+     * @param computation computes the result
+     * @return the memoized result
+     */
+    public <T> T memoize(Key<T> key, Supplier<T> computation) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(computation, "computation cannot be null");
+        ensureOpen();
+
+        FutureTask<Object> task = memo.get(key);
+        if (task == null) {
+            FutureTask<Object> created = new FutureTask<>(computation::get);
+            task = memo.putIfAbsent(key, created);
+            if (task == null) {
+                task = created;
+                LOGGER.fine("Computing " + key + " for " + jarContent.getLocation().getFileName());
+                created.run();
+            }
+        }
+
+        try {
+            return key.type.cast(task.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key, e);
+        } catch (ExecutionException e) {
+            memo.remove(key, task);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Failed to compute " + key, cause);
+        }
+    }
+
+    public boolean isMemoized(Key<?> key) {
+        FutureTask<Object> task = memo.get(key);
+        return task != null && task.isDone();
+    }
+
+    public int getMemoizedCount() {
+        return memo.size();
+    }
+
+    public int getCachedClassCount() {
+        return classPool.getCachedClassCount();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Releases one reference to this session. The class pool, the memo and the archive are
+     * released when the last reference is closed.
+     */
+    @Override
+    public void close() {
+        int remaining = references.updateAndGet(current -> current > 0 ? current - 1 : 0);
+        if (remaining > 0 || closed) {
+            return;
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        memo.clear();
+        for (ClassPath classPath : classPaths) {
+            classPool.removeClassPath(classPath);
+        }
+        classPaths.clear();
+        classPool.clear();
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Error closing JAR reader: " + reader.getName(), e);
+            }
+        }
+    }
+
+    private boolean retain() {
+        while (true) {
+            int current = references.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Analysis session is closed");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AnalysisSession{" +
+                "jar=" + jarContent.getLocation().getFileName() +
+                ", classPool=" + classPool +
+                ", memoized=" + memo.size() +
+                ", incomplete=" + incompleteAnalyses +
+                ", closed=" + closed +
+                '}';
+    }
+
+    /**
+     * Typed key of a memoized result. Keys are compared by identity and are meant
+     * to be declared as constants, see {@link SessionKeys}.
+     */
+    public static final class Key<T> {
+
+        private final String name;
+        private final Class<T> type;
+
+        private Key(String name, Class<T> type) {
+            this.name = Objects.requireNonNull(name, "name cannot be null");
+            this.type = Objects.requireNonNull(type, "type cannot be null");
+        }
+
+        public static <T> Key<T> of(String name, Class<T> type) {
+            return new Key<>(name, type);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<T> getType() {
+            return type;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
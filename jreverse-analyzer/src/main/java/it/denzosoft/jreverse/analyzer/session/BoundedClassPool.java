@@ -0,0 +1,98 @@
+package it.denzosoft.jreverse.analyzer.session;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ClassPool whose CtClass cache is bounded by a least-recently-used policy.
+ * The default Javassist pool keeps every CtClass it ever loaded; this pool detaches the
+ * least recently used class once the limit is reached, so the retained class model stays
+ * proportional to the limit rather than to the number of classes analyzed. Evicted classes
+ * are loaded again from the class path on their next lookup.
+ *
+ * The pool has no parent and resolves JDK classes through its own system path, so nothing
+ * it loads is shared with {@link ClassPool#getDefault()}.
+ */
+public class BoundedClassPool extends ClassPool {
+
+    public static final int DEFAULT_MAX_CACHED_CLASSES = 2048;
+
+    private final int maxCachedClasses;
+    private final Map<String, CtClass> cache;
+    private long evictionCount;
+
+    public BoundedClassPool() {
+        this(DEFAULT_MAX_CACHED_CLASSES);
+    }
+
+    /**
+     * Creates a pool holding at most the given number of CtClass instances.
+     *
+     * @param maxCachedClasses the cache limit, must be positive
+     */
+    public BoundedClassPool(int maxCachedClasses) {
+        super(true);
+        if (maxCachedClasses <= 0) {
+            throw new IllegalArgumentException("maxCachedClasses must be positive: " + maxCachedClasses);
+        }
+        this.maxCachedClasses = maxCachedClasses;
+        this.cache = new LinkedHashMap<String, CtClass>(Math.min(maxCachedClasses, 1024) * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CtClass> eldest) {
+                if (size() > BoundedClassPool.this.maxCachedClasses) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    protected synchronized CtClass getCached(String classname) {
+        CtClass cached = cache.get(classname);
+        return cached != null ? cached : super.getCached(classname);
+    }
+
+    @Override
+    protected synchronized void cacheCtClass(String classname, CtClass ctClass, boolean dynamic) {
+        cache.put(classname, ctClass);
+    }
+
+    @Override
+    protected synchronized CtClass removeCached(String classname) {
+        CtClass removed = cache.remove(classname);
+        return removed != null ? removed : super.removeCached(classname);
+    }
+
+    /**
+     * Detaches all cached classes from this pool.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public int getMaxCachedClasses() {
+        return maxCachedClasses;
+    }
+
+    public synchronized int getCachedClassCount() {
+        return cache.size();
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedClassPool{" +
+                "cached=" + getCachedClassCount() +
+                ", max=" + maxCachedClasses +
+                ", evictions=" + getEvictionCount() +
+                '}';
+    }
+}
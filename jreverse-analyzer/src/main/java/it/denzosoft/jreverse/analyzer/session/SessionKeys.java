@@ -0,0 +1,60 @@
+package it.denzosoft.jreverse.analyzer.session;
+
+import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationResult;
+import it.denzosoft.jreverse.analyzer.bootstrap.BootstrapAnalysisResult;
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointScanResult;
+import it.denzosoft.jreverse.core.model.AutowiredAnalysisResult;
+import it.denzosoft.jreverse.core.model.ComponentScanAnalysisResult;
+import it.denzosoft.jreverse.core.model.ConfigurationAnalysisResult;
+import it.denzosoft.jreverse.core.model.MainMethodAnalysisResult;
+import it.denzosoft.jreverse.core.model.PropertyAnalysisResult;
+import it.denzosoft.jreverse.core.model.RepositoryAnalysisResult;
+import it.denzosoft.jreverse.core.model.RestEndpointAnalysisResult;
+import it.denzosoft.jreverse.core.model.ServiceLayerAnalysisResult;
+import it.denzosoft.jreverse.core.model.WebMvcAnalysisResult;
+
+/**
+ * Keys of the intermediate results shared through an {@link AnalysisSession}.
+ */
+public final class SessionKeys {
+
+    public static final AnalysisSession.Key<BeanCreationResult> BEAN_CREATION =
+        AnalysisSession.Key.of("beanCreation", BeanCreationResult.class);
+
+    public static final AnalysisSession.Key<MainMethodAnalysisResult> MAIN_METHOD =
+        AnalysisSession.Key.of("mainMethod", MainMethodAnalysisResult.class);
+
+    public static final AnalysisSession.Key<ComponentScanAnalysisResult> COMPONENT_SCAN =
+        AnalysisSession.Key.of("componentScan", ComponentScanAnalysisResult.class);
+
+    public static final AnalysisSession.Key<EntrypointScanResult> ENTRYPOINTS =
+        AnalysisSession.Key.of("entrypoints", EntrypointScanResult.class);
+
+    public static final AnalysisSession.Key<BootstrapAnalysisResult> BOOTSTRAP =
+        AnalysisSession.Key.of("bootstrap", BootstrapAnalysisResult.class);
+
+    public static final AnalysisSession.Key<ServiceLayerAnalysisResult> SERVICE_LAYER =
+        AnalysisSession.Key.of("serviceLayer", ServiceLayerAnalysisResult.class);
+
+    public static final AnalysisSession.Key<RepositoryAnalysisResult> REPOSITORY =
+        AnalysisSession.Key.of("repository", RepositoryAnalysisResult.class);
+
+    public static final AnalysisSession.Key<PropertyAnalysisResult> PROPERTY =
+        AnalysisSession.Key.of("property", PropertyAnalysisResult.class);
+
+    public static final AnalysisSession.Key<RestEndpointAnalysisResult> REST_ENDPOINTS =
+        AnalysisSession.Key.of("restEndpoints", RestEndpointAnalysisResult.class);
+
+    public static final AnalysisSession.Key<AutowiredAnalysisResult> AUTOWIRING =
+        AnalysisSession.Key.of("autowiring", AutowiredAnalysisResult.class);
+
+    public static final AnalysisSession.Key<WebMvcAnalysisResult> WEB_MVC =
+        AnalysisSession.Key.of("webMvc", WebMvcAnalysisResult.class);
+
+    public static final AnalysisSession.Key<ConfigurationAnalysisResult> CONFIGURATION =
+        AnalysisSession.Key.of("configuration", ConfigurationAnalysisResult.class);
+
+    private SessionKeys() {
+        // Constants class
+    }
+}
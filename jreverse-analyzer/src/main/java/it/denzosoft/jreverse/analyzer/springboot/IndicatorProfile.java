@@ -0,0 +1,254 @@
+package it.denzosoft.jreverse.analyzer.springboot;
+
+import it.denzosoft.jreverse.core.logging.JReverseLogger;
+import it.denzosoft.jreverse.core.model.springboot.IndicatorResult;
+import it.denzosoft.jreverse.core.model.springboot.SpringBootIndicatorType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Learned cost and yield of each Spring Boot indicator over many detections.
+ * For every indicator the profile records how long it ran, how many classes the analyzed JARs
+ * had, how often it found evidence and how often it was conclusive on its own. From these it
+ * estimates the confidence gained per millisecond on a given JAR, which the engine uses to
+ * order indicators and to skip the bytecode indicators that pay off far worse than the others.
+ *
+ * The profile can be stored as a properties file, so batch runs over many JARs keep the knowledge
+ * gathered by earlier runs. Instances are thread-safe.
+ */
+final class IndicatorProfile {
+    
+    // Runs needed before the recorded figures replace the static priorities
+    static final int MIN_SAMPLES = 20;
+    
+    // Runs needed before an indicator can be skipped
+    static final int SKIP_AFTER_SAMPLES = 200;
+    
+    // An indicator is skipped when the best one of its wave gains this many times more confidence per millisecond
+    static final double POOR_GAIN_RATIO = 20.0;
+    
+    // A skipped indicator still runs once every this many detections, so the profile can recover
+    static final int EXPLORATION_INTERVAL = 25;
+    
+    private static final JReverseLogger LOGGER = JReverseLogger.getLogger(IndicatorProfile.class);
+    private static final double MIN_EXPECTED_COST_MS = 0.05;
+    
+    private final Path storage;
+    private final Map<SpringBootIndicatorType, Stats> stats = new EnumMap<>(SpringBootIndicatorType.class);
+    private long detections;
+    private boolean dirty;
+    
+    private IndicatorProfile(Path storage) {
+        this.storage = storage;
+    }
+    
+    /**
+     * Creates an empty profile that is never persisted.
+     */
+    static IndicatorProfile inMemory() {
+        return new IndicatorProfile(null);
+    }
+    
+    /**
+     * Loads the profile stored at the given path, starting empty if there is none or it cannot be read.
+     *
+     * @param storage the profile file, or null to keep the profile in memory only
+     */
+    static IndicatorProfile load(Path storage) {
+        IndicatorProfile profile = new IndicatorProfile(storage);
+        if (storage != null && Files.isRegularFile(storage)) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(storage)) {
+                properties.load(in);
+                profile.readFrom(properties);
+                LOGGER.debug("Loaded indicator profile with %d detections from %s", profile.detections, storage);
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.warn("Ignoring unreadable indicator profile %s: %s", storage, e.getMessage());
+            }
+        }
+        return profile;
+    }
+    
+    /**
+     * Records the outcome of one indicator run.
+     *
+     * @param type the indicator type
+     * @param elapsedNanos the time the indicator took
+     * @param classCount the number of classes of the analyzed JAR
+     * @param result the indicator result
+     * @param conclusive whether the result alone was enough to conclude detection
+     */
+    synchronized void record(SpringBootIndicatorType type, long elapsedNanos, int classCount,
+                             IndicatorResult result, boolean conclusive) {
+        Stats indicatorStats = stats.computeIfAbsent(type, t -> new Stats());
+        indicatorStats.runs++;
+        indicatorStats.totalNanos += elapsedNanos;
+        indicatorStats.totalClasses += classCount;
+        indicatorStats.totalConfidence += result.getConfidence();
+        if (result.isSuccessful()) {
+            indicatorStats.successes++;
+        }
+        if (conclusive) {
+            indicatorStats.conclusive++;
+        }
+        dirty = true;
+    }
+    
+    /**
+     * Counts a detection and tells whether the profile should be written to disk now.
+     */
+    synchronized boolean recordDetection(int saveInterval) {
+        detections++;
+        return storage != null && dirty && detections % saveInterval == 0;
+    }
+    
+    /**
+     * Orders the indicators of one wave by expected confidence gained per millisecond on a JAR
+     * with the given number of classes, dropping those whose gain is far below the best of the wave.
+     * While the profile has too few samples for an indicator, the static priority order is kept.
+     * {@link SpringBootIndicatorType.PerformanceCategory#FAST FAST} indicators are never dropped,
+     * and every {@value #EXPLORATION_INTERVAL}th detection runs the whole wave.
+     */
+    synchronized List<SpringBootIndicator> plan(List<SpringBootIndicator> indicators, int classCount) {
+        List<SpringBootIndicator> planned = new ArrayList<>(indicators);
+        for (SpringBootIndicator indicator : indicators) {
+            Stats indicatorStats = stats.get(indicator.getType());
+            if (indicatorStats == null || indicatorStats.runs < MIN_SAMPLES) {
+                return planned;
+            }
+        }
+        
+        planned.sort(Comparator.comparingDouble(
+            (SpringBootIndicator indicator) -> expectedGainPerMs(indicator, classCount)).reversed());
+        
+        if (!planned.isEmpty() && detections % EXPLORATION_INTERVAL != 0) {
+            double bestGain = expectedGainPerMs(planned.get(0), classCount);
+            planned.removeIf(indicator -> isPoorValue(indicator, classCount, bestGain));
+        }
+        return planned;
+    }
+    
+    /**
+     * Estimates the confidence an indicator adds per millisecond on a JAR with the given number of classes.
+     * Bytecode-based indicators are assumed to scale with the number of classes.
+     */
+    synchronized double expectedGainPerMs(SpringBootIndicator indicator, int classCount) {
+        Stats indicatorStats = stats.get(indicator.getType());
+        if (indicatorStats == null || indicatorStats.runs == 0) {
+            return 0.0;
+        }
+        double averageMs = indicatorStats.totalNanos / 1_000_000.0 / indicatorStats.runs;
+        double expectedMs = averageMs;
+        if (indicator.getPerformanceCategory() != SpringBootIndicatorType.PerformanceCategory.FAST
+                && indicatorStats.totalClasses > 0) {
+            double msPerClass = indicatorStats.totalNanos / 1_000_000.0 / indicatorStats.totalClasses;
+            expectedMs = msPerClass * classCount;
+        }
+        double averageConfidence = indicatorStats.totalConfidence / indicatorStats.runs;
+        return averageConfidence / Math.max(MIN_EXPECTED_COST_MS, expectedMs);
+    }
+    
+    private boolean isPoorValue(SpringBootIndicator indicator, int classCount, double bestGain) {
+        if (indicator.getPerformanceCategory() == SpringBootIndicatorType.PerformanceCategory.FAST
+                || stats.get(indicator.getType()).runs < SKIP_AFTER_SAMPLES) {
+            return false;
+        }
+        double gain = expectedGainPerMs(indicator, classCount);
+        if (gain * POOR_GAIN_RATIO < bestGain) {
+            LOGGER.debug("Skipping indicator %s - expected gain %.4f/ms against %.4f/ms of the best indicator",
+                        indicator.getType(), gain, bestGain);
+            return true;
+        }
+        return false;
+    }
+    
+    synchronized long getRuns(SpringBootIndicatorType type) {
+        Stats indicatorStats = stats.get(type);
+        return indicatorStats != null ? indicatorStats.runs : 0;
+    }
+    
+    synchronized long getDetections() {
+        return detections;
+    }
+    
+    /**
+     * Writes the profile to its storage file, replacing the previous one atomically.
+     * Failures are logged, since a lost profile only costs some learning.
+     */
+    synchronized void save() {
+        if (storage == null || !dirty) {
+            return;
+        }
+        Properties properties = new Properties();
+        writeTo(properties);
+        try {
+            Path directory = storage.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Path temporary = Files.createTempFile(directory, "indicator-profile", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                properties.store(out, "JReverse Spring Boot indicator profile");
+            }
+            Files.move(temporary, storage, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            LOGGER.warn("Could not save indicator profile to %s: %s", storage, e.getMessage());
+        }
+    }
+    
+    private void readFrom(Properties properties) {
+        detections = Long.parseLong(properties.getProperty("detections", "0"));
+        for (SpringBootIndicatorType type : SpringBootIndicatorType.values()) {
+            String prefix = type.name() + ".";
+            if (properties.getProperty(prefix + "runs") == null) {
+                continue;
+            }
+            Stats indicatorStats = new Stats();
+            indicatorStats.runs = Long.parseLong(properties.getProperty(prefix + "runs"));
+            indicatorStats.totalNanos = Long.parseLong(properties.getProperty(prefix + "totalNanos", "0"));
+            indicatorStats.totalClasses = Long.parseLong(properties.getProperty(prefix + "totalClasses", "0"));
+            indicatorStats.totalConfidence = Double.parseDouble(properties.getProperty(prefix + "totalConfidence", "0"));
+            indicatorStats.successes = Long.parseLong(properties.getProperty(prefix + "successes", "0"));
+            indicatorStats.conclusive = Long.parseLong(properties.getProperty(prefix + "conclusive", "0"));
+            stats.put(type, indicatorStats);
+        }
+    }
+    
+    private void writeTo(Properties properties) {
+        properties.setProperty("detections", Long.toString(detections));
+        for (Map.Entry<SpringBootIndicatorType, Stats> entry : stats.entrySet()) {
+            String prefix = entry.getKey().name() + ".";
+            Stats indicatorStats = entry.getValue();
+            properties.setProperty(prefix + "runs", Long.toString(indicatorStats.runs));
+            properties.setProperty(prefix + "totalNanos", Long.toString(indicatorStats.totalNanos));
+            properties.setProperty(prefix + "totalClasses", Long.toString(indicatorStats.totalClasses));
+            properties.setProperty(prefix + "totalConfidence", Double.toString(indicatorStats.totalConfidence));
+            properties.setProperty(prefix + "successes", Long.toString(indicatorStats.successes));
+            properties.setProperty(prefix + "conclusive", Long.toString(indicatorStats.conclusive));
+        }
+    }
+    
+    /**
+     * Accumulated figures of one indicator.
+     */
+    private static class Stats {
+        private long runs;
+        private long totalNanos;
+        private long totalClasses;
+        private double totalConfidence;
+        private long successes;
+        private long conclusive;
+    }
+}
@@ -1,6 +1,10 @@
 package it.denzosoft.jreverse.analyzer.springboot;
 
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
 import it.denzosoft.jreverse.analyzer.springboot.indicators.SpringBootAnnotationIndicator;
+import it.denzosoft.jreverse.analyzer.springboot.indicators.SpringBootDependencyIndicator;
+import it.denzosoft.jreverse.analyzer.springboot.indicators.SpringBootJarStructureIndicator;
 import it.denzosoft.jreverse.analyzer.springboot.indicators.SpringBootMainClassIndicator;
 import it.denzosoft.jreverse.analyzer.springboot.indicators.SpringBootManifestIndicator;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
@@ -10,48 +14,108 @@ import it.denzosoft.jreverse.core.model.springboot.SpringBootDetectionResult;
 import it.denzosoft.jreverse.core.model.springboot.SpringBootIndicatorType;
 import it.denzosoft.jreverse.core.model.springboot.SpringBootVersion;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * High-performance Spring Boot detection engine using Javassist for bytecode analysis.
  * Implements parallel analysis with early termination and performance optimization.
+ *
+ * The cost and yield of every indicator are recorded in an {@link IndicatorProfile}, kept in memory
+ * unless a profile file is given; once enough detections have been seen, indicators are ordered by
+ * expected confidence gained per millisecond and bytecode indicators that pay off far worse than
+ * the others are skipped. The detectors store the profile at {@link #defaultProfileStorage()}.
  */
 public class JavassistSpringBootDetectionEngine implements SpringBootDetectionEngine {
     
     private static final JReverseLogger LOGGER = JReverseLogger.getLogger(JavassistSpringBootDetectionEngine.class);
     
     // Performance configuration
-    private static final double HIGH_CONFIDENCE_THRESHOLD = 1.01; // Effectively disabled for testing
-    private static final double EARLY_TERMINATION_THRESHOLD = 1.01; // Effectively disabled for testing
+    private static final double EARLY_TERMINATION_THRESHOLD = 0.95;
     private static final int MAX_PARALLEL_INDICATORS = 3;
     private static final long ANALYSIS_TIMEOUT_MS = 30000; // 30 seconds
+    private static final int PROFILE_SAVE_INTERVAL = 50; // detections between profile writes
+    
+    /** System property overriding the location of the indicator profile; an empty value keeps it in memory. */
+    public static final String PROFILE_PATH_PROPERTY = "jreverse.indicatorProfile";
     
     private final List<SpringBootIndicator> indicators;
     private final ExecutorService executorService;
     private final PerformanceStatsImpl performanceStats;
     private final SpringBootConfidenceCalculator confidenceCalculator;
+    private final IndicatorProfile profile;
+    private final JarReaderRegistry readerRegistry;
     
     public JavassistSpringBootDetectionEngine() {
+        this((Path) null);
+    }
+    
+    /**
+     * Creates an engine that learns indicator ordering in the given profile file, so the profile
+     * is kept between runs.
+     *
+     * @param profileStorage the profile file, or null to keep the learned profile in memory only
+     */
+    public JavassistSpringBootDetectionEngine(Path profileStorage) {
+        this(profileStorage, new JarReaderRegistry());
+    }
+    
+    /**
+     * Creates an engine whose central directory indicators read the JAR through the given registry.
+     *
+     * @param profileStorage the profile file, or null to keep the learned profile in memory only
+     * @param readerRegistry the registry of open JAR readers, shared with the analyzers of the same run
+     */
+    public JavassistSpringBootDetectionEngine(Path profileStorage, JarReaderRegistry readerRegistry) {
+        this.readerRegistry = readerRegistry;
         this.indicators = createPrioritizedIndicators();
         this.executorService = createExecutorService();
         this.performanceStats = new PerformanceStatsImpl();
         this.confidenceCalculator = new SpringBootConfidenceCalculator();
+        this.profile = profileStorage != null ? IndicatorProfile.load(profileStorage) : IndicatorProfile.inMemory();
+        if (profileStorage != null) {
+            // Runs shorter than the save interval would otherwise never write what they learned
+            Runtime.getRuntime().addShutdownHook(new Thread(profile::save, "IndicatorProfile-save"));
+        }
         
         LOGGER.info("Initialized JavassistSpringBootDetectionEngine with %d indicators", indicators.size());
     }
     
+    /**
+     * Gets the profile location used by the detectors: the {@value #PROFILE_PATH_PROPERTY} system
+     * property when set, {@code ~/.jreverse/indicator-profile.properties} otherwise.
+     *
+     * @return the profile file, or null when the property is set to an empty value
+     */
+    public static Path defaultProfileStorage() {
+        String configured = System.getProperty(PROFILE_PATH_PROPERTY);
+        if (configured != null) {
+            return configured.trim().isEmpty() ? null : Paths.get(configured.trim());
+        }
+        return Paths.get(System.getProperty("user.home"), ".jreverse", "indicator-profile.properties");
+    }
+    
+    IndicatorProfile getProfile() {
+        return profile;
+    }
+    
     @Override
     public SpringBootDetectionResult detect(JarContent jarContent) {
         if (jarContent == null) {
@@ -68,7 +132,7 @@ public class JavassistSpringBootDetectionEngine implements SpringBootDetectionEn
         
         LOGGER.info("Starting Spring Boot detection for JAR: %s", jarContent.getLocation().getFileName());
         
-        try {
+        try (MappedJarReader sharedReader = acquireReader(jarContent)) {
             // Execute indicators with performance optimization
             Map<SpringBootIndicatorType, IndicatorResult> results = executeIndicators(jarContent);
             
@@ -78,6 +142,9 @@ public class JavassistSpringBootDetectionEngine implements SpringBootDetectionEn
             // Update performance statistics
             long analysisTime = System.currentTimeMillis() - startTime;
             performanceStats.recordAnalysis(analysisTime, result.isSpringBootApplication());
+            if (profile.recordDetection(PROFILE_SAVE_INTERVAL)) {
+                profile.save();
+            }
             
             LOGGER.info("Spring Boot detection completed for %s: isSpringBoot=%s, confidence=%.2f, time=%dms",
                        jarContent.getLocation().getFileName(),
@@ -129,11 +196,12 @@ public class JavassistSpringBootDetectionEngine implements SpringBootDetectionEn
     private List<SpringBootIndicator> createPrioritizedIndicators() {
         List<SpringBootIndicator> indicatorList = new ArrayList<>();
         
-        // Add indicators in priority order (fastest first for early termination)
+        // Add indicators in priority order (fastest first, so they are picked first by the pool)
         indicatorList.add(new SpringBootManifestIndicator());
+        indicatorList.add(new SpringBootJarStructureIndicator(readerRegistry));
+        indicatorList.add(new SpringBootDependencyIndicator(readerRegistry));
         indicatorList.add(new SpringBootAnnotationIndicator());
         indicatorList.add(new SpringBootMainClassIndicator());
-        // Note: JarStructure and Dependency indicators would be added here
         
         // Sort by analysis priority
         indicatorList.sort(Comparator.comparingInt(SpringBootIndicator::getAnalysisPriority));
@@ -141,61 +209,153 @@ public class JavassistSpringBootDetectionEngine implements SpringBootDetectionEn
         return indicatorList;
     }
     
+    /**
+     * Keeps the reader of the JAR open for the whole detection, so the indicators that read the
+     * central directory share one mapping instead of opening the archive each.
+     *
+     * @return the shared reader, or null if the content has no readable JAR file
+     */
+    private MappedJarReader acquireReader(JarContent jarContent) {
+        Path jarPath = jarContent.getLocation().getPath();
+        if (!Files.isRegularFile(jarPath)) {
+            return null;
+        }
+        try {
+            return readerRegistry.acquire(jarPath);
+        } catch (IOException e) {
+            LOGGER.debug("Cannot open %s for shared reading: %s", jarPath, e.getMessage());
+            return null;
+        }
+    }
+    
     private ExecutorService createExecutorService() {
         int threadCount = Math.min(MAX_PARALLEL_INDICATORS, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger();
         return Executors.newFixedThreadPool(threadCount, r -> {
-            Thread t = new Thread(r, "SpringBootDetector-" + System.currentTimeMillis());
+            Thread t = new Thread(r, "SpringBootDetector-" + threadNumber.incrementAndGet());
             t.setDaemon(true);
             return t;
         });
     }
     
+    /**
+     * Runs the applicable indicators concurrently and collects their results as they complete.
+     * As soon as one indicator alone, or the combined evidence collected so far, reaches
+     * {@link #EARLY_TERMINATION_THRESHOLD} the indicators still running are cancelled, so the
+     * detection takes as long as the fastest conclusive indicator.
+     *
+     * The {@link SpringBootIndicatorType.PerformanceCategory#FAST FAST} indicators, which only look
+     * at the manifest and the central directory, run first; bytecode-based indicators are started
+     * only if they are not conclusive.
+     */
     private Map<SpringBootIndicatorType, IndicatorResult> executeIndicators(JarContent jarContent) {
         Map<SpringBootIndicatorType, IndicatorResult> results = new ConcurrentHashMap<>();
-        AtomicReference<Double> currentConfidence = new AtomicReference<>(0.0);
+        List<SpringBootIndicator> metadataIndicators = new ArrayList<>();
+        List<SpringBootIndicator> bytecodeIndicators = new ArrayList<>();
         
-        // Start with sequential execution of high-priority indicators for early termination
         for (SpringBootIndicator indicator : indicators) {
             if (!indicator.canAnalyze(jarContent)) {
                 LOGGER.debug("Skipping indicator %s - cannot analyze JAR", indicator.getType());
-                continue;
+            } else if (indicator.getPerformanceCategory() == SpringBootIndicatorType.PerformanceCategory.FAST) {
+                metadataIndicators.add(indicator);
+            } else {
+                bytecodeIndicators.add(indicator);
             }
-            
-            try {
-                long indicatorStartTime = System.currentTimeMillis();
-                IndicatorResult result = indicator.analyze(jarContent);
-                long indicatorTime = System.currentTimeMillis() - indicatorStartTime;
+        }
+        
+        int classCount = jarContent.getClassCount();
+        long deadline = System.currentTimeMillis() + ANALYSIS_TIMEOUT_MS;
+        if (!executeConcurrently(profile.plan(metadataIndicators, classCount), jarContent, results, deadline)) {
+            executeConcurrently(profile.plan(bytecodeIndicators, classCount), jarContent, results, deadline);
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Runs the given indicators concurrently, adding their results as they complete.
+     *
+     * @return true if detection concluded, because of early termination, timeout or interruption
+     */
+    private boolean executeConcurrently(List<SpringBootIndicator> wave, JarContent jarContent,
+                                        Map<SpringBootIndicatorType, IndicatorResult> results, long deadline) {
+        ExecutorCompletionService<IndicatorResult> completionService = new ExecutorCompletionService<>(executorService);
+        Map<Future<IndicatorResult>, SpringBootIndicator> pending = new HashMap<>();
+        
+        for (SpringBootIndicator indicator : wave) {
+            pending.put(completionService.submit(() -> runIndicator(indicator, jarContent)), indicator);
+        }
+        
+        try {
+            while (!pending.isEmpty()) {
+                Future<IndicatorResult> completed = completionService.poll(
+                    Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                if (completed == null) {
+                    LOGGER.warn("Spring Boot detection timed out after %dms with %d indicators pending",
+                               ANALYSIS_TIMEOUT_MS, pending.size());
+                    for (SpringBootIndicator indicator : pending.values()) {
+                        results.put(indicator.getType(), IndicatorResult.error("Indicator analysis timed out"));
+                    }
+                    return true;
+                }
                 
+                SpringBootIndicator indicator = pending.remove(completed);
+                IndicatorResult result = resultOf(indicator, completed);
                 results.put(indicator.getType(), result);
                 
-                LOGGER.debug("Indicator %s completed: confidence=%.2f, time=%dms",
-                           indicator.getType(), result.getConfidence(), indicatorTime);
-                
                 // Check for early termination
-                if (result.isSuccessful() && result.getConfidence() > EARLY_TERMINATION_THRESHOLD) {
+                if (result.isSuccessful() && result.getConfidence() >= EARLY_TERMINATION_THRESHOLD) {
                     LOGGER.info("Early termination triggered by %s with confidence %.2f",
                                indicator.getType(), result.getConfidence());
-                    break;
+                    return true;
                 }
                 
-                // Update current confidence for intermediate decisions
+                // Early termination with the combined evidence
                 double intermediateConfidence = confidenceCalculator.calculateIntermediateConfidence(results);
-                currentConfidence.set(intermediateConfidence);
-                
-                // Early termination with multiple indicators
-                if (results.size() >= 2 && intermediateConfidence > HIGH_CONFIDENCE_THRESHOLD) {
+                if (results.size() >= 2 && intermediateConfidence >= EARLY_TERMINATION_THRESHOLD) {
                     LOGGER.info("Early termination triggered by combined confidence %.2f with %d indicators",
                                intermediateConfidence, results.size());
-                    break;
+                    return true;
                 }
-                
-            } catch (Exception e) {
-                LOGGER.warn("Indicator %s failed: %s", indicator.getType(), e.getMessage());
-                results.put(indicator.getType(), IndicatorResult.error(e.getMessage()));
             }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Spring Boot detection interrupted with %d indicators pending", pending.size());
+            return true;
+        } finally {
+            // Indicators still running cannot change the outcome any more
+            for (Future<IndicatorResult> future : pending.keySet()) {
+                future.cancel(true);
+            }
+        }
+    }
+    
+    private IndicatorResult runIndicator(SpringBootIndicator indicator, JarContent jarContent) {
+        long indicatorStartTime = System.nanoTime();
+        IndicatorResult result = indicator.analyze(jarContent);
+        long indicatorTime = System.nanoTime() - indicatorStartTime;
+        
+        if (!Thread.currentThread().isInterrupted()) {
+            // Cancelled runs stopped early and would understate the cost of the indicator
+            boolean conclusive = result.isSuccessful() && result.getConfidence() >= EARLY_TERMINATION_THRESHOLD;
+            profile.record(indicator.getType(), indicatorTime, jarContent.getClassCount(), result, conclusive);
         }
         
-        return results;
+        LOGGER.debug("Indicator %s completed: confidence=%.2f, time=%dms",
+                   indicator.getType(), result.getConfidence(), TimeUnit.NANOSECONDS.toMillis(indicatorTime));
+        return result;
+    }
+    
+    private IndicatorResult resultOf(SpringBootIndicator indicator, Future<IndicatorResult> completed)
+            throws InterruptedException {
+        try {
+            return completed.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            LOGGER.warn("Indicator %s failed: %s", indicator.getType(), cause.getMessage());
+            return IndicatorResult.error(cause.getMessage());
+        }
     }
     
     private SpringBootDetectionResult calculateFinalResult(Map<SpringBootIndicatorType, IndicatorResult> results,
@@ -236,7 +396,15 @@ public class JavassistSpringBootDetectionEngine implements SpringBootDetectionEn
             }
         }
         
-        // Could try other sources like dependency analysis
+        // Fall back to the version of the packaged spring-boot library
+        IndicatorResult dependencyResult = results.get(SpringBootIndicatorType.DEPENDENCY);
+        if (dependencyResult != null && dependencyResult.isSuccessful()) {
+            String versionString = dependencyResult.getStringEvidence("springBootVersion");
+            if (versionString != null && !versionString.isEmpty()) {
+                return SpringBootVersion.parse(versionString);
+            }
+        }
+        
         return null;
     }
     
@@ -268,6 +436,7 @@ public class JavassistSpringBootDetectionEngine implements SpringBootDetectionEn
     }
     
     public void shutdown() {
+        profile.save();
         try {
             executorService.shutdown();
             if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -16,7 +16,7 @@ public class JavassistSpringBootDetector implements SpringBootDetector {
     private final SpringBootDetectionEngine detectionEngine;
     
     public JavassistSpringBootDetector() {
-        this.detectionEngine = new JavassistSpringBootDetectionEngine();
+        this.detectionEngine = new JavassistSpringBootDetectionEngine(JavassistSpringBootDetectionEngine.defaultProfileStorage());
         LOGGER.info("Initialized JavassistSpringBootDetector with engine: %s v%s", 
                    detectionEngine.getEngineName(), detectionEngine.getEngineVersion());
     }
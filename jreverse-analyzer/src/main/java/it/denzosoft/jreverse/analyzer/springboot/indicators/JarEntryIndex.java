@@ -0,0 +1,115 @@
+package it.denzosoft.jreverse.analyzer.springboot.indicators;
+
+import it.denzosoft.jreverse.analyzer.archive.MappedJarEntry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
+import it.denzosoft.jreverse.core.model.JarContent;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entry names of a JAR as listed by its ZIP central directory.
+ * Built without reading or inflating any entry, so indicators based on it answer in a few
+ * milliseconds even for large archives. The index is kept with the shared
+ * {@link MappedJarReader}, so the structure and dependency indicators of one detection
+ * build it only once.
+ */
+final class JarEntryIndex {
+    
+    static final String BOOT_INF = "BOOT-INF/";
+    static final String BOOT_LOADER = "org/springframework/boot/loader/";
+    static final String SPRING_FACTORIES = "META-INF/spring.factories";
+    static final String AUTO_CONFIGURATION_IMPORTS =
+        "META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports";
+    
+    private static final String MAVEN_METADATA = "META-INF/maven/";
+    private static final String JAR_SUFFIX = ".jar";
+    
+    private final List<String> entryNames;
+    private final Set<String> entryNameSet;
+    private final Set<String> libraries;
+    private final Set<String> mavenArtifacts;
+    
+    private JarEntryIndex(List<String> entryNames) {
+        this.entryNames = Collections.unmodifiableList(entryNames);
+        this.entryNameSet = new HashSet<>(entryNames);
+        
+        Set<String> libraryNames = new LinkedHashSet<>();
+        Set<String> artifacts = new LinkedHashSet<>();
+        for (String name : entryNames) {
+            if (name.endsWith(JAR_SUFFIX)) {
+                libraryNames.add(name.substring(name.lastIndexOf('/') + 1));
+            } else if (name.startsWith(MAVEN_METADATA) && name.endsWith("/pom.properties")) {
+                // META-INF/maven/<groupId>/<artifactId>/pom.properties of shaded artifacts
+                String[] parts = name.split("/");
+                if (parts.length == 5) {
+                    artifacts.add(parts[2] + ":" + parts[3]);
+                }
+            }
+        }
+        this.libraries = Collections.unmodifiableSet(libraryNames);
+        this.mavenArtifacts = Collections.unmodifiableSet(artifacts);
+    }
+    
+    /**
+     * Gets the index of the JAR read by the given reader, building it on first use.
+     *
+     * @param reader an open reader of the analyzed JAR
+     * @return the entry index
+     */
+    static JarEntryIndex of(MappedJarReader reader) {
+        return reader.getIndex(JarEntryIndex.class, JarEntryIndex::build);
+    }
+    
+    private static JarEntryIndex build(MappedJarReader reader) {
+        List<String> names = new ArrayList<>(reader.size());
+        for (MappedJarEntry entry : reader.getEntries()) {
+            names.add(entry.getName());
+        }
+        return new JarEntryIndex(names);
+    }
+    
+    /**
+     * Checks whether the content points to a JAR file whose central directory can be indexed.
+     */
+    static boolean isIndexable(JarContent jarContent) {
+        return jarContent != null && jarContent.getLocation() != null
+            && Files.isRegularFile(jarContent.getLocation().getPath());
+    }
+    
+    List<String> getEntryNames() {
+        return entryNames;
+    }
+    
+    boolean hasEntry(String name) {
+        return entryNameSet.contains(name);
+    }
+    
+    boolean hasEntryWithPrefix(String prefix) {
+        for (String name : entryNames) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Gets the file names of the JARs nested in the archive, such as those under {@code BOOT-INF/lib/}.
+     */
+    Set<String> getLibraries() {
+        return libraries;
+    }
+    
+    /**
+     * Gets the {@code groupId:artifactId} of the artifacts whose Maven metadata is in the archive.
+     */
+    Set<String> getMavenArtifacts() {
+        return mavenArtifacts;
+    }
+}
@@ -97,6 +97,10 @@ public class SpringBootAnnotationIndicator implements SpringBootIndicator {
         AnnotationAnalysisResult.Builder resultBuilder = AnnotationAnalysisResult.builder();
         
         for (ClassInfo classInfo : jarContent.getClasses()) {
+            if (Thread.currentThread().isInterrupted()) {
+                // Detection already concluded, the partial result is discarded
+                break;
+            }
             try {
                 analyzeClassAnnotations(classInfo, resultBuilder);
             } catch (Exception e) {
@@ -0,0 +1,166 @@
+package it.denzosoft.jreverse.analyzer.springboot.indicators;
+
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
+import it.denzosoft.jreverse.analyzer.springboot.SpringBootIndicator;
+import it.denzosoft.jreverse.core.logging.JReverseLogger;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.springboot.IndicatorResult;
+import it.denzosoft.jreverse.core.model.springboot.SpringBootIndicatorType;
+import it.denzosoft.jreverse.core.model.springboot.SpringBootVersion;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Indicator that analyzes the libraries packaged in the JAR for Spring Boot artifacts.
+ * The library set is taken from the entry names of the ZIP central directory: nested
+ * {@code *.jar} files and the Maven metadata of shaded artifacts. No entry is read.
+ */
+public class SpringBootDependencyIndicator implements SpringBootIndicator {
+    
+    private static final JReverseLogger LOGGER = JReverseLogger.getLogger(SpringBootDependencyIndicator.class);
+    
+    private static final String SPRING_BOOT_GROUP = "org.springframework.boot:";
+    
+    // Spring Boot artifacts with their confidence weights
+    private static final Map<String, Double> SPRING_BOOT_ARTIFACTS = new HashMap<>();
+    static {
+        SPRING_BOOT_ARTIFACTS.put("spring-boot", 0.85);
+        SPRING_BOOT_ARTIFACTS.put("spring-boot-autoconfigure", 0.85);
+        SPRING_BOOT_ARTIFACTS.put("spring-boot-loader", 0.7);
+        SPRING_BOOT_ARTIFACTS.put("spring-boot-actuator", 0.75);
+        SPRING_BOOT_ARTIFACTS.put("spring-boot-actuator-autoconfigure", 0.75);
+    }
+    
+    private static final double STARTER_WEIGHT = 0.8;
+    private static final double SPRING_LIBRARY_WEIGHT = 0.3;
+    private static final double MAX_CONFIDENCE = 0.95;
+    
+    // artifactId-version.jar, with the version starting at the first digit after a dash
+    private static final Pattern LIBRARY_NAME = Pattern.compile("^(.+?)-(\\d[^/]*)\\.jar$");
+    
+    private final JarReaderRegistry readerRegistry;
+    
+    public SpringBootDependencyIndicator() {
+        this(new JarReaderRegistry());
+    }
+    
+    /**
+     * Creates an indicator that lists the packaged libraries from the reader shared for the JAR
+     * by the given registry.
+     *
+     * @param readerRegistry the registry of open JAR readers
+     */
+    public SpringBootDependencyIndicator(JarReaderRegistry readerRegistry) {
+        this.readerRegistry = readerRegistry;
+    }
+    
+    @Override
+    public IndicatorResult analyze(JarContent jarContent) {
+        long startTime = System.currentTimeMillis();
+        
+        try {
+            JarEntryIndex index;
+            try (MappedJarReader reader = readerRegistry.acquire(jarContent.getLocation().getPath())) {
+                index = JarEntryIndex.of(reader);
+            }
+            
+            Map<String, Double> bootArtifacts = new LinkedHashMap<>();
+            int springLibraries = 0;
+            SpringBootVersion version = null;
+            
+            for (String library : index.getLibraries()) {
+                Matcher matcher = LIBRARY_NAME.matcher(library);
+                String artifactId = matcher.matches() ? matcher.group(1) : library.substring(0, library.length() - 4);
+                Double weight = weightOf(artifactId);
+                if (weight != null) {
+                    bootArtifacts.put(artifactId, weight);
+                    if ("spring-boot".equals(artifactId) && matcher.matches()) {
+                        version = SpringBootVersion.parse(matcher.group(2));
+                    }
+                } else if (artifactId.startsWith("spring-")) {
+                    springLibraries++;
+                }
+            }
+            for (String artifact : index.getMavenArtifacts()) {
+                if (artifact.startsWith(SPRING_BOOT_GROUP)) {
+                    String artifactId = artifact.substring(SPRING_BOOT_GROUP.length());
+                    Double weight = weightOf(artifactId);
+                    if (weight != null) {
+                        bootArtifacts.put(artifactId, weight);
+                    }
+                }
+            }
+            
+            double confidence = calculateConfidence(bootArtifacts, springLibraries);
+            long analysisTime = System.currentTimeMillis() - startTime;
+            
+            LOGGER.debug("Spring Boot dependency analysis completed. Confidence: %.2f, Time: %dms",
+                        confidence, analysisTime);
+            
+            Map<String, Object> evidence = new HashMap<>();
+            evidence.put("springBootArtifacts", bootArtifacts);
+            evidence.put("springLibraryCount", springLibraries);
+            evidence.put("libraryCount", index.getLibraries().size());
+            if (version != null) {
+                evidence.put("springBootVersion", version.getVersionString());
+            }
+            
+            return IndicatorResult.builder()
+                .confidence(confidence)
+                .status(confidence > 0.0 ? IndicatorResult.AnalysisStatus.SUCCESS : IndicatorResult.AnalysisStatus.NOT_FOUND)
+                .evidence(evidence)
+                .analysisTimeMs(analysisTime)
+                .build();
+            
+        } catch (Exception e) {
+            long analysisTime = System.currentTimeMillis() - startTime;
+            LOGGER.error("Spring Boot dependency analysis failed", e);
+            
+            return IndicatorResult.builder()
+                .confidence(0.0)
+                .status(IndicatorResult.AnalysisStatus.ERROR)
+                .errorMessage(e.getMessage())
+                .analysisTimeMs(analysisTime)
+                .build();
+        }
+    }
+    
+    @Override
+    public SpringBootIndicatorType getType() {
+        return SpringBootIndicatorType.DEPENDENCY;
+    }
+    
+    @Override
+    public boolean canAnalyze(JarContent jarContent) {
+        return JarEntryIndex.isIndexable(jarContent);
+    }
+    
+    private Double weightOf(String artifactId) {
+        if (artifactId.startsWith("spring-boot-starter")) {
+            return STARTER_WEIGHT;
+        }
+        return SPRING_BOOT_ARTIFACTS.get(artifactId);
+    }
+    
+    private double calculateConfidence(Map<String, Double> bootArtifacts, int springLibraries) {
+        if (bootArtifacts.isEmpty()) {
+            // Plain Spring libraries hint at, but do not prove, a Spring Boot application
+            return springLibraries > 0 ? SPRING_LIBRARY_WEIGHT : 0.0;
+        }
+        
+        double strongest = bootArtifacts.values().stream()
+            .mapToDouble(Double::doubleValue)
+            .max()
+            .orElse(0.0);
+        
+        // Boost for several Spring Boot artifacts packaged together
+        double supportingBoost = Math.min(0.1, (bootArtifacts.size() - 1) * 0.05);
+        
+        return Math.min(MAX_CONFIDENCE, strongest + supportingBoost);
+    }
+}
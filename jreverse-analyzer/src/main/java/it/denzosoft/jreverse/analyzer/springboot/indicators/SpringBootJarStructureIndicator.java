@@ -0,0 +1,139 @@
+package it.denzosoft.jreverse.analyzer.springboot.indicators;
+
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
+import it.denzosoft.jreverse.analyzer.springboot.SpringBootIndicator;
+import it.denzosoft.jreverse.core.logging.JReverseLogger;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.springboot.IndicatorResult;
+import it.denzosoft.jreverse.core.model.springboot.SpringBootIndicatorType;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Indicator that examines the layout of the JAR for Spring Boot packaging.
+ * Works only from the entry names of the ZIP central directory, without decoding any class,
+ * and checks for {@code BOOT-INF/}, the Spring Boot loader, {@code spring.factories} and
+ * {@code spring-boot-*.jar} libraries.
+ */
+public class SpringBootJarStructureIndicator implements SpringBootIndicator {
+    
+    private static final JReverseLogger LOGGER = JReverseLogger.getLogger(SpringBootJarStructureIndicator.class);
+    
+    // Structural features with their confidence weights
+    private static final double BOOT_INF_WEIGHT = 0.85;
+    private static final double LOADER_WEIGHT = 0.85;
+    private static final double BOOT_LIBRARY_WEIGHT = 0.7;
+    private static final double SPRING_FACTORIES_WEIGHT = 0.4;  // Also present in plain Spring libraries
+    private static final double AUTO_CONFIGURATION_WEIGHT = 0.5;
+    private static final double MAX_CONFIDENCE = 0.95;
+    
+    private final JarReaderRegistry readerRegistry;
+    
+    public SpringBootJarStructureIndicator() {
+        this(new JarReaderRegistry());
+    }
+    
+    /**
+     * Creates an indicator that reads the central directory through the given registry,
+     * so it shares the reader already opened for the same JAR by other indicators or analyzers.
+     *
+     * @param readerRegistry the registry of open JAR readers
+     */
+    public SpringBootJarStructureIndicator(JarReaderRegistry readerRegistry) {
+        this.readerRegistry = readerRegistry;
+    }
+    
+    @Override
+    public IndicatorResult analyze(JarContent jarContent) {
+        long startTime = System.currentTimeMillis();
+        
+        try {
+            JarEntryIndex index;
+            try (MappedJarReader reader = readerRegistry.acquire(jarContent.getLocation().getPath())) {
+                index = JarEntryIndex.of(reader);
+            }
+            Map<String, Double> features = findFeatures(index);
+            
+            double confidence = calculateConfidence(features);
+            long analysisTime = System.currentTimeMillis() - startTime;
+            
+            LOGGER.debug("Spring Boot JAR structure analysis completed. Confidence: %.2f, Time: %dms",
+                        confidence, analysisTime);
+            
+            Map<String, Object> evidence = new HashMap<>();
+            evidence.put("structureFeatures", features);
+            evidence.put("entryCount", index.getEntryNames().size());
+            if (features.containsKey("BOOT-INF") && features.containsKey("Spring-Boot-Loader")) {
+                evidence.put("isSpringBootJar", true);
+            }
+            
+            return IndicatorResult.builder()
+                .confidence(confidence)
+                .status(confidence > 0.0 ? IndicatorResult.AnalysisStatus.SUCCESS : IndicatorResult.AnalysisStatus.NOT_FOUND)
+                .evidence(evidence)
+                .analysisTimeMs(analysisTime)
+                .build();
+            
+        } catch (Exception e) {
+            long analysisTime = System.currentTimeMillis() - startTime;
+            LOGGER.error("Spring Boot JAR structure analysis failed", e);
+            
+            return IndicatorResult.builder()
+                .confidence(0.0)
+                .status(IndicatorResult.AnalysisStatus.ERROR)
+                .errorMessage(e.getMessage())
+                .analysisTimeMs(analysisTime)
+                .build();
+        }
+    }
+    
+    @Override
+    public SpringBootIndicatorType getType() {
+        return SpringBootIndicatorType.JAR_STRUCTURE;
+    }
+    
+    @Override
+    public boolean canAnalyze(JarContent jarContent) {
+        return JarEntryIndex.isIndexable(jarContent);
+    }
+    
+    private Map<String, Double> findFeatures(JarEntryIndex index) {
+        Map<String, Double> features = new LinkedHashMap<>();
+        
+        if (index.hasEntryWithPrefix(JarEntryIndex.BOOT_INF)) {
+            features.put("BOOT-INF", BOOT_INF_WEIGHT);
+        }
+        if (index.hasEntryWithPrefix(JarEntryIndex.BOOT_LOADER)) {
+            features.put("Spring-Boot-Loader", LOADER_WEIGHT);
+        }
+        for (String library : index.getLibraries()) {
+            if (library.startsWith("spring-boot-")) {
+                features.put("Spring-Boot-Library", BOOT_LIBRARY_WEIGHT);
+                break;
+            }
+        }
+        if (index.hasEntry(JarEntryIndex.SPRING_FACTORIES)) {
+            features.put("spring.factories", SPRING_FACTORIES_WEIGHT);
+        }
+        if (index.hasEntry(JarEntryIndex.AUTO_CONFIGURATION_IMPORTS)) {
+            features.put("AutoConfiguration.imports", AUTO_CONFIGURATION_WEIGHT);
+        }
+        
+        return features;
+    }
+    
+    private double calculateConfidence(Map<String, Double> features) {
+        double strongest = features.values().stream()
+            .mapToDouble(Double::doubleValue)
+            .max()
+            .orElse(0.0);
+        
+        // Each further feature adds a little certainty
+        double supportingBoost = Math.min(0.1, (features.size() - 1) * 0.05);
+        
+        return features.isEmpty() ? 0.0 : Math.min(MAX_CONFIDENCE, strongest + supportingBoost);
+    }
+}
@@ -1,5 +1,6 @@
 package it.denzosoft.jreverse.analyzer.springboot.indicators;
 
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
 import it.denzosoft.jreverse.analyzer.springboot.SpringBootAnalysisException;
 import it.denzosoft.jreverse.analyzer.springboot.SpringBootIndicator;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
@@ -38,12 +39,15 @@ public class SpringBootMainClassIndicator implements SpringBootIndicator {
     
     private final ClassPool classPool;
     
+    /**
+     * Creates an indicator that resolves main classes through a session opened on each analyzed JAR.
+     */
     public SpringBootMainClassIndicator() {
-        this.classPool = ClassPool.getDefault();
+        this(null);
     }
     
     public SpringBootMainClassIndicator(ClassPool classPool) {
-        this.classPool = classPool != null ? classPool : ClassPool.getDefault();
+        this.classPool = classPool;
     }
     
     @Override
@@ -103,6 +107,10 @@ public class SpringBootMainClassIndicator implements SpringBootIndicator {
         List<MainClassInfo> mainClasses = new ArrayList<>();
         
         for (ClassInfo classInfo : jarContent.getClasses()) {
+            if (Thread.currentThread().isInterrupted()) {
+                // Detection already concluded, the partial result is discarded
+                break;
+            }
             Optional<MethodInfo> mainMethod = findMainMethod(classInfo);
             if (mainMethod.isPresent()) {
                 mainClasses.add(new MainClassInfo(classInfo, mainMethod.get()));
@@ -131,29 +139,34 @@ public class SpringBootMainClassIndicator implements SpringBootIndicator {
             throws SpringBootAnalysisException {
         MainClassAnalysisResult.Builder resultBuilder = MainClassAnalysisResult.builder();
         
-        for (MainClassInfo mainClassInfo : mainClasses) {
-            try {
-                SpringApplicationCallDetails callDetails = analyzeMainClassBytecode(mainClassInfo, jarContent);
-                if (callDetails.hasSpringApplicationCall()) {
-                    resultBuilder.addSpringBootMainClass(mainClassInfo.getClassInfo().getFullyQualifiedName(), callDetails);
-                } else {
-                    resultBuilder.addRegularMainClass(mainClassInfo.getClassInfo().getFullyQualifiedName());
+        try (AnalysisSession session = classPool == null ? AnalysisSession.open(jarContent) : null) {
+            ClassPool pool = session != null ? session.getClassPool() : classPool;
+            
+            for (MainClassInfo mainClassInfo : mainClasses) {
+                try {
+                    SpringApplicationCallDetails callDetails = analyzeMainClassBytecode(mainClassInfo, jarContent, pool);
+                    if (callDetails.hasSpringApplicationCall()) {
+                        resultBuilder.addSpringBootMainClass(mainClassInfo.getClassInfo().getFullyQualifiedName(), callDetails);
+                    } else {
+                        resultBuilder.addRegularMainClass(mainClassInfo.getClassInfo().getFullyQualifiedName());
+                    }
+                } catch (Exception e) {
+                    LOGGER.warn("Failed to analyze main class %s: %s", 
+                               mainClassInfo.getClassInfo().getFullyQualifiedName(), e.getMessage());
+                    resultBuilder.addFailedAnalysis(mainClassInfo.getClassInfo().getFullyQualifiedName(), e.getMessage());
                 }
-            } catch (Exception e) {
-                LOGGER.warn("Failed to analyze main class %s: %s", 
-                           mainClassInfo.getClassInfo().getFullyQualifiedName(), e.getMessage());
-                resultBuilder.addFailedAnalysis(mainClassInfo.getClassInfo().getFullyQualifiedName(), e.getMessage());
             }
         }
         
         return resultBuilder.build();
     }
     
-    private SpringApplicationCallDetails analyzeMainClassBytecode(MainClassInfo mainClassInfo, JarContent jarContent) 
+    private SpringApplicationCallDetails analyzeMainClassBytecode(MainClassInfo mainClassInfo, JarContent jarContent,
+                                                                  ClassPool pool) 
             throws SpringBootAnalysisException {
         try {
             String className = mainClassInfo.getClassInfo().getFullyQualifiedName();
-            CtClass ctClass = loadClassSafely(className, jarContent);
+            CtClass ctClass = loadClassSafely(className, pool);
             
             if (ctClass == null) {
                 return SpringApplicationCallDetails.notFound("Class not loadable: " + className);
@@ -176,9 +189,9 @@ public class SpringBootMainClassIndicator implements SpringBootIndicator {
         }
     }
     
-    private CtClass loadClassSafely(String className, JarContent jarContent) {
+    private CtClass loadClassSafely(String className, ClassPool pool) {
         try {
-            return classPool.get(className);
+            return pool.get(className);
         } catch (NotFoundException e) {
             LOGGER.debug("Class not found in ClassPool: %s", className);
             return null;
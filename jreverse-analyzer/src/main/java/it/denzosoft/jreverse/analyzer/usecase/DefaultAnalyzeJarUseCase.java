@@ -1,6 +1,7 @@
 package it.denzosoft.jreverse.analyzer.usecase;
 
 import it.denzosoft.jreverse.core.exception.JarAnalysisException;
+import it.denzosoft.jreverse.core.model.CancellationToken;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.pattern.AnalyzerFactory;
 import it.denzosoft.jreverse.core.port.JarAnalyzerPort;
@@ -8,162 +9,272 @@ import it.denzosoft.jreverse.core.usecase.AnalyzeJarUseCase;
 
 import java.util.Objects;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Default implementation of AnalyzeJarUseCase using factory pattern.
  * Implements comprehensive error handling, memory management, and timeout support.
+ *
+ * Requests run on a bounded pool of analysis workers, so concurrent callers are served in
+ * parallel up to the worker count. Requests waiting for a worker are started by priority
+ * (see {@link AnalysisOptions.Priority}) and in submission order within the same priority.
+ * Admission is bounded too: once every worker is busy and the queue is full, new requests
+ * are rejected with {@link JarAnalysisException.ErrorCode#REJECTED} instead of piling up.
+ *
+ * Each request runs with a {@link CancellationToken} that expires after
+ * {@link AnalysisOptions#getTimeoutSeconds()} and is cancelled with the token of the request.
+ * Analyzers check the token while decoding entries and, once it expires, return the content read
+ * so far; the result is then successful but marked incomplete in its metadata. An analyzer that
+ * is still running {@link #DEADLINE_GRACE_MILLIS} after the deadline is interrupted and the request
+ * fails with {@link JarAnalysisException.ErrorCode#TIMEOUT}. Cancelling the future returned by
+ * {@link #executeAsync(AnalysisRequest)} cancels the token and interrupts the worker.
  */
 public class DefaultAnalyzeJarUseCase implements AnalyzeJarUseCase {
     
     private static final Logger LOGGER = Logger.getLogger(DefaultAnalyzeJarUseCase.class.getName());
     
+    /** Default number of requests that may wait for a worker. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 32;
+    
+    /** Time left to an analyzer to return its partial result after the deadline, before it is interrupted. */
+    public static final long DEADLINE_GRACE_MILLIS = 500L;
+    
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+    
     private final AnalyzerFactory analyzerFactory;
-    private final ExecutorService executorService;
+    private final ThreadPoolExecutor executorService;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final Semaphore admissions;
+    private final int workerCount;
+    private final int queueCapacity;
+    private final AtomicLong submissionSequence = new AtomicLong();
     
     public DefaultAnalyzeJarUseCase(AnalyzerFactory analyzerFactory) {
+        this(analyzerFactory, defaultWorkerCount(), DEFAULT_QUEUE_CAPACITY);
+    }
+    
+    /**
+     * Creates a use case with the given worker pool bounds.
+     *
+     * @param analyzerFactory the factory selecting the analyzer of each JAR
+     * @param workerCount the number of analyses that run concurrently, must be positive
+     * @param queueCapacity the number of requests that may wait for a worker, must not be negative
+     */
+    public DefaultAnalyzeJarUseCase(AnalyzerFactory analyzerFactory, int workerCount, int queueCapacity) {
         this.analyzerFactory = Objects.requireNonNull(analyzerFactory, "analyzerFactory cannot be null");
-        this.executorService = Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "jar-analysis-thread");
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be positive: " + workerCount);
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity cannot be negative: " + queueCapacity);
+        }
+        this.workerCount = workerCount;
+        this.queueCapacity = queueCapacity;
+        this.admissions = new Semaphore(workerCount + queueCapacity);
+        
+        int poolId = POOL_COUNTER.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executorService = new ThreadPoolExecutor(workerCount, workerCount, 60L, TimeUnit.SECONDS,
+            new PriorityBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, "jar-analysis-" + poolId + "-worker-" + threadCounter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        this.executorService.allowCoreThreadTimeOut(true);
+        this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "jar-analysis-" + poolId + "-timeout");
             t.setDaemon(true);
             return t;
         });
-        LOGGER.info("DefaultAnalyzeJarUseCase initialized with factory: " + analyzerFactory.getFactoryName());
+        
+        LOGGER.info("DefaultAnalyzeJarUseCase initialized with factory: " + analyzerFactory.getFactoryName() +
+                   " (" + workerCount + " workers, queue capacity " + queueCapacity + ")");
     }
     
     @Override
     public AnalysisResult execute(AnalysisRequest request) throws JarAnalysisException {
-        Objects.requireNonNull(request, "request cannot be null");
-        Objects.requireNonNull(request.getJarLocation(), "jarLocation cannot be null");
-        
-        long startTime = System.currentTimeMillis();
-        String analyzerName = "unknown";
-        
-        LOGGER.info("Starting JAR analysis for: " + request.getJarLocation().getPath());
-        
-        // Memory check before analysis
-        checkMemoryLimits(request.getOptions());
+        CompletableFuture<AnalysisResult> future = executeAsync(request);
         
         try {
-            // Create appropriate analyzer using factory
-            JarAnalyzerPort analyzer = analyzerFactory.createAnalyzer(request.getJarLocation());
-            analyzerName = analyzer.getAnalyzerName();
-            
-            LOGGER.info("Selected analyzer: " + analyzerName);
-            
-            // Execute analysis with timeout
-            JarContent jarContent = executeWithTimeout(analyzer, request);
-            
-            long endTime = System.currentTimeMillis();
-            
-            // Create successful result
-            AnalysisMetadata metadata = AnalysisMetadata.successful(
-                analyzerName, startTime, endTime);
-            
-            AnalysisResult result = new AnalysisResult(jarContent, metadata);
-            
-            LOGGER.info("Analysis completed successfully in " + metadata.getDurationMs() + "ms. " +
-                       "Found " + jarContent.getClassCount() + " classes, " + 
-                       jarContent.getResourceCount() + " resources");
-            
-            return result;
-            
-        } catch (TimeoutException e) {
-            long endTime = System.currentTimeMillis();
-            String errorMessage = "Analysis timeout after " + request.getOptions().getTimeoutSeconds() + " seconds";
-            LOGGER.severe(errorMessage);
-            
-            AnalysisMetadata metadata = AnalysisMetadata.failed(
-                analyzerName, startTime, endTime, errorMessage);
-            
-            throw new JarAnalysisException(
-                errorMessage, 
-                request.getJarLocation().getPath().toString(),
-                JarAnalysisException.ErrorCode.TIMEOUT
-            );
-            
-        } catch (OutOfMemoryError e) {
-            long endTime = System.currentTimeMillis();
-            String errorMessage = "Memory limit exceeded during analysis";
-            LOGGER.severe(errorMessage + ": " + e.getMessage());
-            
-            // Attempt memory recovery
-            attemptMemoryRecovery();
-            
-            AnalysisMetadata metadata = AnalysisMetadata.failed(
-                analyzerName, startTime, endTime, errorMessage);
-            
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
             throw new JarAnalysisException(
-                errorMessage,
+                "Analysis was interrupted",
                 request.getJarLocation().getPath().toString(),
-                JarAnalysisException.ErrorCode.MEMORY_LIMIT_EXCEEDED,
+                JarAnalysisException.ErrorCode.CANCELLED,
                 e
             );
-            
-        } catch (JarAnalysisException e) {
-            long endTime = System.currentTimeMillis();
-            LOGGER.severe("JAR analysis failed: " + e.getMessage());
-            
-            AnalysisMetadata metadata = AnalysisMetadata.failed(
-                analyzerName, startTime, endTime, e.getMessage());
-            
-            // Re-throw with original error code
-            throw e;
-            
-        } catch (Exception e) {
-            long endTime = System.currentTimeMillis();
-            String errorMessage = "Unexpected error during analysis: " + e.getMessage();
-            LOGGER.log(Level.SEVERE, errorMessage, e);
-            
-            AnalysisMetadata metadata = AnalysisMetadata.failed(
-                analyzerName, startTime, endTime, errorMessage);
-            
+        } catch (CancellationException e) {
+            throw cancelled(request, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JarAnalysisException) {
+                throw (JarAnalysisException) cause;
+            }
             throw new JarAnalysisException(
-                errorMessage,
+                "Analysis execution failed: " + cause.getMessage(),
                 request.getJarLocation().getPath().toString(),
                 JarAnalysisException.ErrorCode.ANALYSIS_FAILED,
-                e
+                cause
             );
         }
     }
     
-    private JarContent executeWithTimeout(JarAnalyzerPort analyzer, AnalysisRequest request) 
-            throws JarAnalysisException, TimeoutException {
+    /**
+     * Submits the analysis to the worker pool without waiting for it.
+     * The future fails with a {@link JarAnalysisException}: REJECTED when the pool is saturated,
+     * TIMEOUT when the analyzer ignores the deadline of {@link AnalysisOptions#getTimeoutSeconds()},
+     * or the error of the analysis itself. Cancelling the future stops the running analysis.
+     */
+    @Override
+    public CompletableFuture<AnalysisResult> executeAsync(AnalysisRequest request) {
+        Objects.requireNonNull(request, "request cannot be null");
+        Objects.requireNonNull(request.getJarLocation(), "jarLocation cannot be null");
         
-        Future<JarContent> future = executorService.submit(() -> {
-            try {
-                return analyzer.analyzeJar(request.getJarLocation());
-            } catch (JarAnalysisException e) {
-                throw new RuntimeException(e);
+        CompletableFuture<AnalysisResult> result = new CompletableFuture<>();
+        String jarPath = request.getJarLocation().getPath().toString();
+        
+        if (!admissions.tryAcquire()) {
+            String errorMessage = "Analysis rejected: " + workerCount + " analyses running and " +
+                                 queueCapacity + " queued";
+            LOGGER.warning(errorMessage + " - " + jarPath);
+            result.completeExceptionally(new JarAnalysisException(
+                errorMessage, jarPath, JarAnalysisException.ErrorCode.REJECTED));
+            return result;
+        }
+        
+        PrioritizedAnalysis task = new PrioritizedAnalysis(request, result, submissionSequence.incrementAndGet());
+        try {
+            executorService.execute(task);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new JarAnalysisException(
+                "Analysis rejected: use case is shut down", jarPath, JarAnalysisException.ErrorCode.REJECTED, e));
+            task.cancel(false);
+            return result;
+        }
+        
+        int timeoutSeconds = request.getOptions().getTimeoutSeconds();
+        if (timeoutSeconds > 0) {
+            ScheduledFuture<?> timeout = timeoutScheduler.schedule(() -> expire(task, request),
+                TimeUnit.SECONDS.toMillis(timeoutSeconds) + DEADLINE_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+            result.whenComplete((r, e) -> timeout.cancel(false));
+        }
+        // Cancelling the caller's future stops the worker
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                task.cancellationToken.cancel();
+                task.cancel(true);
             }
         });
         
+        LOGGER.fine("Queued JAR analysis for: " + jarPath + " with priority " + request.getOptions().getPriority());
+        return result;
+    }
+    
+    private void expire(PrioritizedAnalysis task, AnalysisRequest request) {
+        if (task.isDone()) {
+            return;
+        }
+        String errorMessage = "Analysis timeout after " + request.getOptions().getTimeoutSeconds() + " seconds";
+        LOGGER.severe(errorMessage + " - " + request.getJarLocation().getPath());
+        
+        task.result.completeExceptionally(new JarAnalysisException(
+            errorMessage,
+            request.getJarLocation().getPath().toString(),
+            JarAnalysisException.ErrorCode.TIMEOUT
+        ));
+        task.cancellationToken.cancel();
+        task.cancel(true);
+    }
+    
+    /**
+     * Runs the analysis on a worker thread.
+     */
+    private AnalysisResult analyze(AnalysisRequest request, CancellationToken cancellationToken) throws JarAnalysisException {
+        long startTime = System.currentTimeMillis();
+        String jarPath = request.getJarLocation().getPath().toString();
+        
+        LOGGER.info("Starting JAR analysis for: " + jarPath);
+        
+        // Memory check before analysis
+        checkMemoryLimits(request.getOptions());
+        
+        JarAnalyzerPort analyzer;
         try {
-            return future.get(request.getOptions().getTimeoutSeconds(), TimeUnit.SECONDS);
-        } catch (ExecutionException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof RuntimeException && cause.getCause() instanceof JarAnalysisException) {
-                throw (JarAnalysisException) cause.getCause();
+            // Create appropriate analyzer using factory
+            analyzer = analyzerFactory.createAnalyzer(request.getJarLocation());
+        } catch (Exception e) {
+            String errorMessage = "Unexpected error during analysis: " + e.getMessage();
+            LOGGER.log(Level.SEVERE, errorMessage, e);
+            throw new JarAnalysisException(errorMessage, jarPath, JarAnalysisException.ErrorCode.ANALYSIS_FAILED, e);
+        }
+        String analyzerName = analyzer.getAnalyzerName();
+        
+        LOGGER.info("Selected analyzer: " + analyzerName);
+        
+        JarContent jarContent;
+        try {
+            jarContent = analyzer.analyzeJar(request.getJarLocation(), cancellationToken);
+        } catch (JarAnalysisException e) {
+            if (e.getErrorCode() == JarAnalysisException.ErrorCode.CANCELLED) {
+                LOGGER.info("JAR analysis cancelled: " + jarPath);
+            } else {
+                LOGGER.severe("JAR analysis failed: " + e.getMessage());
             }
-            throw new JarAnalysisException(
-                "Analysis execution failed: " + cause.getMessage(),
-                request.getJarLocation().getPath().toString(),
-                JarAnalysisException.ErrorCode.ANALYSIS_FAILED,
-                cause
-            );
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new JarAnalysisException(
-                "Analysis was interrupted",
-                request.getJarLocation().getPath().toString(),
-                JarAnalysisException.ErrorCode.ANALYSIS_FAILED,
-                e
-            );
-        } catch (TimeoutException e) {
-            future.cancel(true);
             throw e;
+        } catch (OutOfMemoryError e) {
+            LOGGER.severe("Memory limit exceeded during analysis: " + e.getMessage());
+            // Attempt memory recovery
+            attemptMemoryRecovery();
+            throw executionFailed(jarPath, e);
+        } catch (RuntimeException | Error e) {
+            LOGGER.log(Level.SEVERE, "JAR analysis failed: " + e.getMessage(), e);
+            throw executionFailed(jarPath, e);
+        }
+        
+        long endTime = System.currentTimeMillis();
+        
+        if (!jarContent.isComplete()) {
+            String reason = cancellationToken.isExpired()
+                ? "Analysis deadline of " + request.getOptions().getTimeoutSeconds() + " seconds exceeded"
+                : "Analysis cancelled";
+            LOGGER.warning(reason + ", returning partial result with " + jarContent.getClassCount() + 
+                          " classes for: " + jarPath);
+            return new AnalysisResult(jarContent, AnalysisMetadata.partial(analyzerName, startTime, endTime, reason));
         }
+        
+        // Create successful result
+        AnalysisMetadata metadata = AnalysisMetadata.successful(
+            analyzerName, startTime, endTime);
+        
+        LOGGER.info("Analysis completed successfully in " + metadata.getDurationMs() + "ms. " +
+                   "Found " + jarContent.getClassCount() + " classes, " +
+                   jarContent.getResourceCount() + " resources");
+        
+        return new AnalysisResult(jarContent, metadata);
+    }
+    
+    private JarAnalysisException executionFailed(String jarPath, Throwable cause) {
+        return new JarAnalysisException(
+            "Analysis execution failed: " + cause.getMessage(),
+            jarPath,
+            JarAnalysisException.ErrorCode.ANALYSIS_FAILED,
+            cause
+        );
+    }
+    
+    private JarAnalysisException cancelled(AnalysisRequest request, Throwable cause) {
+        return new JarAnalysisException(
+            "Analysis was cancelled",
+            request.getJarLocation().getPath().toString(),
+            JarAnalysisException.ErrorCode.CANCELLED,
+            cause
+        );
     }
     
     private void checkMemoryLimits(AnalysisOptions options) throws JarAnalysisException {
@@ -175,7 +286,7 @@ public class DefaultAnalyzeJarUseCase implements AnalyzeJarUseCase {
         
         // Check if requested memory limit exceeds JVM limits
         if (options.getMaxMemoryMB() > maxMemoryMB) {
-            String errorMessage = "Requested memory limit (" + options.getMaxMemoryMB() + 
+            String errorMessage = "Requested memory limit (" + options.getMaxMemoryMB() +
                                  "MB) exceeds JVM maximum (" + maxMemoryMB + "MB)";
             LOGGER.warning(errorMessage);
             // Don't throw, just warn - use JVM limits instead
@@ -211,12 +322,35 @@ public class DefaultAnalyzeJarUseCase implements AnalyzeJarUseCase {
         }
     }
     
+    public int getWorkerCount() {
+        return workerCount;
+    }
+    
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+    
+    /**
+     * Gets the number of analyses currently running.
+     */
+    public int getActiveRequestCount() {
+        return executorService.getActiveCount();
+    }
+    
+    /**
+     * Gets the number of requests waiting for a worker.
+     */
+    public int getQueuedRequestCount() {
+        return executorService.getQueue().size();
+    }
+    
     /**
      * Shuts down the executor service. Should be called when the use case is no longer needed.
      */
     public void shutdown() {
         LOGGER.info("Shutting down AnalyzeJarUseCase executor");
         executorService.shutdown();
+        timeoutScheduler.shutdownNow();
         try {
             if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
                 executorService.shutdownNow();
@@ -229,4 +363,64 @@ public class DefaultAnalyzeJarUseCase implements AnalyzeJarUseCase {
             Thread.currentThread().interrupt();
         }
     }
-}
\ No newline at end of file
+    
+    private static int defaultWorkerCount() {
+        // Each analysis already decodes classes in parallel, so a few workers saturate the machine
+        return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    }
+    
+    /**
+     * Worker task of one request, ordered by priority and then by submission.
+     * Holds one admission permit from submission until it completes or is cancelled.
+     */
+    private final class PrioritizedAnalysis extends FutureTask<AnalysisResult>
+            implements Comparable<PrioritizedAnalysis> {
+        
+        private final CompletableFuture<AnalysisResult> result;
+        private final CancellationToken cancellationToken;
+        private final AnalysisRequest request;
+        private final int priority;
+        private final long sequence;
+        
+        PrioritizedAnalysis(AnalysisRequest request, CompletableFuture<AnalysisResult> result, long sequence) {
+            this(request, result, sequence, request.getCancellationToken()
+                .withTimeout(request.getOptions().getTimeoutSeconds(), TimeUnit.SECONDS));
+        }
+        
+        private PrioritizedAnalysis(AnalysisRequest request, CompletableFuture<AnalysisResult> result, long sequence,
+                                    CancellationToken cancellationToken) {
+            super(() -> analyze(request, cancellationToken));
+            this.cancellationToken = cancellationToken;
+            this.request = request;
+            this.result = result;
+            this.priority = request.getOptions().getPriority().ordinal();
+            this.sequence = sequence;
+        }
+        
+        @Override
+        protected void done() {
+            admissions.release();
+            if (isCancelled()) {
+                // A cancelled request must not keep its place in the queue
+                executorService.remove(this);
+                result.completeExceptionally(cancelled(request, null));
+                return;
+            }
+            try {
+                result.complete(get());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+            } catch (InterruptedException | CancellationException e) {
+                result.completeExceptionally(cancelled(request, e));
+            }
+        }
+        
+        @Override
+        public int compareTo(PrioritizedAnalysis other) {
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
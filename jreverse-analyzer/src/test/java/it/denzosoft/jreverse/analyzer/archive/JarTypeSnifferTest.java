@@ -0,0 +1,84 @@
+package it.denzosoft.jreverse.analyzer.archive;
+
+import it.denzosoft.jreverse.analyzer.archive.JarTypeSniffer.ArchiveKind;
+import it.denzosoft.jreverse.core.model.JarType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JarTypeSniffer.
+ */
+class JarTypeSnifferTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSniff_SpringBootFatJar() throws Exception {
+        Path jar = createJar("boot.jar",
+            "org/springframework/boot/loader/JarLauncher.class",
+            "BOOT-INF/classes/com/example/App.class",
+            "BOOT-INF/lib/spring-boot-2.7.0.jar");
+
+        assertEquals(ArchiveKind.SPRING_BOOT_FAT_JAR, JarTypeSniffer.sniff(jar));
+        assertEquals(JarType.SPRING_BOOT_JAR, ArchiveKind.SPRING_BOOT_FAT_JAR.getJarType());
+    }
+
+    @Test
+    void testSniff_WarByLayoutOrExtension() throws Exception {
+        assertEquals(ArchiveKind.WAR, JarTypeSniffer.sniff(createJar("app.zip",
+            "WEB-INF/web.xml", "WEB-INF/classes/com/example/Servlet.class")));
+        assertEquals(ArchiveKind.WAR, JarTypeSniffer.sniff(createJar("app.war", "index.html")));
+    }
+
+    @Test
+    void testSniff_MultiReleaseJar() throws Exception {
+        Path jar = createJar("mr.jar",
+            "com/example/Api.class",
+            "META-INF/versions/11/com/example/Api.class");
+
+        assertEquals(ArchiveKind.MULTI_RELEASE, JarTypeSniffer.sniff(jar));
+    }
+
+    @Test
+    void testSniff_ShadedUberJar() throws Exception {
+        Path jar = createJar("uber.jar",
+            "META-INF/maven/com.example/app/pom.properties",
+            "META-INF/maven/org.apache.commons/commons-lang3/pom.properties",
+            "com/example/App.class",
+            "org/apache/commons/lang3/StringUtils.class");
+
+        assertEquals(ArchiveKind.SHADED_UBER_JAR, JarTypeSniffer.sniff(jar));
+    }
+
+    @Test
+    void testSniff_RegularJar() throws Exception {
+        Path jar = createJar("plain.jar",
+            "META-INF/maven/com.example/app/pom.properties",
+            "com/example/App.class");
+
+        assertEquals(ArchiveKind.REGULAR, JarTypeSniffer.sniff(jar));
+        assertEquals(JarType.REGULAR_JAR, ArchiveKind.REGULAR.getJarType());
+    }
+
+    private Path createJar(String fileName, String... entryNames) throws Exception {
+        Path jarPath = tempDir.resolve(fileName);
+        try (OutputStream out = Files.newOutputStream(jarPath);
+             JarOutputStream jar = new JarOutputStream(out)) {
+            for (String entryName : entryNames) {
+                jar.putNextEntry(new JarEntry(entryName));
+                jar.write(new byte[] {0});
+                jar.closeEntry();
+            }
+        }
+        return jarPath;
+    }
+}
@@ -0,0 +1,198 @@
+package it.denzosoft.jreverse.analyzer.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedJarReader and the shared JarReaderRegistry.
+ */
+class MappedJarReaderTest {
+
+    private static final byte[] STORED_CONTENT = "stored entry content".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DEFLATED_CONTENT = repeat("deflated entry content ", 200);
+
+    @TempDir
+    Path tempDir;
+
+    private Path jarPath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jarPath = createTestJar(tempDir.resolve("sample.jar"));
+    }
+
+    @Test
+    void shouldReadCentralDirectory() throws Exception {
+        try (MappedJarReader reader = MappedJarReader.open(jarPath)) {
+            assertEquals(4, reader.size());
+            assertTrue(reader.hasEntry("com/example/"));
+            assertTrue(reader.getEntry("com/example/").isDirectory());
+            assertTrue(reader.getEntry("com/example/stored.txt").isStored());
+            assertEquals(MappedJarEntry.DEFLATED, reader.getEntry("com/example/deflated.txt").getMethod());
+            assertEquals(DEFLATED_CONTENT.length, reader.getEntry("com/example/deflated.txt").getSize());
+            assertNull(reader.getEntry("missing.txt"));
+        }
+    }
+
+    @Test
+    void shouldReadStoredAndDeflatedEntries() throws Exception {
+        try (MappedJarReader reader = MappedJarReader.open(jarPath)) {
+            MappedJarEntry stored = reader.getEntry("com/example/stored.txt");
+            MappedJarEntry deflated = reader.getEntry("com/example/deflated.txt");
+
+            ByteBuffer storedData = reader.read(stored);
+            assertTrue(storedData.isReadOnly());
+            assertArrayEquals(STORED_CONTENT, reader.readBytes(stored));
+            assertArrayEquals(DEFLATED_CONTENT, reader.readBytes(deflated));
+            assertArrayEquals(STORED_CONTENT, readFully(reader.openStream(stored)));
+            assertArrayEquals(DEFLATED_CONTENT, readFully(reader.openStream(deflated)));
+        }
+    }
+
+    @Test
+    void shouldReadManifest() throws Exception {
+        try (MappedJarReader reader = MappedJarReader.open(jarPath)) {
+            Manifest manifest = reader.getManifest();
+            assertNotNull(manifest);
+            assertEquals("com.example.Main", manifest.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS));
+        }
+    }
+
+    @Test
+    void shouldReadArchiveWithPrependedLauncher() throws Exception {
+        Path launcherJar = tempDir.resolve("launcher.jar");
+        try (OutputStream out = Files.newOutputStream(launcherJar)) {
+            out.write("#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n".getBytes(StandardCharsets.UTF_8));
+            out.write(Files.readAllBytes(jarPath));
+        }
+
+        try (MappedJarReader reader = MappedJarReader.open(launcherJar)) {
+            assertArrayEquals(STORED_CONTENT, reader.readBytes(reader.getEntry("com/example/stored.txt")));
+            assertArrayEquals(DEFLATED_CONTENT, reader.readBytes(reader.getEntry("com/example/deflated.txt")));
+        }
+    }
+
+    @Test
+    void shouldShareReaderUntilLastHolderCloses() throws Exception {
+        JarReaderRegistry registry = new JarReaderRegistry();
+
+        MappedJarReader first = registry.acquire(jarPath);
+        MappedJarReader second = registry.acquire(jarPath);
+        assertSame(first, second);
+        assertEquals(1, registry.getOpenReaderCount());
+
+        first.close();
+        assertFalse(second.isClosed());
+        assertArrayEquals(STORED_CONTENT, second.readBytes(second.getEntry("com/example/stored.txt")));
+
+        second.close();
+        assertTrue(second.isClosed());
+        assertEquals(0, registry.getOpenReaderCount());
+
+        try (MappedJarReader reopened = registry.acquire(jarPath)) {
+            assertNotSame(first, reopened);
+            assertFalse(reopened.isClosed());
+        }
+    }
+
+    @Test
+    void shouldOpenStoredNestedJarInPlace() throws Exception {
+        Path outerJar = tempDir.resolve("outer.jar");
+        byte[] nestedContent = Files.readAllBytes(jarPath);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(outerJar))) {
+            JarEntry nested = new JarEntry("BOOT-INF/lib/nested.jar");
+            CRC32 crc = new CRC32();
+            crc.update(nestedContent);
+            nested.setMethod(JarEntry.STORED);
+            nested.setSize(nestedContent.length);
+            nested.setCompressedSize(nestedContent.length);
+            nested.setCrc(crc.getValue());
+            out.putNextEntry(nested);
+            out.write(nestedContent);
+            out.closeEntry();
+        }
+
+        MappedJarReader outer = MappedJarReader.open(outerJar);
+        try (MappedJarReader nested = outer.openNested(outer.getEntry("BOOT-INF/lib/nested.jar"))) {
+            outer.close();
+            assertFalse(outer.isClosed());
+            assertEquals(4, nested.size());
+            assertArrayEquals(STORED_CONTENT, nested.readBytes(nested.getEntry("com/example/stored.txt")));
+            assertArrayEquals(DEFLATED_CONTENT, nested.readBytes(nested.getEntry("com/example/deflated.txt")));
+        }
+        assertTrue(outer.isClosed());
+    }
+
+    @Test
+    void shouldRejectReadsAfterClose() throws Exception {
+        MappedJarReader reader = MappedJarReader.open(jarPath);
+        MappedJarEntry stored = reader.getEntry("com/example/stored.txt");
+        reader.close();
+
+        assertThrows(IOException.class, () -> reader.read(stored));
+    }
+
+    private static Path createTestJar(Path path) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, "com.example.Main");
+
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(path), manifest)) {
+            out.putNextEntry(new JarEntry("com/example/"));
+            out.closeEntry();
+
+            JarEntry stored = new JarEntry("com/example/stored.txt");
+            CRC32 crc = new CRC32();
+            crc.update(STORED_CONTENT);
+            stored.setMethod(JarEntry.STORED);
+            stored.setSize(STORED_CONTENT.length);
+            stored.setCompressedSize(STORED_CONTENT.length);
+            stored.setCrc(crc.getValue());
+            out.putNextEntry(stored);
+            out.write(STORED_CONTENT);
+            out.closeEntry();
+
+            out.putNextEntry(new JarEntry("com/example/deflated.txt"));
+            out.write(DEFLATED_CONTENT);
+            out.closeEntry();
+        }
+        return path;
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[256];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] repeat(String text, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package it.denzosoft.jreverse.analyzer.autowired;
+
+import it.denzosoft.jreverse.core.model.DependencyCycle;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DependencyCycleDetector.
+ */
+class DependencyCycleDetectorTest {
+    
+    @Test
+    void shouldFindNoCycleInAcyclicGraph() {
+        DependencyCycleDetector detector = new DependencyCycleDetector();
+        detector.addDependency("OrderController", "OrderService");
+        detector.addDependency("OrderService", "OrderRepository");
+        detector.addDependency("OrderController", "OrderRepository");
+        
+        assertTrue(detector.findCycles().isEmpty());
+        assertEquals(3, detector.getBeanCount());
+    }
+    
+    @Test
+    void shouldReportEveryCycleLargestFirst() {
+        DependencyCycleDetector detector = new DependencyCycleDetector();
+        detector.addDependency("A", "B");
+        detector.addDependency("B", "A");
+        detector.addDependency("B", "C");
+        detector.addDependency("C", "D");
+        detector.addDependency("D", "E");
+        detector.addDependency("E", "C");
+        detector.addDependency("E", "F");
+        
+        List<DependencyCycle> cycles = detector.findCycles();
+        
+        assertEquals(2, cycles.size());
+        assertEquals(Arrays.asList("C", "D", "E"), cycles.get(0).getBeans());
+        assertEquals(Arrays.asList("A", "B"), cycles.get(1).getBeans());
+        assertEquals(Collections.singletonList("C"), cycles.get(0).getDependenciesOf("E"));
+        assertEquals(Collections.singletonList("A"), cycles.get(1).getDependenciesOf("B"));
+        assertFalse(cycles.get(0).contains("F"));
+    }
+    
+    @Test
+    void shouldReportSelfDependencyOnce() {
+        DependencyCycleDetector detector = new DependencyCycleDetector();
+        detector.addDependency("AuditService", "AuditService");
+        detector.addDependency("AuditService", "AuditService");
+        detector.addDependency("AuditService", "Clock");
+        
+        List<DependencyCycle> cycles = detector.findCycles();
+        
+        assertEquals(1, cycles.size());
+        assertTrue(cycles.get(0).isSelfDependency());
+        assertEquals(Collections.singletonList("AuditService"), cycles.get(0).getDependenciesOf("AuditService"));
+    }
+    
+    @Test
+    void shouldHandleLongDependencyChainsWithoutRecursion() {
+        int beanCount = 50_000;
+        DependencyCycleDetector detector = new DependencyCycleDetector();
+        for (int i = 0; i < beanCount; i++) {
+            detector.addDependency("bean" + i, "bean" + ((i + 1) % beanCount));
+            detector.addDependency("bean" + i, "leaf" + i);
+        }
+        
+        List<DependencyCycle> cycles = detector.findCycles();
+        
+        assertEquals(1, cycles.size());
+        assertEquals(beanCount, cycles.get(0).getSize());
+        assertEquals("bean0", cycles.get(0).getBeans().get(0));
+    }
+}
@@ -0,0 +1,147 @@
+package it.denzosoft.jreverse.analyzer.autowired;
+
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.AutowiredAnalysisResult;
+import it.denzosoft.jreverse.core.model.AutowiringIssue;
+import it.denzosoft.jreverse.core.model.CancellationToken;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.ClassType;
+import it.denzosoft.jreverse.core.model.DependencyCycle;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.JarLocation;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+import it.denzosoft.jreverse.core.model.ParameterInfo;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the dependency cycles reported by JavassistAutowiredAnalyzer.
+ */
+class JavassistAutowiredAnalyzerTest {
+    
+    private static final String REPOSITORY = "org.springframework.stereotype.Repository";
+    private static final String SERVICE = "org.springframework.stereotype.Service";
+    private static final String PRIMARY = "org.springframework.context.annotation.Primary";
+    private static final String QUALIFIER = "org.springframework.beans.factory.annotation.Qualifier";
+    private static final String ORDER_REPOSITORY = "com.example.orders.OrderRepository";
+    
+    @Test
+    void shouldNotReportQualifiedDecoratorAsSelfDependency() {
+        JarContent jarContent = jar(
+            ClassInfo.builder()
+                .fullyQualifiedName(ORDER_REPOSITORY)
+                .classType(ClassType.INTERFACE)
+                .build(),
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.orders.JdbcOrderRepository")
+                .classType(ClassType.CLASS)
+                .addInterface(ORDER_REPOSITORY)
+                .addAnnotation(annotation(REPOSITORY))
+                .build(),
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.orders.AuditingOrderRepository")
+                .classType(ClassType.CLASS)
+                .addInterface(ORDER_REPOSITORY)
+                .addAnnotation(annotation(REPOSITORY))
+                .addAnnotation(annotation(PRIMARY))
+                .addMethod(constructor("com.example.orders.AuditingOrderRepository", ParameterInfo.builder()
+                    .name("delegate")
+                    .type(ORDER_REPOSITORY)
+                    .addAnnotation(AnnotationInfo.builder()
+                        .type(QUALIFIER)
+                        .addAttribute("value", "jdbcOrderRepository")
+                        .build())
+                    .build()))
+                .build());
+        
+        AutowiredAnalysisResult result = new JavassistAutowiredAnalyzer().analyzeAutowiring(jarContent);
+        
+        assertEquals(1, result.getDependenciesForClass("com.example.orders.AuditingOrderRepository").size());
+        assertTrue(result.getDependencyCycles().isEmpty());
+        assertTrue(cycleIssues(result).isEmpty());
+    }
+    
+    @Test
+    void shouldReportSelfDependencyWhenTypeResolvesOnlyToOwner() {
+        JarContent jarContent = jar(
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.orders.OrderService")
+                .classType(ClassType.CLASS)
+                .addAnnotation(annotation(SERVICE))
+                .addMethod(constructor("com.example.orders.OrderService", ParameterInfo.builder()
+                    .name("self")
+                    .type("com.example.orders.OrderService")
+                    .build()))
+                .build());
+        
+        AutowiredAnalysisResult result = new JavassistAutowiredAnalyzer().analyzeAutowiring(jarContent);
+        
+        List<DependencyCycle> cycles = result.getDependencyCycles();
+        assertEquals(1, cycles.size());
+        assertTrue(cycles.get(0).isSelfDependency());
+        assertEquals(Collections.singletonList("com.example.orders.OrderService"), cycles.get(0).getBeans());
+        assertEquals(1, cycleIssues(result).size());
+    }
+    
+    @Test
+    void shouldStopAndReportIncompleteWhenSessionIsCancelled() {
+        JarContent jarContent = jar(
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.orders.OrderService")
+                .classType(ClassType.CLASS)
+                .addAnnotation(annotation(SERVICE))
+                .addMethod(constructor("com.example.orders.OrderService", ParameterInfo.builder()
+                    .name("self")
+                    .type("com.example.orders.OrderService")
+                    .build()))
+                .build());
+        CancellationToken token = CancellationToken.create();
+        token.cancel();
+        
+        try (AnalysisSession session = AnalysisSession.open(jarContent, token)) {
+            AutowiredAnalysisResult result = new JavassistAutowiredAnalyzer(session).analyzeAutowiring(jarContent);
+            
+            assertFalse(result.getMetadata().isComplete());
+            assertTrue(result.getDependencies().isEmpty());
+            assertTrue(result.getDependencyCycles().isEmpty());
+            assertEquals(Collections.singleton(SessionKeys.AUTOWIRING.getName()), session.getIncompleteAnalyses());
+        }
+    }
+    
+    private static JarContent jar(ClassInfo... classes) {
+        JarContent.Builder builder = JarContent.builder()
+            .location(new JarLocation(Paths.get("/test/orders.jar")));
+        for (ClassInfo classInfo : classes) {
+            builder.addClass(classInfo);
+        }
+        return builder.build();
+    }
+    
+    private static AnnotationInfo annotation(String type) {
+        return AnnotationInfo.builder().type(type).build();
+    }
+    
+    private static MethodInfo constructor(String className, ParameterInfo parameter) {
+        return MethodInfo.builder()
+            .name("<init>")
+            .declaringClassName(className)
+            .returnType("void")
+            .isPublic(true)
+            .addParameter(parameter)
+            .build();
+    }
+    
+    private static List<AutowiringIssue> cycleIssues(AutowiredAnalysisResult result) {
+        return result.getIssues().stream()
+            .filter(issue -> issue.getType() == AutowiringIssue.IssueType.CIRCULAR_DEPENDENCY)
+            .collect(Collectors.toList());
+    }
+}
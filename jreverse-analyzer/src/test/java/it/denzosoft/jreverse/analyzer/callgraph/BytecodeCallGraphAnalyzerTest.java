@@ -0,0 +1,119 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.CallGraphAnalysisResult;
+import it.denzosoft.jreverse.core.model.CallGraphChain;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.JarLocation;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+import it.denzosoft.jreverse.core.model.ParameterInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BytecodeCallGraphAnalyzer, packaging the fixture classes of CallGraphBuilderTest.
+ */
+class BytecodeCallGraphAnalyzerTest {
+
+    private static final String APPLICATION_PACKAGE = CallGraphBuilderTest.class.getPackage().getName();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldFollowCallsOfApplicationClassesInWar() throws Exception {
+        Path war = ordersWar();
+
+        CallGraphAnalysisResult result = new BytecodeCallGraphAnalyzer().analyzeCallGraphs(ordersApplication(war));
+
+        assertEquals(1, result.getCallChains().size());
+        CallGraphChain chain = result.getCallChains().get(0);
+        assertEquals("/orders", chain.getEndpoint());
+        assertEquals("GET", chain.getHttpMethod());
+        Set<String> callees = chain.getRootNode().getChildren().stream()
+            .map(node -> node.getClassName() + "." + node.getMethodName())
+            .collect(Collectors.toSet());
+        assertTrue(callees.contains(CallGraphBuilderTest.OrderService.class.getName() + ".find"), callees.toString());
+    }
+
+    @Test
+    void shouldReadArchiveThroughReaderRegistryOfSession() throws Exception {
+        JarContent jarContent = ordersApplication(ordersWar());
+
+        JarReaderRegistry registry;
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
+            registry = session.getReaderRegistry();
+            CallGraphAnalysisResult result = new BytecodeCallGraphAnalyzer(session).analyzeCallGraphs(jarContent);
+
+            assertEquals(1, result.getCallChains().size());
+            assertEquals(1, registry.getOpenReaderCount());
+        }
+        assertEquals(0, registry.getOpenReaderCount());
+    }
+
+    @Test
+    void shouldKeepOnlyPackagesUnderApplicationRoots() {
+        Set<String> packages = new HashSet<>(Arrays.asList("com.example", "com.example.web", "com.examples", "org.library"));
+
+        assertEquals(new HashSet<>(Arrays.asList("com.example", "com.example.web")),
+            BytecodeCallGraphAnalyzer.applicationPackages(packages, Collections.singleton("com.example")));
+        assertEquals(packages, BytecodeCallGraphAnalyzer.applicationPackages(packages, Collections.emptySet()));
+    }
+
+    private Path ordersWar() throws Exception {
+        Path war = tempDir.resolve("orders.war");
+        try (OutputStream out = Files.newOutputStream(war);
+             JarOutputStream jar = new JarOutputStream(out)) {
+            for (Class<?> type : Arrays.asList(CallGraphBuilderTest.OrderController.class,
+                                               CallGraphBuilderTest.OrderService.class,
+                                               CallGraphBuilderTest.AuditedService.class,
+                                               CallGraphBuilderTest.OrderRepository.class)) {
+                jar.putNextEntry(new JarEntry("WEB-INF/classes/" + type.getName().replace('.', '/') + ".class"));
+                jar.write(CallGraphBuilderTest.classBytes(type));
+                jar.closeEntry();
+            }
+        }
+        return war;
+    }
+
+    private static JarContent ordersApplication(Path war) {
+        String controller = CallGraphBuilderTest.OrderController.class.getName();
+        return JarContent.builder()
+            .location(new JarLocation(war))
+            .addClass(ClassInfo.builder()
+                .fullyQualifiedName(APPLICATION_PACKAGE + ".OrdersApplication")
+                .addAnnotation(AnnotationInfo.simple("org.springframework.boot.autoconfigure.SpringBootApplication"))
+                .build())
+            .addClass(ClassInfo.builder()
+                .fullyQualifiedName(controller)
+                .addAnnotation(AnnotationInfo.simple("org.springframework.web.bind.annotation.RestController"))
+                .addMethod(MethodInfo.builder()
+                    .name("list")
+                    .declaringClassName(controller)
+                    .returnType("java.lang.String")
+                    .addParameter(ParameterInfo.builder().index(0).type("int").build())
+                    .addAnnotation(AnnotationInfo.builder()
+                        .type("org.springframework.web.bind.annotation.GetMapping")
+                        .addAttribute("value", "/orders")
+                        .build())
+                    .build())
+                .build())
+            .build();
+    }
+}
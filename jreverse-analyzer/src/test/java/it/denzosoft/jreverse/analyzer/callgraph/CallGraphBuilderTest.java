@@ -0,0 +1,283 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import it.denzosoft.jreverse.core.model.CallGraphChain;
+import it.denzosoft.jreverse.core.model.CallGraphNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CallGraphBuilder and CallGraphViews, using fixture classes compiled with the test sources.
+ */
+class CallGraphBuilderTest {
+
+    private CallGraph graph;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        graph = orderGraph(new CallGraphBuilder());
+    }
+
+    @Test
+    void shouldStoreDistinctCalleesOfEachMethod() {
+        int list = method(OrderController.class, "list", "(I)Ljava/lang/String;");
+
+        List<String> callees = callees(list);
+        assertEquals(1, callees.stream().filter(callee -> callee.equals(OrderService.class.getName() + ".find")).count());
+        assertTrue(callees.contains(OrderController.class.getName() + ".render"));
+        assertTrue(callees.contains("java.lang.String.valueOf"));
+        assertTrue(graph.hasBody(list));
+        assertTrue(graph.isInternal(list));
+    }
+
+    @Test
+    void shouldWalkSwitchInstructions() {
+        int render = method(OrderController.class, "render", "(I)Ljava/lang/String;");
+
+        List<String> callees = callees(render);
+        assertTrue(callees.contains(OrderController.class.getName() + ".small"));
+        assertTrue(callees.contains(OrderController.class.getName() + ".large"));
+    }
+
+    @Test
+    void shouldBindInheritedCallsToDeclaringSuperclass() {
+        int find = method(OrderService.class, "find", "(I)Ljava/util/List;");
+
+        List<String> callees = callees(find);
+        assertTrue(callees.contains(AuditedService.class.getName() + ".audit"));
+        assertTrue(callees.contains(OrderRepository.class.getName() + ".findAll"));
+        assertFalse(callees.contains(OrderService.class.getName() + ".audit"));
+        assertFalse(graph.hasBody(graph.indexOf(OrderRepository.class.getName(), "findAll", "(I)Ljava/util/List;")));
+    }
+
+    @Test
+    void shouldListMethodsOfClassAndReachableMethods() {
+        int[] methods = graph.getMethodsOf(OrderController.class.getName());
+        int list = method(OrderController.class, "list", "(I)Ljava/lang/String;");
+
+        assertTrue(Arrays.stream(methods).anyMatch(method -> method == list));
+        assertTrue(graph.reachableFrom(list).get(method(AuditedService.class, "audit", "(Ljava/lang/String;)V")));
+        assertEquals(0, graph.getMethodsOf("com.example.Missing").length);
+    }
+
+    @Test
+    void shouldDeriveChainExpandingEachMethodOnce() {
+        int list = method(OrderController.class, "list", "(I)Ljava/lang/String;");
+
+        CallGraphChain chain = new CallGraphViews(graph).chain("/orders", "GET", list);
+        CallGraphNode root = chain.getRootNode();
+
+        assertEquals(OrderController.class.getName(), chain.getControllerClass());
+        assertEquals("list", chain.getControllerMethod());
+        assertTrue(root.getChildren().stream().noneMatch(child -> child.getClassName().startsWith("java.")));
+        assertTrue(chain.getMaxDepth() >= 2);
+        assertEquals(root.getTotalChildCount(), chain.getTotalCalls());
+    }
+
+    @Test
+    void shouldStopAtMaxDepth() {
+        int list = method(OrderController.class, "list", "(I)Ljava/lang/String;");
+
+        CallGraphNode root = new CallGraphViews(graph, 1).node(list);
+
+        assertFalse(root.getChildren().isEmpty());
+        assertTrue(root.getChildren().stream().noneMatch(CallGraphNode::hasChildren));
+    }
+
+    @Test
+    void shouldResolveInterfaceCallsToAllImplementations() throws IOException {
+        graph = checkoutGraph(new CallGraphBuilder());
+        int checkout = method(CheckoutService.class, "checkout", "(I)V");
+
+        List<String> callees = callees(checkout);
+        assertTrue(callees.contains(CardGateway.class.getName() + ".charge"));
+        assertTrue(callees.contains(WireGateway.class.getName() + ".charge"));
+        assertFalse(callees.contains(PaymentGateway.class.getName() + ".charge"));
+    }
+
+    @Test
+    void shouldNarrowInterfaceCallsToBeanImplementations() throws IOException {
+        graph = checkoutGraph(new CallGraphBuilder().beanTypes(Collections.singleton(CardGateway.class.getName())));
+        int checkout = method(CheckoutService.class, "checkout", "(I)V");
+
+        List<String> callees = callees(checkout);
+        assertTrue(callees.contains(CardGateway.class.getName() + ".charge"));
+        assertFalse(callees.contains(WireGateway.class.getName() + ".charge"));
+        assertTrue(graph.reachableFrom(checkout).get(method(CardGateway.class, "charge", "(I)V")));
+    }
+
+    @Test
+    void shouldKeepCallsWithoutScannedImplementations() {
+        int find = method(OrderService.class, "find", "(I)Ljava/util/List;");
+
+        assertTrue(callees(find).contains(OrderRepository.class.getName() + ".findAll"));
+    }
+
+    @Test
+    void shouldSkipBodiesReferencingNoApplicationMethod() throws IOException {
+        graph = orderGraph(new CallGraphBuilder().applicationPackages(Collections.singleton("com.example")));
+        int list = method(OrderController.class, "list", "(I)Ljava/lang/String;");
+
+        assertTrue(graph.hasBody(list));
+        assertEquals(0, graph.getCalleeCount(list));
+    }
+
+    @Test
+    void shouldWalkBodiesReferencingApplicationMethod() throws IOException {
+        String applicationPackage = OrderController.class.getPackage().getName();
+        graph = orderGraph(new CallGraphBuilder().applicationPackages(Collections.singleton(applicationPackage)));
+        int list = method(OrderController.class, "list", "(I)Ljava/lang/String;");
+
+        List<String> callees = callees(list);
+        assertTrue(callees.contains(OrderService.class.getName() + ".find"));
+        assertTrue(callees.contains("java.lang.String.valueOf"));
+    }
+
+    private static CallGraph orderGraph(CallGraphBuilder builder) throws IOException {
+        for (Class<?> type : Arrays.asList(OrderController.class, OrderService.class, AuditedService.class,
+                                           OrderRepository.class)) {
+            builder.addClass(ByteBuffer.wrap(classBytes(type)));
+        }
+        return builder.build();
+    }
+
+    private static CallGraph checkoutGraph(CallGraphBuilder builder) throws IOException {
+        for (Class<?> type : Arrays.asList(CheckoutService.class, PaymentGateway.class, CardGateway.class,
+                                           WireGateway.class)) {
+            builder.addClass(ByteBuffer.wrap(classBytes(type)));
+        }
+        return builder.build();
+    }
+
+    private int method(Class<?> type, String name, String descriptor) {
+        int method = graph.indexOf(type.getName(), name, descriptor);
+        assertNotEquals(CallGraph.NO_METHOD, method, type.getName() + "." + name + descriptor);
+        return method;
+    }
+
+    private List<String> callees(int method) {
+        return Arrays.stream(graph.getCallees(method))
+            .mapToObj(callee -> graph.getClassName(callee) + "." + graph.getMethodName(callee))
+            .collect(Collectors.toList());
+    }
+
+    static byte[] classBytes(Class<?> type) throws IOException {
+        String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream in = CallGraphBuilderTest.class.getResourceAsStream(resource)) {
+            assertNotNull(in, resource);
+            byte[] buffer = new byte[8192];
+            int length = 0;
+            int read;
+            while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    interface OrderRepository {
+        List<String> findAll(int limit);
+    }
+
+    static class AuditedService {
+        void audit(String operation) {
+            System.out.println(operation);
+        }
+    }
+
+    static class OrderService extends AuditedService {
+        private final OrderRepository repository;
+
+        OrderService(OrderRepository repository) {
+            this.repository = repository;
+        }
+
+        List<String> find(int limit) {
+            audit("find");
+            return repository.findAll(limit);
+        }
+    }
+
+    interface PaymentGateway {
+        void charge(int amount);
+    }
+
+    static class CardGateway implements PaymentGateway {
+        @Override
+        public void charge(int amount) {
+            System.out.println("card " + amount);
+        }
+    }
+
+    static class WireGateway implements PaymentGateway {
+        @Override
+        public void charge(int amount) {
+            System.out.println("wire " + amount);
+        }
+    }
+
+    static class CheckoutService {
+        private final PaymentGateway gateway;
+
+        CheckoutService(PaymentGateway gateway) {
+            this.gateway = gateway;
+        }
+
+        void checkout(int amount) {
+            gateway.charge(amount);
+        }
+    }
+
+    static class OrderController {
+        private final OrderService service;
+
+        OrderController(OrderService service) {
+            this.service = service;
+        }
+
+        String list(int limit) {
+            List<String> first = service.find(limit);
+            List<String> second = service.find(limit * 2);
+            return render(first.size() + second.size()) + String.valueOf(limit);
+        }
+
+        String render(int count) {
+            switch (count) {
+                case 0:
+                case 1:
+                case 2:
+                    return small(count);
+                default:
+                    break;
+            }
+            switch (count) {
+                case 10:
+                case 1000:
+                case 100000:
+                    return large(count, 1.5d, 3L);
+                default:
+                    return "";
+            }
+        }
+
+        String small(int count) {
+            return "small" + count;
+        }
+
+        String large(int count, double factor, long offset) {
+            return "large" + (count * factor + offset);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package it.denzosoft.jreverse.analyzer.callgraph;
+
+import it.denzosoft.jreverse.core.model.CallGraphChain;
+import it.denzosoft.jreverse.core.model.CallGraphNode;
+import it.denzosoft.jreverse.core.model.CallType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MethodSummaries and the subtrees shared by CallGraphViews.
+ */
+class MethodSummariesTest {
+
+    private CallGraph graph;
+    private MethodSummaries summaries;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        CallGraphBuilder builder = new CallGraphBuilder();
+        for (Class<?> type : Arrays.asList(InvoiceController.class, InvoiceService.class, InvoiceStore.class,
+                                           PaymentClient.class, TreeWalker.class)) {
+            builder.addClass(ByteBuffer.wrap(classBytes(type)));
+        }
+        graph = builder.build();
+        summaries = new MethodSummaries(graph);
+    }
+
+    @Test
+    void shouldPropagateDatabaseAndExternalFlagsToCallers() {
+        MethodSummary list = summaries.get(method(InvoiceController.class, "list", "()I"));
+        MethodSummary pay = summaries.get(method(InvoiceController.class, "pay", "(Ljava/net/HttpURLConnection;)I"));
+        MethodSummary load = summaries.get(method(InvoiceStore.class, "load", "(Ljava/sql/Connection;)I"));
+
+        assertTrue(load.hasDirectDatabaseAccess());
+        assertTrue(list.hasDatabaseAccess());
+        assertFalse(list.hasDirectDatabaseAccess());
+        assertFalse(list.hasExternalCall());
+        assertTrue(pay.hasExternalCall());
+        assertEquals(2, list.getDepth());
+    }
+
+    @Test
+    void shouldSummarizeRecursiveMethodsAsOneComponent() {
+        MethodSummary visit = summaries.get(method(TreeWalker.class, "visit", "(I)I"));
+        MethodSummary descend = summaries.get(method(TreeWalker.class, "descend", "(I)I"));
+        MethodSummary walk = summaries.get(method(TreeWalker.class, "walk", "(I)I"));
+
+        assertEquals(visit.getComponent(), descend.getComponent());
+        assertNotEquals(walk.getComponent(), visit.getComponent());
+        assertEquals(1, visit.getDepth());
+        assertEquals(2, walk.getDepth());
+    }
+
+    @Test
+    void shouldComputeEachSummaryOnce() {
+        int find = method(InvoiceService.class, "find", "()I");
+        MethodSummary first = summaries.get(find);
+
+        summaries.get(method(InvoiceController.class, "list", "()I"));
+
+        assertSame(first, summaries.get(find));
+        assertSame(first, summaries.get(InvoiceService.class.getName(), "find", "()I"));
+        assertNull(summaries.get("com.example.Missing", "find", "()I"));
+    }
+
+    @Test
+    void shouldShareSubtreesBetweenChains() {
+        CallGraphViews views = new CallGraphViews(summaries, CallGraphViews.DEFAULT_MAX_DEPTH);
+
+        CallGraphChain list = views.chain("/invoices", "GET", method(InvoiceController.class, "list", "()I"));
+        CallGraphChain count = views.chain("/invoices/count", "GET", method(InvoiceController.class, "count", "()I"));
+
+        CallGraphNode shared = list.getRootNode().getChildren().get(0);
+        assertSame(shared, count.getRootNode().getChildren().get(0));
+        assertEquals(list.getRootNode().getTotalChildCount(), list.getTotalCalls());
+        assertEquals(list.getRootNode().getMaxDepth(), list.getMaxDepth());
+        assertTrue(list.getInvolvedComponents().contains(InvoiceStore.class.getName()));
+        assertEquals(CallType.DATABASE_ACCESS, shared.getChildren().get(0).getCallType());
+    }
+
+    @Test
+    void shouldShowRecursiveCallsAsLeaves() {
+        CallGraphNode walk = new CallGraphViews(graph).node(method(TreeWalker.class, "walk", "(I)I"));
+
+        CallGraphNode visit = walk.getChildren().get(0);
+        CallGraphNode descend = visit.getChildren().get(0);
+        assertEquals("descend", descend.getMethodName());
+        assertFalse(descend.hasChildren());
+    }
+
+    private int method(Class<?> type, String name, String descriptor) {
+        int method = graph.indexOf(type.getName(), name, descriptor);
+        assertNotEquals(CallGraph.NO_METHOD, method, type.getName() + "." + name + descriptor);
+        return method;
+    }
+
+    private static byte[] classBytes(Class<?> type) throws IOException {
+        String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream in = MethodSummariesTest.class.getResourceAsStream(resource)) {
+            assertNotNull(in, resource);
+            byte[] buffer = new byte[8192];
+            int length = 0;
+            int read;
+            while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    static class InvoiceStore {
+        int load(Connection connection) {
+            try {
+                return connection.prepareStatement("select 1").executeUpdate();
+            } catch (SQLException e) {
+                return -1;
+            }
+        }
+    }
+
+    static class InvoiceService {
+        private final InvoiceStore store = new InvoiceStore();
+
+        int find() {
+            return store.load(null);
+        }
+    }
+
+    static class PaymentClient {
+        int send(HttpURLConnection connection) {
+            try {
+                return connection.getResponseCode();
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+    }
+
+    static class InvoiceController {
+        private final InvoiceService service = new InvoiceService();
+        private final PaymentClient client = new PaymentClient();
+
+        int list() {
+            return service.find();
+        }
+
+        int count() {
+            return service.find();
+        }
+
+        int pay(HttpURLConnection connection) {
+            return client.send(connection);
+        }
+    }
+
+    static class TreeWalker {
+        int walk(int node) {
+            return visit(node);
+        }
+
+        int visit(int node) {
+            return node > 0 ? descend(node) : 0;
+        }
+
+        int descend(int node) {
+            return visit(node - 1) + 1;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package it.denzosoft.jreverse.analyzer.classfile;
+
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.ClassType;
+import it.denzosoft.jreverse.core.model.FieldInfo;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+import it.denzosoft.jreverse.core.model.TypeHierarchy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ClassFileParser, using fixture classes compiled with the test sources.
+ */
+class ClassFileParserTest {
+
+    private final ClassFileParser parser = ClassFileParser.builder().build();
+
+    @Test
+    void shouldParseClassHeaderAndHierarchy() throws Exception {
+        ClassInfo classInfo = parse(Fixture.class);
+
+        assertEquals(Fixture.class.getName(), classInfo.getFullyQualifiedName());
+        assertEquals(ClassType.CLASS, classInfo.getClassType());
+        assertEquals("java.lang.Object", classInfo.getSuperClassName());
+        assertTrue(classInfo.getInterfaceNames().contains("java.util.concurrent.Callable"));
+        assertTrue(classInfo.getInterfaceNames().contains("java.io.Serializable"));
+    }
+
+    @Test
+    void shouldParseClassAnnotationAttributes() throws Exception {
+        ClassInfo classInfo = parse(Fixture.class);
+        AnnotationInfo marker = classInfo.getAnnotations().stream()
+            .filter(annotation -> annotation.getType().equals(Marker.class.getName()))
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+
+        assertArrayEquals(new String[] {"first", "second"}, marker.getStringArrayAttribute("value"));
+        assertEquals(Integer.valueOf(7), marker.getIntegerAttribute("priority"));
+        assertEquals("TYPE", marker.getStringAttribute("target"));
+        assertEquals("java.lang.String", marker.getStringAttribute("type"));
+    }
+
+    @Test
+    void shouldParseFields() throws Exception {
+        ClassInfo classInfo = parse(Fixture.class);
+
+        FieldInfo constant = field(classInfo, "LIMIT");
+        assertEquals("int", constant.getType());
+        assertTrue(constant.isStatic());
+        assertTrue(constant.isFinal());
+        assertEquals(10, constant.getDefaultValue());
+
+        FieldInfo names = field(classInfo, "names");
+        assertEquals("java.util.List", names.getType());
+        assertTrue(names.isPrivate());
+        assertTrue(names.isTransient());
+        assertTrue(names.hasAnnotation(Marker.class.getName()));
+
+        assertEquals("long[][]", field(classInfo, "matrix").getType());
+    }
+
+    @Test
+    void shouldParseMethodsAndParameters() throws Exception {
+        ClassInfo classInfo = parse(Fixture.class);
+
+        MethodInfo call = method(classInfo, "call");
+        assertEquals("java.lang.String", call.getReturnType());
+        assertTrue(call.getThrownExceptions().contains("java.io.IOException"));
+
+        MethodInfo format = method(classInfo, "format");
+        assertTrue(format.isStatic());
+        assertEquals(2, format.getParameters().size());
+        assertEquals("java.lang.String", format.getParameters().get(0).getType());
+        assertEquals("java.lang.Object[]", format.getParameters().get(1).getType());
+        assertTrue(format.getParameters().get(1).isVarArgs());
+        assertTrue(format.getParameters().get(0).hasAnnotation(Marker.class.getName()));
+
+        MethodInfo constructor = method(classInfo, "<init>");
+        assertEquals(1, constructor.getParameters().size());
+        assertNull(classInfo.getMethods().stream()
+            .filter(method -> method.getName().equals("<clinit>"))
+            .findFirst()
+            .orElse(null));
+    }
+
+    @Test
+    void shouldDetectClassTypes() throws Exception {
+        assertEquals(ClassType.INTERFACE, parse(Callable.class).getClassType());
+        assertEquals(ClassType.ENUM, parse(ElementType.class).getClassType());
+    }
+
+    @Test
+    void shouldMapAnnotationTypesToInterface() throws Exception {
+        ClassInfo marker = parse(Marker.class);
+
+        assertEquals(ClassType.INTERFACE, marker.getClassType());
+        assertTrue(marker.isInterface());
+    }
+
+    @Test
+    void shouldMarkAbstractClasses() throws Exception {
+        assertEquals(ClassType.ABSTRACT_CLASS, parse(AbstractHandler.class).getClassType());
+        assertEquals(ClassType.CLASS, parse(AuditHandler.class).getClassType());
+    }
+
+    @Test
+    void shouldExcludeParsedAbstractClassesFromImplementors() throws Exception {
+        TypeHierarchy hierarchy = TypeHierarchy.of(Arrays.asList(
+            parse(Handler.class), parse(AbstractHandler.class), parse(AuditHandler.class)));
+
+        assertEquals(Collections.singleton(AuditHandler.class.getName()),
+                     hierarchy.getImplementors(Handler.class.getName()));
+        assertEquals(Collections.singleton(AuditHandler.class.getName()),
+                     hierarchy.getImplementors(AbstractHandler.class.getName()));
+        assertTrue(hierarchy.getSubtypes(Handler.class.getName()).contains(AbstractHandler.class.getName()));
+    }
+
+    @Test
+    void shouldSkipMembersWhenNotRequested() throws Exception {
+        ClassFileParser headerParser = ClassFileParser.builder().includeMembers(false).build();
+        ClassInfo classInfo = headerParser.parse(ByteBuffer.wrap(classBytes(Fixture.class)));
+
+        assertTrue(classInfo.getMethods().isEmpty());
+        assertTrue(classInfo.getFields().isEmpty());
+        assertTrue(classInfo.hasAnnotation(Marker.class.getName()));
+    }
+
+    @Test
+    void shouldVisitCodeOnlyWhenRequested() throws Exception {
+        List<String> visited = new ArrayList<>();
+        parser.parse(ByteBuffer.wrap(classBytes(Fixture.class)),
+            (className, methodName, descriptor, code) -> {
+                assertTrue(code.remaining() > 0);
+                visited.add(methodName);
+            });
+
+        assertTrue(visited.contains("call"));
+        assertTrue(visited.contains("<init>"));
+        assertTrue(visited.contains("<clinit>"));
+    }
+
+    @Test
+    void shouldRejectInvalidClassFile() {
+        assertThrows(IOException.class, () -> parser.parse(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})));
+        assertThrows(IOException.class, () -> parser.parse(ByteBuffer.wrap(new byte[] {(byte) 0xCA, (byte) 0xFE})));
+    }
+
+    private ClassInfo parse(Class<?> type) throws IOException {
+        return parser.parse(ByteBuffer.wrap(classBytes(type)));
+    }
+
+    private static byte[] classBytes(Class<?> type) throws IOException {
+        String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream in = ClassFileParserTest.class.getResourceAsStream(resource)) {
+            assertNotNull(in, resource);
+            byte[] buffer = new byte[8192];
+            int length = 0;
+            int read;
+            while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    private static FieldInfo field(ClassInfo classInfo, String name) {
+        return classInfo.getFields().stream()
+            .filter(field -> field.getName().equals(name))
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+    }
+
+    private static MethodInfo method(ClassInfo classInfo, String name) {
+        return classInfo.getMethods().stream()
+            .filter(method -> method.getName().equals(name))
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+        String[] value() default {};
+        int priority() default 0;
+        ElementType target() default ElementType.FIELD;
+        Class<?> type() default Object.class;
+    }
+
+    @Marker(value = {"first", "second"}, priority = 7, target = ElementType.TYPE, type = String.class)
+    static class Fixture implements Callable<String>, Serializable {
+
+        static final int LIMIT = 10;
+        static final List<String> DEFAULTS = new ArrayList<>();
+
+        @Marker
+        private transient List<String> names;
+        protected long[][] matrix;
+
+        Fixture(List<String> names) {
+            this.names = names;
+        }
+
+        @Override
+        public String call() throws IOException {
+            return String.valueOf(names);
+        }
+
+        static String format(@Marker String pattern, Object... arguments) {
+            return String.format(pattern, arguments);
+        }
+    }
+
+    interface Handler {
+        void handle(String event);
+    }
+
+    abstract static class AbstractHandler implements Handler {
+        @Override
+        public void handle(String event) {
+            accept(event);
+        }
+
+        protected abstract void accept(String event);
+    }
+
+    static class AuditHandler extends AbstractHandler {
+        @Override
+        protected void accept(String event) {
+        }
+    }
+}
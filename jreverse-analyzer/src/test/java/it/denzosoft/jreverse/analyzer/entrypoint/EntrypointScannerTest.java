@@ -0,0 +1,227 @@
+package it.denzosoft.jreverse.analyzer.entrypoint;
+
+import it.denzosoft.jreverse.analyzer.async.AsyncEntrypointInfo;
+import it.denzosoft.jreverse.analyzer.async.AsyncEntrypointType;
+import it.denzosoft.jreverse.analyzer.async.JavassistAsyncEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.messaging.JavassistMessagingEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.messaging.MessagingEntrypointInfo;
+import it.denzosoft.jreverse.analyzer.messaging.MessagingEntrypointType;
+import it.denzosoft.jreverse.analyzer.scheduling.JavassistSchedulingEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.scheduling.SchedulingEntrypointInfo;
+import it.denzosoft.jreverse.analyzer.security.JavassistSecurityEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.security.SecurityEntrypointInfo;
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.JarLocation;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+import it.denzosoft.jreverse.core.model.SymbolTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the single-pass entrypoint traversal.
+ */
+class EntrypointScannerTest {
+
+    private static final String PRE_AUTHORIZE = "org.springframework.security.access.prepost.PreAuthorize";
+    private static final String SECURED = "org.springframework.security.access.annotation.Secured";
+    private static final String SCHEDULED = "org.springframework.scheduling.annotation.Scheduled";
+    private static final String ASYNC = "org.springframework.scheduling.annotation.Async";
+    private static final String ENABLE_ASYNC = "org.springframework.scheduling.annotation.EnableAsync";
+    private static final String KAFKA_LISTENER = "org.springframework.kafka.annotation.KafkaListener";
+
+    @TempDir
+    Path tempDir;
+
+    private JarContent jarContent;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path jarPath = Files.createFile(tempDir.resolve("app.jar"));
+        jarContent = JarContent.builder()
+            .location(new JarLocation(jarPath))
+            .addClass(ClassInfo.builder()
+                .fullyQualifiedName("com.example.OrderService")
+                .addAnnotation(annotation(ENABLE_ASYNC))
+                .addMethod(method("com.example.OrderService", "placeOrder", "void", annotation(PRE_AUTHORIZE, "value", "hasRole('ADMIN')"), annotation(SECURED)))
+                .addMethod(method("com.example.OrderService", "sendOrder", "java.util.concurrent.CompletableFuture", annotation(ASYNC)))
+                .addMethod(method("com.example.OrderService", "cleanup", "void", annotation(SCHEDULED, "fixedRate", 5000L), annotation(ASYNC)))
+                .addMethod(method("com.example.OrderService", "poll", "reactor.core.publisher.Mono"))
+                .build())
+            .addClass(ClassInfo.builder()
+                .fullyQualifiedName("com.example.OrderListener")
+                .addMethod(method("com.example.OrderListener", "onOrder", "void", annotation(KAFKA_LISTENER, "topics", "orders")))
+                .addMethod(method("com.example.OrderListener", "kafkaTemplate", "org.springframework.kafka.core.KafkaTemplate"))
+                .addMethod(method("com.example.OrderListener", "toString", "java.lang.String"))
+                .build())
+            .addClass(ClassInfo.builder()
+                .fullyQualifiedName("com.example.Plain")
+                .addMethod(method("com.example.Plain", "run", "void"))
+                .build())
+            .build();
+    }
+
+    @Test
+    void testScan_MatchesIndividualAnalyzers() {
+        EntrypointScanResult result = new EntrypointScanner().scan(jarContent);
+
+        assertEquals(securityKeys(new JavassistSecurityEntrypointAnalyzer().analyze(jarContent).getSecurityEntrypoints()),
+                     securityKeys(result.getSecurityResult().getSecurityEntrypoints()));
+        assertEquals(messagingKeys(new JavassistMessagingEntrypointAnalyzer().analyze(jarContent).getMessagingEntrypoints()),
+                     messagingKeys(result.getMessagingResult().getMessagingEntrypoints()));
+        assertEquals(schedulingKeys(new JavassistSchedulingEntrypointAnalyzer().analyze(jarContent).getSchedulingEntrypoints()),
+                     schedulingKeys(result.getSchedulingResult().getSchedulingEntrypoints()));
+        assertEquals(asyncKeys(new JavassistAsyncEntrypointAnalyzer().analyze(jarContent).getAsyncEntrypoints()),
+                     asyncKeys(result.getAsyncResult().getAsyncEntrypoints()));
+        assertEquals("app.jar", result.getSecurityResult().getJarFileName());
+    }
+
+    @Test
+    void testAnalyzers_KeepTheirMatchingRules() {
+        List<SecurityEntrypointInfo> security =
+            new JavassistSecurityEntrypointAnalyzer().analyze(jarContent).getSecurityEntrypoints();
+        assertEquals(2, security.size());
+        assertTrue(security.stream().allMatch(entrypoint -> "placeOrder".equals(entrypoint.getMethodName())));
+
+        List<SchedulingEntrypointInfo> scheduling =
+            new JavassistSchedulingEntrypointAnalyzer().analyze(jarContent).getSchedulingEntrypoints();
+        assertEquals(2, scheduling.size());
+
+        List<AsyncEntrypointInfo> async = new JavassistAsyncEntrypointAnalyzer().analyze(jarContent).getAsyncEntrypoints();
+        assertEquals(4, async.size());
+        assertTrue(async.stream().anyMatch(entrypoint ->
+            "poll".equals(entrypoint.getMethodName()) && entrypoint.getAsyncType() == AsyncEntrypointType.WEBFLUX_MONO));
+
+        List<MessagingEntrypointInfo> messaging =
+            new JavassistMessagingEntrypointAnalyzer().analyze(jarContent).getMessagingEntrypoints();
+        assertEquals(2, messaging.size());
+        assertTrue(messaging.stream().anyMatch(entrypoint ->
+            "kafkaTemplate".equals(entrypoint.getMethodName()) && entrypoint.getMessagingType() == MessagingEntrypointType.KAFKA_PRODUCER));
+    }
+
+    @Test
+    void testTraversal_DispatchesOnlySubscribedAnnotations() {
+        CountingVisitor scheduled = new CountingVisitor(Collections.singleton(SCHEDULED));
+        CountingVisitor async = new CountingVisitor(Collections.singleton(ASYNC));
+
+        EntrypointTraversal.of(scheduled, async).traverse(jarContent);
+
+        assertEquals(Collections.singletonList("cleanup"), scheduled.methods);
+        assertEquals(2, async.methods.size());
+        assertEquals(0, scheduled.classes.get());
+    }
+
+    @Test
+    void testTraversal_DispatchesAnnotationsOfEachAnalysisByItsOwnIds() {
+        SymbolTable firstAnalysis = new SymbolTable();
+        SymbolTable secondAnalysis = new SymbolTable();
+        firstAnalysis.getAnnotationTypes().idOf(KAFKA_LISTENER);
+        firstAnalysis.getAnnotationTypes().idOf(ENABLE_ASYNC);
+        CountingVisitor scheduled = new CountingVisitor(Collections.singleton(SCHEDULED));
+        EntrypointTraversal traversal = EntrypointTraversal.of(scheduled);
+
+        traversal.traverseClass(ClassInfo.builder()
+            .fullyQualifiedName("com.example.FirstJob")
+            .addMethod(method("com.example.FirstJob", "run", "void",
+                AnnotationInfo.builder().type(SCHEDULED).symbols(firstAnalysis).build()))
+            .build());
+        traversal.traverseClass(ClassInfo.builder()
+            .fullyQualifiedName("com.example.SecondJob")
+            .addMethod(method("com.example.SecondJob", "run", "void",
+                AnnotationInfo.builder().type(ASYNC).symbols(secondAnalysis).build()))
+            .addMethod(method("com.example.SecondJob", "tick", "void",
+                AnnotationInfo.builder().type(SCHEDULED).symbols(secondAnalysis).build()))
+            .build());
+
+        assertEquals(Arrays.asList("run", "tick"), scheduled.methods);
+    }
+
+    private static AnnotationInfo annotation(String type) {
+        return AnnotationInfo.builder().type(type).build();
+    }
+
+    private static AnnotationInfo annotation(String type, String attribute, Object value) {
+        return AnnotationInfo.builder().type(type).addAttribute(attribute, value).build();
+    }
+
+    private static MethodInfo method(String className, String name, String returnType, AnnotationInfo... annotations) {
+        MethodInfo.Builder builder = MethodInfo.builder()
+            .name(name)
+            .declaringClassName(className)
+            .returnType(returnType)
+            .isPublic(true);
+        for (AnnotationInfo annotation : annotations) {
+            builder.addAnnotation(annotation);
+        }
+        return builder.build();
+    }
+
+    private static List<String> securityKeys(List<SecurityEntrypointInfo> entrypoints) {
+        return entrypoints.stream()
+            .map(entrypoint -> entrypoint.getMethodName() + ":" + entrypoint.getSecurityType())
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> messagingKeys(List<MessagingEntrypointInfo> entrypoints) {
+        return entrypoints.stream()
+            .map(entrypoint -> entrypoint.getMethodName() + ":" + entrypoint.getMessagingType())
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> schedulingKeys(List<SchedulingEntrypointInfo> entrypoints) {
+        return entrypoints.stream()
+            .map(entrypoint -> entrypoint.getMethodName() + ":" + entrypoint.getSchedulingType())
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> asyncKeys(List<AsyncEntrypointInfo> entrypoints) {
+        return entrypoints.stream()
+            .map(entrypoint -> entrypoint.getMethodName() + ":" + entrypoint.getAsyncType())
+            .collect(Collectors.toList());
+    }
+
+    private static class CountingVisitor implements EntrypointVisitor<Integer> {
+
+        private final Set<String> annotationTypes;
+        private final List<String> methods = new ArrayList<>();
+        private final AtomicInteger classes = new AtomicInteger();
+
+        CountingVisitor(Set<String> annotationTypes) {
+            this.annotationTypes = annotationTypes;
+        }
+
+        @Override
+        public Set<String> getAnnotationTypes() {
+            return annotationTypes;
+        }
+
+        @Override
+        public void visitClass(ClassInfo classInfo, List<AnnotationInfo> annotations) {
+            classes.incrementAndGet();
+        }
+
+        @Override
+        public void visitMethod(ClassInfo classInfo, MethodInfo method, List<AnnotationInfo> annotations) {
+            methods.add(method.getName());
+        }
+
+        @Override
+        public Integer getResult(long analysisTimeMs, String jarFileName) {
+            return methods.size();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package it.denzosoft.jreverse.analyzer.factory;
+
+import it.denzosoft.jreverse.analyzer.detector.SpringBootDetector;
+import it.denzosoft.jreverse.analyzer.impl.DefaultJarAnalyzer;
+import it.denzosoft.jreverse.analyzer.impl.RegularJarAnalyzer;
+import it.denzosoft.jreverse.analyzer.impl.SpringBootJarAnalyzer;
+import it.denzosoft.jreverse.core.model.JarLocation;
+import it.denzosoft.jreverse.core.port.JarAnalyzerPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JavassistAnalyzerFactory.
+ */
+class JavassistAnalyzerFactoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCreateAnalyzer_SniffedSpringBootJarUsesInjectedDetector() throws Exception {
+        SpringBootDetector detector = new SpringBootDetector();
+        JavassistAnalyzerFactory factory = new JavassistAnalyzerFactory(detector);
+        Path jarPath = createJar(tempDir.resolve("boot.jar"),
+            "BOOT-INF/classes/com/example/App.class",
+            "org/springframework/boot/loader/JarLauncher.class");
+
+        JarAnalyzerPort analyzer = factory.createAnalyzer(new JarLocation(jarPath));
+
+        assertTrue(analyzer instanceof SpringBootJarAnalyzer);
+        assertSame(detector, factory.getSpringBootDetector());
+        assertNull(factory.getIngestionPool());
+        assertEquals(0, factory.getReaderRegistry().getOpenReaderCount());
+    }
+
+    @Test
+    void testCreateAnalyzer_PlainJarUsesRegularAnalyzer() throws Exception {
+        JavassistAnalyzerFactory factory = new JavassistAnalyzerFactory(new SpringBootDetector());
+        Path jarPath = createJar(tempDir.resolve("plain.jar"), "com/example/Main.class");
+
+        assertTrue(factory.createAnalyzer(new JarLocation(jarPath)) instanceof RegularJarAnalyzer);
+    }
+
+    @Test
+    void testClose_ShutsDownIngestionPool() {
+        JavassistAnalyzerFactory factory = new JavassistAnalyzerFactory(2);
+        DefaultJarAnalyzer analyzer = (DefaultJarAnalyzer) factory.createDefaultAnalyzer();
+        assertTrue(analyzer.isParallelIngestionEnabled());
+
+        factory.close();
+
+        assertTrue(factory.getIngestionPool().isShutdown());
+        assertFalse(analyzer.isParallelIngestionEnabled());
+    }
+
+    private static Path createJar(Path jarPath, String... entryNames) throws Exception {
+        try (OutputStream out = Files.newOutputStream(jarPath);
+             JarOutputStream jar = new JarOutputStream(out)) {
+            for (String entryName : entryNames) {
+                jar.putNextEntry(new JarEntry(entryName));
+                jar.write(new byte[] {0});
+                jar.closeEntry();
+            }
+        }
+        return jarPath;
+    }
+}
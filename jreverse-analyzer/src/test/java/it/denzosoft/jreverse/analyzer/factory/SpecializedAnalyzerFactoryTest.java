@@ -3,10 +3,19 @@ package it.denzosoft.jreverse.analyzer.factory;
 import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationAnalyzer;
 import it.denzosoft.jreverse.analyzer.bootstrap.BootstrapAnalyzer;
 import it.denzosoft.jreverse.analyzer.restcontroller.RestControllerAnalyzer;
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisResults;
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisScheduler;
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisTask;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.analyzer.restcontroller.RequestMappingAnalyzer;
 import it.denzosoft.jreverse.analyzer.restcontroller.ParameterAnalyzer;
 import it.denzosoft.jreverse.analyzer.restcontroller.ResponseAnalyzer;
 import it.denzosoft.jreverse.analyzer.security.SecurityEntrypointAnalyzer;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.ClassType;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.JarLocation;
 import it.denzosoft.jreverse.core.port.MainMethodAnalyzer;
 import it.denzosoft.jreverse.core.port.RestEndpointAnalyzer;
 import it.denzosoft.jreverse.core.port.ComponentScanAnalyzer;
@@ -18,6 +27,12 @@ import it.denzosoft.jreverse.core.port.RepositoryAnalyzer;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -179,4 +194,34 @@ class SpecializedAnalyzerFactoryTest {
         RepositoryAnalyzer analyzer = SpecializedAnalyzerFactory.createRepositoryAnalyzer();
         assertNotNull(analyzer);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testCreateSpringBootAnalysisScheduler_SelectsRequestedTasksAndInputs() {
+        AnalysisScheduler scheduler = SpecializedAnalyzerFactory.createSpringBootAnalysisScheduler(null, SessionKeys.BOOTSTRAP);
+        
+        Set<AnalysisSession.Key<?>> outputs = scheduler.getTasks().stream()
+            .map(AnalysisTask::getOutput)
+            .collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList(SessionKeys.MAIN_METHOD, SessionKeys.BEAN_CREATION,
+                                                 SessionKeys.COMPONENT_SCAN, SessionKeys.BOOTSTRAP)), outputs);
+    }
+    
+    @Test
+    void testCreateSpringBootAnalysisScheduler_RunsAllTasksSuccessfullyByDefault() {
+        JarContent jarContent = JarContent.builder()
+            .location(new JarLocation(Paths.get("/test/app.jar")))
+            .addClass(ClassInfo.builder()
+                .fullyQualifiedName("com.example.Application")
+                .classType(ClassType.CLASS)
+                .build())
+            .build();
+        AnalysisScheduler scheduler = SpecializedAnalyzerFactory.createSpringBootAnalysisScheduler(null);
+        
+        AnalysisResults results = scheduler.run(jarContent, null);
+        
+        assertTrue(results.isSuccessful(), "Failed tasks: " + results.getFailures());
+        for (AnalysisTask<?> task : scheduler.getTasks()) {
+            assertTrue(results.contains(task.getOutput()), "Missing result for " + task.getOutput());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package it.denzosoft.jreverse.analyzer.impl;
+
+import it.denzosoft.jreverse.core.model.*;
+import javassist.ClassPool;
+import javassist.CtClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DefaultJarAnalyzer sequential and parallel ingestion.
+ */
+class DefaultJarAnalyzerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ForkJoinPool ingestionPool;
+    private JarLocation jarLocation;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ingestionPool = new ForkJoinPool(4);
+        jarLocation = new JarLocation(createTestJar(tempDir.resolve("sample.jar")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingestionPool.shutdownNow();
+    }
+
+    @Test
+    void testParallelIngestion_IsEnabledOnlyWithMultipleWorkers() {
+        assertFalse(new DefaultJarAnalyzer(new ClassPool(true)).isParallelIngestionEnabled());
+        assertFalse(new DefaultJarAnalyzer(new ClassPool(true), new ForkJoinPool(1)).isParallelIngestionEnabled());
+        assertTrue(new DefaultJarAnalyzer(new ClassPool(true), ingestionPool).isParallelIngestionEnabled());
+    }
+
+    @Test
+    void testAnalyzeJar_ParallelMatchesSequential() throws Exception {
+        JarContent sequential = new DefaultJarAnalyzer(new ClassPool(true)).analyzeJar(jarLocation);
+        JarContent parallel = new DefaultJarAnalyzer(new ClassPool(true), ingestionPool).analyzeJar(jarLocation);
+
+        assertEquals(41, sequential.getClassCount());
+        assertEquals(sequential.getClasses(), parallel.getClasses());
+        for (ClassInfo classInfo : sequential.getClasses()) {
+            ClassInfo parallelInfo = parallel.getClassByName(classInfo.getFullyQualifiedName());
+            assertEquals(classInfo.getClassType(), parallelInfo.getClassType(), classInfo.getFullyQualifiedName());
+        }
+    }
+
+    @Test
+    void testAnalyzeJar_CancelledTokenReturnsIncompleteContent() throws Exception {
+        CancellationToken token = CancellationToken.create();
+        token.cancel();
+
+        JarContent sequential = new DefaultJarAnalyzer(new ClassPool(true)).analyzeJar(jarLocation, token);
+        JarContent parallel = new DefaultJarAnalyzer(new ClassPool(true), ingestionPool).analyzeJar(jarLocation, token);
+
+        assertFalse(sequential.isComplete());
+        assertFalse(parallel.isComplete());
+        assertEquals(0, sequential.getClassCount());
+        assertEquals(0, parallel.getClassCount());
+        assertTrue(new DefaultJarAnalyzer(new ClassPool(true)).analyzeJar(jarLocation).isComplete());
+    }
+
+    @Test
+    void testAnalyzeJar_ParallelDetectsInterfaces() throws Exception {
+        JarContent parallel = new DefaultJarAnalyzer(new ClassPool(true), ingestionPool).analyzeJar(jarLocation);
+
+        assertEquals(ClassType.INTERFACE, parallel.getClassByName("com.example.api.Service").getClassType());
+        assertEquals(ClassType.CLASS, parallel.getClassByName("com.example.impl.Component0").getClassType());
+    }
+
+    @Test
+    void testAnalyzeJar_AnalyzesNestedWarLibrariesInPlace() throws Exception {
+        JarLocation warLocation = new JarLocation(createTestWar(tempDir.resolve("sample.war")));
+
+        JarContent sequential = new DefaultJarAnalyzer(new ClassPool(true)).analyzeJar(warLocation);
+        JarContent parallel = new DefaultJarAnalyzer(new ClassPool(true), ingestionPool).analyzeJar(warLocation);
+
+        assertEquals(JarType.WAR_ARCHIVE, parallel.getJarType());
+        assertEquals(2, parallel.getNestedJars().size());
+        for (NestedJarInfo nestedJar : parallel.getNestedJars()) {
+            assertEquals(41, nestedJar.getClassCount(), nestedJar.getEntryName());
+            assertEquals(ClassType.INTERFACE,
+                nestedJar.getClasses().stream()
+                    .filter(classInfo -> classInfo.getFullyQualifiedName().equals("com.example.api.Service"))
+                    .findFirst().get().getClassType());
+        }
+        assertFalse(parallel.getNestedJars().get(0).isCompressed());
+        assertTrue(parallel.getNestedJars().get(1).isCompressed());
+        assertEquals(sequential.getNestedJars(), parallel.getNestedJars());
+    }
+
+    private Path createTestWar(Path warPath) throws Exception {
+        byte[] library = Files.readAllBytes(jarLocation.getPath());
+        try (OutputStream out = Files.newOutputStream(warPath);
+             JarOutputStream war = new JarOutputStream(out)) {
+            JarEntry stored = new JarEntry("WEB-INF/lib/stored-lib.jar");
+            CRC32 crc = new CRC32();
+            crc.update(library);
+            stored.setMethod(JarEntry.STORED);
+            stored.setSize(library.length);
+            stored.setCompressedSize(library.length);
+            stored.setCrc(crc.getValue());
+            war.putNextEntry(stored);
+            war.write(library);
+            war.closeEntry();
+
+            war.putNextEntry(new JarEntry("WEB-INF/lib/deflated-lib.jar"));
+            war.write(library);
+            war.closeEntry();
+        }
+        return warPath;
+    }
+
+    private Path createTestJar(Path jarPath) throws Exception {
+        ClassPool pool = new ClassPool(true);
+        try (OutputStream out = Files.newOutputStream(jarPath);
+             JarOutputStream jar = new JarOutputStream(out)) {
+            writeClass(jar, pool.makeInterface("com.example.api.Service"));
+            for (int i = 0; i < 40; i++) {
+                writeClass(jar, pool.makeClass("com.example.impl.Component" + i));
+            }
+        }
+        return jarPath;
+    }
+
+    private void writeClass(JarOutputStream jar, CtClass ctClass) throws Exception {
+        jar.putNextEntry(new JarEntry(ctClass.getName().replace('.', '/') + ".class"));
+        jar.write(ctClass.toBytecode());
+        jar.closeEntry();
+    }
+}
@@ -0,0 +1,153 @@
+package it.denzosoft.jreverse.analyzer.scheduler;
+
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.core.model.CancellationToken;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.JarLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnalysisScheduler.
+ */
+class AnalysisSchedulerTest {
+
+    private static final AnalysisSession.Key<String> SHARED = AnalysisSession.Key.of("shared", String.class);
+    private static final AnalysisSession.Key<String> LEFT = AnalysisSession.Key.of("left", String.class);
+    private static final AnalysisSession.Key<String> RIGHT = AnalysisSession.Key.of("right", String.class);
+    private static final AnalysisSession.Key<String> JOIN = AnalysisSession.Key.of("join", String.class);
+
+    @TempDir
+    Path tempDir;
+
+    private JarContent jarContent;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path jarPath = tempDir.resolve("app.jar");
+        try (OutputStream out = Files.newOutputStream(jarPath);
+             JarOutputStream jar = new JarOutputStream(out)) {
+            jar.finish();
+        }
+        jarContent = JarContent.builder().location(new JarLocation(jarPath)).build();
+    }
+
+    @Test
+    void testRun_ComputesSharedInputOnceBeforeConsumers() {
+        AtomicInteger sharedComputations = new AtomicInteger();
+        AnalysisScheduler scheduler = new AnalysisScheduler(Arrays.asList(
+            AnalysisTask.of(JOIN, (jar, inputs) -> inputs.get(LEFT) + "+" + inputs.get(RIGHT), LEFT, RIGHT),
+            AnalysisTask.of(LEFT, (jar, inputs) -> "left(" + inputs.get(SHARED) + ")", SHARED),
+            AnalysisTask.of(RIGHT, (jar, inputs) -> "right(" + inputs.get(SHARED) + ")", SHARED),
+            AnalysisTask.of(SHARED, (jar, inputs) -> "shared" + sharedComputations.incrementAndGet())), 4);
+
+        AnalysisResults results = scheduler.run(jarContent, null);
+
+        assertTrue(results.isSuccessful());
+        assertEquals("left(shared1)+right(shared1)", results.get(JOIN));
+        assertEquals(1, sharedComputations.get());
+        assertEquals(SHARED, scheduler.getTasks().get(0).getOutput());
+        assertEquals(JOIN, scheduler.getTasks().get(3).getOutput());
+    }
+
+    @Test
+    void testRun_RunsIndependentTasksConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AnalysisTask.Computation<String> awaitOther = (jar, inputs) -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS) ? "concurrent" : "sequential";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "interrupted";
+            }
+        };
+        AnalysisScheduler scheduler = new AnalysisScheduler(Arrays.asList(
+            AnalysisTask.of(LEFT, awaitOther),
+            AnalysisTask.of(RIGHT, awaitOther)), 2);
+
+        AnalysisResults results = scheduler.run(jarContent, null);
+
+        assertEquals("concurrent", results.get(LEFT));
+        assertEquals("concurrent", results.get(RIGHT));
+        assertTrue(results.getCriticalPathTimeMs() <= results.getElapsedTimeMs() + 1);
+    }
+
+    @Test
+    void testRun_SkipsDependentsOfFailedTask() {
+        AnalysisScheduler scheduler = new AnalysisScheduler(Arrays.asList(
+            AnalysisTask.of(SHARED, (jar, inputs) -> {
+                throw new IllegalStateException("broken");
+            }),
+            AnalysisTask.of(LEFT, (jar, inputs) -> "left", SHARED),
+            AnalysisTask.of(RIGHT, (jar, inputs) -> "right")), 2);
+
+        AnalysisResults results = scheduler.run(jarContent, null);
+
+        assertFalse(results.isSuccessful());
+        assertEquals("broken", results.getFailure(SHARED).getMessage());
+        assertNotNull(results.getFailure(LEFT));
+        assertNull(results.get(LEFT));
+        assertEquals("right", results.get(RIGHT));
+    }
+
+    @Test
+    void testRun_SharesResultsThroughSession() {
+        AnalysisScheduler scheduler = new AnalysisScheduler(Collections.singletonList(
+            AnalysisTask.of(SHARED, (jar, inputs) -> "computed")), 1);
+
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
+            session.memoize(LEFT, () -> "unused");
+            assertEquals("computed", scheduler.run(jarContent, session).get(SHARED));
+            assertTrue(session.isMemoized(SHARED));
+            assertEquals("computed", session.memoize(SHARED, () -> "recomputed"));
+        }
+    }
+
+    @Test
+    void testRun_SkipsTasksAfterCancellation() {
+        CancellationToken token = CancellationToken.create();
+        AnalysisScheduler scheduler = new AnalysisScheduler(Arrays.asList(
+            AnalysisTask.of(SHARED, (jar, inputs) -> {
+                token.cancel();
+                return "shared";
+            }),
+            AnalysisTask.of(LEFT, (jar, inputs) -> "left", SHARED)), 1);
+
+        try (AnalysisSession session = AnalysisSession.open(jarContent, token)) {
+            AnalysisResults results = scheduler.run(jarContent, session);
+
+            assertEquals("shared", results.get(SHARED));
+            assertTrue(results.getFailure(LEFT) instanceof CancellationException);
+            assertFalse(results.isComplete());
+            assertEquals(Collections.singleton("left"), results.getIncompleteAnalyses());
+        }
+    }
+
+    @Test
+    void testConstructor_RejectsInvalidGraphs() {
+        assertThrows(IllegalArgumentException.class, () -> new AnalysisScheduler(Arrays.asList(
+            AnalysisTask.of(LEFT, (jar, inputs) -> "left", RIGHT),
+            AnalysisTask.of(RIGHT, (jar, inputs) -> "right", LEFT))));
+        assertThrows(IllegalArgumentException.class, () -> new AnalysisScheduler(Collections.singletonList(
+            AnalysisTask.of(LEFT, (jar, inputs) -> "left", SHARED))));
+        assertThrows(IllegalArgumentException.class, () -> new AnalysisScheduler(Arrays.asList(
+            AnalysisTask.of(LEFT, (jar, inputs) -> "left"),
+            AnalysisTask.of(LEFT, (jar, inputs) -> "again"))));
+        assertThrows(IllegalArgumentException.class, () -> AnalysisTask.of(LEFT, (jar, inputs) -> "left", LEFT));
+    }
+}
@@ -0,0 +1,179 @@
+package it.denzosoft.jreverse.analyzer.session;
+
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationAnalyzer;
+import it.denzosoft.jreverse.analyzer.beancreation.BeanCreationResult;
+import it.denzosoft.jreverse.analyzer.factory.SpecializedAnalyzerFactory;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.JarLocation;
+import javassist.ClassPool;
+import javassist.CtClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnalysisSession and its bounded class pool.
+ */
+class AnalysisSessionTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSession_ResolvesClassesFromAnalyzedJar() throws Exception {
+        JarContent jarContent = jarContent(createTestJar(tempDir.resolve("sample.jar"), ""));
+
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
+            assertEquals("com.example.impl.Component0", session.getCtClass("com.example.impl.Component0").getName());
+            assertNull(session.findCtClass("com.example.Missing"));
+            assertNotSame(ClassPool.getDefault(), session.getClassPool());
+        }
+    }
+
+    @Test
+    void testSession_ResolvesSpringBootApplicationClasses() throws Exception {
+        JarContent jarContent = jarContent(createTestJar(tempDir.resolve("boot.jar"), "BOOT-INF/classes/"));
+
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
+            assertNotNull(session.findCtClass("com.example.api.Service"));
+        }
+    }
+
+    @Test
+    void testClassCache_IsBoundedAndReloadsEvictedClasses() throws Exception {
+        JarContent jarContent = jarContent(createTestJar(tempDir.resolve("sample.jar"), ""));
+
+        try (AnalysisSession session = AnalysisSession.open(jarContent, null, 8)) {
+            BoundedClassPool pool = (BoundedClassPool) session.getClassPool();
+            for (int i = 0; i < 40; i++) {
+                session.getCtClass("com.example.impl.Component" + i);
+            }
+
+            assertTrue(pool.getCachedClassCount() <= 8);
+            assertTrue(pool.getEvictionCount() >= 32);
+            assertEquals("com.example.impl.Component0", session.getCtClass("com.example.impl.Component0").getName());
+        }
+    }
+
+    @Test
+    void testClose_ReleasesArchiveAndPool() throws Exception {
+        JarContent jarContent = jarContent(createTestJar(tempDir.resolve("sample.jar"), ""));
+        JarReaderRegistry registry = new JarReaderRegistry();
+
+        AnalysisSession session = AnalysisSession.open(jarContent, registry, 16);
+        session.getCtClass("com.example.api.Service");
+        assertEquals(1, registry.getOpenReaderCount());
+
+        session.close();
+        session.close();
+
+        assertTrue(session.isClosed());
+        assertEquals(0, session.getCachedClassCount());
+        assertEquals(0, registry.getOpenReaderCount());
+        assertThrows(IllegalStateException.class, session::getClassPool);
+    }
+
+    @Test
+    void testMemoize_ComputesSharedResultOnce() throws Exception {
+        JarContent jarContent = jarContent(createTestJar(tempDir.resolve("sample.jar"), ""));
+        AnalysisSession.Key<String> key = AnalysisSession.Key.of("test", String.class);
+        AtomicInteger computations = new AtomicInteger();
+
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
+            assertEquals("result", session.memoize(key, () -> {
+                computations.incrementAndGet();
+                return "result";
+            }));
+            assertEquals("result", session.memoize(key, () -> "other" + computations.incrementAndGet()));
+            assertTrue(session.isMemoized(key));
+            assertEquals(1, computations.get());
+
+            JarContent otherContent = jarContent(jarContent.getLocation().getPath());
+            assertEquals("direct", AnalysisSession.memoize(session, otherContent, key, () -> "direct"));
+            assertEquals("result", AnalysisSession.memoize(session, jarContent, key, () -> "direct"));
+        }
+    }
+
+    @Test
+    void testMemoize_RetriesFailedComputation() throws Exception {
+        JarContent jarContent = jarContent(createTestJar(tempDir.resolve("sample.jar"), ""));
+        AnalysisSession.Key<String> key = AnalysisSession.Key.of("failing", String.class);
+
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
+            assertThrows(IllegalArgumentException.class, () -> session.memoize(key, () -> {
+                throw new IllegalArgumentException("failure");
+            }));
+            assertFalse(session.isMemoized(key));
+            assertEquals("recovered", session.memoize(key, () -> "recovered"));
+        }
+    }
+
+    @Test
+    void testShare_ReleasesSessionWithLastHolder() throws Exception {
+        JarContent jarContent = jarContent(createTestJar(tempDir.resolve("sample.jar"), ""));
+        AnalysisSession session = AnalysisSession.open(jarContent);
+
+        try (AnalysisSession shared = AnalysisSession.share(session, jarContent)) {
+            assertSame(session, shared);
+        }
+        assertFalse(session.isClosed());
+
+        try (AnalysisSession other = AnalysisSession.share(session, jarContent(jarContent.getLocation().getPath()))) {
+            assertNotSame(session, other);
+        }
+
+        session.close();
+        assertTrue(session.isClosed());
+        assertNotSame(session, AnalysisSession.share(session, jarContent));
+    }
+
+    @Test
+    void testSessionAnalyzers_ShareBeanCreationResult() throws Exception {
+        JarContent jarContent = jarContent(createTestJar(tempDir.resolve("sample.jar"), ""));
+
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
+            BeanCreationAnalyzer first = SpecializedAnalyzerFactory.createBeanCreationAnalyzer(session);
+            BeanCreationAnalyzer second = SpecializedAnalyzerFactory.createBeanCreationAnalyzer(session);
+
+            BeanCreationResult result = first.analyzeBeanCreation(jarContent);
+            assertSame(result, second.analyzeBeanCreation(jarContent));
+            assertTrue(session.isMemoized(SessionKeys.BEAN_CREATION));
+        }
+    }
+
+    @Test
+    void testBoundedClassPool_RejectsInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedClassPool(0));
+    }
+
+    private JarContent jarContent(Path jarPath) {
+        return JarContent.builder().location(new JarLocation(jarPath)).build();
+    }
+
+    private Path createTestJar(Path jarPath, String entryPrefix) throws Exception {
+        ClassPool pool = new ClassPool(true);
+        try (OutputStream out = Files.newOutputStream(jarPath);
+             JarOutputStream jar = new JarOutputStream(out)) {
+            writeClass(jar, entryPrefix, pool.makeInterface("com.example.api.Service"));
+            for (int i = 0; i < 40; i++) {
+                writeClass(jar, entryPrefix, pool.makeClass("com.example.impl.Component" + i));
+            }
+        }
+        return jarPath;
+    }
+
+    private void writeClass(JarOutputStream jar, String entryPrefix, CtClass ctClass) throws Exception {
+        jar.putNextEntry(new JarEntry(entryPrefix + ctClass.getName().replace('.', '/') + ".class"));
+        jar.write(ctClass.toBytecode());
+        jar.closeEntry();
+    }
+}
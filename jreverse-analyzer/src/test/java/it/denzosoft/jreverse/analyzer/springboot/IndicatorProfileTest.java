@@ -0,0 +1,167 @@
+package it.denzosoft.jreverse.analyzer.springboot;
+
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.springboot.IndicatorResult;
+import it.denzosoft.jreverse.core.model.springboot.SpringBootIndicatorType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IndicatorProfile.
+ */
+class IndicatorProfileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SpringBootIndicator annotation = indicator(SpringBootIndicatorType.ANNOTATION);
+    private final SpringBootIndicator mainClass = indicator(SpringBootIndicatorType.MAIN_CLASS);
+
+    @Test
+    void testPlan_KeepsStaticOrderUntilSampled() {
+        IndicatorProfile profile = IndicatorProfile.inMemory();
+        record(profile, SpringBootIndicatorType.MAIN_CLASS, 5, 1, 0.9);
+
+        assertEquals(Arrays.asList(annotation, mainClass), profile.plan(Arrays.asList(annotation, mainClass), 100));
+    }
+
+    @Test
+    void testPlan_OrdersByExpectedConfidencePerMillisecond() {
+        IndicatorProfile profile = IndicatorProfile.inMemory();
+        record(profile, SpringBootIndicatorType.ANNOTATION, IndicatorProfile.MIN_SAMPLES, 20, 0.5);
+        record(profile, SpringBootIndicatorType.MAIN_CLASS, IndicatorProfile.MIN_SAMPLES, 2, 0.8);
+
+        List<SpringBootIndicator> planned = profile.plan(Arrays.asList(annotation, mainClass), 100);
+
+        assertEquals(Arrays.asList(mainClass, annotation), planned);
+        assertTrue(profile.expectedGainPerMs(mainClass, 100) > profile.expectedGainPerMs(annotation, 100));
+    }
+
+    @Test
+    void testPlan_SkipsIndicatorsThatPayOffFarWorseButExploresPeriodically() {
+        IndicatorProfile profile = IndicatorProfile.inMemory();
+        record(profile, SpringBootIndicatorType.ANNOTATION, IndicatorProfile.SKIP_AFTER_SAMPLES, 2, 0.8);
+        record(profile, SpringBootIndicatorType.MAIN_CLASS, IndicatorProfile.SKIP_AFTER_SAMPLES, 20, 0.05);
+        profile.recordDetection(1000);
+
+        assertEquals(Arrays.asList(annotation), profile.plan(Arrays.asList(annotation, mainClass), 100));
+
+        while (profile.getDetections() % IndicatorProfile.EXPLORATION_INTERVAL != 0) {
+            profile.recordDetection(1000);
+        }
+        assertEquals(2, profile.plan(Arrays.asList(annotation, mainClass), 100).size());
+    }
+
+    @Test
+    void testPlan_KeepsIndicatorsWhenNoneFindsEvidence() {
+        IndicatorProfile profile = IndicatorProfile.inMemory();
+        record(profile, SpringBootIndicatorType.ANNOTATION, IndicatorProfile.SKIP_AFTER_SAMPLES, 2, 0.0);
+        record(profile, SpringBootIndicatorType.MAIN_CLASS, IndicatorProfile.SKIP_AFTER_SAMPLES, 20, 0.0);
+        profile.recordDetection(1000);
+
+        assertEquals(2, profile.plan(Arrays.asList(annotation, mainClass), 100).size());
+    }
+
+    @Test
+    void testPlan_NeverSkipsFastIndicators() {
+        SpringBootIndicator manifest = indicator(SpringBootIndicatorType.MANIFEST);
+        SpringBootIndicator dependency = indicator(SpringBootIndicatorType.DEPENDENCY);
+        IndicatorProfile profile = IndicatorProfile.inMemory();
+        record(profile, SpringBootIndicatorType.MANIFEST, IndicatorProfile.SKIP_AFTER_SAMPLES, 1, 0.9);
+        record(profile, SpringBootIndicatorType.DEPENDENCY, IndicatorProfile.SKIP_AFTER_SAMPLES, 5, 0.0);
+        profile.recordDetection(1000);
+
+        assertEquals(Arrays.asList(manifest, dependency), profile.plan(Arrays.asList(dependency, manifest), 100));
+    }
+
+    @Test
+    void testSave_PersistsProfileBetweenRuns() throws Exception {
+        Path storage = tempDir.resolve("profile").resolve("indicator-profile.properties");
+        IndicatorProfile profile = IndicatorProfile.load(storage);
+        record(profile, SpringBootIndicatorType.ANNOTATION, 3, 4, 0.7);
+        assertTrue(profile.recordDetection(1));
+
+        profile.save();
+
+        assertTrue(Files.isRegularFile(storage));
+        IndicatorProfile reloaded = IndicatorProfile.load(storage);
+        assertEquals(3, reloaded.getRuns(SpringBootIndicatorType.ANNOTATION));
+        assertEquals(1, reloaded.getDetections());
+        assertEquals(profile.expectedGainPerMs(annotation, 50), reloaded.expectedGainPerMs(annotation, 50), 1e-9);
+    }
+
+    @Test
+    void testEngine_LoadsOrderingSavedByPreviousEngine() {
+        Path storage = tempDir.resolve("indicator-profile.properties");
+        JavassistSpringBootDetectionEngine first = new JavassistSpringBootDetectionEngine(storage);
+        record(first.getProfile(), SpringBootIndicatorType.ANNOTATION, IndicatorProfile.MIN_SAMPLES, 20, 0.5);
+        record(first.getProfile(), SpringBootIndicatorType.MAIN_CLASS, IndicatorProfile.MIN_SAMPLES, 2, 0.8);
+        first.shutdown();
+
+        JavassistSpringBootDetectionEngine second = new JavassistSpringBootDetectionEngine(storage);
+        try {
+            assertEquals(Arrays.asList(mainClass, annotation),
+                         second.getProfile().plan(Arrays.asList(annotation, mainClass), 100));
+        } finally {
+            second.shutdown();
+        }
+    }
+
+    @Test
+    void testDefaultProfileStorage_HonorsSystemProperty() {
+        String previous = System.getProperty(JavassistSpringBootDetectionEngine.PROFILE_PATH_PROPERTY);
+        try {
+            System.setProperty(JavassistSpringBootDetectionEngine.PROFILE_PATH_PROPERTY, tempDir.resolve("custom.properties").toString());
+            assertEquals(tempDir.resolve("custom.properties"), JavassistSpringBootDetectionEngine.defaultProfileStorage());
+
+            System.setProperty(JavassistSpringBootDetectionEngine.PROFILE_PATH_PROPERTY, "");
+            assertNull(JavassistSpringBootDetectionEngine.defaultProfileStorage());
+
+            System.clearProperty(JavassistSpringBootDetectionEngine.PROFILE_PATH_PROPERTY);
+            assertTrue(JavassistSpringBootDetectionEngine.defaultProfileStorage().startsWith(System.getProperty("user.home")));
+        } finally {
+            if (previous != null) {
+                System.setProperty(JavassistSpringBootDetectionEngine.PROFILE_PATH_PROPERTY, previous);
+            } else {
+                System.clearProperty(JavassistSpringBootDetectionEngine.PROFILE_PATH_PROPERTY);
+            }
+        }
+    }
+
+    @Test
+    void testLoad_IgnoresUnreadableProfile() throws Exception {
+        Path storage = tempDir.resolve("broken.properties");
+        Files.write(storage, "detections=many\n".getBytes("UTF-8"));
+
+        assertEquals(0, IndicatorProfile.load(storage).getDetections());
+    }
+
+    private void record(IndicatorProfile profile, SpringBootIndicatorType type, int runs, long millis, double confidence) {
+        IndicatorResult result = confidence > 0 ? IndicatorResult.success(confidence) : IndicatorResult.notFound("none");
+        for (int i = 0; i < runs; i++) {
+            profile.record(type, TimeUnit.MILLISECONDS.toNanos(millis), 100, result, false);
+        }
+    }
+
+    private static SpringBootIndicator indicator(SpringBootIndicatorType type) {
+        return new SpringBootIndicator() {
+            @Override
+            public IndicatorResult analyze(JarContent jarContent) {
+                return IndicatorResult.notFound("stub");
+            }
+
+            @Override
+            public SpringBootIndicatorType getType() {
+                return type;
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package it.denzosoft.jreverse.analyzer.springboot.indicators;
+
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.springboot.IndicatorResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static it.denzosoft.jreverse.analyzer.springboot.indicators.SpringBootJarStructureIndicatorTest.createJar;
+import static it.denzosoft.jreverse.analyzer.springboot.indicators.SpringBootJarStructureIndicatorTest.jarContent;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpringBootDependencyIndicator.
+ */
+class SpringBootDependencyIndicatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SpringBootDependencyIndicator indicator = new SpringBootDependencyIndicator();
+
+    @Test
+    void testAnalyze_PackagedSpringBootLibraries() throws Exception {
+        JarContent jarContent = jarContent(createJar(tempDir.resolve("boot.jar"),
+            "BOOT-INF/lib/spring-boot-2.7.18.jar",
+            "BOOT-INF/lib/spring-boot-autoconfigure-2.7.18.jar",
+            "BOOT-INF/lib/spring-boot-starter-web-2.7.18.jar",
+            "BOOT-INF/lib/spring-core-5.3.31.jar"));
+
+        IndicatorResult result = indicator.analyze(jarContent);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(0.95, result.getConfidence(), 0.001);
+        assertEquals("2.7.18", result.getStringEvidence("springBootVersion"));
+        assertEquals(3, ((Map<?, ?>) result.getEvidence().get("springBootArtifacts")).size());
+    }
+
+    @Test
+    void testAnalyze_ShadedSpringBootArtifact() throws Exception {
+        JarContent jarContent = jarContent(createJar(tempDir.resolve("shaded.jar"),
+            "META-INF/maven/org.springframework.boot/spring-boot/pom.properties",
+            "org/springframework/boot/SpringApplication.class"));
+
+        IndicatorResult result = indicator.analyze(jarContent);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(0.85, result.getConfidence(), 0.001);
+    }
+
+    @Test
+    void testAnalyze_PlainSpringLibrariesAreWeakEvidence() throws Exception {
+        JarContent jarContent = jarContent(createJar(tempDir.resolve("war.jar"),
+            "WEB-INF/lib/spring-context-5.3.31.jar",
+            "WEB-INF/lib/commons-lang3-3.12.0.jar"));
+
+        IndicatorResult result = indicator.analyze(jarContent);
+
+        assertEquals(0.3, result.getConfidence(), 0.001);
+    }
+}
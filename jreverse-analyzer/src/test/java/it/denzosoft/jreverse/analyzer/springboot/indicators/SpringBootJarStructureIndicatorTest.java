@@ -0,0 +1,124 @@
+package it.denzosoft.jreverse.analyzer.springboot.indicators;
+
+import it.denzosoft.jreverse.analyzer.archive.JarReaderRegistry;
+import it.denzosoft.jreverse.analyzer.archive.MappedJarReader;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.JarLocation;
+import it.denzosoft.jreverse.core.model.springboot.IndicatorResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpringBootJarStructureIndicator.
+ */
+class SpringBootJarStructureIndicatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SpringBootJarStructureIndicator indicator = new SpringBootJarStructureIndicator();
+
+    @Test
+    void testAnalyze_RepackagedJarIsConclusive() throws Exception {
+        JarContent jarContent = jarContent(createJar(tempDir.resolve("boot.jar"),
+            "BOOT-INF/classes/com/example/App.class",
+            "BOOT-INF/lib/spring-boot-2.7.0.jar",
+            "org/springframework/boot/loader/JarLauncher.class"));
+
+        IndicatorResult result = indicator.analyze(jarContent);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(0.95, result.getConfidence(), 0.001);
+        assertTrue(result.getBooleanEvidence("isSpringBootJar"));
+    }
+
+    @Test
+    void testAnalyze_SpringFactoriesAloneIsWeakEvidence() throws Exception {
+        JarContent jarContent = jarContent(createJar(tempDir.resolve("library.jar"),
+            "META-INF/spring.factories",
+            "com/example/Library.class"));
+
+        IndicatorResult result = indicator.analyze(jarContent);
+
+        assertTrue(result.isSuccessful());
+        assertTrue(result.getConfidence() < 0.5);
+        assertFalse(result.getBooleanEvidence("isSpringBootJar"));
+    }
+
+    @Test
+    void testAnalyze_PlainJarHasNoEvidence() throws Exception {
+        JarContent jarContent = jarContent(createJar(tempDir.resolve("plain.jar"), "com/example/Main.class"));
+
+        IndicatorResult result = indicator.analyze(jarContent);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(0.0, result.getConfidence());
+    }
+
+    @Test
+    void testAnalyze_UsesReaderSharedByRegistry() throws Exception {
+        Path jarPath = createJar(tempDir.resolve("shared.jar"),
+            "BOOT-INF/classes/com/example/App.class",
+            "org/springframework/boot/loader/JarLauncher.class");
+        JarReaderRegistry registry = new JarReaderRegistry();
+        SpringBootJarStructureIndicator sharedIndicator = new SpringBootJarStructureIndicator(registry);
+
+        try (MappedJarReader reader = registry.acquire(jarPath)) {
+            IndicatorResult result = sharedIndicator.analyze(jarContent(jarPath));
+
+            assertTrue(result.isSuccessful());
+            assertFalse(reader.isClosed());
+            assertEquals(1, registry.getOpenReaderCount());
+        }
+        assertEquals(0, registry.getOpenReaderCount());
+    }
+
+    @Test
+    void testAnalyze_IndicatorsShareEntryIndexOfReader() throws Exception {
+        Path jarPath = createJar(tempDir.resolve("indexed.jar"),
+            "BOOT-INF/classes/com/example/App.class",
+            "BOOT-INF/lib/spring-boot-2.7.0.jar",
+            "org/springframework/boot/loader/JarLauncher.class");
+        JarReaderRegistry registry = new JarReaderRegistry();
+
+        try (MappedJarReader reader = registry.acquire(jarPath)) {
+            JarEntryIndex index = JarEntryIndex.of(reader);
+
+            assertTrue(new SpringBootJarStructureIndicator(registry).analyze(jarContent(jarPath)).isSuccessful());
+            assertTrue(new SpringBootDependencyIndicator(registry).analyze(jarContent(jarPath)).isSuccessful());
+            assertSame(index, JarEntryIndex.of(reader));
+            assertTrue(index.hasEntry("BOOT-INF/lib/spring-boot-2.7.0.jar"));
+            assertFalse(index.hasEntry("BOOT-INF/lib/"));
+        }
+    }
+
+    @Test
+    void testCanAnalyze_RequiresJarFile() {
+        assertFalse(indicator.canAnalyze(jarContent(tempDir.resolve("missing.jar"))));
+        assertFalse(indicator.canAnalyze(null));
+    }
+
+    static JarContent jarContent(Path jarPath) {
+        return JarContent.builder().location(new JarLocation(jarPath)).build();
+    }
+
+    static Path createJar(Path jarPath, String... entryNames) throws Exception {
+        try (OutputStream out = Files.newOutputStream(jarPath);
+             JarOutputStream jar = new JarOutputStream(out)) {
+            for (String entryName : entryNames) {
+                jar.putNextEntry(new JarEntry(entryName));
+                jar.write(new byte[] {0});
+                jar.closeEntry();
+            }
+        }
+        return jarPath;
+    }
+}
@@ -9,13 +9,20 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,7 +39,8 @@ class DefaultAnalyzeJarUseCaseTest {
     @Mock
     private AnalyzerFactory mockFactory;
     
-    @Mock
+    // Real default methods route token-aware calls to the stubbed analyzeJar(JarLocation)
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private JarAnalyzerPort mockAnalyzer;
     
     private DefaultAnalyzeJarUseCase useCase;
@@ -284,7 +292,7 @@ class DefaultAnalyzeJarUseCaseTest {
         AnalyzeJarUseCase.AnalysisRequest request = 
             new AnalyzeJarUseCase.AnalysisRequest(testJarLocation, defaultOptions);
         
-        // When - Execute concurrently (though implementation uses single thread executor)
+        // When
         AnalyzeJarUseCase.AnalysisResult result1 = useCase.execute(request);
         AnalyzeJarUseCase.AnalysisResult result2 = useCase.execute(request);
         
@@ -294,7 +302,6 @@ class DefaultAnalyzeJarUseCaseTest {
         assertTrue(result1.getMetadata().isSuccessful());
         assertTrue(result2.getMetadata().isSuccessful());
         
-        // Verify sequential execution due to single thread executor
         verify(mockAnalyzer, times(2)).analyzeJar(testJarLocation);
     }
     
@@ -320,6 +327,170 @@ class DefaultAnalyzeJarUseCaseTest {
         // Should not throw exception during shutdown
     }
     
+    @Test
+    void testExecuteAsync_Successful_Analysis() throws Exception {
+        // Given
+        JarContent expectedContent = createTestJarContent(createTestClassInfoSet());
+        
+        when(mockFactory.createAnalyzer(testJarLocation)).thenReturn(mockAnalyzer);
+        when(mockAnalyzer.getAnalyzerName()).thenReturn("TestAnalyzer");
+        when(mockAnalyzer.analyzeJar(testJarLocation)).thenReturn(expectedContent);
+        
+        // When
+        CompletableFuture<AnalyzeJarUseCase.AnalysisResult> future = 
+            useCase.executeAsync(new AnalyzeJarUseCase.AnalysisRequest(testJarLocation, defaultOptions));
+        
+        // Then
+        AnalyzeJarUseCase.AnalysisResult result = future.get(5, TimeUnit.SECONDS);
+        assertEquals(expectedContent, result.getJarContent());
+        assertTrue(result.getMetadata().isSuccessful());
+    }
+    
+    @Test
+    void testExecuteAsync_PoolSaturated_RejectsRequest() throws Exception {
+        // Given
+        DefaultAnalyzeJarUseCase boundedUseCase = new DefaultAnalyzeJarUseCase(mockFactory, 1, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        when(mockFactory.createAnalyzer(any(JarLocation.class))).thenReturn(mockAnalyzer);
+        when(mockAnalyzer.getAnalyzerName()).thenReturn("BlockingAnalyzer");
+        when(mockAnalyzer.analyzeJar(any(JarLocation.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return createTestJarContent(createTestClassInfoSet());
+        });
+        
+        try {
+            AnalyzeJarUseCase.AnalysisRequest request = 
+                new AnalyzeJarUseCase.AnalysisRequest(testJarLocation, defaultOptions);
+            CompletableFuture<AnalyzeJarUseCase.AnalysisResult> running = boundedUseCase.executeAsync(request);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            
+            // When & Then
+            JarAnalysisException thrown = assertThrows(JarAnalysisException.class, 
+                () -> boundedUseCase.execute(request));
+            assertEquals(JarAnalysisException.ErrorCode.REJECTED, thrown.getErrorCode());
+            
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS).getMetadata().isSuccessful());
+        } finally {
+            release.countDown();
+            boundedUseCase.shutdown();
+        }
+    }
+    
+    @Test
+    void testExecuteAsync_QueuedRequests_StartByPriority() throws Exception {
+        // Given
+        DefaultAnalyzeJarUseCase boundedUseCase = new DefaultAnalyzeJarUseCase(mockFactory, 1, 4);
+        JarLocation lowLocation = new JarLocation(Paths.get("/test/low.jar"));
+        JarLocation highLocation = new JarLocation(Paths.get("/test/high.jar"));
+        List<JarLocation> startOrder = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        when(mockFactory.createAnalyzer(any(JarLocation.class))).thenReturn(mockAnalyzer);
+        when(mockAnalyzer.getAnalyzerName()).thenReturn("OrderedAnalyzer");
+        when(mockAnalyzer.analyzeJar(any(JarLocation.class))).thenAnswer(invocation -> {
+            JarLocation location = invocation.getArgument(0);
+            startOrder.add(location);
+            started.countDown();
+            release.await();
+            return createTestJarContent(createTestClassInfoSet());
+        });
+        
+        try {
+            CompletableFuture<AnalyzeJarUseCase.AnalysisResult> first = boundedUseCase.executeAsync(
+                new AnalyzeJarUseCase.AnalysisRequest(testJarLocation, defaultOptions));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            
+            // When - queued while the only worker is busy
+            CompletableFuture<AnalyzeJarUseCase.AnalysisResult> low = boundedUseCase.executeAsync(
+                new AnalyzeJarUseCase.AnalysisRequest(lowLocation, AnalyzeJarUseCase.AnalysisOptions.builder()
+                    .priority(AnalyzeJarUseCase.AnalysisOptions.Priority.LOW)
+                    .build()));
+            CompletableFuture<AnalyzeJarUseCase.AnalysisResult> high = boundedUseCase.executeAsync(
+                new AnalyzeJarUseCase.AnalysisRequest(highLocation, AnalyzeJarUseCase.AnalysisOptions.builder()
+                    .priority(AnalyzeJarUseCase.AnalysisOptions.Priority.HIGH)
+                    .build()));
+            assertEquals(2, boundedUseCase.getQueuedRequestCount());
+            release.countDown();
+            CompletableFuture.allOf(first, low, high).get(5, TimeUnit.SECONDS);
+            
+            // Then
+            assertEquals(3, startOrder.size());
+            assertEquals(highLocation, startOrder.get(1));
+            assertEquals(lowLocation, startOrder.get(2));
+        } finally {
+            release.countDown();
+            boundedUseCase.shutdown();
+        }
+    }
+    
+    @Test
+    void testExecuteAsync_Cancel_InterruptsRunningAnalysis() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        
+        when(mockFactory.createAnalyzer(testJarLocation)).thenReturn(mockAnalyzer);
+        when(mockAnalyzer.getAnalyzerName()).thenReturn("SlowAnalyzer");
+        when(mockAnalyzer.analyzeJar(testJarLocation)).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return createTestJarContent(createTestClassInfoSet());
+        });
+        
+        CompletableFuture<AnalyzeJarUseCase.AnalysisResult> future = 
+            useCase.executeAsync(new AnalyzeJarUseCase.AnalysisRequest(testJarLocation, defaultOptions));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        
+        // When
+        assertTrue(future.cancel(true));
+        
+        // Then
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+    }
+    
+    @Test
+    void testExecuteAsync_Timeout_FailsWithTimeoutCode() throws Exception {
+        // Given
+        when(mockFactory.createAnalyzer(testJarLocation)).thenReturn(mockAnalyzer);
+        when(mockAnalyzer.getAnalyzerName()).thenReturn("SlowAnalyzer");
+        when(mockAnalyzer.analyzeJar(testJarLocation)).thenAnswer(invocation -> {
+            Thread.sleep(10000);
+            return createTestJarContent(createTestClassInfoSet());
+        });
+        
+        AnalyzeJarUseCase.AnalysisOptions shortTimeoutOptions = 
+            AnalyzeJarUseCase.AnalysisOptions.builder()
+                .timeoutSeconds(1)
+                .build();
+        
+        // When
+        CompletableFuture<AnalyzeJarUseCase.AnalysisResult> future = 
+            useCase.executeAsync(new AnalyzeJarUseCase.AnalysisRequest(testJarLocation, shortTimeoutOptions));
+        
+        // Then
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(thrown.getCause() instanceof JarAnalysisException);
+        assertEquals(JarAnalysisException.ErrorCode.TIMEOUT, 
+                     ((JarAnalysisException) thrown.getCause()).getErrorCode());
+    }
+    
+    @Test
+    void testConstructor_InvalidPoolBounds_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultAnalyzeJarUseCase(mockFactory, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new DefaultAnalyzeJarUseCase(mockFactory, 1, -1));
+    }
+    
     @Test
     void testConstructor_NullFactory_ThrowsException() {
         // When & Then
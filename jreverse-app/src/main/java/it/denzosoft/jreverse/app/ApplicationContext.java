@@ -77,6 +77,11 @@ public class ApplicationContext {
             ((DefaultAnalyzeJarUseCase) analyzeJarUseCase).shutdown();
         }
         
+        // Release the ingestion pool owned by the analyzer factory
+        if (analyzerFactory instanceof JavassistAnalyzerFactory) {
+            ((JavassistAnalyzerFactory) analyzerFactory).close();
+        }
+        
         LOGGER.info("Application context shutdown completed");
     }
     
@@ -37,7 +37,9 @@ public class JarAnalysisException extends Exception {
         ANALYSIS_FAILED("JAR_ANALYSIS_FAILED"),
         UNSUPPORTED_VERSION("JAR_UNSUPPORTED_VERSION"),
         MEMORY_LIMIT_EXCEEDED("JAR_MEMORY_LIMIT_EXCEEDED"),
-        TIMEOUT("JAR_ANALYSIS_TIMEOUT");
+        TIMEOUT("JAR_ANALYSIS_TIMEOUT"),
+        CANCELLED("JAR_ANALYSIS_CANCELLED"),
+        REJECTED("JAR_ANALYSIS_REJECTED");
         
         private final String code;
         
@@ -13,12 +13,19 @@ public class AnalysisMetadata {
     private final List<String> warnings;
     private final List<String> errors;
     private final String message;
+    private final boolean complete;
     
     private AnalysisMetadata(boolean successful, List<String> warnings, List<String> errors, String message) {
+        this(successful, warnings, errors, message, true);
+    }
+    
+    private AnalysisMetadata(boolean successful, List<String> warnings, List<String> errors, String message,
+                             boolean complete) {
         this.successful = successful;
         this.warnings = Collections.unmodifiableList(new ArrayList<>(warnings));
         this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
         this.message = message;
+        this.complete = complete;
     }
     
     public static AnalysisMetadata successful() {
@@ -31,6 +38,15 @@ public class AnalysisMetadata {
         return new AnalysisMetadata(true, warnings, Collections.emptyList(), warningMessage);
     }
     
+    /**
+     * Metadata of an analysis that stopped early, on cancellation or deadline, and holds partial results.
+     */
+    public static AnalysisMetadata incomplete(String reason) {
+        List<String> warnings = new ArrayList<>();
+        warnings.add(reason);
+        return new AnalysisMetadata(true, warnings, Collections.emptyList(), reason, false);
+    }
+    
     public static AnalysisMetadata error(String errorMessage) {
         List<String> errors = new ArrayList<>();
         errors.add(errorMessage);
@@ -41,6 +57,10 @@ public class AnalysisMetadata {
         return successful;
     }
     
+    public boolean isComplete() {
+        return complete;
+    }
+    
     public boolean hasWarnings() {
         return !warnings.isEmpty();
     }
@@ -67,6 +87,7 @@ public class AnalysisMetadata {
                 "successful=" + successful +
                 ", warnings=" + warnings.size() +
                 ", errors=" + errors.size() +
+                ", complete=" + complete +
                 ", message='" + message + '\'' +
                 '}';
     }
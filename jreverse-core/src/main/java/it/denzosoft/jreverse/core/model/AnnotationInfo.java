@@ -12,17 +12,52 @@ import java.util.Objects;
 public final class AnnotationInfo {
     
     private final String type;
+    private final AnnotationTypeRegistry typeRegistry;
+    private final int typeId;
     private final Map<String, Object> attributes;
     
     private AnnotationInfo(Builder builder) {
-        this.type = requireNonEmpty(builder.type, "type");
-        this.attributes = Collections.unmodifiableMap(new HashMap<>(builder.attributes));
+        SymbolTable symbols = builder.symbols;
+        this.type = SymbolTable.intern(symbols, requireNonEmpty(builder.type, "type"));
+        this.typeRegistry = symbols != null ? symbols.getAnnotationTypes() : null;
+        this.typeId = typeRegistry != null ? typeRegistry.idOf(type) : AnnotationTypeRegistry.UNKNOWN;
+        this.attributes = internAttributes(symbols, builder.attributes);
+    }
+    
+    private static Map<String, Object> internAttributes(SymbolTable symbols, Map<String, Object> attributes) {
+        if (attributes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> result = new HashMap<>(attributes.size() * 2);
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            result.put(SymbolTable.intern(symbols, attribute.getKey()), SymbolTable.internValue(symbols, attribute.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
     }
     
     public String getType() {
         return type;
     }
     
+    /**
+     * Gets the id of the annotation type in its {@link #getTypeRegistry() registry},
+     * used by {@link AnnotationMatcher} for fast membership tests.
+     *
+     * @return the type id, or {@link AnnotationTypeRegistry#UNKNOWN} if the annotation has no registry
+     */
+    public int getTypeId() {
+        return typeId;
+    }
+    
+    /**
+     * Gets the registry of the analysis this annotation was built for.
+     *
+     * @return the registry of the symbol table given to the builder, or null if none was given
+     */
+    public AnnotationTypeRegistry getTypeRegistry() {
+        return typeRegistry;
+    }
+    
     public Map<String, Object> getAttributes() {
         return attributes;
     }
@@ -131,6 +166,7 @@ public final class AnnotationInfo {
     public static class Builder {
         private String type;
         private Map<String, Object> attributes = new HashMap<>();
+        private SymbolTable symbols;
         
         public Builder type(String type) {
             this.type = type;
@@ -149,6 +185,14 @@ public final class AnnotationInfo {
             return this;
         }
         
+        /**
+         * Sets the symbol table used to intern the strings and annotations of the built instance.
+         */
+        public Builder symbols(SymbolTable symbols) {
+            this.symbols = symbols;
+            return this;
+        }
+        
         public AnnotationInfo build() {
             return new AnnotationInfo(this);
         }
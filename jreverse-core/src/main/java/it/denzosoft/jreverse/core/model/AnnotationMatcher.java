@@ -0,0 +1,110 @@
+package it.denzosoft.jreverse.core.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Set of annotation types, matched by the ids of the {@link AnnotationTypeRegistry} of the
+ * analysis an annotation belongs to. Each registry keeps the id bitset of a matcher, so testing
+ * an {@link AnnotationInfo} is a bit lookup on its precomputed type id, with no string hashing
+ * or comparison, which makes matchers suitable for the per-method and per-field loops of the
+ * analyzers. Annotations built without a symbol table are matched by type name.
+ * Matchers are immutable and safe to share as constants across analyses.
+ */
+public final class AnnotationMatcher {
+    
+    private final Set<String> types;
+    
+    private AnnotationMatcher(Set<String> types) {
+        this.types = Collections.unmodifiableSet(types);
+    }
+    
+    /**
+     * Creates a matcher for the given fully qualified annotation types.
+     */
+    public static AnnotationMatcher of(String... types) {
+        return of(Arrays.asList(types));
+    }
+    
+    /**
+     * Creates a matcher for the given fully qualified annotation types.
+     */
+    public static AnnotationMatcher of(Collection<String> types) {
+        Objects.requireNonNull(types, "types cannot be null");
+        return new AnnotationMatcher(new LinkedHashSet<>(types));
+    }
+    
+    /**
+     * Creates a matcher for the types of this matcher and of the other one.
+     */
+    public AnnotationMatcher union(AnnotationMatcher other) {
+        Set<String> union = new LinkedHashSet<>(types);
+        union.addAll(other.types);
+        return new AnnotationMatcher(union);
+    }
+    
+    /**
+     * Checks whether the annotation is of one of the matched types.
+     */
+    public boolean matches(AnnotationInfo annotation) {
+        return annotation != null && contains(annotation);
+    }
+    
+    /**
+     * Checks whether the type name is one of the matched types.
+     * Costs a hash lookup; prefer {@link #matches(AnnotationInfo)} when the annotation is at hand.
+     */
+    public boolean matches(String type) {
+        return type != null && types.contains(type);
+    }
+    
+    /**
+     * Checks whether any of the annotations is of one of the matched types.
+     */
+    public boolean matchesAny(Collection<AnnotationInfo> annotations) {
+        for (AnnotationInfo annotation : annotations) {
+            if (contains(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Gets the first annotation of one of the matched types.
+     *
+     * @return the matching annotation, or null if there is none
+     */
+    public AnnotationInfo findFirst(Collection<AnnotationInfo> annotations) {
+        for (AnnotationInfo annotation : annotations) {
+            if (contains(annotation)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Gets the matched annotation types.
+     */
+    public Set<String> getTypes() {
+        return types;
+    }
+    
+    private boolean contains(AnnotationInfo annotation) {
+        AnnotationTypeRegistry registry = annotation.getTypeRegistry();
+        if (registry == null) {
+            return types.contains(annotation.getType());
+        }
+        return registry.idsOf(this).get(annotation.getTypeId());
+    }
+    
+    @Override
+    public String toString() {
+        return "AnnotationMatcher" + types;
+    }
+}
@@ -0,0 +1,74 @@
+package it.denzosoft.jreverse.core.model;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry assigning a small int id to every annotation type name of one analysis.
+ * The registry belongs to the {@link SymbolTable} of the analysis: each {@link AnnotationInfo}
+ * built with that table resolves its id once, so analyzers can test annotation membership
+ * with an {@link AnnotationMatcher} bitset lookup instead of hashing and comparing the type
+ * name in their inner loops. The ids are discarded with the analysis, so they do not
+ * accumulate over the JARs of a long run.
+ *
+ * Ids are dense, start at 0 and are never reused. The registry is thread-safe.
+ */
+public final class AnnotationTypeRegistry {
+    
+    /** Id returned by {@link #findId(String)} for types never registered. */
+    public static final int UNKNOWN = -1;
+    
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>(256);
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final ConcurrentMap<AnnotationMatcher, BitSet> matcherIds = new ConcurrentHashMap<>(64);
+    
+    /**
+     * Gets the id of an annotation type, registering the type if needed.
+     *
+     * @param type the fully qualified annotation type
+     * @return the id of the type
+     */
+    public int idOf(String type) {
+        Integer id = ids.get(type);
+        if (id != null) {
+            return id;
+        }
+        return ids.computeIfAbsent(type, key -> nextId.getAndIncrement());
+    }
+    
+    /**
+     * Gets the id of an annotation type without registering it.
+     *
+     * @param type the fully qualified annotation type
+     * @return the id of the type, or {@link #UNKNOWN} if it was never registered
+     */
+    public int findId(String type) {
+        Integer id = type != null ? ids.get(type) : null;
+        return id != null ? id : UNKNOWN;
+    }
+    
+    /**
+     * Gets the number of registered annotation types.
+     */
+    public int getRegisteredCount() {
+        return nextId.get();
+    }
+    
+    /**
+     * Gets the ids of the types matched by a matcher, registering them on first use.
+     */
+    BitSet idsOf(AnnotationMatcher matcher) {
+        BitSet matched = matcherIds.get(matcher);
+        if (matched != null) {
+            return matched;
+        }
+        BitSet computed = new BitSet();
+        for (String type : matcher.getTypes()) {
+            computed.set(idOf(type));
+        }
+        matched = matcherIds.putIfAbsent(matcher, computed);
+        return matched != null ? matched : computed;
+    }
+}
@@ -15,14 +15,18 @@ public class AutowiredAnalysisResult {
     private final Map<String, List<AutowiredDependency>> dependenciesByClass;
     private final Map<String, Integer> injectionTypeStatistics;
     private final List<AutowiringIssue> issues;
+    private final List<DependencyCycle> dependencyCycles;
     private final AutowiredSummary summary;
+    private final AnalysisMetadata metadata;
     
     private AutowiredAnalysisResult(Builder builder) {
         this.dependencies = List.copyOf(builder.dependencies);
         this.dependenciesByClass = Map.copyOf(builder.dependenciesByClass);
         this.injectionTypeStatistics = Map.copyOf(builder.injectionTypeStatistics);
         this.issues = List.copyOf(builder.issues);
+        this.dependencyCycles = List.copyOf(builder.dependencyCycles);
         this.summary = builder.summary;
+        this.metadata = builder.metadata;
     }
     
     /**
@@ -88,6 +92,27 @@ public class AutowiredAnalysisResult {
         return dependencies.size();
     }
     
+    /**
+     * Gets every set of beans that depend on each other, largest first.
+     */
+    public List<DependencyCycle> getDependencyCycles() {
+        return dependencyCycles;
+    }
+    
+    /**
+     * Gets the metadata of the analysis, telling whether it stopped before the end of the JAR.
+     */
+    public AnalysisMetadata getMetadata() {
+        return metadata;
+    }
+    
+    /**
+     * Checks if any bean depends on itself, directly or through other beans.
+     */
+    public boolean hasDependencyCycles() {
+        return !dependencyCycles.isEmpty();
+    }
+    
     public static Builder builder() {
         return new Builder();
     }
@@ -97,7 +122,9 @@ public class AutowiredAnalysisResult {
         private Map<String, List<AutowiredDependency>> dependenciesByClass = Collections.emptyMap();
         private Map<String, Integer> injectionTypeStatistics = Collections.emptyMap();
         private List<AutowiringIssue> issues = Collections.emptyList();
+        private List<DependencyCycle> dependencyCycles = Collections.emptyList();
         private AutowiredSummary summary;
+        private AnalysisMetadata metadata = AnalysisMetadata.successful();
         
         public Builder dependencies(List<AutowiredDependency> dependencies) {
             this.dependencies = dependencies != null ? dependencies : Collections.emptyList();
@@ -119,11 +146,21 @@ public class AutowiredAnalysisResult {
             return this;
         }
         
+        public Builder dependencyCycles(List<DependencyCycle> dependencyCycles) {
+            this.dependencyCycles = dependencyCycles != null ? dependencyCycles : Collections.emptyList();
+            return this;
+        }
+        
         public Builder summary(AutowiredSummary summary) {
             this.summary = summary;
             return this;
         }
         
+        public Builder metadata(AnalysisMetadata metadata) {
+            this.metadata = metadata != null ? metadata : AnalysisMetadata.successful();
+            return this;
+        }
+        
         public AutowiredAnalysisResult build() {
             if (summary == null) {
                 throw new IllegalStateException("Summary is required");
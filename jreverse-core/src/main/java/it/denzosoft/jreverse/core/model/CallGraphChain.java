@@ -1,9 +1,14 @@
 package it.denzosoft.jreverse.core.model;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Represents a complete call chain from HTTP endpoint to database/external services.
@@ -152,43 +157,51 @@ public class CallGraphChain {
     }
     
     private Set<String> collectComponents(CallGraphNode node) {
-        Set<String> components = node.getChildren().stream()
-            .map(CallGraphNode::getClassName)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-        
-        // Add current node
-        if (node.getClassName() != null) {
-            components.add(node.getClassName());
-        }
-        
-        // Recursively collect from children
-        for (CallGraphNode child : node.getChildren()) {
-            components.addAll(collectComponents(child));
+        Set<String> components = new HashSet<>();
+        for (CallGraphNode call : distinctNodes(node)) {
+            if (call.getClassName() != null) {
+                components.add(call.getClassName());
+            }
         }
-        
         return components;
     }
     
     private List<CallGraphNode> collectCallsByType(CallGraphNode node, CallType... types) {
-        List<CallGraphNode> calls = new java.util.ArrayList<>();
-        
-        // Check current node
-        for (CallType type : types) {
-            if (node.getCallType() == type) {
-                calls.add(node);
-                break;
+        List<CallGraphNode> calls = new ArrayList<>();
+        for (CallGraphNode call : distinctNodes(node)) {
+            for (CallType type : types) {
+                if (call.getCallType() == type) {
+                    calls.add(call);
+                    break;
+                }
             }
         }
-        
-        // Recursively collect from children
-        for (CallGraphNode child : node.getChildren()) {
-            calls.addAll(collectCallsByType(child, types));
-        }
-        
         return calls;
     }
     
+    /**
+     * Lists the nodes of the tree in depth-first order, visiting subtrees shared by
+     * several parents once.
+     */
+    private static List<CallGraphNode> distinctNodes(CallGraphNode root) {
+        List<CallGraphNode> nodes = new ArrayList<>();
+        Set<CallGraphNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<CallGraphNode> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            CallGraphNode node = pending.pop();
+            if (!visited.add(node)) {
+                continue;
+            }
+            nodes.add(node);
+            List<CallGraphNode> children = node.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                pending.push(children.get(i));
+            }
+        }
+        return nodes;
+    }
+    
     public static Builder builder() {
         return new Builder();
     }
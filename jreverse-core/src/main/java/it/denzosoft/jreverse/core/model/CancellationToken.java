@@ -0,0 +1,128 @@
+package it.denzosoft.jreverse.core.model;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cooperative cancellation and deadline signal of one analysis.
+ * Analyzers poll the token at class and method granularity and stop as soon as it is
+ * cancelled or its deadline has passed, returning what they collected so far marked
+ * as incomplete. Polling costs a volatile read and, for tokens with a deadline, a clock read.
+ *
+ * A token derived with {@link #withTimeout(long, TimeUnit)} is also cancelled with its parent,
+ * so a caller abandoning a request stops every analysis started for it.
+ */
+public final class CancellationToken {
+    
+    /** Token that is never cancelled. */
+    public static final CancellationToken NONE = new CancellationToken(null, 0L, false);
+    
+    private final CancellationToken parent;
+    private final long deadlineNanos;
+    private final boolean hasDeadline;
+    private volatile boolean cancelled;
+    
+    private CancellationToken(CancellationToken parent, long deadlineNanos, boolean hasDeadline) {
+        this.parent = parent;
+        this.deadlineNanos = deadlineNanos;
+        this.hasDeadline = hasDeadline;
+    }
+    
+    /**
+     * Creates a token without deadline that is cancelled only through {@link #cancel()}.
+     */
+    public static CancellationToken create() {
+        return new CancellationToken(null, 0L, false);
+    }
+    
+    /**
+     * Creates a token that expires after the given timeout.
+     */
+    public static CancellationToken withDeadline(long timeout, TimeUnit unit) {
+        return create().withTimeout(timeout, unit);
+    }
+    
+    /**
+     * Derives a token cancelled with this one that also expires after the given timeout.
+     * The child deadline never extends the deadline of this token.
+     *
+     * @param timeout the timeout, a non-positive value derives a token without its own deadline
+     * @param unit the timeout unit
+     * @return the derived token
+     */
+    public CancellationToken withTimeout(long timeout, TimeUnit unit) {
+        if (timeout <= 0) {
+            return new CancellationToken(this, 0L, false);
+        }
+        return new CancellationToken(this, System.nanoTime() + unit.toNanos(timeout), true);
+    }
+    
+    /**
+     * Requests cancellation. Has no effect on {@link #NONE}.
+     */
+    public void cancel() {
+        if (this != NONE) {
+            cancelled = true;
+        }
+    }
+    
+    /**
+     * Checks whether the analysis should stop, because the token or its parent was cancelled
+     * or a deadline has passed.
+     */
+    public boolean isCancelled() {
+        if (cancelled) {
+            return true;
+        }
+        if (hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+            return true;
+        }
+        return parent != null && parent.isCancelled();
+    }
+    
+    /**
+     * Checks whether a deadline of this token or of its parents has passed.
+     */
+    public boolean isExpired() {
+        if (hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+            return true;
+        }
+        return parent != null && parent.isExpired();
+    }
+    
+    /**
+     * Gets the time left before the nearest deadline.
+     *
+     * @return the remaining milliseconds, 0 if expired, or {@link Long#MAX_VALUE} without deadline
+     */
+    public long getRemainingMillis() {
+        long remaining = parent != null ? parent.getRemainingMillis() : Long.MAX_VALUE;
+        if (hasDeadline) {
+            long own = TimeUnit.NANOSECONDS.toMillis(Math.max(0L, deadlineNanos - System.nanoTime()));
+            remaining = Math.min(remaining, own);
+        }
+        return remaining;
+    }
+    
+    /**
+     * Throws if the analysis should stop. Meant for code that cannot return a partial result.
+     *
+     * @throws CancellationException if the token is cancelled or expired
+     */
+    public void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException(isExpired() ? "Analysis deadline exceeded" : "Analysis cancelled");
+        }
+    }
+    
+    @Override
+    public String toString() {
+        if (this == NONE) {
+            return "CancellationToken{NONE}";
+        }
+        return "CancellationToken{" +
+                "cancelled=" + isCancelled() +
+                ", remainingMs=" + (hasDeadline || parent != null ? getRemainingMillis() : "unbounded") +
+                '}';
+    }
+}
@@ -22,15 +22,20 @@ public final class ClassInfo {
     private final Set<String> interfaceNames;
     
     private ClassInfo(Builder builder) {
-        this.fullyQualifiedName = requireNonEmpty(builder.fullyQualifiedName, "fullyQualifiedName");
-        this.packageName = extractPackageName(this.fullyQualifiedName);
+        SymbolTable symbols = builder.symbols;
+        this.fullyQualifiedName = SymbolTable.intern(symbols, requireNonEmpty(builder.fullyQualifiedName, "fullyQualifiedName"));
+        this.packageName = SymbolTable.intern(symbols, extractPackageName(this.fullyQualifiedName));
         this.simpleName = extractSimpleName(this.fullyQualifiedName);
         this.classType = Objects.requireNonNull(builder.classType, "classType cannot be null");
-        this.methods = Collections.unmodifiableSet(new HashSet<>(builder.methods));
-        this.fields = Collections.unmodifiableSet(new HashSet<>(builder.fields));
-        this.annotations = Collections.unmodifiableSet(new HashSet<>(builder.annotations));
-        this.superClassName = builder.superClassName;
-        this.interfaceNames = Collections.unmodifiableSet(new HashSet<>(builder.interfaceNames));
+        this.methods = copyOf(builder.methods);
+        this.fields = copyOf(builder.fields);
+        this.annotations = SymbolTable.internAnnotations(symbols, builder.annotations);
+        this.superClassName = SymbolTable.intern(symbols, builder.superClassName);
+        this.interfaceNames = SymbolTable.internStrings(symbols, builder.interfaceNames);
+    }
+    
+    private static <T> Set<T> copyOf(Set<T> values) {
+        return values.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(values));
     }
     
     public String getFullyQualifiedName() {
@@ -74,6 +79,15 @@ public final class ClassInfo {
             .anyMatch(annotation -> annotation.getType().equals(annotationType));
     }
     
+    public AnnotationInfo getAnnotation(String annotationType) {
+        for (AnnotationInfo annotation : annotations) {
+            if (annotation.getType().equals(annotationType)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+    
     public boolean isPublic() {
         return classType == ClassType.PUBLIC_CLASS || 
                classType == ClassType.PUBLIC_INTERFACE ||
@@ -149,6 +163,7 @@ public final class ClassInfo {
         private Set<AnnotationInfo> annotations = new HashSet<>();
         private String superClassName;
         private Set<String> interfaceNames = new HashSet<>();
+        private SymbolTable symbols;
         
         public Builder fullyQualifiedName(String fullyQualifiedName) {
             this.fullyQualifiedName = fullyQualifiedName;
@@ -213,6 +228,14 @@ public final class ClassInfo {
             return this;
         }
         
+        /**
+         * Sets the symbol table used to intern the strings and annotations of the built instance.
+         */
+        public Builder symbols(SymbolTable symbols) {
+            this.symbols = symbols;
+            return this;
+        }
+        
         public ClassInfo build() {
             return new ClassInfo(this);
         }
@@ -0,0 +1,726 @@
+package it.denzosoft.jreverse.core.model;
+
+import java.lang.ref.SoftReference;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compact, column-oriented storage for the classes of a {@link JarContent}.
+ *
+ * Classes, methods, parameters, fields and annotations are identified by int ids and stored
+ * as primitive arrays, one array per property (struct-of-arrays). Strings and annotations are
+ * pooled and referenced by id, and variable-length members are stored as offset ranges into
+ * shared reference arrays. {@link ClassInfo} instances are materialized only when requested
+ * and are held through soft references, so the resident footprint stays close to the size of
+ * the columns while analyzers keep working on the usual model.
+ *
+ * Instances are immutable and safe for concurrent use.
+ */
+public final class CompactClassModel {
+
+    private static final int NONE = -1;
+
+    private static final int PUBLIC = 1;
+    private static final int PRIVATE = 1 << 1;
+    private static final int PROTECTED = 1 << 2;
+    private static final int STATIC = 1 << 3;
+    private static final int FINAL = 1 << 4;
+    private static final int ABSTRACT = 1 << 5;
+    private static final int SYNCHRONIZED = 1 << 6;
+    private static final int TRANSIENT = 1 << 7;
+    private static final int VOLATILE = 1 << 8;
+    private static final int VAR_ARGS = 1 << 9;
+
+    private static final ClassType[] CLASS_TYPES = ClassType.values();
+
+    private final String[] strings;
+    private final AnnotationInfo[] annotations;
+
+    private final int[] classNames;
+    private final byte[] classTypes;
+    private final int[] superNames;
+    private final int[] interfaceOffsets;
+    private final int[] interfaceRefs;
+    private final int[] classAnnotationOffsets;
+    private final int[] classAnnotationRefs;
+    private final int[] methodOffsets;
+    private final int[] fieldOffsets;
+
+    private final int[] methodNames;
+    private final int[] methodReturnTypes;
+    private final int[] methodFlags;
+    private final int[] parameterOffsets;
+    private final int[] exceptionOffsets;
+    private final int[] exceptionRefs;
+    private final int[] methodAnnotationOffsets;
+    private final int[] methodAnnotationRefs;
+
+    private final int[] parameterNames;
+    private final int[] parameterTypes;
+    private final int[] parameterIndexes;
+    private final int[] parameterFlags;
+    private final int[] parameterAnnotationOffsets;
+    private final int[] parameterAnnotationRefs;
+
+    private final int[] fieldNames;
+    private final int[] fieldTypes;
+    private final int[] fieldFlags;
+    private final Object[] fieldDefaults;
+    private final int[] fieldAnnotationOffsets;
+    private final int[] fieldAnnotationRefs;
+
+    private final int[] nameTable;
+    private final AtomicReferenceArray<SoftReference<ClassInfo>> materialized;
+    private final Set<ClassInfo> allClasses;
+    private volatile LookupIndex lookupIndex;
+
+    private CompactClassModel(Encoder encoder) {
+        this.strings = encoder.strings.toArray(new String[0]);
+        this.annotations = encoder.annotations.toArray(new AnnotationInfo[0]);
+
+        this.classNames = encoder.classNames.toArray();
+        this.classTypes = Arrays.copyOf(encoder.classTypes, classNames.length);
+        this.superNames = encoder.superNames.toArray();
+        this.interfaceOffsets = encoder.interfaceOffsets.toArray();
+        this.interfaceRefs = encoder.interfaceRefs.toArray();
+        this.classAnnotationOffsets = encoder.classAnnotationOffsets.toArray();
+        this.classAnnotationRefs = encoder.classAnnotationRefs.toArray();
+        this.methodOffsets = encoder.methodOffsets.toArray();
+        this.fieldOffsets = encoder.fieldOffsets.toArray();
+
+        this.methodNames = encoder.methodNames.toArray();
+        this.methodReturnTypes = encoder.methodReturnTypes.toArray();
+        this.methodFlags = encoder.methodFlags.toArray();
+        this.parameterOffsets = encoder.parameterOffsets.toArray();
+        this.exceptionOffsets = encoder.exceptionOffsets.toArray();
+        this.exceptionRefs = encoder.exceptionRefs.toArray();
+        this.methodAnnotationOffsets = encoder.methodAnnotationOffsets.toArray();
+        this.methodAnnotationRefs = encoder.methodAnnotationRefs.toArray();
+
+        this.parameterNames = encoder.parameterNames.toArray();
+        this.parameterTypes = encoder.parameterTypes.toArray();
+        this.parameterIndexes = encoder.parameterIndexes.toArray();
+        this.parameterFlags = encoder.parameterFlags.toArray();
+        this.parameterAnnotationOffsets = encoder.parameterAnnotationOffsets.toArray();
+        this.parameterAnnotationRefs = encoder.parameterAnnotationRefs.toArray();
+
+        this.fieldNames = encoder.fieldNames.toArray();
+        this.fieldTypes = encoder.fieldTypes.toArray();
+        this.fieldFlags = encoder.fieldFlags.toArray();
+        this.fieldDefaults = encoder.hasFieldDefaults ? encoder.fieldDefaults.toArray() : null;
+        this.fieldAnnotationOffsets = encoder.fieldAnnotationOffsets.toArray();
+        this.fieldAnnotationRefs = encoder.fieldAnnotationRefs.toArray();
+
+        this.nameTable = buildNameTable();
+        this.materialized = new AtomicReferenceArray<>(classNames.length);
+        this.allClasses = new ClassSetView(null);
+    }
+
+    /**
+     * Encodes the given classes into columnar storage. The classes are not retained.
+     *
+     * @param classes the classes to store
+     * @return the compact model
+     */
+    public static CompactClassModel of(Collection<ClassInfo> classes) {
+        Encoder encoder = new Encoder(classes.size());
+        for (ClassInfo classInfo : classes) {
+            encoder.addClass(classInfo);
+        }
+        return new CompactClassModel(encoder);
+    }
+
+    /**
+     * Gets the number of stored classes. Class ids range from 0 to size - 1.
+     */
+    public int size() {
+        return classNames.length;
+    }
+
+    public int getMethodCount() {
+        return methodNames.length;
+    }
+
+    public int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    public int getStringCount() {
+        return strings.length;
+    }
+
+    /**
+     * Gets the id of a class by its fully qualified name.
+     *
+     * @return the class id, or -1 if the class is not stored
+     */
+    public int indexOf(String fullyQualifiedName) {
+        if (fullyQualifiedName == null) {
+            return NONE;
+        }
+        int mask = nameTable.length - 1;
+        for (int slot = spread(fullyQualifiedName.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int entry = nameTable[slot];
+            if (entry == 0) {
+                return NONE;
+            }
+            if (strings[classNames[entry - 1]].equals(fullyQualifiedName)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    public String getClassName(int classId) {
+        return strings[classNames[classId]];
+    }
+
+    public ClassType getClassType(int classId) {
+        return CLASS_TYPES[classTypes[classId]];
+    }
+
+    /**
+     * @return the superclass name, or null if the class has none
+     */
+    public String getSuperClassName(int classId) {
+        return string(superNames[classId]);
+    }
+
+    public int getInterfaceCount(int classId) {
+        return interfaceOffsets[classId + 1] - interfaceOffsets[classId];
+    }
+
+    public String getInterfaceName(int classId, int position) {
+        return strings[interfaceRefs[interfaceOffsets[classId] + position]];
+    }
+
+    /**
+     * Checks whether a class is annotated with the given type, without materializing it.
+     */
+    public boolean hasAnnotation(int classId, String annotationType) {
+        for (int i = classAnnotationOffsets[classId]; i < classAnnotationOffsets[classId + 1]; i++) {
+            if (annotations[classAnnotationRefs[i]].getType().equals(annotationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the class with the given id, materializing it if it is not already cached.
+     */
+    public ClassInfo getClassInfo(int classId) {
+        SoftReference<ClassInfo> reference = materialized.get(classId);
+        ClassInfo classInfo = reference != null ? reference.get() : null;
+        if (classInfo == null) {
+            classInfo = materialize(classId);
+            materialized.set(classId, new SoftReference<>(classInfo));
+        }
+        return classInfo;
+    }
+
+    /**
+     * Gets a class by its fully qualified name.
+     *
+     * @return the class, or null if it is not stored
+     */
+    public ClassInfo getClassByName(String fullyQualifiedName) {
+        int classId = indexOf(fullyQualifiedName);
+        return classId != NONE ? getClassInfo(classId) : null;
+    }
+
+    /**
+     * Gets an unmodifiable view of all classes; classes are materialized as they are iterated.
+     */
+    public Set<ClassInfo> asSet() {
+        return allClasses;
+    }
+
+    public Set<String> getPackages() {
+        return index().packages;
+    }
+
+    public Set<ClassInfo> getClassesInPackage(String packageName) {
+        return lookup(index().classesByPackage, packageName);
+    }
+
+    public Set<ClassInfo> getClassesWithAnnotation(String annotationType) {
+        return lookup(index().classesByAnnotation, annotationType);
+    }
+
+    public Set<ClassInfo> getClassesOfType(ClassType classType) {
+        return lookup(index().classesByType, classType);
+    }
+
+    public Set<ClassInfo> getPublicClasses() {
+        return index().publicClasses;
+    }
+
+    public Set<ClassInfo> getInterfaces() {
+        return index().interfaces;
+    }
+
+    public Set<ClassInfo> getEnums() {
+        return index().enums;
+    }
+
+    public Set<ClassInfo> getAnnotationTypes() {
+        return index().annotationTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactClassModel{" +
+                "classCount=" + classNames.length +
+                ", methodCount=" + methodNames.length +
+                ", fieldCount=" + fieldNames.length +
+                ", stringCount=" + strings.length +
+                ", annotationCount=" + annotations.length +
+                '}';
+    }
+
+    private ClassInfo materialize(int classId) {
+        String className = strings[classNames[classId]];
+        ClassInfo.Builder builder = ClassInfo.builder()
+            .fullyQualifiedName(className)
+            .classType(CLASS_TYPES[classTypes[classId]])
+            .superClassName(string(superNames[classId]));
+        for (int i = interfaceOffsets[classId]; i < interfaceOffsets[classId + 1]; i++) {
+            builder.addInterface(strings[interfaceRefs[i]]);
+        }
+        for (int i = classAnnotationOffsets[classId]; i < classAnnotationOffsets[classId + 1]; i++) {
+            builder.addAnnotation(annotations[classAnnotationRefs[i]]);
+        }
+        for (int method = methodOffsets[classId]; method < methodOffsets[classId + 1]; method++) {
+            builder.addMethod(materializeMethod(method, className));
+        }
+        for (int field = fieldOffsets[classId]; field < fieldOffsets[classId + 1]; field++) {
+            builder.addField(materializeField(field, className));
+        }
+        return builder.build();
+    }
+
+    private MethodInfo materializeMethod(int method, String className) {
+        int flags = methodFlags[method];
+        MethodInfo.Builder builder = MethodInfo.builder()
+            .name(strings[methodNames[method]])
+            .returnType(strings[methodReturnTypes[method]])
+            .declaringClassName(className)
+            .isPublic((flags & PUBLIC) != 0)
+            .isPrivate((flags & PRIVATE) != 0)
+            .isProtected((flags & PROTECTED) != 0)
+            .isStatic((flags & STATIC) != 0)
+            .isFinal((flags & FINAL) != 0)
+            .isAbstract((flags & ABSTRACT) != 0)
+            .isSynchronized((flags & SYNCHRONIZED) != 0);
+        for (int parameter = parameterOffsets[method]; parameter < parameterOffsets[method + 1]; parameter++) {
+            builder.addParameter(materializeParameter(parameter));
+        }
+        for (int i = exceptionOffsets[method]; i < exceptionOffsets[method + 1]; i++) {
+            builder.addThrownException(strings[exceptionRefs[i]]);
+        }
+        for (int i = methodAnnotationOffsets[method]; i < methodAnnotationOffsets[method + 1]; i++) {
+            builder.addAnnotation(annotations[methodAnnotationRefs[i]]);
+        }
+        return builder.build();
+    }
+
+    private ParameterInfo materializeParameter(int parameter) {
+        int flags = parameterFlags[parameter];
+        ParameterInfo.Builder builder = ParameterInfo.builder()
+            .name(string(parameterNames[parameter]))
+            .type(strings[parameterTypes[parameter]])
+            .index(parameterIndexes[parameter])
+            .isFinal((flags & FINAL) != 0)
+            .isVarArgs((flags & VAR_ARGS) != 0);
+        for (int i = parameterAnnotationOffsets[parameter]; i < parameterAnnotationOffsets[parameter + 1]; i++) {
+            builder.addAnnotation(annotations[parameterAnnotationRefs[i]]);
+        }
+        return builder.build();
+    }
+
+    private FieldInfo materializeField(int field, String className) {
+        int flags = fieldFlags[field];
+        FieldInfo.Builder builder = FieldInfo.builder()
+            .name(strings[fieldNames[field]])
+            .type(strings[fieldTypes[field]])
+            .declaringClassName(className)
+            .isPublic((flags & PUBLIC) != 0)
+            .isPrivate((flags & PRIVATE) != 0)
+            .isProtected((flags & PROTECTED) != 0)
+            .isStatic((flags & STATIC) != 0)
+            .isFinal((flags & FINAL) != 0)
+            .isTransient((flags & TRANSIENT) != 0)
+            .isVolatile((flags & VOLATILE) != 0)
+            .defaultValue(fieldDefaults != null ? fieldDefaults[field] : null);
+        for (int i = fieldAnnotationOffsets[field]; i < fieldAnnotationOffsets[field + 1]; i++) {
+            builder.addAnnotation(annotations[fieldAnnotationRefs[i]]);
+        }
+        return builder.build();
+    }
+
+    private String string(int stringId) {
+        return stringId != NONE ? strings[stringId] : null;
+    }
+
+    private int[] buildNameTable() {
+        int capacity = Integer.highestOneBit(Math.max(4, classNames.length * 2 - 1)) << 1;
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int classId = 0; classId < classNames.length; classId++) {
+            int slot = spread(strings[classNames[classId]].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = classId + 1;
+        }
+        return table;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private LookupIndex index() {
+        LookupIndex result = lookupIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = lookupIndex;
+                if (result == null) {
+                    result = new LookupIndex();
+                    lookupIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <K> Set<ClassInfo> lookup(Map<K, Set<ClassInfo>> index, K key) {
+        Set<ClassInfo> result = index.get(key);
+        return result != null ? result : Collections.emptySet();
+    }
+
+    /**
+     * Lookup tables holding class ids, built once on first use. Each entry is exposed as a
+     * view that materializes classes while it is iterated.
+     */
+    private final class LookupIndex {
+
+        private final Map<String, Set<ClassInfo>> classesByPackage;
+        private final Map<String, Set<ClassInfo>> classesByAnnotation;
+        private final Map<ClassType, Set<ClassInfo>> classesByType;
+        private final Set<String> packages;
+        private final Set<ClassInfo> publicClasses;
+        private final Set<ClassInfo> interfaces;
+        private final Set<ClassInfo> enums;
+        private final Set<ClassInfo> annotationTypes;
+
+        LookupIndex() {
+            Map<String, IntList> byPackage = new HashMap<>();
+            Map<String, IntList> byAnnotation = new HashMap<>();
+            Map<ClassType, IntList> byType = new EnumMap<>(ClassType.class);
+
+            for (int classId = 0; classId < classNames.length; classId++) {
+                String className = strings[classNames[classId]];
+                int lastDot = className.lastIndexOf('.');
+                if (lastDot > 0) {
+                    byPackage.computeIfAbsent(className.substring(0, lastDot), key -> new IntList(8)).add(classId);
+                }
+                for (int i = classAnnotationOffsets[classId]; i < classAnnotationOffsets[classId + 1]; i++) {
+                    IntList ids = byAnnotation.computeIfAbsent(annotations[classAnnotationRefs[i]].getType(),
+                                                               key -> new IntList(8));
+                    if (ids.size() == 0 || ids.last() != classId) {
+                        ids.add(classId);
+                    }
+                }
+                byType.computeIfAbsent(CLASS_TYPES[classTypes[classId]], key -> new IntList(64)).add(classId);
+            }
+
+            this.classesByPackage = toViews(byPackage, new HashMap<>(byPackage.size() * 2));
+            this.classesByAnnotation = toViews(byAnnotation, new HashMap<>(byAnnotation.size() * 2));
+            this.classesByType = toViews(byType, new EnumMap<>(ClassType.class));
+            this.packages = Collections.unmodifiableSet(byPackage.keySet());
+            this.publicClasses = union(byType, ClassType.PUBLIC_CLASS, ClassType.PUBLIC_INTERFACE,
+                                       ClassType.PUBLIC_ENUM, ClassType.PUBLIC_ANNOTATION);
+            this.interfaces = union(byType, ClassType.INTERFACE, ClassType.PUBLIC_INTERFACE);
+            this.enums = union(byType, ClassType.ENUM, ClassType.PUBLIC_ENUM);
+            this.annotationTypes = union(byType, ClassType.ANNOTATION, ClassType.PUBLIC_ANNOTATION);
+        }
+
+        private <K> Map<K, Set<ClassInfo>> toViews(Map<K, IntList> index, Map<K, Set<ClassInfo>> views) {
+            for (Map.Entry<K, IntList> entry : index.entrySet()) {
+                views.put(entry.getKey(), new ClassSetView(entry.getValue().toArray()));
+            }
+            return Collections.unmodifiableMap(views);
+        }
+
+        private Set<ClassInfo> union(Map<ClassType, IntList> byType, ClassType... types) {
+            IntList merged = new IntList(16);
+            for (ClassType type : types) {
+                IntList ids = byType.get(type);
+                if (ids != null) {
+                    merged.addAll(ids);
+                }
+            }
+            if (merged.size() == 0) {
+                return Collections.emptySet();
+            }
+            int[] ids = merged.toArray();
+            Arrays.sort(ids);
+            return new ClassSetView(ids);
+        }
+    }
+
+    /**
+     * Unmodifiable set of classes identified by ascending ids, or of all classes.
+     */
+    private final class ClassSetView extends AbstractSet<ClassInfo> {
+
+        private final int[] classIds;
+
+        ClassSetView(int[] classIds) {
+            this.classIds = classIds;
+        }
+
+        @Override
+        public int size() {
+            return classIds != null ? classIds.length : classNames.length;
+        }
+
+        @Override
+        public boolean contains(Object obj) {
+            if (!(obj instanceof ClassInfo)) {
+                return false;
+            }
+            int classId = indexOf(((ClassInfo) obj).getFullyQualifiedName());
+            return classId != NONE && (classIds == null || Arrays.binarySearch(classIds, classId) >= 0);
+        }
+
+        @Override
+        public Iterator<ClassInfo> iterator() {
+            return new Iterator<ClassInfo>() {
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return position < size();
+                }
+
+                @Override
+                public ClassInfo next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int classId = classIds != null ? classIds[position] : position;
+                    position++;
+                    return getClassInfo(classId);
+                }
+            };
+        }
+    }
+
+    /**
+     * Growable int array used while encoding and indexing.
+     */
+    private static final class IntList {
+
+        private int[] values;
+        private int size;
+
+        IntList(int capacity) {
+            this.values = new int[Math.max(capacity, 4)];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int last() {
+            return values[size - 1];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Accumulates the columns while classes are added.
+     */
+    private static final class Encoder {
+
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final SymbolTable annotationSymbols = new SymbolTable();
+        private final Map<AnnotationInfo, Integer> annotationIds = new IdentityHashMap<>();
+        private final List<AnnotationInfo> annotations = new ArrayList<>();
+
+        private final IntList classNames;
+        private byte[] classTypes;
+        private final IntList superNames;
+        private final IntList interfaceOffsets;
+        private final IntList interfaceRefs = new IntList(64);
+        private final IntList classAnnotationOffsets;
+        private final IntList classAnnotationRefs = new IntList(64);
+        private final IntList methodOffsets;
+        private final IntList fieldOffsets;
+
+        private final IntList methodNames = new IntList(256);
+        private final IntList methodReturnTypes = new IntList(256);
+        private final IntList methodFlags = new IntList(256);
+        private final IntList parameterOffsets = new IntList(256);
+        private final IntList exceptionOffsets = new IntList(256);
+        private final IntList exceptionRefs = new IntList(16);
+        private final IntList methodAnnotationOffsets = new IntList(256);
+        private final IntList methodAnnotationRefs = new IntList(64);
+
+        private final IntList parameterNames = new IntList(256);
+        private final IntList parameterTypes = new IntList(256);
+        private final IntList parameterIndexes = new IntList(256);
+        private final IntList parameterFlags = new IntList(256);
+        private final IntList parameterAnnotationOffsets = new IntList(256);
+        private final IntList parameterAnnotationRefs = new IntList(16);
+
+        private final IntList fieldNames = new IntList(256);
+        private final IntList fieldTypes = new IntList(256);
+        private final IntList fieldFlags = new IntList(256);
+        private final List<Object> fieldDefaults = new ArrayList<>();
+        private boolean hasFieldDefaults;
+        private final IntList fieldAnnotationOffsets = new IntList(256);
+        private final IntList fieldAnnotationRefs = new IntList(64);
+
+        Encoder(int classCount) {
+            this.classNames = new IntList(classCount);
+            this.classTypes = new byte[Math.max(classCount, 4)];
+            this.superNames = new IntList(classCount);
+            this.interfaceOffsets = startOffsets(classCount);
+            this.classAnnotationOffsets = startOffsets(classCount);
+            this.methodOffsets = startOffsets(classCount);
+            this.fieldOffsets = startOffsets(classCount);
+            this.parameterOffsets.add(0);
+            this.exceptionOffsets.add(0);
+            this.methodAnnotationOffsets.add(0);
+            this.parameterAnnotationOffsets.add(0);
+            this.fieldAnnotationOffsets.add(0);
+        }
+
+        void addClass(ClassInfo classInfo) {
+            int classId = classNames.size();
+            if (classId == classTypes.length) {
+                classTypes = Arrays.copyOf(classTypes, classId * 2);
+            }
+            classNames.add(stringId(classInfo.getFullyQualifiedName()));
+            classTypes[classId] = (byte) classInfo.getClassType().ordinal();
+            superNames.add(stringId(classInfo.getSuperClassName()));
+            for (String interfaceName : classInfo.getInterfaceNames()) {
+                interfaceRefs.add(stringId(interfaceName));
+            }
+            interfaceOffsets.add(interfaceRefs.size());
+            addAnnotations(classInfo.getAnnotations(), classAnnotationRefs, classAnnotationOffsets);
+
+            for (MethodInfo method : classInfo.getMethods()) {
+                addMethod(method);
+            }
+            methodOffsets.add(methodNames.size());
+            for (FieldInfo field : classInfo.getFields()) {
+                addField(field);
+            }
+            fieldOffsets.add(fieldNames.size());
+        }
+
+        private void addMethod(MethodInfo method) {
+            methodNames.add(stringId(method.getName()));
+            methodReturnTypes.add(stringId(method.getReturnType()));
+            methodFlags.add(flag(method.isPublic(), PUBLIC) | flag(method.isPrivate(), PRIVATE) |
+                            flag(method.isProtected(), PROTECTED) | flag(method.isStatic(), STATIC) |
+                            flag(method.isFinal(), FINAL) | flag(method.isAbstract(), ABSTRACT) |
+                            flag(method.isSynchronized(), SYNCHRONIZED));
+            for (ParameterInfo parameter : method.getParameters()) {
+                parameterNames.add(stringId(parameter.getName()));
+                parameterTypes.add(stringId(parameter.getType()));
+                parameterIndexes.add(parameter.getIndex());
+                parameterFlags.add(flag(parameter.isFinal(), FINAL) | flag(parameter.isVarArgs(), VAR_ARGS));
+                addAnnotations(parameter.getAnnotations(), parameterAnnotationRefs, parameterAnnotationOffsets);
+            }
+            parameterOffsets.add(parameterNames.size());
+            for (String exception : method.getThrownExceptions()) {
+                exceptionRefs.add(stringId(exception));
+            }
+            exceptionOffsets.add(exceptionRefs.size());
+            addAnnotations(method.getAnnotations(), methodAnnotationRefs, methodAnnotationOffsets);
+        }
+
+        private void addField(FieldInfo field) {
+            fieldNames.add(stringId(field.getName()));
+            fieldTypes.add(stringId(field.getType()));
+            fieldFlags.add(flag(field.isPublic(), PUBLIC) | flag(field.isPrivate(), PRIVATE) |
+                           flag(field.isProtected(), PROTECTED) | flag(field.isStatic(), STATIC) |
+                           flag(field.isFinal(), FINAL) | flag(field.isTransient(), TRANSIENT) |
+                           flag(field.isVolatile(), VOLATILE));
+            fieldDefaults.add(field.getDefaultValue());
+            hasFieldDefaults |= field.getDefaultValue() != null;
+            addAnnotations(field.getAnnotations(), fieldAnnotationRefs, fieldAnnotationOffsets);
+        }
+
+        private void addAnnotations(Set<AnnotationInfo> values, IntList refs, IntList offsets) {
+            for (AnnotationInfo annotation : values) {
+                AnnotationInfo canonical = annotationSymbols.intern(annotation);
+                Integer annotationId = annotationIds.get(canonical);
+                if (annotationId == null) {
+                    annotationId = annotations.size();
+                    annotations.add(canonical);
+                    annotationIds.put(canonical, annotationId);
+                }
+                refs.add(annotationId);
+            }
+            offsets.add(refs.size());
+        }
+
+        private int stringId(String value) {
+            if (value == null) {
+                return NONE;
+            }
+            Integer id = stringIds.get(value);
+            if (id == null) {
+                id = strings.size();
+                strings.add(value);
+                stringIds.put(value, id);
+            }
+            return id;
+        }
+
+        private static int flag(boolean set, int flag) {
+            return set ? flag : 0;
+        }
+
+        private static IntList startOffsets(int classCount) {
+            IntList offsets = new IntList(classCount + 1);
+            offsets.add(0);
+            return offsets;
+        }
+    }
+}
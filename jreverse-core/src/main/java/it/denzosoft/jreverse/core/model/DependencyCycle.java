@@ -0,0 +1,112 @@
+package it.denzosoft.jreverse.core.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A set of beans that depend on each other, directly or through other beans of the set.
+ * Each set is a strongly connected component of the bean dependency graph, so every bean
+ * of the set can reach every other one; a single bean is a cycle when it depends on itself.
+ */
+public class DependencyCycle {
+    
+    private final List<String> beans;
+    private final Map<String, List<String>> dependencies;
+    
+    private DependencyCycle(Builder builder) {
+        this.beans = List.copyOf(builder.beans);
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        builder.dependencies.forEach((bean, targets) -> copy.put(bean, List.copyOf(targets)));
+        this.dependencies = Collections.unmodifiableMap(copy);
+    }
+    
+    /**
+     * Gets the beans of the cycle.
+     */
+    public List<String> getBeans() {
+        return beans;
+    }
+    
+    /**
+     * Gets, for each bean of the cycle, the beans of the cycle it depends on.
+     */
+    public Map<String, List<String>> getDependencies() {
+        return dependencies;
+    }
+    
+    /**
+     * Gets the beans of the cycle a bean depends on.
+     */
+    public List<String> getDependenciesOf(String bean) {
+        return dependencies.getOrDefault(bean, Collections.emptyList());
+    }
+    
+    public int getSize() {
+        return beans.size();
+    }
+    
+    /**
+     * Checks if the cycle is a single bean depending on itself.
+     */
+    public boolean isSelfDependency() {
+        return beans.size() == 1;
+    }
+    
+    public boolean contains(String bean) {
+        return dependencies.containsKey(bean);
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public static class Builder {
+        private final List<String> beans = new ArrayList<>();
+        private final Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        
+        public Builder addBean(String bean) {
+            Objects.requireNonNull(bean, "bean cannot be null");
+            if (!dependencies.containsKey(bean)) {
+                beans.add(bean);
+                dependencies.put(bean, new ArrayList<>());
+            }
+            return this;
+        }
+        
+        public Builder addDependency(String bean, String dependency) {
+            addBean(bean);
+            addBean(dependency);
+            dependencies.get(bean).add(dependency);
+            return this;
+        }
+        
+        public DependencyCycle build() {
+            if (beans.isEmpty()) {
+                throw new IllegalStateException("A dependency cycle needs at least one bean");
+            }
+            return new DependencyCycle(this);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "DependencyCycle{beans=" + beans + "}";
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        DependencyCycle that = (DependencyCycle) obj;
+        return beans.equals(that.beans) && dependencies.equals(that.dependencies);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(beans, dependencies);
+    }
+}
@@ -25,10 +25,11 @@ public final class FieldInfo {
     private final Object defaultValue;
     
     private FieldInfo(Builder builder) {
-        this.name = requireNonEmpty(builder.name, "name");
-        this.type = requireNonEmpty(builder.type, "type");
-        this.declaringClassName = requireNonEmpty(builder.declaringClassName, "declaringClassName");
-        this.annotations = Collections.unmodifiableSet(new HashSet<>(builder.annotations));
+        SymbolTable symbols = builder.symbols;
+        this.name = SymbolTable.intern(symbols, requireNonEmpty(builder.name, "name"));
+        this.type = SymbolTable.intern(symbols, requireNonEmpty(builder.type, "type"));
+        this.declaringClassName = SymbolTable.intern(symbols, requireNonEmpty(builder.declaringClassName, "declaringClassName"));
+        this.annotations = SymbolTable.internAnnotations(symbols, builder.annotations);
         this.isPublic = builder.isPublic;
         this.isPrivate = builder.isPrivate;
         this.isProtected = builder.isProtected;
@@ -164,6 +165,7 @@ public final class FieldInfo {
         private boolean isTransient = false;
         private boolean isVolatile = false;
         private Object defaultValue;
+        private SymbolTable symbols;
         
         public Builder name(String name) {
             this.name = name;
@@ -232,6 +234,14 @@ public final class FieldInfo {
             return this;
         }
         
+        /**
+         * Sets the symbol table used to intern the strings and annotations of the built instance.
+         */
+        public Builder symbols(SymbolTable symbols) {
+            this.symbols = symbols;
+            return this;
+        }
+        
         public FieldInfo build() {
             return new FieldInfo(this);
         }
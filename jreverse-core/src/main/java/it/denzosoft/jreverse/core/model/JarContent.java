@@ -1,8 +1,11 @@
 package it.denzosoft.jreverse.core.model;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -19,14 +22,24 @@ public final class JarContent {
     private final JarManifestInfo manifest;
     private final long analysisTimestamp;
     private final JarType jarType;
+    private final List<NestedJarInfo> nestedJars;
+    private final CompactClassModel compactModel;
+    private final boolean complete;
+    private volatile ClassIndex classIndex;
+    private volatile TypeHierarchy typeHierarchy;
     
     private JarContent(Builder builder) {
         this.location = Objects.requireNonNull(builder.location, "location cannot be null");
-        this.classes = Collections.unmodifiableSet(new HashSet<>(builder.classes));
+        this.compactModel = builder.compact ? CompactClassModel.of(builder.classes) : null;
+        this.classes = compactModel != null
+            ? compactModel.asSet()
+            : Collections.unmodifiableSet(new HashSet<>(builder.classes));
         this.resources = Collections.unmodifiableMap(new HashMap<>(builder.resources));
         this.manifest = builder.manifest;
         this.analysisTimestamp = builder.analysisTimestamp > 0 ? builder.analysisTimestamp : System.currentTimeMillis();
         this.jarType = Objects.requireNonNull(builder.jarType, "jarType cannot be null");
+        this.nestedJars = Collections.unmodifiableList(new ArrayList<>(builder.nestedJars));
+        this.complete = builder.complete;
     }
     
     public JarLocation getLocation() {
@@ -53,6 +66,31 @@ public final class JarContent {
         return jarType;
     }
     
+    public List<NestedJarInfo> getNestedJars() {
+        return nestedJars;
+    }
+    
+    /**
+     * Gets the columnar storage of the classes, when compact storage was requested.
+     * 
+     * @return the compact model, or null if classes are held as {@link ClassInfo} instances
+     */
+    public CompactClassModel getCompactModel() {
+        return compactModel;
+    }
+    
+    public boolean isCompact() {
+        return compactModel != null;
+    }
+    
+    /**
+     * Checks whether every entry of the archive was analyzed. An analysis stopped by its
+     * {@link CancellationToken} yields content holding only the entries read before it stopped.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+    
     public int getClassCount() {
         return classes.size();
     }
@@ -62,81 +100,83 @@ public final class JarContent {
     }
     
     public Set<String> getPackages() {
-        Set<String> packages = new HashSet<>();
-        for (ClassInfo classInfo : classes) {
-            String packageName = classInfo.getPackageName();
-            if (!packageName.isEmpty()) {
-                packages.add(packageName);
-            }
+        if (compactModel != null) {
+            return compactModel.getPackages();
         }
-        return packages;
+        return index().packages;
     }
     
     public Set<ClassInfo> getClassesInPackage(String packageName) {
-        Set<ClassInfo> packageClasses = new HashSet<>();
-        for (ClassInfo classInfo : classes) {
-            if (packageName.equals(classInfo.getPackageName())) {
-                packageClasses.add(classInfo);
-            }
+        if (compactModel != null) {
+            return compactModel.getClassesInPackage(packageName);
         }
-        return packageClasses;
+        return lookup(index().classesByPackage, packageName);
     }
     
     public ClassInfo getClassByName(String fullyQualifiedName) {
-        return classes.stream()
-            .filter(classInfo -> classInfo.getFullyQualifiedName().equals(fullyQualifiedName))
-            .findFirst()
-            .orElse(null);
+        if (compactModel != null) {
+            return compactModel.getClassByName(fullyQualifiedName);
+        }
+        return index().classesByName.get(fullyQualifiedName);
     }
     
     public Set<ClassInfo> getClassesWithAnnotation(String annotationType) {
-        Set<ClassInfo> annotatedClasses = new HashSet<>();
-        for (ClassInfo classInfo : classes) {
-            if (classInfo.hasAnnotation(annotationType)) {
-                annotatedClasses.add(classInfo);
-            }
+        if (compactModel != null) {
+            return compactModel.getClassesWithAnnotation(annotationType);
         }
-        return annotatedClasses;
+        return lookup(index().classesByAnnotation, annotationType);
+    }
+    
+    public Set<ClassInfo> getClassesOfType(ClassType classType) {
+        if (compactModel != null) {
+            return compactModel.getClassesOfType(classType);
+        }
+        return lookup(index().classesByType, classType);
     }
     
     public Set<ClassInfo> getPublicClasses() {
-        Set<ClassInfo> publicClasses = new HashSet<>();
-        for (ClassInfo classInfo : classes) {
-            if (classInfo.isPublic()) {
-                publicClasses.add(classInfo);
-            }
+        if (compactModel != null) {
+            return compactModel.getPublicClasses();
         }
-        return publicClasses;
+        return index().publicClasses;
     }
     
     public Set<ClassInfo> getInterfaces() {
-        Set<ClassInfo> interfaces = new HashSet<>();
-        for (ClassInfo classInfo : classes) {
-            if (classInfo.isInterface()) {
-                interfaces.add(classInfo);
-            }
+        if (compactModel != null) {
+            return compactModel.getInterfaces();
         }
-        return interfaces;
+        return index().interfaces;
     }
     
     public Set<ClassInfo> getEnums() {
-        Set<ClassInfo> enums = new HashSet<>();
-        for (ClassInfo classInfo : classes) {
-            if (classInfo.isEnum()) {
-                enums.add(classInfo);
-            }
+        if (compactModel != null) {
+            return compactModel.getEnums();
         }
-        return enums;
+        return index().enums;
     }
     
     public Set<ClassInfo> getAnnotations() {
-        Set<ClassInfo> annotations = new HashSet<>();
-        for (ClassInfo classInfo : classes) {
-            if (classInfo.isAnnotation()) {
-                annotations.add(classInfo);
+        if (compactModel != null) {
+            return compactModel.getAnnotationTypes();
+        }
+        return index().annotations;
+    }
+    
+    /**
+     * Gets the type hierarchy of the classes, built on first use and shared by all analyzers.
+     */
+    public TypeHierarchy getTypeHierarchy() {
+        TypeHierarchy result = typeHierarchy;
+        if (result == null) {
+            synchronized (this) {
+                result = typeHierarchy;
+                if (result == null) {
+                    result = compactModel != null ? TypeHierarchy.of(compactModel) : TypeHierarchy.of(classes);
+                    typeHierarchy = result;
+                }
             }
         }
-        return annotations;
+        return result;
     }
     
     public boolean hasResource(String resourcePath) {
@@ -151,6 +191,25 @@ public final class JarContent {
         return classes.isEmpty() && resources.isEmpty();
     }
     
+    private ClassIndex index() {
+        ClassIndex result = classIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = classIndex;
+                if (result == null) {
+                    result = new ClassIndex(classes);
+                    classIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static <K> Set<ClassInfo> lookup(Map<K, Set<ClassInfo>> index, K key) {
+        Set<ClassInfo> result = index.get(key);
+        return result != null ? result : Collections.emptySet();
+    }
+    
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -172,9 +231,86 @@ public final class JarContent {
                 ", classCount=" + classes.size() +
                 ", resourceCount=" + resources.size() +
                 ", jarType=" + jarType +
+                ", nestedJarCount=" + nestedJars.size() +
+                ", compact=" + (compactModel != null) +
                 '}';
     }
     
+    /**
+     * Lookup tables over the class set, built once on first use.
+     * Every set is unmodifiable so callers share it without copying.
+     */
+    private static final class ClassIndex {
+        
+        private final Map<String, ClassInfo> classesByName;
+        private final Map<String, Set<ClassInfo>> classesByPackage;
+        private final Map<String, Set<ClassInfo>> classesByAnnotation;
+        private final Map<ClassType, Set<ClassInfo>> classesByType;
+        private final Set<String> packages;
+        private final Set<ClassInfo> publicClasses;
+        private final Set<ClassInfo> interfaces;
+        private final Set<ClassInfo> enums;
+        private final Set<ClassInfo> annotations;
+        
+        ClassIndex(Set<ClassInfo> classes) {
+            Map<String, ClassInfo> byName = new HashMap<>(capacity(classes.size()));
+            Map<String, Set<ClassInfo>> byPackage = new HashMap<>();
+            Map<String, Set<ClassInfo>> byAnnotation = new HashMap<>();
+            Map<ClassType, Set<ClassInfo>> byType = new EnumMap<>(ClassType.class);
+            
+            for (ClassInfo classInfo : classes) {
+                byName.put(classInfo.getFullyQualifiedName(), classInfo);
+                if (!classInfo.getPackageName().isEmpty()) {
+                    byPackage.computeIfAbsent(classInfo.getPackageName(), key -> new HashSet<>()).add(classInfo);
+                }
+                for (AnnotationInfo annotation : classInfo.getAnnotations()) {
+                    byAnnotation.computeIfAbsent(annotation.getType(), key -> new HashSet<>()).add(classInfo);
+                }
+                byType.computeIfAbsent(classInfo.getClassType(), key -> new HashSet<>()).add(classInfo);
+            }
+            
+            this.classesByName = Collections.unmodifiableMap(byName);
+            this.classesByPackage = freeze(byPackage);
+            this.classesByAnnotation = freeze(byAnnotation);
+            this.classesByType = freeze(byType);
+            this.packages = Collections.unmodifiableSet(byPackage.keySet());
+            this.publicClasses = union(byType, ClassType.PUBLIC_CLASS, ClassType.PUBLIC_INTERFACE,
+                                       ClassType.PUBLIC_ENUM, ClassType.PUBLIC_ANNOTATION);
+            this.interfaces = union(byType, ClassType.INTERFACE, ClassType.PUBLIC_INTERFACE);
+            this.enums = union(byType, ClassType.ENUM, ClassType.PUBLIC_ENUM);
+            this.annotations = union(byType, ClassType.ANNOTATION, ClassType.PUBLIC_ANNOTATION);
+        }
+        
+        private static <K> Map<K, Set<ClassInfo>> freeze(Map<K, Set<ClassInfo>> index) {
+            for (Map.Entry<K, Set<ClassInfo>> entry : index.entrySet()) {
+                entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(index);
+        }
+        
+        private static Set<ClassInfo> union(Map<ClassType, Set<ClassInfo>> byType, ClassType... types) {
+            Set<ClassInfo> result = null;
+            for (ClassType type : types) {
+                Set<ClassInfo> partition = byType.get(type);
+                if (partition == null) {
+                    continue;
+                }
+                if (result == null) {
+                    result = partition;
+                } else {
+                    Set<ClassInfo> merged = new HashSet<>(result);
+                    merged.addAll(partition);
+                    result = Collections.unmodifiableSet(merged);
+                }
+            }
+            return result != null ? result : Collections.emptySet();
+        }
+        
+        private static int capacity(int size) {
+            return Math.max(16, (int) (size / 0.75f) + 1);
+        }
+    }
+    
     public static Builder builder() {
         return new Builder();
     }
@@ -186,6 +322,9 @@ public final class JarContent {
         private JarManifestInfo manifest;
         private long analysisTimestamp;
         private JarType jarType = JarType.REGULAR;
+        private List<NestedJarInfo> nestedJars = new ArrayList<>();
+        private boolean compact;
+        private boolean complete = true;
         
         public Builder location(JarLocation location) {
             this.location = location;
@@ -231,6 +370,32 @@ public final class JarContent {
             return this;
         }
         
+        public Builder addNestedJar(NestedJarInfo nestedJar) {
+            if (nestedJar != null) {
+                this.nestedJars.add(nestedJar);
+            }
+            return this;
+        }
+        
+        public Builder nestedJars(List<NestedJarInfo> nestedJars) {
+            this.nestedJars = new ArrayList<>(nestedJars != null ? nestedJars : Collections.emptyList());
+            return this;
+        }
+        
+        /**
+         * Stores the classes in a {@link CompactClassModel} instead of retaining the
+         * {@link ClassInfo} instances, for very large class sets.
+         */
+        public Builder compact(boolean compact) {
+            this.compact = compact;
+            return this;
+        }
+        
+        public Builder complete(boolean complete) {
+            this.complete = complete;
+            return this;
+        }
+        
         public JarContent build() {
             return new JarContent(this);
         }
@@ -65,6 +65,20 @@ public class MainMethodAnalysisResult {
         );
     }
     
+    /**
+     * Result of a search that stopped before finding a main method, on cancellation or deadline.
+     */
+    public static MainMethodAnalysisResult incomplete(String reason) {
+        return new MainMethodAnalysisResult(
+            MainMethodType.NONE,
+            Optional.empty(),
+            Optional.empty(),
+            null,
+            AnalysisMetadata.incomplete(reason),
+            0L
+        );
+    }
+    
     public static MainMethodAnalysisResult error(String errorMessage) {
         return new MainMethodAnalysisResult(
             MainMethodType.NONE,
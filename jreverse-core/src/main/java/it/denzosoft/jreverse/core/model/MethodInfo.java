@@ -28,11 +28,12 @@ public final class MethodInfo {
     private final Set<String> thrownExceptions;
     
     private MethodInfo(Builder builder) {
-        this.name = requireNonEmpty(builder.name, "name");
-        this.returnType = Objects.requireNonNull(builder.returnType, "returnType cannot be null");
-        this.parameters = Collections.unmodifiableList(new ArrayList<>(builder.parameters));
-        this.annotations = Collections.unmodifiableSet(new HashSet<>(builder.annotations));
-        this.declaringClassName = requireNonEmpty(builder.declaringClassName, "declaringClassName");
+        SymbolTable symbols = builder.symbols;
+        this.name = SymbolTable.intern(symbols, requireNonEmpty(builder.name, "name"));
+        this.returnType = SymbolTable.intern(symbols, Objects.requireNonNull(builder.returnType, "returnType cannot be null"));
+        this.parameters = internParameters(symbols, builder.parameters);
+        this.annotations = SymbolTable.internAnnotations(symbols, builder.annotations);
+        this.declaringClassName = SymbolTable.intern(symbols, requireNonEmpty(builder.declaringClassName, "declaringClassName"));
         this.isPublic = builder.isPublic;
         this.isPrivate = builder.isPrivate;
         this.isProtected = builder.isProtected;
@@ -40,7 +41,18 @@ public final class MethodInfo {
         this.isFinal = builder.isFinal;
         this.isAbstract = builder.isAbstract;
         this.isSynchronized = builder.isSynchronized;
-        this.thrownExceptions = Collections.unmodifiableSet(new HashSet<>(builder.thrownExceptions));
+        this.thrownExceptions = SymbolTable.internStrings(symbols, builder.thrownExceptions);
+    }
+    
+    private static List<ParameterInfo> internParameters(SymbolTable symbols, List<ParameterInfo> parameters) {
+        if (parameters.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ParameterInfo> result = new ArrayList<>(parameters.size());
+        for (ParameterInfo parameter : parameters) {
+            result.add(symbols != null ? symbols.intern(parameter) : parameter);
+        }
+        return Collections.unmodifiableList(result);
     }
     
     public String getName() {
@@ -189,6 +201,7 @@ public final class MethodInfo {
         private boolean isAbstract = false;
         private boolean isSynchronized = false;
         private Set<String> thrownExceptions = new HashSet<>();
+        private SymbolTable symbols;
         
         public Builder name(String name) {
             this.name = name;
@@ -276,6 +289,14 @@ public final class MethodInfo {
             return this;
         }
         
+        /**
+         * Sets the symbol table used to intern the strings and annotations of the built instance.
+         */
+        public Builder symbols(SymbolTable symbols) {
+            this.symbols = symbols;
+            return this;
+        }
+        
         public MethodInfo build() {
             return new MethodInfo(this);
         }
@@ -0,0 +1,163 @@
+package it.denzosoft.jreverse.core.model;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Domain entity representing a library JAR nested inside the analyzed archive,
+ * such as the entries of {@code BOOT-INF/lib/} or {@code WEB-INF/lib/}.
+ * Immutable value object containing the classes found in the nested JAR.
+ */
+public final class NestedJarInfo {
+
+    private final String entryName;
+    private final long size;
+    private final boolean compressed;
+    private final Set<ClassInfo> classes;
+    private final int resourceCount;
+    private final CompactClassModel compactModel;
+
+    private NestedJarInfo(Builder builder) {
+        this.entryName = Objects.requireNonNull(builder.entryName, "entryName cannot be null");
+        this.size = builder.size;
+        this.compressed = builder.compressed;
+        this.compactModel = builder.compact ? CompactClassModel.of(builder.classes) : null;
+        this.classes = compactModel != null
+            ? compactModel.asSet()
+            : Collections.unmodifiableSet(new HashSet<>(builder.classes));
+        this.resourceCount = builder.resourceCount;
+    }
+
+    public String getEntryName() {
+        return entryName;
+    }
+
+    public String getFileName() {
+        int lastSlash = entryName.lastIndexOf('/');
+        return lastSlash >= 0 ? entryName.substring(lastSlash + 1) : entryName;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    public Set<ClassInfo> getClasses() {
+        return classes;
+    }
+
+    public int getClassCount() {
+        return classes.size();
+    }
+
+    public int getResourceCount() {
+        return resourceCount;
+    }
+
+    /**
+     * @return the columnar storage of the classes, or null if compact storage was not requested
+     */
+    public CompactClassModel getCompactModel() {
+        return compactModel;
+    }
+
+    public Set<String> getPackages() {
+        if (compactModel != null) {
+            return compactModel.getPackages();
+        }
+        Set<String> packages = new HashSet<>();
+        for (ClassInfo classInfo : classes) {
+            String packageName = classInfo.getPackageName();
+            if (!packageName.isEmpty()) {
+                packages.add(packageName);
+            }
+        }
+        return packages;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        NestedJarInfo that = (NestedJarInfo) obj;
+        return Objects.equals(entryName, that.entryName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entryName);
+    }
+
+    @Override
+    public String toString() {
+        return "NestedJarInfo{" +
+                "entryName='" + entryName + '\'' +
+                ", classCount=" + classes.size() +
+                ", resourceCount=" + resourceCount +
+                ", compressed=" + compressed +
+                '}';
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String entryName;
+        private long size;
+        private boolean compressed;
+        private Set<ClassInfo> classes = new HashSet<>();
+        private int resourceCount;
+        private boolean compact;
+
+        public Builder entryName(String entryName) {
+            this.entryName = entryName;
+            return this;
+        }
+
+        public Builder size(long size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder compressed(boolean compressed) {
+            this.compressed = compressed;
+            return this;
+        }
+
+        public Builder addClass(ClassInfo classInfo) {
+            if (classInfo != null) {
+                this.classes.add(classInfo);
+            }
+            return this;
+        }
+
+        public Builder classes(Set<ClassInfo> classes) {
+            this.classes = new HashSet<>(classes != null ? classes : Collections.emptySet());
+            return this;
+        }
+
+        public Builder resourceCount(int resourceCount) {
+            this.resourceCount = resourceCount;
+            return this;
+        }
+
+        /**
+         * Stores the classes in a {@link CompactClassModel} instead of retaining the
+         * {@link ClassInfo} instances.
+         */
+        public Builder compact(boolean compact) {
+            this.compact = compact;
+            return this;
+        }
+
+        public NestedJarInfo build() {
+            return new NestedJarInfo(this);
+        }
+    }
+}
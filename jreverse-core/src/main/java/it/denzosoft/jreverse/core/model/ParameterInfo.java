@@ -19,10 +19,11 @@ public final class ParameterInfo {
     private final boolean isVarArgs;
     
     private ParameterInfo(Builder builder) {
-        this.name = builder.name; // Can be null for parameters without debug info
-        this.type = requireNonEmpty(builder.type, "type");
+        SymbolTable symbols = builder.symbols;
+        this.name = SymbolTable.intern(symbols, builder.name); // Can be null for parameters without debug info
+        this.type = SymbolTable.intern(symbols, requireNonEmpty(builder.type, "type"));
         this.index = requireNonNegative(builder.index, "index");
-        this.annotations = Collections.unmodifiableSet(new HashSet<>(builder.annotations));
+        this.annotations = SymbolTable.internAnnotations(symbols, builder.annotations);
         this.isFinal = builder.isFinal;
         this.isVarArgs = builder.isVarArgs;
     }
@@ -125,6 +126,7 @@ public final class ParameterInfo {
         private Set<AnnotationInfo> annotations = new HashSet<>();
         private boolean isFinal = false;
         private boolean isVarArgs = false;
+        private SymbolTable symbols;
         
         public Builder name(String name) {
             this.name = name;
@@ -163,6 +165,14 @@ public final class ParameterInfo {
             return this;
         }
         
+        /**
+         * Sets the symbol table used to intern the strings and annotations of the built instance.
+         */
+        public Builder symbols(SymbolTable symbols) {
+            this.symbols = symbols;
+            return this;
+        }
+        
         public ParameterInfo build() {
             return new ParameterInfo(this);
         }
@@ -15,6 +15,7 @@ public class ServiceLayerAnalysisResult {
     private final ServiceLayerMetrics metrics;
     private final List<ServiceLayerIssue> issues;
     private final ServiceLayerSummary summary;
+    private final AnalysisMetadata metadata;
     
     private ServiceLayerAnalysisResult(Builder builder) {
         this.serviceComponents = List.copyOf(builder.serviceComponents);
@@ -22,6 +23,7 @@ public class ServiceLayerAnalysisResult {
         this.metrics = builder.metrics;
         this.issues = List.copyOf(builder.issues);
         this.summary = builder.summary;
+        this.metadata = builder.metadata;
     }
     
     public List<ServiceComponentInfo> getServiceComponents() {
@@ -44,6 +46,10 @@ public class ServiceLayerAnalysisResult {
         return summary;
     }
     
+    public AnalysisMetadata getMetadata() {
+        return metadata;
+    }
+    
     /**
      * Gets services for a specific package.
      */
@@ -82,6 +88,7 @@ public class ServiceLayerAnalysisResult {
         private ServiceLayerMetrics metrics;
         private List<ServiceLayerIssue> issues = Collections.emptyList();
         private ServiceLayerSummary summary;
+        private AnalysisMetadata metadata = AnalysisMetadata.successful();
         
         public Builder serviceComponents(List<ServiceComponentInfo> serviceComponents) {
             this.serviceComponents = serviceComponents != null ? serviceComponents : Collections.emptyList();
@@ -108,6 +115,11 @@ public class ServiceLayerAnalysisResult {
             return this;
         }
         
+        public Builder metadata(AnalysisMetadata metadata) {
+            this.metadata = metadata != null ? metadata : AnalysisMetadata.successful();
+            return this;
+        }
+        
         public ServiceLayerAnalysisResult build() {
             if (summary == null) {
                 throw new IllegalStateException("Summary is required");
@@ -0,0 +1,244 @@
+package it.denzosoft.jreverse.core.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-analysis symbol table shared by the model builders.
+ * Interns the strings that repeat across a class model (package names, type names,
+ * annotation types, descriptors) and hash-conses identical immutable {@link AnnotationInfo}
+ * and {@link ParameterInfo} instances, so each distinct value is retained once per analysis.
+ *
+ * A table is safe for concurrent use by the ingestion workers. It should be discarded with
+ * the analysis that created it, which keeps its entries from outliving the class model.
+ */
+public final class SymbolTable {
+
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>(4096);
+    private final ConcurrentMap<AnnotationKey, AnnotationInfo> annotations = new ConcurrentHashMap<>(256);
+    private final ConcurrentMap<ParameterKey, ParameterInfo> parameters = new ConcurrentHashMap<>(1024);
+    private final AnnotationTypeRegistry annotationTypes = new AnnotationTypeRegistry();
+
+    /**
+     * Gets the canonical instance of a string.
+     *
+     * @param value the string, may be null
+     * @return the interned string, or null if the value is null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * Gets the canonical instance of an annotation equal to the given one.
+     * Array attribute values are compared by content.
+     */
+    public AnnotationInfo intern(AnnotationInfo annotation) {
+        if (annotation == null) {
+            return null;
+        }
+        AnnotationInfo existing = annotations.putIfAbsent(new AnnotationKey(annotation), annotation);
+        return existing != null ? existing : annotation;
+    }
+
+    /**
+     * Gets the canonical instance of a parameter identical to the given one.
+     * Parameters are matched on all their properties, including annotations and modifiers,
+     * which is stricter than {@link ParameterInfo#equals(Object)}.
+     */
+    public ParameterInfo intern(ParameterInfo parameter) {
+        if (parameter == null) {
+            return null;
+        }
+        ParameterInfo existing = parameters.putIfAbsent(new ParameterKey(parameter), parameter);
+        return existing != null ? existing : parameter;
+    }
+
+    /**
+     * Gets the registry of the annotation type ids of this analysis.
+     */
+    public AnnotationTypeRegistry getAnnotationTypes() {
+        return annotationTypes;
+    }
+
+    public int getStringCount() {
+        return strings.size();
+    }
+
+    public int getAnnotationCount() {
+        return annotations.size();
+    }
+
+    public int getParameterCount() {
+        return parameters.size();
+    }
+
+    @Override
+    public String toString() {
+        return "SymbolTable{" +
+                "strings=" + strings.size() +
+                ", annotations=" + annotations.size() +
+                ", parameters=" + parameters.size() +
+                '}';
+    }
+
+    /**
+     * Interns every string of a collection into an unmodifiable set.
+     */
+    static Set<String> internStrings(SymbolTable symbols, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (symbols == null) {
+            return Collections.unmodifiableSet(new HashSet<>(values));
+        }
+        Set<String> result = new HashSet<>(values.size() * 2);
+        for (String value : values) {
+            result.add(symbols.intern(value));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Replaces every annotation of a collection with its canonical instance, into an unmodifiable set.
+     */
+    static Set<AnnotationInfo> internAnnotations(SymbolTable symbols, Collection<AnnotationInfo> values) {
+        if (values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (symbols == null) {
+            return Collections.unmodifiableSet(new HashSet<>(values));
+        }
+        Set<AnnotationInfo> result = new HashSet<>(values.size() * 2);
+        for (AnnotationInfo value : values) {
+            result.add(symbols.intern(value));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Interns a string when a table is given.
+     */
+    static String intern(SymbolTable symbols, String value) {
+        return symbols != null ? symbols.intern(value) : value;
+    }
+
+    /**
+     * Interns the strings of an annotation attribute value, including string arrays, nested
+     * annotations and the elements of other arrays, such as arrays of nested annotations.
+     */
+    static Object internValue(SymbolTable symbols, Object value) {
+        if (symbols == null) {
+            return value;
+        }
+        if (value instanceof String) {
+            return symbols.intern((String) value);
+        }
+        if (value instanceof AnnotationInfo) {
+            return symbols.intern((AnnotationInfo) value);
+        }
+        if (value instanceof String[]) {
+            String[] source = (String[]) value;
+            String[] interned = new String[source.length];
+            for (int i = 0; i < source.length; i++) {
+                interned[i] = symbols.intern(source[i]);
+            }
+            return interned;
+        }
+        if (value instanceof Object[]) {
+            // clone keeps the component type, e.g. AnnotationInfo[] for nested annotation arrays
+            Object[] interned = ((Object[]) value).clone();
+            for (int i = 0; i < interned.length; i++) {
+                interned[i] = internValue(symbols, interned[i]);
+            }
+            return interned;
+        }
+        return value;
+    }
+
+    /**
+     * Identity of an annotation by type and attribute values, comparing arrays by content
+     * where {@link AnnotationInfo#equals(Object)} compares them by reference.
+     */
+    private static final class AnnotationKey {
+
+        private final AnnotationInfo annotation;
+        private final int hash;
+
+        AnnotationKey(AnnotationInfo annotation) {
+            this.annotation = annotation;
+            int attributesHash = 0;
+            for (Map.Entry<String, Object> attribute : annotation.getAttributes().entrySet()) {
+                attributesHash += attribute.getKey().hashCode() ^ Arrays.deepHashCode(new Object[] {attribute.getValue()});
+            }
+            this.hash = 31 * annotation.getType().hashCode() + attributesHash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof AnnotationKey)) return false;
+            AnnotationInfo other = ((AnnotationKey) obj).annotation;
+            if (!annotation.getType().equals(other.getType()) ||
+                annotation.getAttributes().size() != other.getAttributes().size()) {
+                return false;
+            }
+            for (Map.Entry<String, Object> attribute : annotation.getAttributes().entrySet()) {
+                Object otherValue = other.getAttributes().get(attribute.getKey());
+                if (otherValue == null || !Objects.deepEquals(attribute.getValue(), otherValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Identity of a parameter over all its properties.
+     */
+    private static final class ParameterKey {
+
+        private final ParameterInfo parameter;
+        private final int hash;
+
+        ParameterKey(ParameterInfo parameter) {
+            this.parameter = parameter;
+            this.hash = Objects.hash(parameter.getName(), parameter.getType(), parameter.getIndex(),
+                                     parameter.isFinal(), parameter.isVarArgs(), parameter.getAnnotations());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof ParameterKey)) return false;
+            ParameterInfo other = ((ParameterKey) obj).parameter;
+            return parameter.getIndex() == other.getIndex() &&
+                   parameter.isFinal() == other.isFinal() &&
+                   parameter.isVarArgs() == other.isVarArgs() &&
+                   Objects.equals(parameter.getName(), other.getName()) &&
+                   Objects.equals(parameter.getType(), other.getType()) &&
+                   Objects.equals(parameter.getAnnotations(), other.getAnnotations());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package it.denzosoft.jreverse.core.model;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Class hierarchy index over the superclass and interface names of the analyzed classes.
+ *
+ * Every type that appears in the hierarchy, including supertypes outside the JAR, gets an int id.
+ * Direct supertypes and subtypes are stored as compact adjacency arrays, and the transitive
+ * supertypes of each type are precomputed as a sorted id array. Assignability checks are
+ * therefore a hash lookup plus a binary search, and subtype queries cost time proportional
+ * to their result. The index is immutable and safe for concurrent use.
+ */
+public final class TypeHierarchy {
+
+    private static final int NONE = -1;
+    private static final int[] NO_IDS = new int[0];
+
+    private final String[] names;
+    private final Map<String, Integer> ids;
+    private final BitSet declared;
+    private final BitSet abstractTypes;
+    private final int[] supertypeOffsets;
+    private final int[] supertypeRefs;
+    private final int[] subtypeOffsets;
+    private final int[] subtypeRefs;
+    private final int[][] ancestors;
+
+    private TypeHierarchy(Builder builder) {
+        this.names = builder.names.toArray(new String[0]);
+        this.ids = builder.ids;
+        this.declared = builder.declared;
+        this.abstractTypes = builder.abstractTypes;
+
+        int typeCount = names.length;
+        this.supertypeOffsets = new int[typeCount + 1];
+        int edgeCount = 0;
+        for (int type = 0; type < typeCount; type++) {
+            int[] direct = type < builder.supertypes.size() ? builder.supertypes.get(type) : null;
+            edgeCount += direct != null ? direct.length : 0;
+            supertypeOffsets[type + 1] = edgeCount;
+        }
+        this.supertypeRefs = new int[edgeCount];
+        int[] subtypeCounts = new int[typeCount + 1];
+        for (int type = 0; type < typeCount; type++) {
+            int[] direct = type < builder.supertypes.size() ? builder.supertypes.get(type) : null;
+            if (direct != null) {
+                System.arraycopy(direct, 0, supertypeRefs, supertypeOffsets[type], direct.length);
+                for (int supertype : direct) {
+                    subtypeCounts[supertype + 1]++;
+                }
+            }
+        }
+
+        this.subtypeOffsets = new int[typeCount + 1];
+        for (int type = 0; type < typeCount; type++) {
+            subtypeOffsets[type + 1] = subtypeOffsets[type] + subtypeCounts[type + 1];
+        }
+        this.subtypeRefs = new int[edgeCount];
+        int[] cursor = Arrays.copyOf(subtypeOffsets, typeCount);
+        for (int type = 0; type < typeCount; type++) {
+            for (int i = supertypeOffsets[type]; i < supertypeOffsets[type + 1]; i++) {
+                subtypeRefs[cursor[supertypeRefs[i]]++] = type;
+            }
+        }
+
+        this.ancestors = new int[typeCount][];
+        byte[] state = new byte[typeCount];
+        for (int type = 0; type < typeCount; type++) {
+            computeAncestors(type, state);
+        }
+    }
+
+    /**
+     * Builds the hierarchy of the given classes.
+     */
+    public static TypeHierarchy of(Collection<ClassInfo> classes) {
+        Builder builder = new Builder(classes.size());
+        for (ClassInfo classInfo : classes) {
+            builder.addType(classInfo.getFullyQualifiedName(), isAbstract(classInfo.getClassType()),
+                            classInfo.getSuperClassName(), classInfo.getInterfaceNames());
+        }
+        return new TypeHierarchy(builder);
+    }
+
+    /**
+     * Builds the hierarchy of the classes held in columnar storage, without materializing them.
+     */
+    public static TypeHierarchy of(CompactClassModel model) {
+        Builder builder = new Builder(model.size());
+        List<String> interfaceNames = new ArrayList<>();
+        for (int classId = 0; classId < model.size(); classId++) {
+            interfaceNames.clear();
+            for (int i = 0; i < model.getInterfaceCount(classId); i++) {
+                interfaceNames.add(model.getInterfaceName(classId, i));
+            }
+            builder.addType(model.getClassName(classId), isAbstract(model.getClassType(classId)),
+                            model.getSuperClassName(classId), interfaceNames);
+        }
+        return new TypeHierarchy(builder);
+    }
+
+    /**
+     * Gets the number of indexed types, including supertypes outside the analyzed classes.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @return the id of the type, or -1 if the type does not appear in the hierarchy
+     */
+    public int idOf(String typeName) {
+        Integer id = typeName != null ? ids.get(typeName) : null;
+        return id != null ? id : NONE;
+    }
+
+    public String nameOf(int typeId) {
+        return names[typeId];
+    }
+
+    /**
+     * Checks whether the type is one of the analyzed classes, as opposed to a supertype
+     * referenced from outside the JAR.
+     */
+    public boolean isDeclared(String typeName) {
+        int id = idOf(typeName);
+        return id != NONE && declared.get(id);
+    }
+
+    /**
+     * Checks whether a value of type {@code typeName} can be assigned to {@code targetType},
+     * that is whether both names are equal or the target is a transitive supertype.
+     */
+    public boolean isAssignable(String typeName, String targetType) {
+        if (typeName == null || targetType == null) {
+            return false;
+        }
+        if (typeName.equals(targetType)) {
+            return true;
+        }
+        return isSubtype(idOf(typeName), idOf(targetType));
+    }
+
+    /**
+     * Checks whether {@code typeName} is a proper transitive subtype of {@code supertypeName}.
+     */
+    public boolean isSubtypeOf(String typeName, String supertypeName) {
+        return isSubtype(idOf(typeName), idOf(supertypeName));
+    }
+
+    /**
+     * Checks whether the type is a proper subtype of any of the given types.
+     */
+    public boolean isSubtypeOfAny(String typeName, Collection<String> supertypeNames) {
+        int typeId = idOf(typeName);
+        if (typeId == NONE) {
+            return false;
+        }
+        for (String supertypeName : supertypeNames) {
+            if (isSubtype(typeId, idOf(supertypeName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks a proper subtype relation by id.
+     */
+    public boolean isSubtype(int typeId, int supertypeId) {
+        if (typeId == NONE || supertypeId == NONE || typeId == supertypeId) {
+            return false;
+        }
+        return Arrays.binarySearch(ancestors[typeId], supertypeId) >= 0;
+    }
+
+    /**
+     * Gets the direct superclass and interfaces of a type.
+     */
+    public Set<String> getDirectSupertypes(String typeName) {
+        int id = idOf(typeName);
+        return id != NONE ? range(supertypeRefs, supertypeOffsets[id], supertypeOffsets[id + 1]) : Collections.emptySet();
+    }
+
+    /**
+     * Gets the types that directly extend or implement a type.
+     */
+    public Set<String> getDirectSubtypes(String typeName) {
+        int id = idOf(typeName);
+        return id != NONE ? range(subtypeRefs, subtypeOffsets[id], subtypeOffsets[id + 1]) : Collections.emptySet();
+    }
+
+    /**
+     * Gets all transitive supertypes of a type, known within the hierarchy.
+     */
+    public Set<String> getSupertypes(String typeName) {
+        int id = idOf(typeName);
+        return id != NONE ? new NameSet(ancestors[id]) : Collections.emptySet();
+    }
+
+    /**
+     * Gets all transitive subtypes of a type.
+     */
+    public Set<String> getSubtypes(String typeName) {
+        int id = idOf(typeName);
+        return id != NONE ? new NameSet(collectSubtypes(id, false)) : Collections.emptySet();
+    }
+
+    /**
+     * Gets the concrete analyzed classes that are assignable to a type.
+     * These are the injection candidates for a dependency declared with that type.
+     */
+    public Set<String> getImplementors(String typeName) {
+        int id = idOf(typeName);
+        if (id == NONE) {
+            return Collections.emptySet();
+        }
+        return new NameSet(collectSubtypes(id, true));
+    }
+
+    /**
+     * Gets the ids of all transitive supertypes, in ascending order.
+     */
+    public int[] getSupertypeIds(int typeId) {
+        return ancestors[typeId].clone();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeHierarchy{" +
+                "typeCount=" + names.length +
+                ", declaredCount=" + declared.cardinality() +
+                ", edgeCount=" + supertypeRefs.length +
+                '}';
+    }
+
+    private int[] collectSubtypes(int typeId, boolean implementorsOnly) {
+        BitSet visited = new BitSet(names.length);
+        int[] stack = new int[16];
+        int depth = 0;
+        stack[depth++] = typeId;
+        visited.set(typeId);
+        BitSet result = new BitSet(names.length);
+        if (implementorsOnly && isImplementor(typeId)) {
+            result.set(typeId);
+        }
+        while (depth > 0) {
+            int current = stack[--depth];
+            for (int i = subtypeOffsets[current]; i < subtypeOffsets[current + 1]; i++) {
+                int subtype = subtypeRefs[i];
+                if (!visited.get(subtype)) {
+                    visited.set(subtype);
+                    if (!implementorsOnly || isImplementor(subtype)) {
+                        result.set(subtype);
+                    }
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = subtype;
+                }
+            }
+        }
+        return result.stream().toArray();
+    }
+
+    private boolean isImplementor(int typeId) {
+        return declared.get(typeId) && !abstractTypes.get(typeId);
+    }
+
+    private static boolean isAbstract(ClassType classType) {
+        return classType.isInterface() || classType.isAnnotation() || classType == ClassType.ABSTRACT_CLASS;
+    }
+
+    /**
+     * Computes the sorted transitive supertypes of a type, memoizing the result.
+     * Cyclic hierarchies, which only occur in malformed input, are cut at the back edge.
+     */
+    private int[] computeAncestors(int type, byte[] state) {
+        if (state[type] == 2) {
+            return ancestors[type];
+        }
+        if (state[type] == 1) {
+            return NO_IDS;
+        }
+        state[type] = 1;
+        int start = supertypeOffsets[type];
+        int end = supertypeOffsets[type + 1];
+        int[] result;
+        if (start == end) {
+            result = NO_IDS;
+        } else if (end - start == 1) {
+            int parent = supertypeRefs[start];
+            result = remove(insert(computeAncestors(parent, state), parent), type);
+        } else {
+            BitSet union = new BitSet(names.length);
+            for (int i = start; i < end; i++) {
+                int parent = supertypeRefs[i];
+                union.set(parent);
+                for (int ancestor : computeAncestors(parent, state)) {
+                    union.set(ancestor);
+                }
+            }
+            union.clear(type);
+            result = union.stream().toArray();
+        }
+        ancestors[type] = result;
+        state[type] = 2;
+        return result;
+    }
+
+    private static int[] insert(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position >= 0) {
+            return sorted;
+        }
+        int insertion = -position - 1;
+        int[] result = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertion);
+        result[insertion] = value;
+        System.arraycopy(sorted, insertion, result, insertion + 1, sorted.length - insertion);
+        return result;
+    }
+
+    private static int[] remove(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position < 0) {
+            return sorted;
+        }
+        int[] result = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        System.arraycopy(sorted, position + 1, result, position, result.length - position);
+        return result;
+    }
+
+    private Set<String> range(int[] refs, int start, int end) {
+        return start == end ? Collections.emptySet() : new NameSet(Arrays.copyOfRange(refs, start, end));
+    }
+
+    /**
+     * Unmodifiable set of type names backed by an array of type ids.
+     */
+    private final class NameSet extends AbstractSet<String> {
+
+        private final int[] typeIds;
+
+        NameSet(int[] typeIds) {
+            this.typeIds = typeIds;
+        }
+
+        @Override
+        public int size() {
+            return typeIds.length;
+        }
+
+        @Override
+        public boolean contains(Object obj) {
+            if (!(obj instanceof String)) {
+                return false;
+            }
+            int id = idOf((String) obj);
+            if (id == NONE) {
+                return false;
+            }
+            for (int typeId : typeIds) {
+                if (typeId == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<String>() {
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return position < typeIds.length;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return names[typeIds[position++]];
+                }
+            };
+        }
+    }
+
+    /**
+     * Assigns type ids and collects the direct supertypes of each declared type.
+     */
+    private static final class Builder {
+
+        private final List<String> names;
+        private final Map<String, Integer> ids;
+        private final List<int[]> supertypes;
+        private final BitSet declared = new BitSet();
+        private final BitSet abstractTypes = new BitSet();
+
+        Builder(int classCount) {
+            this.names = new ArrayList<>(classCount * 2);
+            this.ids = new HashMap<>(classCount * 4);
+            this.supertypes = new ArrayList<>(classCount * 2);
+        }
+
+        void addType(String name, boolean isAbstract, String superClassName, Collection<String> interfaceNames) {
+            int type = idOf(name);
+            declared.set(type);
+            if (isAbstract) {
+                abstractTypes.set(type);
+            }
+            int count = (superClassName != null ? 1 : 0) + interfaceNames.size();
+            int[] direct = new int[count];
+            int position = 0;
+            if (superClassName != null) {
+                direct[position++] = idOf(superClassName);
+            }
+            for (String interfaceName : interfaceNames) {
+                direct[position++] = idOf(interfaceName);
+            }
+            supertypes.set(type, direct);
+        }
+
+        private int idOf(String name) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = names.size();
+                names.add(name);
+                ids.put(name, id);
+                supertypes.add(null);
+            }
+            return id;
+        }
+    }
+}
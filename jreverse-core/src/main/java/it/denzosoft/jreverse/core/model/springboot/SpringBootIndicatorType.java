@@ -78,14 +78,14 @@ public enum SpringBootIndicatorType {
         switch (this) {
             case MANIFEST:
                 return 1;        // Fastest, check first
-            case ANNOTATION:
-                return 2;        // Fast and highly reliable
             case JAR_STRUCTURE:
-                return 3;        // Fast but medium reliability
-            case MAIN_CLASS:
-                return 4;        // Slower but highly reliable
+                return 2;        // Central directory only, no bytecode decoded
             case DEPENDENCY:
-                return 5;        // Slowest, analyze last
+                return 3;        // Central directory only, no bytecode decoded
+            case ANNOTATION:
+                return 4;        // Decodes class annotations but highly reliable
+            case MAIN_CLASS:
+                return 5;        // Slowest but highly reliable
             default:
                 return 99;       // Unknown types have lowest priority
         }
@@ -98,11 +98,11 @@ public enum SpringBootIndicatorType {
         switch (this) {
             case MANIFEST:
             case JAR_STRUCTURE:
+            case DEPENDENCY:
                 return PerformanceCategory.FAST;
             case ANNOTATION:
                 return PerformanceCategory.MEDIUM;
             case MAIN_CLASS:
-            case DEPENDENCY:
                 return PerformanceCategory.SLOW;
             default:
                 return PerformanceCategory.SLOW;
@@ -1,5 +1,6 @@
 package it.denzosoft.jreverse.core.port;
 
+import it.denzosoft.jreverse.core.model.CancellationToken;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.model.JarLocation;
 import it.denzosoft.jreverse.core.exception.JarAnalysisException;
@@ -19,6 +20,20 @@ public interface JarAnalyzerPort {
      */
     JarContent analyzeJar(JarLocation location) throws JarAnalysisException;
     
+    /**
+     * Analyzes a JAR file, stopping early when the token is cancelled or expires.
+     * An analysis stopped early returns the content read so far, marked as not
+     * {@link JarContent#isComplete() complete}. The default implementation ignores the token.
+     * 
+     * @param location the location of the JAR file to analyze
+     * @param cancellationToken the cancellation and deadline signal of the analysis
+     * @return analyzed JAR content, possibly incomplete
+     * @throws JarAnalysisException if the JAR cannot be analyzed
+     */
+    default JarContent analyzeJar(JarLocation location, CancellationToken cancellationToken) throws JarAnalysisException {
+        return analyzeJar(location);
+    }
+    
     /**
      * Checks if the analyzer supports the given JAR file.
      * 
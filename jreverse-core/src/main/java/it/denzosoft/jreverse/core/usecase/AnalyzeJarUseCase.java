@@ -1,9 +1,14 @@
 package it.denzosoft.jreverse.core.usecase;
 
+import it.denzosoft.jreverse.core.model.CancellationToken;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.model.JarLocation;
 import it.denzosoft.jreverse.core.exception.JarAnalysisException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Use case for analyzing JAR files.
  * Follows Clean Architecture principles - contains business logic.
@@ -19,16 +24,44 @@ public interface AnalyzeJarUseCase {
      */
     AnalysisResult execute(AnalysisRequest request) throws JarAnalysisException;
     
+    /**
+     * Executes JAR analysis asynchronously.
+     * The returned future fails with the {@link JarAnalysisException} that {@link #execute(AnalysisRequest)}
+     * would throw. The default implementation runs {@code execute} on the common pool; implementations
+     * with their own workers should cancel the running analysis when the future is cancelled.
+     * 
+     * @param request the analysis request containing JAR location and options
+     * @return future completed with the analysis result
+     */
+    default CompletableFuture<AnalysisResult> executeAsync(AnalysisRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(request);
+            } catch (JarAnalysisException e) {
+                throw new CompletionException(e);
+            }
+        }, ForkJoinPool.commonPool());
+    }
+    
     /**
      * Request object for JAR analysis.
      */
     class AnalysisRequest {
         private final JarLocation jarLocation;
         private final AnalysisOptions options;
+        private final CancellationToken cancellationToken;
         
         public AnalysisRequest(JarLocation jarLocation, AnalysisOptions options) {
+            this(jarLocation, options, null);
+        }
+        
+        /**
+         * Creates a request that the caller can abandon by cancelling the given token.
+         */
+        public AnalysisRequest(JarLocation jarLocation, AnalysisOptions options, CancellationToken cancellationToken) {
             this.jarLocation = jarLocation;
             this.options = options != null ? options : AnalysisOptions.defaults();
+            this.cancellationToken = cancellationToken != null ? cancellationToken : CancellationToken.NONE;
         }
         
         public JarLocation getJarLocation() {
@@ -38,6 +71,10 @@ public interface AnalyzeJarUseCase {
         public AnalysisOptions getOptions() {
             return options;
         }
+        
+        public CancellationToken getCancellationToken() {
+            return cancellationToken;
+        }
     }
     
     /**
@@ -69,12 +106,14 @@ public interface AnalyzeJarUseCase {
         private final boolean deepAnalysis;
         private final int maxMemoryMB;
         private final int timeoutSeconds;
+        private final Priority priority;
         
         private AnalysisOptions(Builder builder) {
             this.includeResources = builder.includeResources;
             this.deepAnalysis = builder.deepAnalysis;
             this.maxMemoryMB = builder.maxMemoryMB;
             this.timeoutSeconds = builder.timeoutSeconds;
+            this.priority = builder.priority;
         }
         
         public boolean isIncludeResources() {
@@ -93,6 +132,10 @@ public interface AnalyzeJarUseCase {
             return timeoutSeconds;
         }
         
+        public Priority getPriority() {
+            return priority;
+        }
+        
         public static AnalysisOptions defaults() {
             return builder().build();
         }
@@ -106,6 +149,7 @@ public interface AnalyzeJarUseCase {
             private boolean deepAnalysis = true;
             private int maxMemoryMB = 2048; // 2GB default
             private int timeoutSeconds = 300; // 5 minutes default
+            private Priority priority = Priority.NORMAL;
             
             public Builder includeResources(boolean includeResources) {
                 this.includeResources = includeResources;
@@ -127,10 +171,25 @@ public interface AnalyzeJarUseCase {
                 return this;
             }
             
+            public Builder priority(Priority priority) {
+                this.priority = priority != null ? priority : Priority.NORMAL;
+                return this;
+            }
+            
             public AnalysisOptions build() {
                 return new AnalysisOptions(this);
             }
         }
+        
+        /**
+         * Scheduling priority of a request. Queued requests are started highest priority first,
+         * and in submission order within the same priority.
+         */
+        public enum Priority {
+            LOW,
+            NORMAL,
+            HIGH
+        }
     }
     
     /**
@@ -142,6 +201,7 @@ public interface AnalyzeJarUseCase {
         private final String analyzerName;
         private final boolean successful;
         private final String errorMessage;
+        private final boolean complete;
         
         private AnalysisMetadata(Builder builder) {
             this.startTime = builder.startTime;
@@ -149,6 +209,7 @@ public interface AnalyzeJarUseCase {
             this.analyzerName = builder.analyzerName;
             this.successful = builder.successful;
             this.errorMessage = builder.errorMessage;
+            this.complete = builder.complete;
         }
         
         public long getStartTime() {
@@ -175,6 +236,14 @@ public interface AnalyzeJarUseCase {
             return errorMessage;
         }
         
+        /**
+         * Checks whether the analysis covered the whole JAR. An analysis stopped by its deadline
+         * or by cancellation is successful but incomplete, and its error message gives the reason.
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+        
         public static AnalysisMetadata successful(String analyzerName, long startTime, long endTime) {
             return builder()
                 .analyzerName(analyzerName)
@@ -184,6 +253,17 @@ public interface AnalyzeJarUseCase {
                 .build();
         }
         
+        public static AnalysisMetadata partial(String analyzerName, long startTime, long endTime, String reason) {
+            return builder()
+                .analyzerName(analyzerName)
+                .startTime(startTime)
+                .endTime(endTime)
+                .successful(true)
+                .complete(false)
+                .errorMessage(reason)
+                .build();
+        }
+        
         public static AnalysisMetadata failed(String analyzerName, long startTime, long endTime, String errorMessage) {
             return builder()
                 .analyzerName(analyzerName)
@@ -204,6 +284,7 @@ public interface AnalyzeJarUseCase {
             private String analyzerName;
             private boolean successful = true;
             private String errorMessage;
+            private boolean complete = true;
             
             public Builder startTime(long startTime) {
                 this.startTime = startTime;
@@ -230,6 +311,11 @@ public interface AnalyzeJarUseCase {
                 return this;
             }
             
+            public Builder complete(boolean complete) {
+                this.complete = complete;
+                return this;
+            }
+            
             public AnalysisMetadata build() {
                 return new AnalysisMetadata(this);
             }
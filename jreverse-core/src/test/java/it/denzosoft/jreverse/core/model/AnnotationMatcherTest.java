@@ -0,0 +1,108 @@
+package it.denzosoft.jreverse.core.model;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnnotationMatcherTest {
+
+    private static final String GET_MAPPING = "org.springframework.web.bind.annotation.GetMapping";
+    private static final String POST_MAPPING = "org.springframework.web.bind.annotation.PostMapping";
+    private static final String AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
+
+    @Test
+    void shouldAssignStableIdsPerType() {
+        SymbolTable symbols = new SymbolTable();
+        AnnotationInfo first = annotation(symbols, GET_MAPPING);
+        AnnotationInfo second = annotation(symbols, GET_MAPPING);
+
+        assertSame(symbols.getAnnotationTypes(), first.getTypeRegistry());
+        assertEquals(first.getTypeId(), second.getTypeId());
+        assertEquals(first.getTypeId(), symbols.getAnnotationTypes().idOf(GET_MAPPING));
+        assertNotEquals(first.getTypeId(), annotation(symbols, AUTOWIRED).getTypeId());
+    }
+
+    @Test
+    void shouldScopeIdsToTheSymbolTableOfTheAnalysis() {
+        SymbolTable firstAnalysis = new SymbolTable();
+        SymbolTable secondAnalysis = new SymbolTable();
+        AnnotationMatcher matcher = AnnotationMatcher.of(POST_MAPPING);
+
+        annotation(firstAnalysis, AUTOWIRED);
+        AnnotationInfo first = annotation(firstAnalysis, POST_MAPPING);
+        AnnotationInfo second = annotation(secondAnalysis, POST_MAPPING);
+
+        assertEquals(1, first.getTypeId());
+        assertEquals(0, second.getTypeId());
+        assertTrue(matcher.matches(first));
+        assertTrue(matcher.matches(second));
+        assertFalse(matcher.matches(annotation(secondAnalysis, AUTOWIRED)));
+        assertEquals(2, secondAnalysis.getAnnotationTypes().getRegisteredCount());
+    }
+
+    @Test
+    void shouldMatchAnnotationsWithoutRegistryByTypeName() {
+        AnnotationInfo annotation = AnnotationInfo.simple(GET_MAPPING);
+
+        assertNull(annotation.getTypeRegistry());
+        assertEquals(AnnotationTypeRegistry.UNKNOWN, annotation.getTypeId());
+        assertTrue(AnnotationMatcher.of(GET_MAPPING).matches(annotation));
+        assertFalse(AnnotationMatcher.of(POST_MAPPING).matches(annotation));
+    }
+
+    @Test
+    void shouldMatchAnnotationsOfListedTypesOnly() {
+        AnnotationMatcher matcher = AnnotationMatcher.of(GET_MAPPING, POST_MAPPING);
+        SymbolTable symbols = new SymbolTable();
+
+        assertTrue(matcher.matches(annotation(symbols, GET_MAPPING)));
+        assertTrue(matcher.matches(annotation(symbols, POST_MAPPING)));
+        assertFalse(matcher.matches(annotation(symbols, AUTOWIRED)));
+        assertFalse(matcher.matches((AnnotationInfo) null));
+    }
+
+    @Test
+    void shouldMatchTypeNamesWithoutRegisteringUnknownOnes() {
+        AnnotationMatcher matcher = AnnotationMatcher.of(GET_MAPPING);
+        AnnotationTypeRegistry registry = new SymbolTable().getAnnotationTypes();
+        registry.idOf(GET_MAPPING);
+
+        assertTrue(matcher.matches(GET_MAPPING));
+        assertFalse(matcher.matches("com.example.NeverSeenAnnotation"));
+        assertFalse(matcher.matches((String) null));
+        assertEquals(AnnotationTypeRegistry.UNKNOWN, registry.findId("com.example.NeverSeenAnnotation"));
+        assertEquals(1, registry.getRegisteredCount());
+    }
+
+    @Test
+    void shouldFindFirstMatchingAnnotation() {
+        AnnotationMatcher matcher = AnnotationMatcher.of(GET_MAPPING, POST_MAPPING);
+        SymbolTable symbols = new SymbolTable();
+        AnnotationInfo autowired = annotation(symbols, AUTOWIRED);
+        AnnotationInfo post = annotation(symbols, POST_MAPPING);
+        List<AnnotationInfo> annotations = Arrays.asList(autowired, post);
+
+        assertTrue(matcher.matchesAny(annotations));
+        assertSame(post, matcher.findFirst(annotations));
+        assertFalse(matcher.matchesAny(Collections.singletonList(autowired)));
+        assertNull(matcher.findFirst(Collections.singletonList(autowired)));
+        assertNull(matcher.findFirst(Collections.emptyList()));
+    }
+
+    @Test
+    void shouldCombineMatchersWithUnion() {
+        AnnotationMatcher mappings = AnnotationMatcher.of(GET_MAPPING);
+        AnnotationMatcher combined = mappings.union(AnnotationMatcher.of(AUTOWIRED));
+
+        assertTrue(combined.matches(AnnotationInfo.simple(GET_MAPPING)));
+        assertTrue(combined.matches(AnnotationInfo.simple(AUTOWIRED)));
+        assertFalse(mappings.matches(AnnotationInfo.simple(AUTOWIRED)));
+        assertEquals(2, combined.getTypes().size());
+    }
+
+    private static AnnotationInfo annotation(SymbolTable symbols, String type) {
+        return AnnotationInfo.builder().type(type).symbols(symbols).build();
+    }
+}
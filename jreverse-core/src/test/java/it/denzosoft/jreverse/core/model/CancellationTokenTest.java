@@ -0,0 +1,59 @@
+package it.denzosoft.jreverse.core.model;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellationTokenTest {
+
+    @Test
+    void shouldNeverCancelNoneToken() {
+        CancellationToken.NONE.cancel();
+
+        assertFalse(CancellationToken.NONE.isCancelled());
+        assertFalse(CancellationToken.NONE.isExpired());
+        assertEquals(Long.MAX_VALUE, CancellationToken.NONE.getRemainingMillis());
+        CancellationToken.NONE.throwIfCancelled();
+    }
+
+    @Test
+    void shouldPropagateCancellationFromParentOnly() {
+        CancellationToken parent = CancellationToken.create();
+        CancellationToken child = parent.withTimeout(1, TimeUnit.HOURS);
+        CancellationToken sibling = parent.withTimeout(0, TimeUnit.SECONDS);
+
+        child.cancel();
+        assertTrue(child.isCancelled());
+        assertFalse(parent.isCancelled());
+        assertFalse(sibling.isCancelled());
+
+        parent.cancel();
+        assertTrue(sibling.isCancelled());
+        assertFalse(sibling.isExpired());
+        assertThrows(CancellationException.class, sibling::throwIfCancelled);
+    }
+
+    @Test
+    void shouldExpireAtDeadline() throws Exception {
+        CancellationToken token = CancellationToken.withDeadline(1, TimeUnit.MILLISECONDS);
+        CancellationToken child = token.withTimeout(1, TimeUnit.HOURS);
+        Thread.sleep(20);
+
+        assertTrue(token.isCancelled());
+        assertTrue(token.isExpired());
+        assertTrue(child.isExpired());
+        assertEquals(0, child.getRemainingMillis());
+    }
+
+    @Test
+    void shouldReportRemainingTimeOfNearestDeadline() {
+        CancellationToken token = CancellationToken.withDeadline(1, TimeUnit.HOURS);
+        CancellationToken child = token.withTimeout(1, TimeUnit.MINUTES);
+
+        assertEquals(Long.MAX_VALUE, CancellationToken.create().getRemainingMillis());
+        assertTrue(token.getRemainingMillis() > TimeUnit.MINUTES.toMillis(59));
+        assertTrue(child.getRemainingMillis() <= TimeUnit.MINUTES.toMillis(1));
+        assertFalse(child.isCancelled());
+    }
+}
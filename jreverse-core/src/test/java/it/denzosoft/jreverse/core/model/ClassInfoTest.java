@@ -1,6 +1,9 @@
 package it.denzosoft.jreverse.core.model;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ClassInfoTest {
@@ -88,6 +91,18 @@ class ClassInfoTest {
         assertTrue(classInfo.getFields().contains(field));
     }
 
+    @Test
+    void shouldShareEmptyCollectionsWithoutMembers() {
+        ClassInfo classInfo = ClassInfo.builder()
+            .fullyQualifiedName("com.example.EmptyClass")
+            .build();
+        
+        assertSame(Collections.emptySet(), classInfo.getMethods());
+        assertSame(Collections.emptySet(), classInfo.getFields());
+        assertSame(Collections.emptySet(), classInfo.getAnnotations());
+        assertSame(Collections.emptySet(), classInfo.getInterfaceNames());
+    }
+
     @Test
     void shouldBeEqualBasedOnFullyQualifiedName() {
         ClassInfo class1 = ClassInfo.builder()
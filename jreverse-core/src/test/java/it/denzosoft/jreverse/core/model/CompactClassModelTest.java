@@ -0,0 +1,155 @@
+package it.denzosoft.jreverse.core.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactClassModelTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JarLocation jarLocation;
+    private ClassInfo controller;
+    private ClassInfo repository;
+    private ClassInfo status;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path jarFile = tempDir.resolve("test.jar");
+        Files.createFile(jarFile);
+        jarLocation = new JarLocation(jarFile);
+
+        AnnotationInfo getMapping = AnnotationInfo.builder()
+            .type("org.springframework.web.bind.annotation.GetMapping")
+            .addAttribute("value", new String[] {"/users/{id}"})
+            .build();
+
+        controller = ClassInfo.builder()
+            .fullyQualifiedName("com.example.web.UserController")
+            .classType(ClassType.PUBLIC_CLASS)
+            .superClassName("java.lang.Object")
+            .addInterface("java.io.Serializable")
+            .addAnnotation(AnnotationInfo.simple("org.springframework.web.bind.annotation.RestController"))
+            .addMethod(MethodInfo.builder()
+                .name("getUser")
+                .returnType("com.example.domain.User")
+                .declaringClassName("com.example.web.UserController")
+                .isPublic(true)
+                .addAnnotation(getMapping)
+                .addThrownException("java.io.IOException")
+                .addParameter(ParameterInfo.builder()
+                    .name("id")
+                    .type("java.lang.Long")
+                    .index(0)
+                    .isFinal(true)
+                    .addAnnotation(AnnotationInfo.simple("org.springframework.web.bind.annotation.PathVariable"))
+                    .build())
+                .build())
+            .addField(FieldInfo.builder()
+                .name("MAX_RESULTS")
+                .type("int")
+                .declaringClassName("com.example.web.UserController")
+                .isStatic(true)
+                .isFinal(true)
+                .defaultValue(50)
+                .build())
+            .build();
+
+        repository = ClassInfo.builder()
+            .fullyQualifiedName("com.example.data.UserRepository")
+            .classType(ClassType.PUBLIC_INTERFACE)
+            .build();
+
+        status = ClassInfo.builder()
+            .fullyQualifiedName("com.example.domain.Status")
+            .classType(ClassType.ENUM)
+            .build();
+    }
+
+    @Test
+    void shouldMaterializeEquivalentClasses() {
+        CompactClassModel model = CompactClassModel.of(Arrays.asList(controller, repository, status));
+
+        ClassInfo restored = model.getClassByName("com.example.web.UserController");
+        assertEquals(controller, restored);
+        assertEquals(ClassType.PUBLIC_CLASS, restored.getClassType());
+        assertEquals("java.lang.Object", restored.getSuperClassName());
+        assertEquals(controller.getInterfaceNames(), restored.getInterfaceNames());
+        assertTrue(restored.hasAnnotation("org.springframework.web.bind.annotation.RestController"));
+
+        MethodInfo method = restored.getMethods().iterator().next();
+        assertEquals("getUser", method.getName());
+        assertEquals("com.example.domain.User", method.getReturnType());
+        assertTrue(method.isPublic());
+        assertTrue(method.getThrownExceptions().contains("java.io.IOException"));
+        assertArrayEquals(new String[] {"/users/{id}"},
+                          method.getAnnotations().iterator().next().getStringArrayAttribute("value"));
+
+        ParameterInfo parameter = method.getParameters().get(0);
+        assertEquals("id", parameter.getName());
+        assertEquals("java.lang.Long", parameter.getType());
+        assertTrue(parameter.isFinal());
+        assertTrue(parameter.hasAnnotation("org.springframework.web.bind.annotation.PathVariable"));
+
+        FieldInfo field = restored.getFields().iterator().next();
+        assertEquals("MAX_RESULTS", field.getName());
+        assertTrue(field.isStatic());
+        assertEquals(50, field.getDefaultValue());
+    }
+
+    @Test
+    void shouldExposeColumnsWithoutMaterializing() {
+        CompactClassModel model = CompactClassModel.of(Arrays.asList(controller, repository, status));
+
+        int classId = model.indexOf("com.example.web.UserController");
+        assertTrue(classId >= 0);
+        assertEquals("com.example.web.UserController", model.getClassName(classId));
+        assertEquals(ClassType.PUBLIC_CLASS, model.getClassType(classId));
+        assertEquals(1, model.getInterfaceCount(classId));
+        assertEquals("java.io.Serializable", model.getInterfaceName(classId, 0));
+        assertTrue(model.hasAnnotation(classId, "org.springframework.web.bind.annotation.RestController"));
+        assertNull(model.getSuperClassName(model.indexOf("com.example.data.UserRepository")));
+        assertEquals(-1, model.indexOf("com.example.Missing"));
+        assertEquals(3, model.size());
+        assertEquals(1, model.getMethodCount());
+    }
+
+    @Test
+    void shouldAnswerJarContentLookupsInCompactMode() {
+        Set<ClassInfo> classes = new HashSet<>(Arrays.asList(controller, repository, status));
+        JarContent compact = JarContent.builder().location(jarLocation).classes(classes).compact(true).build();
+        JarContent regular = JarContent.builder().location(jarLocation).classes(classes).build();
+
+        assertTrue(compact.isCompact());
+        assertEquals(regular.getClasses(), compact.getClasses());
+        assertEquals(regular.getPackages(), compact.getPackages());
+        assertEquals(regular.getInterfaces(), compact.getInterfaces());
+        assertEquals(regular.getEnums(), compact.getEnums());
+        assertEquals(regular.getPublicClasses(), compact.getPublicClasses());
+        assertEquals(regular.getClassesInPackage("com.example.web"), compact.getClassesInPackage("com.example.web"));
+        assertEquals(1, compact.getClassesWithAnnotation("org.springframework.web.bind.annotation.RestController").size());
+        assertTrue(compact.getClassesWithAnnotation("com.example.Unknown").isEmpty());
+        assertTrue(compact.getClasses().contains(repository));
+        assertEquals(regular, compact);
+    }
+
+    @Test
+    void shouldRejectModificationOfViews() {
+        JarContent compact = JarContent.builder()
+            .location(jarLocation)
+            .addClass(controller)
+            .compact(true)
+            .build();
+
+        assertThrows(UnsupportedOperationException.class, () -> compact.getClasses().add(repository));
+        assertThrows(UnsupportedOperationException.class, () -> compact.getPublicClasses().clear());
+    }
+}
@@ -176,6 +176,64 @@ class JarContentTest {
         assertTrue(interfaces.contains(interfaceClass));
     }
 
+    @Test
+    void shouldReuseIndexedLookupsAcrossCalls() {
+        ClassInfo service = ClassInfo.builder()
+            .fullyQualifiedName("com.example.service.TestService")
+            .addAnnotation(AnnotationInfo.simple("org.springframework.stereotype.Service"))
+            .build();
+        
+        JarContent jarContent = JarContent.builder()
+            .location(jarLocation)
+            .addClass(service)
+            .build();
+        
+        Set<ClassInfo> annotated = jarContent.getClassesWithAnnotation("org.springframework.stereotype.Service");
+        assertSame(annotated, jarContent.getClassesWithAnnotation("org.springframework.stereotype.Service"));
+        assertSame(jarContent.getClassesInPackage("com.example.service"),
+                   jarContent.getClassesInPackage("com.example.service"));
+        assertThrows(UnsupportedOperationException.class, () -> annotated.add(createTestClass("com.example.Other")));
+        assertSame(service, jarContent.getClassByName("com.example.service.TestService"));
+    }
+
+    @Test
+    void shouldReturnEmptySetsForUnknownKeys() {
+        JarContent jarContent = JarContent.builder()
+            .location(jarLocation)
+            .addClass(createTestClass("com.example.TestClass"))
+            .build();
+        
+        assertTrue(jarContent.getClassesInPackage("com.unknown").isEmpty());
+        assertTrue(jarContent.getClassesWithAnnotation("com.unknown.Annotation").isEmpty());
+        assertTrue(jarContent.getEnums().isEmpty());
+        assertNull(jarContent.getClassByName("com.unknown.Missing"));
+    }
+
+    @Test
+    void shouldPartitionClassesByType() {
+        ClassInfo publicEnum = ClassInfo.builder()
+            .fullyQualifiedName("com.example.Status")
+            .classType(ClassType.PUBLIC_ENUM)
+            .build();
+        ClassInfo packageEnum = ClassInfo.builder()
+            .fullyQualifiedName("com.example.Mode")
+            .classType(ClassType.ENUM)
+            .build();
+        
+        JarContent jarContent = JarContent.builder()
+            .location(jarLocation)
+            .addClass(publicEnum)
+            .addClass(packageEnum)
+            .addClass(createTestClass("com.example.TestClass"))
+            .build();
+        
+        assertEquals(2, jarContent.getEnums().size());
+        assertEquals(1, jarContent.getClassesOfType(ClassType.ENUM).size());
+        assertTrue(jarContent.getClassesOfType(ClassType.ENUM).contains(packageEnum));
+        assertEquals(1, jarContent.getPublicClasses().size());
+        assertTrue(jarContent.getPublicClasses().contains(publicEnum));
+    }
+
     @Test
     void shouldHandleResources() {
         byte[] resourceContent = "test resource content".getBytes();
@@ -0,0 +1,130 @@
+package it.denzosoft.jreverse.core.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolTableTest {
+
+    private final SymbolTable symbols = new SymbolTable();
+
+    @Test
+    void shouldInternEqualStrings() {
+        String first = new String("com.example.service");
+        String second = new String("com.example.service");
+
+        assertSame(symbols.intern(first), symbols.intern(second));
+        assertNull(symbols.intern((String) null));
+        assertEquals(1, symbols.getStringCount());
+    }
+
+    @Test
+    void shouldShareStringsAcrossBuilders() {
+        ClassInfo first = ClassInfo.builder()
+            .fullyQualifiedName(new String("com.example.service.FirstService"))
+            .addInterface(new String("java.io.Serializable"))
+            .symbols(symbols)
+            .build();
+        ClassInfo second = ClassInfo.builder()
+            .fullyQualifiedName(new String("com.example.service.SecondService"))
+            .addInterface(new String("java.io.Serializable"))
+            .symbols(symbols)
+            .build();
+
+        assertSame(first.getPackageName(), second.getPackageName());
+        assertSame(first.getInterfaceNames().iterator().next(), second.getInterfaceNames().iterator().next());
+    }
+
+    @Test
+    void shouldHashConsAnnotations() {
+        MethodInfo first = methodWithAnnotation("first", "/users");
+        MethodInfo second = methodWithAnnotation("second", "/users");
+        MethodInfo third = methodWithAnnotation("third", "/orders");
+
+        AnnotationInfo firstAnnotation = first.getAnnotations().iterator().next();
+        assertSame(firstAnnotation, second.getAnnotations().iterator().next());
+        assertNotSame(firstAnnotation, third.getAnnotations().iterator().next());
+        assertEquals(2, symbols.getAnnotationCount());
+    }
+
+    @Test
+    void shouldInternNestedAnnotationArrays() {
+        AnnotationInfo first = annotationWithNestedFilter("first");
+        AnnotationInfo second = annotationWithNestedFilter("second");
+
+        AnnotationInfo[] firstFilters = (AnnotationInfo[]) first.getAttributes().get("includeFilters");
+        AnnotationInfo[] secondFilters = (AnnotationInfo[]) second.getAttributes().get("includeFilters");
+        assertSame(firstFilters[0], secondFilters[0]);
+    }
+
+    @Test
+    void shouldHashConsParametersOnAllProperties() {
+        ParameterInfo plain = parameter(false);
+        ParameterInfo finalParameter = parameter(true);
+
+        MethodInfo first = method("first", plain);
+        MethodInfo second = method("second", parameter(false));
+        MethodInfo third = method("third", finalParameter);
+
+        assertSame(first.getParameters().get(0), second.getParameters().get(0));
+        assertNotSame(first.getParameters().get(0), third.getParameters().get(0));
+        assertTrue(third.getParameters().get(0).isFinal());
+    }
+
+    @Test
+    void shouldLeaveModelUnchangedWithoutSymbolTable() {
+        ClassInfo classInfo = ClassInfo.builder()
+            .fullyQualifiedName("com.example.TestClass")
+            .addAnnotation(AnnotationInfo.simple("org.springframework.stereotype.Service"))
+            .build();
+
+        assertTrue(classInfo.hasAnnotation("org.springframework.stereotype.Service"));
+        assertTrue(classInfo.getInterfaceNames().isEmpty());
+        assertEquals(0, symbols.getStringCount());
+    }
+
+    private AnnotationInfo annotationWithNestedFilter(String basePackage) {
+        AnnotationInfo filter = AnnotationInfo.builder()
+            .type(new String("org.springframework.context.annotation.ComponentScan$Filter"))
+            .addAttribute("type", new String("ANNOTATION"))
+            .build();
+        return AnnotationInfo.builder()
+            .type("org.springframework.context.annotation.ComponentScan")
+            .addAttribute("basePackages", new String[] {basePackage})
+            .addAttribute("includeFilters", new AnnotationInfo[] {filter})
+            .symbols(symbols)
+            .build();
+    }
+
+    private MethodInfo methodWithAnnotation(String name, String path) {
+        return MethodInfo.builder()
+            .name(name)
+            .declaringClassName("com.example.TestController")
+            .addAnnotation(AnnotationInfo.builder()
+                .type(new String("org.springframework.web.bind.annotation.GetMapping"))
+                .addAttribute("value", new String[] {new String(path)})
+                .addAttribute("produces", new String("application/json"))
+                .symbols(symbols)
+                .build())
+            .symbols(symbols)
+            .build();
+    }
+
+    private MethodInfo method(String name, ParameterInfo parameter) {
+        return MethodInfo.builder()
+            .name(name)
+            .declaringClassName("com.example.TestService")
+            .addParameter(parameter)
+            .symbols(symbols)
+            .build();
+    }
+
+    private ParameterInfo parameter(boolean isFinal) {
+        return ParameterInfo.builder()
+            .name(new String("id"))
+            .type(new String("java.lang.Long"))
+            .index(0)
+            .isFinal(isFinal)
+            .symbols(symbols)
+            .build();
+    }
+}
@@ -0,0 +1,125 @@
+package it.denzosoft.jreverse.core.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeHierarchyTest {
+
+    private static final String CRUD_REPOSITORY = "org.springframework.data.repository.CrudRepository";
+    private static final String JPA_REPOSITORY = "org.springframework.data.jpa.repository.JpaRepository";
+
+    private List<ClassInfo> classes;
+
+    @BeforeEach
+    void setUp() {
+        classes = Arrays.asList(
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.data.BaseRepository")
+                .classType(ClassType.PUBLIC_INTERFACE)
+                .addInterface(JPA_REPOSITORY)
+                .build(),
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.data.UserRepository")
+                .classType(ClassType.PUBLIC_INTERFACE)
+                .addInterface("com.example.data.BaseRepository")
+                .build(),
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.service.PaymentService")
+                .classType(ClassType.PUBLIC_INTERFACE)
+                .build(),
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.service.AbstractPaymentService")
+                .classType(ClassType.ABSTRACT_CLASS)
+                .superClassName("java.lang.Object")
+                .addInterface("com.example.service.PaymentService")
+                .build(),
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.service.CardPaymentService")
+                .classType(ClassType.PUBLIC_CLASS)
+                .superClassName("com.example.service.AbstractPaymentService")
+                .build(),
+            ClassInfo.builder()
+                .fullyQualifiedName("com.example.service.WirePaymentService")
+                .classType(ClassType.PUBLIC_CLASS)
+                .superClassName("java.lang.Object")
+                .addInterface("com.example.service.PaymentService")
+                .build());
+    }
+
+    @Test
+    void shouldAnswerAssignabilityAcrossLevels() {
+        TypeHierarchy hierarchy = TypeHierarchy.of(classes);
+
+        assertTrue(hierarchy.isAssignable("com.example.data.UserRepository", JPA_REPOSITORY));
+        assertTrue(hierarchy.isAssignable("com.example.service.CardPaymentService", "com.example.service.PaymentService"));
+        assertTrue(hierarchy.isAssignable("com.example.service.CardPaymentService", "java.lang.Object"));
+        assertTrue(hierarchy.isAssignable("com.example.Unknown", "com.example.Unknown"));
+        assertFalse(hierarchy.isSubtypeOf("com.example.service.PaymentService", "com.example.service.PaymentService"));
+        assertFalse(hierarchy.isAssignable("com.example.service.PaymentService", "com.example.service.CardPaymentService"));
+        assertFalse(hierarchy.isAssignable("com.example.data.UserRepository", CRUD_REPOSITORY));
+        assertTrue(hierarchy.isSubtypeOfAny("com.example.data.UserRepository",
+                                            new HashSet<>(Arrays.asList(CRUD_REPOSITORY, JPA_REPOSITORY))));
+    }
+
+    @Test
+    void shouldFindSubtypesAndImplementors() {
+        TypeHierarchy hierarchy = TypeHierarchy.of(classes);
+
+        assertEquals(new HashSet<>(Arrays.asList(
+                         "com.example.service.AbstractPaymentService",
+                         "com.example.service.CardPaymentService",
+                         "com.example.service.WirePaymentService")),
+                     hierarchy.getSubtypes("com.example.service.PaymentService"));
+        assertEquals(new HashSet<>(Arrays.asList(
+                         "com.example.service.CardPaymentService",
+                         "com.example.service.WirePaymentService")),
+                     hierarchy.getImplementors("com.example.service.PaymentService"));
+        assertEquals(Collections.singleton("com.example.service.CardPaymentService"),
+                     hierarchy.getImplementors("com.example.service.CardPaymentService"));
+        assertEquals(new HashSet<>(Arrays.asList("com.example.data.BaseRepository", JPA_REPOSITORY)),
+                     hierarchy.getSupertypes("com.example.data.UserRepository"));
+        assertEquals(Collections.singleton("com.example.data.UserRepository"),
+                     hierarchy.getDirectSubtypes("com.example.data.BaseRepository"));
+        assertTrue(hierarchy.getSubtypes("com.example.Unknown").isEmpty());
+    }
+
+    @Test
+    void shouldDistinguishDeclaredFromExternalTypes() {
+        TypeHierarchy hierarchy = TypeHierarchy.of(classes);
+
+        assertTrue(hierarchy.isDeclared("com.example.service.PaymentService"));
+        assertFalse(hierarchy.isDeclared(JPA_REPOSITORY));
+        assertTrue(hierarchy.idOf(JPA_REPOSITORY) >= 0);
+        assertEquals(-1, hierarchy.idOf("com.example.Unknown"));
+        assertEquals(8, hierarchy.size());
+    }
+
+    @Test
+    void shouldBuildSameHierarchyFromCompactModel() {
+        TypeHierarchy regular = TypeHierarchy.of(classes);
+        TypeHierarchy compact = TypeHierarchy.of(CompactClassModel.of(classes));
+
+        assertEquals(regular.size(), compact.size());
+        assertEquals(regular.getSubtypes("com.example.service.PaymentService"),
+                     compact.getSubtypes("com.example.service.PaymentService"));
+        assertEquals(regular.getSupertypes("com.example.data.UserRepository"),
+                     compact.getSupertypes("com.example.data.UserRepository"));
+    }
+
+    @Test
+    void shouldTolerateCyclicHierarchies() {
+        TypeHierarchy hierarchy = TypeHierarchy.of(Arrays.asList(
+            ClassInfo.builder().fullyQualifiedName("com.example.A").classType(ClassType.PUBLIC_INTERFACE)
+                .addInterface("com.example.B").build(),
+            ClassInfo.builder().fullyQualifiedName("com.example.B").classType(ClassType.PUBLIC_INTERFACE)
+                .addInterface("com.example.A").build()));
+
+        assertTrue(hierarchy.isSubtypeOf("com.example.A", "com.example.B"));
+        assertTrue(hierarchy.getSubtypes("com.example.A").contains("com.example.B"));
+    }
+}
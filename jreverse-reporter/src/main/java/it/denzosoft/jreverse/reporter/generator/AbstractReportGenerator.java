@@ -14,7 +14,9 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 /**
@@ -209,4 +211,33 @@ public abstract class AbstractReportGenerator {
     protected boolean requiresAsyncAnalysis() { return false; }
     protected boolean requiresMessagingAnalysis() { return false; }
     protected boolean requiresSecurityAnalysis() { return false; }
+    protected boolean requiresBootstrapAnalysis() { return false; }
+    protected boolean requiresAutowiringAnalysis() { return false; }
+    
+    /**
+     * Returns the analyses whose results this generator reads, as declared by the
+     * requires methods. Used by {@link AnalysisPlanner} to run only the analyzers needed.
+     */
+    public Set<AnalysisRequirement> getRequiredAnalyses() {
+        Set<AnalysisRequirement> requirements = EnumSet.noneOf(AnalysisRequirement.class);
+        if (requiresSchedulingAnalysis()) {
+            requirements.add(AnalysisRequirement.SCHEDULING);
+        }
+        if (requiresAsyncAnalysis()) {
+            requirements.add(AnalysisRequirement.ASYNC);
+        }
+        if (requiresMessagingAnalysis()) {
+            requirements.add(AnalysisRequirement.MESSAGING);
+        }
+        if (requiresSecurityAnalysis()) {
+            requirements.add(AnalysisRequirement.SECURITY);
+        }
+        if (requiresBootstrapAnalysis()) {
+            requirements.add(AnalysisRequirement.BOOTSTRAP);
+        }
+        if (requiresAutowiringAnalysis()) {
+            requirements.add(AnalysisRequirement.AUTOWIRING);
+        }
+        return requirements;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package it.denzosoft.jreverse.reporter.generator;
+
+import it.denzosoft.jreverse.analyzer.async.JavassistAsyncEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.autowired.JavassistAutowiredAnalyzer;
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointTraversal;
+import it.denzosoft.jreverse.analyzer.entrypoint.EntrypointVisitor;
+import it.denzosoft.jreverse.analyzer.factory.SpecializedAnalyzerFactory;
+import it.denzosoft.jreverse.analyzer.messaging.JavassistMessagingEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.scheduling.JavassistSchedulingEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.security.JavassistSecurityEntrypointAnalyzer;
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisResults;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
+import it.denzosoft.jreverse.core.model.JarContent;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * The minimum set of analyses needed by a set of report generators.
+ * Executing the plan runs only those analyzers: the requested entrypoint analyses share one
+ * traversal of the class model, and an {@link AnalysisSession} resolving bytecode is opened
+ * only when an analysis needs it.
+ */
+public class AnalysisPlan {
+    
+    private static final Logger LOGGER = Logger.getLogger(AnalysisPlan.class.getName());
+    
+    private final Set<AnalysisRequirement> requirements;
+    
+    AnalysisPlan(Set<AnalysisRequirement> requirements) {
+        this.requirements = requirements.isEmpty()
+            ? Collections.<AnalysisRequirement>emptySet()
+            : Collections.unmodifiableSet(EnumSet.copyOf(requirements));
+    }
+    
+    public Set<AnalysisRequirement> getRequirements() {
+        return requirements;
+    }
+    
+    public boolean isEmpty() {
+        return requirements.isEmpty();
+    }
+    
+    /**
+     * Returns whether any planned analysis reads method bytecode. When false, the plan runs
+     * on the decoded class model alone and no {@link AnalysisSession} is opened.
+     */
+    public boolean requiresSession() {
+        return requirements.stream().anyMatch(AnalysisRequirement::isBytecodeRequired);
+    }
+    
+    /**
+     * Runs the planned analyses, opening a session only if bytecode is needed.
+     *
+     * @param jarContent the JAR to analyze
+     * @return the analysis results by result key
+     */
+    public Map<String, Object> execute(JarContent jarContent) {
+        if (!requiresSession()) {
+            return execute(jarContent, null);
+        }
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
+            return execute(jarContent, session);
+        }
+    }
+    
+    /**
+     * Runs the planned analyses within the given session.
+     * An analysis that fails is logged and left out of the results, as the generators
+     * render missing results as empty sections.
+     *
+     * @param jarContent the JAR to analyze
+     * @param session the session used by bytecode analyses, may be null
+     * @return the analysis results by result key
+     */
+    public Map<String, Object> execute(JarContent jarContent, AnalysisSession session) {
+        Objects.requireNonNull(jarContent, "jarContent cannot be null");
+        Map<String, Object> results = new HashMap<>();
+        if (requirements.isEmpty()) {
+            return results;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        try {
+            executeEntrypointAnalyses(jarContent, results);
+        } catch (RuntimeException e) {
+            LOGGER.warning("Entrypoint analysis failed: " + e.getMessage());
+        }
+        
+        if (requirements.contains(AnalysisRequirement.AUTOWIRING)) {
+            try {
+                results.put(AnalysisRequirement.AUTOWIRING.getResultKey(),
+                            new JavassistAutowiredAnalyzer(session).analyzeAutowiring(jarContent));
+            } catch (RuntimeException e) {
+                LOGGER.warning("Autowiring analysis failed: " + e.getMessage());
+            }
+        }
+        
+        if (requirements.contains(AnalysisRequirement.BOOTSTRAP)) {
+            executeBootstrapAnalysis(jarContent, session, results);
+        }
+        
+        LOGGER.info(String.format("Executed analysis plan %s in %dms",
+                   requirements, System.currentTimeMillis() - startTime));
+        return results;
+    }
+    
+    /**
+     * Runs the bootstrap analysis and its main method, bean creation and component scan
+     * inputs as a DAG, so the independent inputs run concurrently and each runs once.
+     */
+    private void executeBootstrapAnalysis(JarContent jarContent, AnalysisSession session, Map<String, Object> results) {
+        AnalysisResults bootstrapResults = SpecializedAnalyzerFactory
+            .createSpringBootAnalysisScheduler(session, SessionKeys.BOOTSTRAP)
+            .run(jarContent, session);
+        Throwable failure = bootstrapResults.getFailure(SessionKeys.BOOTSTRAP);
+        if (failure != null) {
+            LOGGER.warning("Bootstrap analysis failed: " + failure.getMessage());
+            return;
+        }
+        results.put(AnalysisRequirement.BOOTSTRAP.getResultKey(), bootstrapResults.get(SessionKeys.BOOTSTRAP));
+    }
+    
+    private void executeEntrypointAnalyses(JarContent jarContent, Map<String, Object> results) {
+        Map<AnalysisRequirement, EntrypointVisitor<?>> visitors = new EnumMap<>(AnalysisRequirement.class);
+        for (AnalysisRequirement requirement : requirements) {
+            if (requirement.isEntrypointAnalysis()) {
+                visitors.put(requirement, createVisitor(requirement));
+            }
+        }
+        if (visitors.isEmpty()) {
+            return;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        new EntrypointTraversal(visitors.values()).traverse(jarContent);
+        long analysisTime = System.currentTimeMillis() - startTime;
+        
+        String fileName = jarContent.getLocation() != null ? jarContent.getLocation().getFileName() : "";
+        visitors.forEach((requirement, visitor) ->
+            results.put(requirement.getResultKey(), visitor.getResult(analysisTime, fileName)));
+    }
+    
+    private static EntrypointVisitor<?> createVisitor(AnalysisRequirement requirement) {
+        switch (requirement) {
+            case SECURITY:
+                return new JavassistSecurityEntrypointAnalyzer().createVisitor();
+            case MESSAGING:
+                return new JavassistMessagingEntrypointAnalyzer().createVisitor();
+            case SCHEDULING:
+                return new JavassistSchedulingEntrypointAnalyzer().createVisitor();
+            case ASYNC:
+                return new JavassistAsyncEntrypointAnalyzer().createVisitor();
+            default:
+                throw new IllegalArgumentException("Not an entrypoint analysis: " + requirement);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "AnalysisPlan{" +
+                "requirements=" + requirements +
+                ", session=" + requiresSession() +
+                '}';
+    }
+}
@@ -0,0 +1,21 @@
+package it.denzosoft.jreverse.reporter.generator;
+
+import java.util.Objects;
+
+/**
+ * Derives the analyses needed to generate a report from the requirements its generator declares.
+ */
+public final class AnalysisPlanner {
+    
+    private AnalysisPlanner() {
+        // Utility class
+    }
+    
+    /**
+     * Plans the analyses needed by a single generator.
+     */
+    public static AnalysisPlan plan(AbstractReportGenerator generator) {
+        Objects.requireNonNull(generator, "generator cannot be null");
+        return new AnalysisPlan(generator.getRequiredAnalyses());
+    }
+}
@@ -0,0 +1,45 @@
+package it.denzosoft.jreverse.reporter.generator;
+
+/**
+ * Analyses whose results report generators can require.
+ * Each requirement is published to the generators under its result key.
+ */
+public enum AnalysisRequirement {
+    
+    SECURITY("securityAnalysis", false),
+    MESSAGING("messagingAnalysis", false),
+    SCHEDULING("schedulingAnalysis", false),
+    ASYNC("asyncAnalysis", false),
+    AUTOWIRING("autowiring", false),
+    BOOTSTRAP("bootstrap", true);
+    
+    private final String resultKey;
+    private final boolean bytecodeRequired;
+    
+    AnalysisRequirement(String resultKey, boolean bytecodeRequired) {
+        this.resultKey = resultKey;
+        this.bytecodeRequired = bytecodeRequired;
+    }
+    
+    /**
+     * Returns the key of the result in the analysis results passed to the generators.
+     */
+    public String getResultKey() {
+        return resultKey;
+    }
+    
+    /**
+     * Returns whether the analysis reads method bytecode through Javassist,
+     * rather than only the decoded class model.
+     */
+    public boolean isBytecodeRequired() {
+        return bytecodeRequired;
+    }
+    
+    /**
+     * Returns whether the analysis is discovered by the single-pass entrypoint traversal.
+     */
+    public boolean isEntrypointAnalysis() {
+        return this == SECURITY || this == MESSAGING || this == SCHEDULING || this == ASYNC;
+    }
+}
@@ -25,6 +25,7 @@ public class ReportGeneratorFactory {
         // Enhanced reports with entrypoint support
         GENERATOR_SUPPLIERS.put(ReportType.REST_ENDPOINT_MAP, RestEndpointsEnhancedGenerator::new);
         GENERATOR_SUPPLIERS.put(ReportType.AUTOWIRING_GRAPH, AutowiringGraphReportGenerator::new);
+        GENERATOR_SUPPLIERS.put(ReportType.CIRCULAR_DEPENDENCY_ANALYSIS, CircularDependencyReportGenerator::new);
         GENERATOR_SUPPLIERS.put(ReportType.HTTP_CALL_GRAPH, () -> new GeneratorStubs.HttpCallGraphEnhancedGenerator());
         GENERATOR_SUPPLIERS.put(ReportType.EVENT_LISTENER_ANALYSIS, () -> new GeneratorStubs.ComprehensiveEntryPointsGenerator());
         GENERATOR_SUPPLIERS.put(ReportType.ASYNC_CALL_SEQUENCES, () -> new GeneratorStubs.AsyncSequencesCompleteGenerator());
@@ -17,6 +17,11 @@ import java.util.Map;
  */
 public class AutowiringGraphReportGenerator extends AbstractReportGenerator {
     
+    @Override
+    protected boolean requiresAutowiringAnalysis() {
+        return true;
+    }
+    
     @Override
     protected ReportContext buildReportContext(JarContent jarContent, Map<String, Object> analysisResults) {
         AutowiredAnalysisResult autowiredResult = (AutowiredAnalysisResult) analysisResults.get("autowiring");
@@ -28,6 +28,11 @@ public class BootstrapAnalysisReportGenerator extends AbstractReportGenerator {
         this.sequenceGenerator = new BootstrapSequenceGenerator();
     }
     
+    @Override
+    protected boolean requiresBootstrapAnalysis() {
+        return true;
+    }
+    
     @Override
     protected ReportContext buildReportContext(JarContent jarContent, Map<String, Object> analysisResults) {
         BootstrapAnalysisResult bootstrapResult = (BootstrapAnalysisResult) analysisResults.get("bootstrap");
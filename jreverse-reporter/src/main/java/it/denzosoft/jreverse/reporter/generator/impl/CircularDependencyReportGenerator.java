@@ -0,0 +1,118 @@
+package it.denzosoft.jreverse.reporter.generator.impl;
+
+import it.denzosoft.jreverse.core.model.AutowiredAnalysisResult;
+import it.denzosoft.jreverse.core.model.DependencyCycle;
+import it.denzosoft.jreverse.core.port.ReportType;
+import it.denzosoft.jreverse.reporter.generator.AbstractReportGenerator;
+import it.denzosoft.jreverse.reporter.template.ReportContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generator for Report 20: Circular Dependency Analysis.
+ * Lists every set of beans that depend on each other, as found by the autowiring analysis,
+ * with the dependencies that close each cycle.
+ */
+public class CircularDependencyReportGenerator extends AbstractReportGenerator {
+    
+    @Override
+    protected ReportType getReportType() {
+        return ReportType.CIRCULAR_DEPENDENCY_ANALYSIS;
+    }
+    
+    @Override
+    protected String getReportTitle() {
+        return "Circular Dependency Analysis";
+    }
+    
+    @Override
+    protected String getHeaderCssClass() {
+        return "circular-header";
+    }
+    
+    @Override
+    protected boolean requiresAutowiringAnalysis() {
+        return true;
+    }
+    
+    @Override
+    protected void writeReportContent(Writer writer, ReportContext context) throws IOException {
+        List<DependencyCycle> cycles = findCycles(context);
+        
+        writeCycleSummary(writer, cycles);
+        
+        if (cycles.isEmpty()) {
+            writer.write("        <p class=\"no-cycles\">No circular dependencies found between the beans of the analyzed JAR.</p>\n");
+            return;
+        }
+        
+        writeCycleCatalog(writer, cycles);
+    }
+    
+    private List<DependencyCycle> findCycles(ReportContext context) {
+        if (!hasAnalysisResult(context, "autowiring")) {
+            return Collections.emptyList();
+        }
+        AutowiredAnalysisResult result = getAnalysisResult(context, "autowiring", AutowiredAnalysisResult.class);
+        return result != null ? result.getDependencyCycles() : Collections.emptyList();
+    }
+    
+    private void writeCycleSummary(Writer writer, List<DependencyCycle> cycles) throws IOException {
+        writer.write("        <section class=\"cycle-summary\">\n");
+        writer.write("            <h2>Cycles Summary</h2>\n");
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("Dependency Cycles", cycles.size());
+        stats.put("Beans in Cycles", cycles.stream().mapToInt(DependencyCycle::getSize).sum());
+        stats.put("Largest Cycle", cycles.stream().mapToInt(DependencyCycle::getSize).max().orElse(0));
+        stats.put("Self Dependencies", cycles.stream().filter(DependencyCycle::isSelfDependency).count());
+        writeStatsGrid(writer, stats);
+        
+        writer.write("        </section>\n");
+    }
+    
+    private void writeCycleCatalog(Writer writer, List<DependencyCycle> cycles) throws IOException {
+        writer.write("        <section class=\"cycle-catalog\">\n");
+        writer.write("            <h2>Cycles</h2>\n");
+        
+        int number = 1;
+        for (DependencyCycle cycle : cycles) {
+            writer.write("            <div class=\"cycle-card\">\n");
+            writer.write("                <h3>Cycle " + number++ + " <span class=\"cycle-size\">"
+                + (cycle.isSelfDependency() ? "self dependency" : cycle.getSize() + " beans") + "</span></h3>\n");
+            writer.write("                <table class=\"cycle-table\">\n");
+            writer.write("                    <thead><tr><th>Bean</th><th>Depends on</th></tr></thead>\n");
+            writer.write("                    <tbody>\n");
+            for (String bean : cycle.getBeans()) {
+                writer.write("                        <tr><td title=\"" + escapeHtml(bean) + "\">"
+                    + escapeHtml(simpleName(bean)) + "</td><td>");
+                writeBeanList(writer, cycle.getDependenciesOf(bean));
+                writer.write("</td></tr>\n");
+            }
+            writer.write("                    </tbody>\n");
+            writer.write("                </table>\n");
+            writer.write("            </div>\n");
+        }
+        
+        writer.write("        </section>\n");
+    }
+    
+    private void writeBeanList(Writer writer, List<String> beans) throws IOException {
+        for (int i = 0; i < beans.size(); i++) {
+            if (i > 0) {
+                writer.write(", ");
+            }
+            writer.write("<span title=\"" + escapeHtml(beans.get(i)) + "\">" + escapeHtml(simpleName(beans.get(i))) + "</span>");
+        }
+    }
+    
+    private static String simpleName(String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot >= 0 ? className.substring(lastDot + 1) : className;
+    }
+}
@@ -1,10 +1,13 @@
 package it.denzosoft.jreverse.reporter.springboot;
 
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisResults;
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisScheduler;
+import it.denzosoft.jreverse.analyzer.scheduler.AnalysisTask;
+import it.denzosoft.jreverse.analyzer.session.SessionKeys;
 import it.denzosoft.jreverse.core.logging.JReverseLogger;
 import it.denzosoft.jreverse.core.model.ComponentScanAnalysisResult;
 import it.denzosoft.jreverse.core.model.ConfigurationAnalysisResult;
 import it.denzosoft.jreverse.core.model.JarContent;
-import it.denzosoft.jreverse.core.model.MainMethodAnalysisResult;
 import it.denzosoft.jreverse.core.model.RestEndpointAnalysisResult;
 import it.denzosoft.jreverse.core.model.WebMvcAnalysisResult;
 import it.denzosoft.jreverse.core.port.ComponentScanAnalyzer;
@@ -13,9 +16,15 @@ import it.denzosoft.jreverse.core.port.MainMethodAnalyzer;
 import it.denzosoft.jreverse.core.port.RestEndpointAnalyzer;
 import it.denzosoft.jreverse.core.port.WebMvcAnalyzer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Report generator specifically designed for Spring Boot applications.
  * Generates comprehensive reports using Spring Boot specific analyzers.
+ * The analyzers of the entrypoint report run concurrently through an {@link AnalysisScheduler}.
  */
 public class SpringBootReportGenerator {
     
@@ -26,6 +35,7 @@ public class SpringBootReportGenerator {
     private final RestEndpointAnalyzer restEndpointAnalyzer;
     private final WebMvcAnalyzer webMvcAnalyzer;
     private final ConfigurationAnalyzer configurationAnalyzer;
+    private final AnalysisScheduler entrypointScheduler;
     
     public SpringBootReportGenerator(MainMethodAnalyzer mainMethodAnalyzer,
                                    ComponentScanAnalyzer componentScanAnalyzer,
@@ -37,6 +47,12 @@ public class SpringBootReportGenerator {
         this.restEndpointAnalyzer = restEndpointAnalyzer;
         this.webMvcAnalyzer = webMvcAnalyzer;
         this.configurationAnalyzer = configurationAnalyzer;
+        this.entrypointScheduler = new AnalysisScheduler(Arrays.asList(
+            AnalysisTask.of(SessionKeys.MAIN_METHOD, (jar, inputs) -> mainMethodAnalyzer.analyzeMainMethod(jar)),
+            AnalysisTask.of(SessionKeys.COMPONENT_SCAN, (jar, inputs) -> componentScanAnalyzer.analyzeComponentScan(jar)),
+            AnalysisTask.of(SessionKeys.REST_ENDPOINTS, (jar, inputs) -> restEndpointAnalyzer.analyzeRestEndpoints(jar)),
+            AnalysisTask.of(SessionKeys.WEB_MVC, (jar, inputs) -> webMvcAnalyzer.analyzeWebMvcMappings(jar)),
+            AnalysisTask.of(SessionKeys.CONFIGURATION, (jar, inputs) -> configurationAnalyzer.analyzeConfigurations(jar))));
     }
     
     /**
@@ -49,40 +65,32 @@ public class SpringBootReportGenerator {
         SpringBootEntrypointReport.Builder reportBuilder = SpringBootEntrypointReport.builder()
                 .jarLocation(jarContent.getLocation().toString());
         
-        try {
-            // Analyze main method and SpringApplication.run()
-            MainMethodAnalysisResult mainMethodResult = mainMethodAnalyzer.analyzeMainMethod(jarContent);
-            reportBuilder.mainMethodAnalysis(mainMethodResult);
-            
-            // Analyze component scan configurations
-            ComponentScanAnalysisResult componentScanResult = componentScanAnalyzer.analyzeComponentScan(jarContent);
-            reportBuilder.componentScanAnalysis(componentScanResult);
-            
-            // Analyze REST endpoints
-            RestEndpointAnalysisResult restEndpointResult = restEndpointAnalyzer.analyzeRestEndpoints(jarContent);
-            reportBuilder.restEndpointAnalysis(restEndpointResult);
-            
-            // Analyze Spring MVC mappings
-            WebMvcAnalysisResult webMvcResult = webMvcAnalyzer.analyzeWebMvcMappings(jarContent);
-            reportBuilder.webMvcAnalysis(webMvcResult);
-            
-            // Analyze Spring configurations
-            ConfigurationAnalysisResult configurationResult = configurationAnalyzer.analyzeConfigurations(jarContent);
-            reportBuilder.configurationAnalysis(configurationResult);
-            
-            long analysisTime = System.currentTimeMillis() - startTime;
-            reportBuilder.analysisTimeMs(analysisTime);
-            
-            LOGGER.info("Spring Boot entrypoint report generated in %dms", analysisTime);
-            return reportBuilder.build();
-            
-        } catch (Exception e) {
-            LOGGER.error("Error generating Spring Boot entrypoint report: " + e.getMessage(), e);
+        // The five analyzers are independent and run concurrently
+        AnalysisResults results = entrypointScheduler.run(jarContent, null);
+        if (!results.isSuccessful()) {
+            List<String> failures = new ArrayList<>();
+            for (Map.Entry<String, Throwable> failure : results.getFailures().entrySet()) {
+                LOGGER.error("Error generating Spring Boot entrypoint report: %s analysis failed: %s",
+                             failure.getValue(), failure.getKey(), failure.getValue().getMessage());
+                failures.add(failure.getKey() + ": " + failure.getValue().getMessage());
+            }
             return SpringBootEntrypointReport.builder()
                     .jarLocation(jarContent.getLocation().toString())
-                    .error("Failed to generate report: " + e.getMessage())
+                    .error("Failed to generate report: " + String.join("; ", failures))
                     .build();
         }
+        
+        reportBuilder.mainMethodAnalysis(results.get(SessionKeys.MAIN_METHOD))
+                     .componentScanAnalysis(results.get(SessionKeys.COMPONENT_SCAN))
+                     .restEndpointAnalysis(results.get(SessionKeys.REST_ENDPOINTS))
+                     .webMvcAnalysis(results.get(SessionKeys.WEB_MVC))
+                     .configurationAnalysis(results.get(SessionKeys.CONFIGURATION));
+        
+        long analysisTime = System.currentTimeMillis() - startTime;
+        reportBuilder.analysisTimeMs(analysisTime);
+        
+        LOGGER.info("Spring Boot entrypoint report generated in %dms", analysisTime);
+        return reportBuilder.build();
     }
     
     /**
@@ -6,12 +6,15 @@ import it.denzosoft.jreverse.analyzer.bootstrap.BootstrapSequenceGenerator;
 import it.denzosoft.jreverse.analyzer.bootstrap.BootstrapSequencePhase;
 import it.denzosoft.jreverse.analyzer.bootstrap.BootstrapSequenceStep;
 import it.denzosoft.jreverse.analyzer.factory.SpecializedAnalyzerFactory;
+import it.denzosoft.jreverse.analyzer.session.AnalysisSession;
 import it.denzosoft.jreverse.core.exception.ReportGenerationException;
 import it.denzosoft.jreverse.core.model.JarContent;
 import it.denzosoft.jreverse.core.pattern.ReportStrategy;
 import it.denzosoft.jreverse.core.port.ReportFormat;
 import it.denzosoft.jreverse.core.port.ReportType;
 import it.denzosoft.jreverse.reporter.generator.AbstractReportGenerator;
+import it.denzosoft.jreverse.reporter.generator.AnalysisPlan;
+import it.denzosoft.jreverse.reporter.generator.AnalysisPlanner;
 import it.denzosoft.jreverse.reporter.generator.ReportGeneratorFactory;
 
 import java.io.IOException;
@@ -117,41 +120,18 @@ public class HtmlReportStrategy implements ReportStrategy {
     }
     
     /**
-     * Gathers analysis results needed for the report generator.
+     * Gathers the analysis results needed for the report generator.
+     * Only the analyses the generator declares are run, so a report that needs none
+     * does not pay for bytecode analysis.
      */
     private Map<String, Object> gatherAnalysisResults(JarContent jarContent, AbstractReportGenerator generator) {
-        Map<String, Object> results = new HashMap<>();
-        
-        // Always include basic class analysis
-        // results.put("classAnalysis", basicAnalyzer.analyze(jarContent));
-        
-        try {
-            // Gather analysis results based on generator requirements
-            if (generator.requiresSchedulingAnalysis()) {
-                // results.put("schedulingAnalysis", schedulingAnalyzer.analyze(jarContent));
-                LOGGER.info("Scheduling analysis would be performed here");
-            }
-            
-            if (generator.requiresAsyncAnalysis()) {
-                // results.put("asyncAnalysis", asyncAnalyzer.analyze(jarContent));
-                LOGGER.info("Async analysis would be performed here");
-            }
-            
-            if (generator.requiresMessagingAnalysis()) {
-                // results.put("messagingAnalysis", messagingAnalyzer.analyze(jarContent));
-                LOGGER.info("Messaging analysis would be performed here");
-            }
-            
-            if (generator.requiresSecurityAnalysis()) {
-                // results.put("securityAnalysis", securityAnalyzer.analyze(jarContent));
-                LOGGER.info("Security analysis would be performed here");
-            }
-            
-        } catch (Exception e) {
-            LOGGER.warning("Failed to gather some analysis results: " + e.getMessage());
+        AnalysisPlan plan = AnalysisPlanner.plan(generator);
+        if (plan.isEmpty()) {
+            return new HashMap<>();
         }
         
-        return results;
+        LOGGER.info("Running " + plan + " for " + jarContent.getLocation().getFileName());
+        return plan.execute(jarContent);
     }
     
     /**
@@ -279,9 +259,9 @@ public class HtmlReportStrategy implements ReportStrategy {
         writer.write("        <section class=\"bootstrap-analysis-section\">\n");
         writer.write("            <h2>Spring Boot Bootstrap Analysis</h2>\n");
         
-        try {
+        try (AnalysisSession session = AnalysisSession.open(jarContent)) {
             // Perform bootstrap analysis
-            BootstrapAnalyzer bootstrapAnalyzer = SpecializedAnalyzerFactory.createBootstrapAnalyzer();
+            BootstrapAnalyzer bootstrapAnalyzer = SpecializedAnalyzerFactory.createBootstrapAnalyzer(session);
             BootstrapAnalysisResult analysisResult = bootstrapAnalyzer.analyzeBootstrap(jarContent);
             
             // Write analysis summary
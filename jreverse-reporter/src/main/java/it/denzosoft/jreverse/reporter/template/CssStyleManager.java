@@ -275,6 +275,8 @@ public class CssStyleManager {
                 return getScheduledTasksSpecificStyles();
             case MESSAGE_LISTENERS_CATALOG:
                 return getMessageListenersSpecificStyles();
+            case CIRCULAR_DEPENDENCY_ANALYSIS:
+                return getCircularDependencySpecificStyles();
             default:
                 return "";
         }
@@ -350,6 +352,40 @@ public class CssStyleManager {
                "}";
     }
     
+    private String getCircularDependencySpecificStyles() {
+        return "\n/* Circular Dependency Specific Styles */\n" +
+               ".circular-header {\n" +
+               "    background: linear-gradient(135deg, #e67e22, #d35400);\n" +
+               "}\n" +
+               "\n" +
+               ".cycle-card {\n" +
+               "    background: #fff;\n" +
+               "    border-left: 4px solid #e67e22;\n" +
+               "    border-radius: 5px;\n" +
+               "    padding: 1rem 1.5rem;\n" +
+               "    margin: 1rem 0;\n" +
+               "}\n" +
+               "\n" +
+               ".cycle-size {\n" +
+               "    font-size: 0.8rem;\n" +
+               "    font-weight: normal;\n" +
+               "    color: #6c757d;\n" +
+               "}\n" +
+               "\n" +
+               ".cycle-table {\n" +
+               "    width: 100%;\n" +
+               "    border-collapse: collapse;\n" +
+               "}\n" +
+               "\n" +
+               ".cycle-table th, .cycle-table td {\n" +
+               "    text-align: left;\n" +
+               "    padding: 0.4rem 0.75rem;\n" +
+               "    border-bottom: 1px solid #e9ecef;\n" +
+               "    font-family: 'Courier New', monospace;\n" +
+               "    font-size: 0.9rem;\n" +
+               "}";
+    }
+    
     private String getMessageListenersSpecificStyles() {
         return "\n/* Message Listeners Specific Styles */\n" +
                ".messaging-header {\n" +
@@ -0,0 +1,81 @@
+package it.denzosoft.jreverse.reporter.generator;
+
+import it.denzosoft.jreverse.analyzer.scheduling.SchedulingAnalysisResult;
+import it.denzosoft.jreverse.core.model.AnnotationInfo;
+import it.denzosoft.jreverse.core.model.ClassInfo;
+import it.denzosoft.jreverse.core.model.JarContent;
+import it.denzosoft.jreverse.core.model.JarLocation;
+import it.denzosoft.jreverse.core.model.MethodInfo;
+import it.denzosoft.jreverse.core.port.ReportType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnalysisPlanner.
+ * Tests that only the analyses required by the requested reports are planned and run.
+ */
+class AnalysisPlannerTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testPlanForReportWithoutRequirementsIsEmpty() {
+        AnalysisPlan plan = AnalysisPlanner.plan(ReportGeneratorFactory.create(ReportType.PACKAGE_CLASS_MAP));
+        
+        assertTrue(plan.isEmpty());
+        assertFalse(plan.requiresSession());
+    }
+    
+    @Test
+    void testPlanForScheduledTasksReport() {
+        AnalysisPlan plan = AnalysisPlanner.plan(ReportGeneratorFactory.create(ReportType.SCHEDULED_TASKS_ANALYSIS));
+        
+        assertEquals(EnumSet.of(AnalysisRequirement.SCHEDULING), plan.getRequirements());
+        assertFalse(plan.requiresSession());
+    }
+    
+    @Test
+    void testPlanForBootstrapReportRequiresSession() {
+        AnalysisPlan plan = AnalysisPlanner.plan(ReportGeneratorFactory.create(ReportType.BOOTSTRAP_ANALYSIS));
+        
+        assertEquals(EnumSet.of(AnalysisRequirement.BOOTSTRAP), plan.getRequirements());
+        assertTrue(plan.requiresSession());
+    }
+    
+    @Test
+    void testExecuteRunsOnlyPlannedAnalyses() throws Exception {
+        Path jarPath = Files.createFile(tempDir.resolve("app.jar"));
+        JarContent jarContent = JarContent.builder()
+            .location(new JarLocation(jarPath))
+            .addClass(ClassInfo.builder()
+                .fullyQualifiedName("com.example.CleanupJob")
+                .addMethod(MethodInfo.builder()
+                    .name("cleanup")
+                    .declaringClassName("com.example.CleanupJob")
+                    .returnType("void")
+                    .addAnnotation(AnnotationInfo.builder()
+                        .type("org.springframework.scheduling.annotation.Scheduled")
+                        .addAttribute("cron", "0 0 * * * *")
+                        .build())
+                    .build())
+                .build())
+            .build();
+        
+        Map<String, Object> results = AnalysisPlanner.plan(ReportGeneratorFactory.create(ReportType.SCHEDULED_TASKS_ANALYSIS))
+            .execute(jarContent);
+        
+        assertEquals(Collections.singleton("schedulingAnalysis"), results.keySet());
+        SchedulingAnalysisResult schedulingResult = (SchedulingAnalysisResult) results.get("schedulingAnalysis");
+        assertEquals(1, schedulingResult.getSchedulingEntrypoints().size());
+    }
+}
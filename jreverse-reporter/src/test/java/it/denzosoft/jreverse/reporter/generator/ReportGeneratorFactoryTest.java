@@ -2,6 +2,7 @@ package it.denzosoft.jreverse.reporter.generator;
 
 import it.denzosoft.jreverse.core.port.ReportType;
 import it.denzosoft.jreverse.reporter.generator.impl.AutowiringGraphReportGenerator;
+import it.denzosoft.jreverse.reporter.generator.impl.CircularDependencyReportGenerator;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +22,14 @@ class ReportGeneratorFactoryTest {
         assertInstanceOf(AutowiringGraphReportGenerator.class, generator);
     }
     
+    @Test
+    void testCreateCircularDependencyReportGenerator() {
+        AbstractReportGenerator generator = ReportGeneratorFactory.create(ReportType.CIRCULAR_DEPENDENCY_ANALYSIS);
+        
+        assertNotNull(generator);
+        assertInstanceOf(CircularDependencyReportGenerator.class, generator);
+    }
+    
     @Test
     void testCreateRestEndpointMapGenerator() {
         AbstractReportGenerator generator = ReportGeneratorFactory.create(ReportType.REST_ENDPOINT_MAP);
@@ -0,0 +1,80 @@
+package it.denzosoft.jreverse.reporter.generator.impl;
+
+import it.denzosoft.jreverse.core.model.AutowiredAnalysisResult;
+import it.denzosoft.jreverse.core.model.AutowiredSummary;
+import it.denzosoft.jreverse.core.model.DependencyCycle;
+import it.denzosoft.jreverse.core.port.ReportType;
+import it.denzosoft.jreverse.reporter.generator.AnalysisRequirement;
+import it.denzosoft.jreverse.reporter.template.ReportContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CircularDependencyReportGenerator.
+ */
+class CircularDependencyReportGeneratorTest {
+    
+    private CircularDependencyReportGenerator generator;
+    
+    @BeforeEach
+    void setUp() {
+        generator = new CircularDependencyReportGenerator();
+    }
+    
+    @Test
+    void testGetReportTypeAndRequirements() {
+        assertEquals(ReportType.CIRCULAR_DEPENDENCY_ANALYSIS, generator.getReportType());
+        assertEquals(Collections.singleton(AnalysisRequirement.AUTOWIRING), generator.getRequiredAnalyses());
+    }
+    
+    @Test
+    void testWriteReportContent_WithoutAutowiringResult() throws Exception {
+        StringWriter writer = new StringWriter();
+        generator.writeReportContent(writer, new ReportContext());
+        
+        String output = writer.toString();
+        assertTrue(output.contains("Cycles Summary"));
+        assertTrue(output.contains("No circular dependencies found"));
+    }
+    
+    @Test
+    void testWriteReportContent_ListsEachCycle() throws Exception {
+        DependencyCycle pair = DependencyCycle.builder()
+            .addDependency("com.example.OrderService", "com.example.PaymentService")
+            .addDependency("com.example.PaymentService", "com.example.OrderService")
+            .build();
+        DependencyCycle self = DependencyCycle.builder()
+            .addDependency("com.example.AuditService", "com.example.AuditService")
+            .build();
+        ReportContext context = contextWith(Arrays.asList(pair, self));
+        
+        StringWriter writer = new StringWriter();
+        generator.writeReportContent(writer, context);
+        
+        String output = writer.toString();
+        assertTrue(output.contains("Cycle 1"));
+        assertTrue(output.contains("Cycle 2"));
+        assertTrue(output.contains("2 beans"));
+        assertTrue(output.contains("self dependency"));
+        assertTrue(output.contains("title=\"com.example.PaymentService\">PaymentService"));
+        assertFalse(output.contains("No circular dependencies found"));
+    }
+    
+    private static ReportContext contextWith(List<DependencyCycle> cycles) {
+        AutowiredAnalysisResult result = AutowiredAnalysisResult.builder()
+            .dependencyCycles(cycles)
+            .summary(AutowiredSummary.builder().build())
+            .build();
+        ReportContext context = new ReportContext();
+        context.getAnalysisResults().put("autowiring", result);
+        return context;
+    }
+}